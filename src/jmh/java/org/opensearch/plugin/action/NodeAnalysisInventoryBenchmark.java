@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.env.Environment;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.indices.analysis.AnalysisModule;
+import org.opensearch.plugins.AnalysisPlugin;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-request cost of building node analyzers info from scratch (reflection and plugins walk)
+ * with serving it from the cached {@link NodeAnalysisInventory}.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class NodeAnalysisInventoryBenchmark {
+
+    private AnalysisRegistry analysisRegistry;
+    private List<AnalysisPlugin> analysisPlugins;
+    private DiscoveryNode localNode;
+    private volatile NodeAnalysisInventory inventory;
+
+    @Setup
+    public void setUp() throws Exception {
+        Settings settings = Settings.builder()
+                .put(Environment.PATH_HOME_SETTING.getKey(), Files.createTempDirectory("node-analyzers-bench").toString())
+                .build();
+        analysisPlugins = Collections.emptyList();
+        analysisRegistry = new AnalysisModule(new Environment(settings, null), analysisPlugins).getAnalysisRegistry();
+        localNode = new DiscoveryNode("bench", new TransportAddress(InetAddress.getLoopbackAddress(), 9300), Version.CURRENT);
+        inventory = NodeAnalysisInventory.build(analysisRegistry, analysisPlugins);
+    }
+
+    /**
+     * What every node request used to do.
+     */
+    @Benchmark
+    public NodeAnalyzersInfo uncachedNodeOperation() {
+        return new NodeAnalyzersInfo(localNode, NodeAnalysisInventory.build(analysisRegistry, analysisPlugins));
+    }
+
+    /**
+     * What every node request does now.
+     */
+    @Benchmark
+    public NodeAnalyzersInfo cachedNodeOperation() {
+        return new NodeAnalyzersInfo(localNode, inventory);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport serialization of a single node reply with a complete inventory.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class NodeAnalyzersInfoSerializationBenchmark {
+
+    @Param({ "0", "10", "100" })
+    public int plugins;
+
+    private NodeAnalyzersInfo info;
+    private BytesReference serialized;
+    private BytesStreamOutput out;
+
+    @Setup
+    public void setUp() throws IOException {
+        info = new NodeAnalyzersInfo(SyntheticInventories.node(0), SyntheticInventories.inventory(0, plugins));
+        out = new BytesStreamOutput();
+        info.writeTo(out);
+        serialized = out.copyBytes();
+    }
+
+    @Benchmark
+    public int writeTo() throws IOException {
+        out.reset();
+        info.writeTo(out);
+        return out.size();
+    }
+
+    @Benchmark
+    public NodeAnalyzersInfo read() throws IOException {
+        try (StreamInput in = serialized.streamInput()) {
+            return new NodeAnalyzersInfo(in);
+        }
+    }
+
+    @Benchmark
+    public NodeAnalyzersInfo roundTrip() throws IOException {
+        out.reset();
+        info.writeTo(out);
+        try (StreamInput in = out.bytes().streamInput()) {
+            return new NodeAnalyzersInfo(in);
+        }
+    }
+}
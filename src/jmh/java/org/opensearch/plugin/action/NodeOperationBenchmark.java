@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
+/**
+ * {@link TransportNodeAnalyzersAction#nodeOperation(DiscoveryNode, java.util.function.Supplier, java.util.function.Supplier,
+ * java.util.function.Supplier, TransportNodeAnalyzersAction.NodeRequest)}
+ * for the three kinds of node requests: the coordinating node does not know the inventory ("full"), it does ("known")
+ * and a request filtered by component names ("names").
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class NodeOperationBenchmark {
+
+    @Param({ "full", "known", "names" })
+    public String request;
+
+    @Param({ "10", "100" })
+    public int plugins;
+
+    private DiscoveryNode localNode;
+    private NodeAnalysisInventory inventory;
+    private TransportNodeAnalyzersAction.NodeRequest nodeRequest;
+
+    @Setup
+    public void setUp() {
+        localNode = SyntheticInventories.node(0);
+        inventory = SyntheticInventories.inventory(0, plugins);
+        NodesAnalyzersRequest nodesRequest = new NodesAnalyzersRequest();
+        switch (request) {
+            case "full":
+                nodeRequest = new TransportNodeAnalyzersAction.NodeRequest(nodesRequest, emptySet());
+                break;
+            case "known":
+                nodeRequest = new TransportNodeAnalyzersAction.NodeRequest(nodesRequest, singleton(inventory.digest()));
+                break;
+            case "names":
+                nodesRequest.filter(new NodeAnalysisInventoryFilter(
+                        new String[0], new String[] { "token_filter_1", "plugin_1_*" }, new String[0]
+                ));
+                nodeRequest = new TransportNodeAnalyzersAction.NodeRequest(nodesRequest, emptySet());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown request [" + request + "]");
+        }
+    }
+
+    @Benchmark
+    public NodeAnalyzersInfo nodeOperation() {
+        return TransportNodeAnalyzersAction.nodeOperation(localNode, () -> inventory, () -> null, () -> null, nodeRequest);
+    }
+}
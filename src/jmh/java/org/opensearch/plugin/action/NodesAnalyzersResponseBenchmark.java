@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonMap;
+
+/**
+ * Rendering and transport serialization of the whole nodes response.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class NodesAnalyzersResponseBenchmark {
+
+    @Param({ "10", "100", "500", "2000" })
+    public int nodes;
+
+    @Param({ "1", "10" })
+    public int distinct;
+
+    @Param({ "50" })
+    public int plugins;
+
+    @Param({ NodesAnalyzersResponse.GROUP_BY_NODE, NodesAnalyzersResponse.GROUP_BY_FINGERPRINT })
+    public String groupBy;
+
+    private NodesAnalyzersResponse response;
+    private ToXContent.Params params;
+    private BytesStreamOutput out;
+
+    @Setup
+    public void setUp() {
+        response = SyntheticInventories.response(nodes, distinct, plugins);
+        params = new ToXContent.MapParams(singletonMap(NodesAnalyzersResponse.GROUP_BY_PARAM, groupBy));
+        out = new BytesStreamOutput();
+    }
+
+    @Benchmark
+    public int toXContent() throws IOException {
+        out.reset();
+        try (XContentBuilder builder = XContentFactory.jsonBuilder(out)) {
+            builder.startObject();
+            response.toXContent(builder, params);
+            builder.endObject();
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int writeTo() throws IOException {
+        out.reset();
+        response.writeTo(out);
+        return out.size();
+    }
+}
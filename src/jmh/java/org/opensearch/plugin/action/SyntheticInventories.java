@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.Version;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.transport.TransportAddress;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Deterministic inventories and responses of realistic size for benchmarks.
+ * A stock node has about 50 analyzers, 20 tokenizers, 100 token filters, a few char filters and normalizers,
+ * every plugin adds a handful of components.
+ */
+final class SyntheticInventories {
+
+    private SyntheticInventories() {}
+
+    static Set<String> names(String prefix, int count) {
+        Set<String> names = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            names.add(prefix + "_" + i);
+        }
+        return names;
+    }
+
+    /**
+     * @param variant inventories with different variant differ in one plugin
+     * @param plugins number of analysis plugins
+     * @return inventory
+     */
+    static NodeAnalysisInventory inventory(int variant, int plugins) {
+        Map<String, NodeAnalyzersInfo.AnalysisPluginComponents> pluginComponents = new HashMap<>();
+        for (int i = 0; i < plugins; i++) {
+            String pluginName = "org.opensearch.plugin.analysis.Synthetic" + (i == 0 ? variant + "_" : "") + i + "AnalysisPlugin";
+            pluginComponents.put(pluginName, new NodeAnalyzersInfo.AnalysisPluginComponents(
+                    pluginName,
+                    names("plugin_" + i + "_analyzer", 5),
+                    names("plugin_" + i + "_tokenizer", 3),
+                    names("plugin_" + i + "_token_filter", 10),
+                    names("plugin_" + i + "_char_filter", 2),
+                    names("plugin_" + i + "_dictionary", 1)
+            ));
+        }
+        return new NodeAnalysisInventory(
+                names("analyzer", 50),
+                names("tokenizer", 20),
+                names("token_filter", 100),
+                names("char_filter", 5),
+                names("normalizer", 3),
+                pluginComponents
+        );
+    }
+
+    static DiscoveryNode node(int i) {
+        return new DiscoveryNode(
+                "node_" + i,
+                new TransportAddress(InetAddress.getLoopbackAddress(), 9300 + i),
+                Version.CURRENT
+        );
+    }
+
+    /**
+     * @param nodes number of nodes
+     * @param distinct number of distinct inventories
+     * @param plugins number of analysis plugins per node
+     * @return response as built by the coordinating node (nodes with equal inventories share it)
+     */
+    static NodesAnalyzersResponse response(int nodes, int distinct, int plugins) {
+        List<NodeAnalysisInventory> inventories = new ArrayList<>();
+        for (int i = 0; i < distinct; i++) {
+            inventories.add(inventory(i, plugins));
+        }
+        List<NodeAnalyzersInfo> nodeInfos = new ArrayList<>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            nodeInfos.add(new NodeAnalyzersInfo(node(i), inventories.get(i % distinct)));
+        }
+        return new NodesAnalyzersResponse(new ClusterName("bench"), nodeInfos, new ArrayList<FailedNodeException>());
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharFilter;
+import org.apache.lucene.analysis.TokenFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.opensearch.index.analysis.AnalyzerComponents;
+import org.opensearch.index.analysis.AnalyzerComponentsProvider;
+import org.opensearch.index.analysis.CharFilterFactory;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.analysis.TokenFilterFactory;
+import org.opensearch.index.analysis.TokenizerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs an analysis chain with every stage instrumented, to find out which char filter, tokenizer or token filter
+ * is the expensive one.
+ *
+ * The output of every char filter is wrapped in a reader and the output of the tokenizer and every token filter
+ * in a token filter, each measuring time and allocations spent in its input stage. The measured time of a stage
+ * includes the time of all stages before it (a token filter pulls tokens through the whole chain), so the time
+ * of the previous stage is subtracted to get the time spent in the stage itself.
+ *
+ * The tokenizer and token filters are created once and reused for every document, char filters are created
+ * for every document, just like {@link Analyzer} does. Analyzers that are not built from components (such as
+ * Lucene analyzers registered by plugins) are profiled as a single {@link AnalysisStageProfile#ANALYZER} stage.
+ *
+ * Instrumentation adds a few clock and allocation counter reads per token and stage, so totals measured by
+ * a profiled run are higher than those of a plain run.
+ */
+final class AnalysisChainProfiler {
+
+    private final String[] types;
+    private final String[] names;
+    private final long[] nanos;
+    private final long[] allocatedBytes;
+    private final long[] output;
+
+    private final Analyzer analyzer;
+    private final CharFilterFactory[] charFilters;
+    private final Tokenizer tokenizer;
+    private final TokenStream tokenStream;
+
+    /**
+     * @param charFilters char filters
+     * @param tokenizerFactory tokenizer
+     * @param tokenFilters token filters
+     */
+    AnalysisChainProfiler(CharFilterFactory[] charFilters, TokenizerFactory tokenizerFactory, TokenFilterFactory[] tokenFilters) {
+        int stages = charFilters.length + 1 + tokenFilters.length;
+        this.types = new String[stages];
+        this.names = new String[stages];
+        this.nanos = new long[stages];
+        this.allocatedBytes = new long[stages];
+        this.output = new long[stages];
+        int stage = 0;
+        for (CharFilterFactory charFilter : charFilters) {
+            types[stage] = AnalysisStageProfile.CHAR_FILTER;
+            names[stage++] = charFilter.name();
+        }
+        types[stage] = AnalysisStageProfile.TOKENIZER;
+        names[stage] = tokenizerFactory.name();
+        this.tokenizer = tokenizerFactory.create();
+        TokenStream stream = new ProfilingTokenFilter(tokenizer, this, stage++);
+        for (TokenFilterFactory tokenFilter : tokenFilters) {
+            types[stage] = AnalysisStageProfile.TOKEN_FILTER;
+            names[stage] = tokenFilter.name();
+            stream = new ProfilingTokenFilter(tokenFilter.create(stream), this, stage++);
+        }
+        this.tokenStream = stream;
+        this.charFilters = charFilters;
+        this.analyzer = null;
+    }
+
+    /**
+     * @param name analyzer name
+     * @param analyzer analyzer that can not be split into stages
+     */
+    private AnalysisChainProfiler(String name, Analyzer analyzer) {
+        this.types = new String[] { AnalysisStageProfile.ANALYZER };
+        this.names = new String[] { name };
+        this.nanos = new long[1];
+        this.allocatedBytes = new long[1];
+        this.output = new long[1];
+        this.analyzer = analyzer;
+        this.charFilters = null;
+        this.tokenizer = null;
+        this.tokenStream = null;
+    }
+
+    /**
+     * @param name analyzer name, used if the analyzer can not be split into stages
+     * @param analyzer analyzer
+     * @return profiler of the analyzer components if it is built from components, of the whole analyzer otherwise
+     */
+    static AnalysisChainProfiler of(String name, Analyzer analyzer) {
+        Analyzer unwrapped = analyzer instanceof NamedAnalyzer ? ((NamedAnalyzer) analyzer).analyzer() : analyzer;
+        if (unwrapped instanceof AnalyzerComponentsProvider) {
+            AnalyzerComponents components = ((AnalyzerComponentsProvider) unwrapped).getComponents();
+            return new AnalysisChainProfiler(
+                    components.getCharFilters(),
+                    components.getTokenizerFactory(),
+                    components.getTokenFilters()
+            );
+        }
+        return new AnalysisChainProfiler(name, analyzer);
+    }
+
+    /**
+     * Analyzes every document once, with all stages instrumented.
+     * @param corpus documents
+     * @return number of tokens emitted by the chain
+     */
+    long analyze(List<String> corpus) {
+        long tokens = 0;
+        for (String doc : corpus) {
+            try (TokenStream stream = tokenStream(doc)) {
+                stream.reset();
+                while (stream.incrementToken()) {
+                    tokens++;
+                }
+                stream.end();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return tokens;
+    }
+
+    private TokenStream tokenStream(String doc) {
+        if (analyzer != null) {
+            return new ProfilingTokenFilter(analyzer.tokenStream(AnalyzerBenchmark.FIELD_NAME, doc), this, 0);
+        }
+        Reader reader = new StringReader(doc);
+        for (int stage = 0; stage < charFilters.length; stage++) {
+            reader = new ProfilingReader(charFilters[stage].create(reader), this, stage);
+        }
+        tokenizer.setReader(reader);
+        return tokenStream;
+    }
+
+    /**
+     * Forgets everything measured so far, for example during warm-up.
+     */
+    void reset() {
+        for (int stage = 0; stage < nanos.length; stage++) {
+            nanos[stage] = 0;
+            allocatedBytes[stage] = 0;
+            output[stage] = 0;
+        }
+    }
+
+    /**
+     * @return exclusive time and allocations of every stage, in chain order
+     */
+    List<AnalysisStageProfile> stages() {
+        boolean allocationSupported = AnalyzerBenchmark.currentThreadAllocatedBytes() >= 0;
+        List<AnalysisStageProfile> stages = new ArrayList<>(nanos.length);
+        for (int stage = 0; stage < nanos.length; stage++) {
+            long previousNanos = stage == 0 ? 0 : nanos[stage - 1];
+            long previousAllocatedBytes = stage == 0 ? 0 : allocatedBytes[stage - 1];
+            stages.add(new AnalysisStageProfile(
+                    types[stage],
+                    names[stage],
+                    Math.max(0, nanos[stage] - previousNanos),
+                    allocationSupported ? Math.max(0, allocatedBytes[stage] - previousAllocatedBytes) : -1,
+                    output[stage]
+            ));
+        }
+        return stages;
+    }
+
+    private void record(int stage, long startNanos, long startAllocatedBytes) {
+        nanos[stage] += System.nanoTime() - startNanos;
+        allocatedBytes[stage] += AnalyzerBenchmark.currentThreadAllocatedBytes() - startAllocatedBytes;
+    }
+
+    /**
+     * Measures reads from a char filter. It is a {@link CharFilter} itself so offset correction keeps working.
+     */
+    private static final class ProfilingReader extends CharFilter {
+        private final AnalysisChainProfiler profiler;
+        private final int stage;
+
+        ProfilingReader(Reader in, AnalysisChainProfiler profiler, int stage) {
+            super(in);
+            this.profiler = profiler;
+            this.stage = stage;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            long startAllocatedBytes = AnalyzerBenchmark.currentThreadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            int read = input.read(buffer, offset, length);
+            profiler.record(stage, startNanos, startAllocatedBytes);
+            if (read > 0) {
+                profiler.output[stage] += read;
+            }
+            return read;
+        }
+
+        @Override
+        protected int correct(int currentOff) {
+            return currentOff;
+        }
+    }
+
+    /**
+     * Measures calls to a token stream (the tokenizer, a token filter or a whole analyzer).
+     */
+    private static final class ProfilingTokenFilter extends TokenFilter {
+        private final AnalysisChainProfiler profiler;
+        private final int stage;
+
+        ProfilingTokenFilter(TokenStream input, AnalysisChainProfiler profiler, int stage) {
+            super(input);
+            this.profiler = profiler;
+            this.stage = stage;
+        }
+
+        @Override
+        public boolean incrementToken() throws IOException {
+            long startAllocatedBytes = AnalyzerBenchmark.currentThreadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            boolean hasToken = input.incrementToken();
+            profiler.record(stage, startNanos, startAllocatedBytes);
+            if (hasToken) {
+                profiler.output[stage]++;
+            }
+            return hasToken;
+        }
+
+        @Override
+        public void reset() throws IOException {
+            long startAllocatedBytes = AnalyzerBenchmark.currentThreadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            super.reset();
+            profiler.record(stage, startNanos, startAllocatedBytes);
+        }
+
+        @Override
+        public void end() throws IOException {
+            long startAllocatedBytes = AnalyzerBenchmark.currentThreadAllocatedBytes();
+            long startNanos = System.nanoTime();
+            super.end();
+            profiler.record(stage, startNanos, startAllocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.plugins.AnalysisPlugin;
+import org.opensearch.plugins.PluginInfo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSortedMap;
+
+/**
+ * Inverted index from analysis component name to the plugin(s) providing it on a node.
+ *
+ * Plugins are identified by their {@link PluginInfo} (the name and classname from the plugin descriptor), which unlike
+ * the class of the plugin instance is stable and always present. Components of the {@link NodeAnalysisInventory}
+ * not provided by any plugin are attributed to {@link NodeAnalysisHeapUsage#CORE}.
+ *
+ * Like the inventory, the index is built once per node and then shared by all requests, so a lookup is a couple of hash
+ * lookups. Component names provided by more than one plugin (in the same section) are collected as collisions when the
+ * index is built.
+ */
+public final class AnalysisComponentProviders {
+
+    /**
+     * Identity of a plugin providing analysis components.
+     */
+    public static final class Provider implements Writeable, ToXContentObject, Comparable<Provider> {
+
+        static final Provider CORE = new Provider(NodeAnalysisHeapUsage.CORE, null);
+
+        private final String name;
+        private final String classname;
+
+        Provider(String name, String classname) {
+            this.name = Objects.requireNonNull(name);
+            this.classname = classname;
+        }
+
+        public Provider(StreamInput in) throws IOException {
+            this.name = in.readString();
+            this.classname = in.readOptionalString();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(name);
+            out.writeOptionalString(classname);
+        }
+
+        /**
+         * @return plugin (or module) name from the plugin descriptor, or {@link NodeAnalysisHeapUsage#CORE}
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return plugin classname, null for {@link NodeAnalysisHeapUsage#CORE}
+         */
+        public String getClassname() {
+            return classname;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("name", name);
+            if (classname != null) {
+                builder.field("classname", classname);
+            }
+            return builder.endObject();
+        }
+
+        @Override
+        public int compareTo(Provider o) {
+            int cmp = name.compareTo(o.name);
+            return cmp != 0 ? cmp : String.valueOf(classname).compareTo(String.valueOf(o.classname));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Provider provider = (Provider) o;
+            return name.equals(provider.name) && Objects.equals(classname, provider.classname);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, classname);
+        }
+
+        @Override
+        public String toString() {
+            return classname == null ? name : name + "[" + classname + "]";
+        }
+    }
+
+    /**
+     * Providers by section and component name.
+     */
+    private final Map<String, Map<String, List<Provider>>> providers;
+    /**
+     * Components with more than one provider, by component name and section.
+     */
+    private final SortedMap<String, SortedMap<String, List<Provider>>> collisions;
+
+    private AnalysisComponentProviders(
+            Map<String, Map<String, List<Provider>>> providers,
+            SortedMap<String, SortedMap<String, List<Provider>>> collisions
+    ) {
+        this.providers = providers;
+        this.collisions = collisions;
+    }
+
+    /**
+     * @param inventory node inventory, its components not provided by any plugin are attributed to core
+     * @param analysisPlugins all plugins implementing AnalysisPlugin interface
+     * @param pluginInfos descriptors of all plugins and modules installed on the node
+     * @return the index
+     */
+    static AnalysisComponentProviders build(
+            NodeAnalysisInventory inventory,
+            List<AnalysisPlugin> analysisPlugins,
+            Collection<PluginInfo> pluginInfos
+    ) {
+        Map<String, PluginInfo> infosByClassname = new HashMap<>();
+        for (PluginInfo info : pluginInfos) {
+            infosByClassname.put(info.getClassname(), info);
+        }
+        Map<String, Map<String, List<Provider>>> providers = new LinkedHashMap<>();
+        for (AnalysisPlugin plugin : analysisPlugins) {
+            PluginInfo info = infosByClassname.get(plugin.getClass().getName());
+            // Plugins loaded from the classpath (tests) have no descriptor
+            Provider provider = info != null
+                    ? new Provider(info.getName(), info.getClassname())
+                    : new Provider(plugin.getClass().getName(), plugin.getClass().getName());
+            add(providers, ComponentNodeMatrix.ANALYZERS, plugin.getAnalyzers().keySet(), provider);
+            add(providers, ComponentNodeMatrix.TOKENIZERS, plugin.getTokenizers().keySet(), provider);
+            add(providers, ComponentNodeMatrix.TOKEN_FILTERS, plugin.getTokenFilters().keySet(), provider);
+            add(providers, ComponentNodeMatrix.CHAR_FILTERS, plugin.getCharFilters().keySet(), provider);
+        }
+        addCore(providers, ComponentNodeMatrix.ANALYZERS, inventory.getAnalyzersKeySet());
+        addCore(providers, ComponentNodeMatrix.TOKENIZERS, inventory.getTokenizersKeySet());
+        addCore(providers, ComponentNodeMatrix.TOKEN_FILTERS, inventory.getTokenFiltersKeySet());
+        addCore(providers, ComponentNodeMatrix.CHAR_FILTERS, inventory.getCharFiltersKeySet());
+        addCore(providers, ComponentNodeMatrix.NORMALIZERS, inventory.getNormalizersKeySet());
+
+        Map<String, Map<String, List<Provider>>> index = new HashMap<>();
+        SortedMap<String, SortedMap<String, List<Provider>>> collisions = new TreeMap<>();
+        for (Map.Entry<String, Map<String, List<Provider>>> section : providers.entrySet()) {
+            Map<String, List<Provider>> components = new HashMap<>();
+            for (Map.Entry<String, List<Provider>> component : section.getValue().entrySet()) {
+                List<Provider> componentProviders = unmodifiableList(component.getValue());
+                components.put(component.getKey(), componentProviders);
+                if (componentProviders.size() > 1) {
+                    collisions.computeIfAbsent(component.getKey(), c -> new TreeMap<>()).put(section.getKey(), componentProviders);
+                }
+            }
+            index.put(section.getKey(), unmodifiableMap(components));
+        }
+        return new AnalysisComponentProviders(unmodifiableMap(index), unmodifiableSortedMap(collisions));
+    }
+
+    private static void add(Map<String, Map<String, List<Provider>>> providers, String section, Collection<String> names, Provider provider) {
+        Map<String, List<Provider>> components = providers.computeIfAbsent(section, s -> new HashMap<>());
+        for (String name : names) {
+            List<Provider> componentProviders = components.computeIfAbsent(name, n -> new ArrayList<>(1));
+            if (componentProviders.contains(provider) == false) {
+                componentProviders.add(provider);
+            }
+        }
+    }
+
+    private static void addCore(Map<String, Map<String, List<Provider>>> providers, String section, Collection<String> names) {
+        Map<String, List<Provider>> components = providers.computeIfAbsent(section, s -> new HashMap<>());
+        for (String name : names) {
+            components.computeIfAbsent(name, n -> List.of(Provider.CORE));
+        }
+    }
+
+    /**
+     * @param section section name, see {@link ComponentNodeMatrix}
+     * @param name component name
+     * @return providers of the component, empty if the node does not have it
+     */
+    public List<Provider> providers(String section, String name) {
+        return providers.getOrDefault(section, emptyMap()).getOrDefault(name, List.of());
+    }
+
+    /**
+     * @param name component name
+     * @return providers of the component by section, only sections in which the node has the component
+     */
+    public SortedMap<String, List<Provider>> lookup(String name) {
+        SortedMap<String, List<Provider>> result = new TreeMap<>();
+        for (Map.Entry<String, Map<String, List<Provider>>> section : providers.entrySet()) {
+            List<Provider> componentProviders = section.getValue().get(name);
+            if (componentProviders != null) {
+                result.put(section.getKey(), componentProviders);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return components with more than one provider, by component name and section
+     */
+    public SortedMap<String, SortedMap<String, List<Provider>>> collisions() {
+        return collisions;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.SpecialPermission;
+import org.opensearch.common.SuppressForbidden;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Estimates heap retained by analysis components (factories, analyzers and whatever they reference,
+ * like dictionaries or synonym maps).
+ *
+ * The object graph is walked by reflection:
+ * <ul>
+ *     <li>{@link Accountable} objects report their own size and are not walked any further</li>
+ *     <li>JDK objects are not walked by reflection, only arrays, collections and maps are followed
+ *     (with approximate per element overhead)</li>
+ *     <li>objects shared by the whole node or index (settings, environment, loggers, ...) are skipped</li>
+ * </ul>
+ * Every object is counted only once per estimator instance, so an object shared by several components
+ * is attributed to the first one estimated.
+ */
+final class AnalysisHeapEstimator {
+
+    private static final String[] SHARED_CLASS_PREFIXES = new String[] {
+            "org.opensearch.common.settings.",
+            "org.opensearch.env.",
+            "org.opensearch.index.IndexSettings",
+            "org.opensearch.index.analysis.AnalysisRegistry",
+            "org.opensearch.indices.",
+            "org.opensearch.Version",
+            "org.apache.logging.",
+            "org.opensearch.common.logging." };
+
+    private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Class<?>, List<Field>> fieldsCache = new HashMap<>();
+
+    /**
+     * @param root object to estimate
+     * @return estimated heap retained by the object and not yet counted by this estimator
+     */
+    @SuppressForbidden(reason = "We have to use reflection API")
+    long estimate(Object root) {
+        SpecialPermission.check();
+        return AccessController.doPrivileged((PrivilegedAction<Long>) () -> walk(root));
+    }
+
+    private long walk(Object root) {
+        long size = 0;
+        Deque<Object> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (stack.isEmpty() == false) {
+            Object o = stack.pop();
+            if (o == null || o instanceof Class || o instanceof ClassLoader || o instanceof Thread || seen.add(o) == false) {
+                continue;
+            }
+            Class<?> clazz = o.getClass();
+            if (o instanceof Accountable) {
+                size += ((Accountable) o).ramBytesUsed();
+            } else if (clazz.isArray()) {
+                size += RamUsageEstimator.shallowSizeOf(o);
+                if (clazz.getComponentType().isPrimitive() == false) {
+                    for (Object element : (Object[]) o) {
+                        if (element != null) {
+                            stack.push(element);
+                        }
+                    }
+                }
+            } else if (o instanceof String) {
+                size += RamUsageEstimator.sizeOf((String) o);
+            } else if (isShared(clazz)) {
+                continue;
+            } else if (isJdk(clazz)) {
+                size += RamUsageEstimator.shallowSizeOf(o);
+                size += jdkContentSize(o, stack);
+            } else {
+                size += RamUsageEstimator.shallowSizeOf(o);
+                for (Field field : referenceFields(clazz)) {
+                    try {
+                        Object value = field.get(o);
+                        if (value != null) {
+                            stack.push(value);
+                        }
+                    } catch (IllegalAccessException e) {
+                        // not accessible, not counted
+                    }
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Follows elements of collections and maps (approximate overhead), other JDK objects are counted shallow.
+     */
+    private static long jdkContentSize(Object o, Deque<Object> stack) {
+        try {
+            if (o instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) o;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    stack.push(entry.getKey());
+                    stack.push(entry.getValue());
+                }
+                return map.size() * RamUsageEstimator.HASHTABLE_RAM_BYTES_PER_ENTRY;
+            } else if (o instanceof Collection) {
+                Collection<?> collection = (Collection<?>) o;
+                for (Object element : collection) {
+                    stack.push(element);
+                }
+                return collection.size() * (long) RamUsageEstimator.NUM_BYTES_OBJECT_REF;
+            }
+        } catch (RuntimeException e) {
+            // concurrently modified or unusual collection, count what we have
+        }
+        return 0;
+    }
+
+    private static boolean isJdk(Class<?> clazz) {
+        String name = clazz.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
+
+    private static boolean isShared(Class<?> clazz) {
+        String name = clazz.getName();
+        for (String prefix : SHARED_CLASS_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Field> referenceFields(Class<?> clazz) {
+        return fieldsCache.computeIfAbsent(clazz, c -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> current = c; current != null && isJdk(current) == false; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    } catch (RuntimeException e) {
+                        // not accessible, not counted
+                    }
+                }
+            }
+            return fields;
+        });
+    }
+}
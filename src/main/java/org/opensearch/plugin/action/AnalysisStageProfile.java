@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+
+/**
+ * Time and allocations spent in a single stage of an analysis chain, see {@link AnalysisChainProfiler}.
+ *
+ * Time and allocations are exclusive, they do not include what the stage spent waiting for its input stage.
+ * Allocated bytes are -1 if the node JVM does not support thread allocation counters.
+ */
+public class AnalysisStageProfile implements Writeable {
+
+    public static final String CHAR_FILTER = "char_filter";
+    public static final String TOKENIZER = "tokenizer";
+    public static final String TOKEN_FILTER = "token_filter";
+    /**
+     * Analyzer that can not be split into stages.
+     */
+    public static final String ANALYZER = "analyzer";
+
+    private final String type;
+    private final String name;
+    private final long timeNanos;
+    private final long allocatedBytes;
+    private final long output;
+
+    public AnalysisStageProfile(String type, String name, long timeNanos, long allocatedBytes, long output) {
+        this.type = type;
+        this.name = name;
+        this.timeNanos = timeNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.output = output;
+    }
+
+    public AnalysisStageProfile(StreamInput in) throws IOException {
+        this.type = in.readString();
+        this.name = in.readString();
+        this.timeNanos = in.readVLong();
+        this.allocatedBytes = in.readZLong();
+        this.output = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(type);
+        out.writeString(name);
+        out.writeVLong(timeNanos);
+        out.writeZLong(allocatedBytes);
+        out.writeVLong(output);
+    }
+
+    /**
+     * @return one of {@link #CHAR_FILTER}, {@link #TOKENIZER}, {@link #TOKEN_FILTER} or {@link #ANALYZER}
+     */
+    public String getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return characters produced by a char filter, tokens produced by other stages
+     */
+    public long getOutput() {
+        return output;
+    }
+}
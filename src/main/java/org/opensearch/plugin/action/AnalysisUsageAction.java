@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * ActionType for looking up which indices use which analysis components.
+ */
+public class AnalysisUsageAction extends ActionType<AnalysisUsageResponse> {
+
+    /**
+     * A node level singleton.
+     */
+    public static final AnalysisUsageAction INSTANCE = new AnalysisUsageAction();
+
+    /**
+     * The name of the action type.
+     */
+    public static final String NAME = "cluster:monitor/analyzers/usage";
+
+    private AnalysisUsageAction() {
+        super(NAME, AnalysisUsageResponse::new);
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.MappingMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.Settings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Which indices and fields use which analysis components, kept up to date from the cluster state.
+ *
+ * For every index we record the node provided components (the names listed by {@link NodeAnalysisInventory}) its
+ * analysis settings and mappings depend on, together with the fields that depend on them. Components defined in
+ * the index settings are resolved to the components they are built from: a field with a custom analyzer depends on
+ * its tokenizer, token filters and char filters, a custom token filter of type "stop" depends on token filter
+ * "stop". A component referenced only from the index settings is recorded with no fields, the index still can not
+ * be created (or opened) without it. Fields without analyzer are recorded only if the index defines its own
+ * "default" analyzer.
+ *
+ * Updates are incremental: index metadata is immutable and reused by cluster states as long as it does not change,
+ * so only index metadata that is not the same instance as the last applied one is parsed again. Parsing runs on the
+ * given executor, not on the cluster applier thread; if the cluster state changes while parsing, only the latest
+ * state is applied next. Lookups therefore may lag behind the cluster state for a moment, see
+ * {@link #appliedVersion()} and {@link #whenApplied(long, Runnable)}.
+ */
+public final class AnalysisUsageIndex implements ClusterStateListener {
+
+    private static final Logger logger = LogManager.getLogger(AnalysisUsageIndex.class);
+
+    /**
+     * Field types analyzed by the index default analyzer when they have none.
+     */
+    private static final Set<String> TEXT_TYPES = Set.of("text", "match_only_text", "search_as_you_type");
+
+    /**
+     * Sections (as named by {@link ComponentNodeMatrix}) and their index settings prefixes.
+     */
+    private static final Map<String, String> SETTINGS_PREFIXES = Map.of(
+            ComponentNodeMatrix.ANALYZERS, "index.analysis.analyzer",
+            ComponentNodeMatrix.TOKENIZERS, "index.analysis.tokenizer",
+            ComponentNodeMatrix.TOKEN_FILTERS, "index.analysis.filter",
+            ComponentNodeMatrix.CHAR_FILTERS, "index.analysis.char_filter",
+            ComponentNodeMatrix.NORMALIZERS, "index.analysis.normalizer"
+    );
+
+    /**
+     * All sections tracked by the index, {@link ComponentNodeMatrix#SECTIONS} without plugins.
+     */
+    public static final List<String> SECTIONS = List.of(
+            ComponentNodeMatrix.ANALYZERS,
+            ComponentNodeMatrix.TOKENIZERS,
+            ComponentNodeMatrix.TOKEN_FILTERS,
+            ComponentNodeMatrix.CHAR_FILTERS,
+            ComponentNodeMatrix.NORMALIZERS
+    );
+
+    private final Executor executor;
+
+    /**
+     * Usage by index name, written only by {@link #apply(Metadata)}.
+     */
+    private final Map<String, Applied> indices = new HashMap<>();
+
+    /**
+     * Reverse lookup, section - component - index - fields. Field sets are never modified once added.
+     */
+    private final Map<String, Map<String, Map<String, SortedSet<String>>>> usage = new ConcurrentHashMap<>();
+
+    private final AtomicReference<Metadata> pending = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long appliedVersion = -1;
+    private final List<Tuple<Long, Runnable>> waiters = new ArrayList<>();
+
+    /**
+     * @param executor executor to parse index metadata on
+     */
+    public AnalysisUsageIndex(Executor executor) {
+        this.executor = executor;
+        for (String section : SECTIONS) {
+            usage.put(section, new ConcurrentHashMap<>());
+        }
+    }
+
+    private static final class Applied {
+        final IndexMetadata indexMetadata;
+        final Map<String, Map<String, SortedSet<String>>> usage;
+
+        Applied(IndexMetadata indexMetadata, Map<String, Map<String, SortedSet<String>>> usage) {
+            this.indexMetadata = indexMetadata;
+            this.usage = usage;
+        }
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.metadataChanged() == false && appliedVersion >= 0) {
+            return;
+        }
+        pending.set(event.state().metadata());
+        if (refreshing.compareAndSet(false, true)) {
+            executor.execute(this::refresh);
+        }
+    }
+
+    private void refresh() {
+        try {
+            Metadata metadata;
+            while ((metadata = pending.getAndSet(null)) != null) {
+                apply(metadata);
+            }
+            notifyWaiters(false);
+        } catch (Exception e) {
+            logger.warn("failed to update analysis usage", e);
+            // Do not leave anybody waiting for a version that may never be applied
+            notifyWaiters(true);
+        } finally {
+            refreshing.set(false);
+            if (pending.get() != null && refreshing.compareAndSet(false, true)) {
+                executor.execute(this::refresh);
+            }
+        }
+    }
+
+    /**
+     * Applies changes between the last applied metadata and the given one. Must not be called concurrently.
+     * @param metadata cluster metadata
+     */
+    void apply(Metadata metadata) {
+        Set<String> removed = new HashSet<>(indices.keySet());
+        for (IndexMetadata indexMetadata : metadata) {
+            String index = indexMetadata.getIndex().getName();
+            removed.remove(index);
+            Applied applied = indices.get(index);
+            if (applied != null && applied.indexMetadata == indexMetadata) {
+                continue;
+            }
+            Map<String, Map<String, SortedSet<String>>> indexUsage;
+            try {
+                indexUsage = parse(indexMetadata);
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("failed to parse analysis usage of index [{}]", index), e);
+                indexUsage = Collections.emptyMap();
+            }
+            if (applied != null) {
+                unregister(index, applied.usage);
+            }
+            register(index, indexUsage);
+            indices.put(index, new Applied(indexMetadata, indexUsage));
+        }
+        for (String index : removed) {
+            unregister(index, indices.remove(index).usage);
+        }
+        appliedVersion = metadata.version();
+    }
+
+    private void register(String index, Map<String, Map<String, SortedSet<String>>> indexUsage) {
+        for (Map.Entry<String, Map<String, SortedSet<String>>> section : indexUsage.entrySet()) {
+            Map<String, Map<String, SortedSet<String>>> components = usage.get(section.getKey());
+            for (Map.Entry<String, SortedSet<String>> component : section.getValue().entrySet()) {
+                components.computeIfAbsent(component.getKey(), k -> new ConcurrentHashMap<>()).put(index, component.getValue());
+            }
+        }
+    }
+
+    private void unregister(String index, Map<String, Map<String, SortedSet<String>>> indexUsage) {
+        for (Map.Entry<String, Map<String, SortedSet<String>>> section : indexUsage.entrySet()) {
+            Map<String, Map<String, SortedSet<String>>> components = usage.get(section.getKey());
+            for (String component : section.getValue().keySet()) {
+                components.computeIfPresent(component, (k, byIndex) -> {
+                    byIndex.remove(index);
+                    return byIndex.isEmpty() ? null : byIndex;
+                });
+            }
+        }
+    }
+
+    /**
+     * Runs the given runnable once the given (or a later) metadata version is applied, if it is applied already
+     * the runnable runs right away on the calling thread.
+     * @param version cluster metadata version
+     * @param runnable runnable
+     */
+    public void whenApplied(long version, Runnable runnable) {
+        synchronized (waiters) {
+            if (appliedVersion < version) {
+                waiters.add(new Tuple<>(version, runnable));
+                return;
+            }
+        }
+        runnable.run();
+    }
+
+    private void notifyWaiters(boolean all) {
+        List<Runnable> ready = new ArrayList<>();
+        synchronized (waiters) {
+            for (Iterator<Tuple<Long, Runnable>> iterator = waiters.iterator(); iterator.hasNext();) {
+                Tuple<Long, Runnable> waiter = iterator.next();
+                if (all || waiter.v1() <= appliedVersion) {
+                    ready.add(waiter.v2());
+                    iterator.remove();
+                }
+            }
+        }
+        ready.forEach(Runnable::run);
+    }
+
+    /**
+     * @return version of the last applied cluster metadata or -1 if none was applied yet
+     */
+    public long appliedVersion() {
+        return appliedVersion;
+    }
+
+    /**
+     * @param section component section, one of {@link #SECTIONS}
+     * @param name component name
+     * @return fields by index, of all indices that use the component (and would break without it)
+     */
+    public SortedMap<String, SortedSet<String>> indicesUsing(String section, String name) {
+        Map<String, Map<String, SortedSet<String>>> components = usage.get(section);
+        if (components == null) {
+            throw new IllegalArgumentException("Unknown section [" + section + "]");
+        }
+        Map<String, SortedSet<String>> byIndex = components.get(name);
+        return byIndex == null ? Collections.emptySortedMap() : new TreeMap<>(byIndex);
+    }
+
+    /**
+     * @param section component section, one of {@link #SECTIONS}
+     * @return names of all components of the section used by any index
+     */
+    public SortedSet<String> usedComponents(String section) {
+        Map<String, Map<String, SortedSet<String>>> components = usage.get(section);
+        if (components == null) {
+            throw new IllegalArgumentException("Unknown section [" + section + "]");
+        }
+        return new TreeSet<>(components.keySet());
+    }
+
+    /**
+     * @param indexMetadata index metadata
+     * @return fields by component by section, of all node provided components the index uses
+     */
+    static Map<String, Map<String, SortedSet<String>>> parse(IndexMetadata indexMetadata) {
+        Parser parser = new Parser(indexMetadata.getSettings());
+        parser.parseSettings();
+        MappingMetadata mapping = indexMetadata.mapping();
+        if (mapping != null) {
+            parser.parseProperties(mapping.sourceAsMap().get("properties"), "");
+        }
+        return parser.usage;
+    }
+
+    private static final class Parser {
+        final Map<String, Map<String, Settings>> definitions = new HashMap<>();
+        final Map<String, Map<String, SortedSet<String>>> usage = new TreeMap<>();
+
+        Parser(Settings settings) {
+            for (Map.Entry<String, String> section : SETTINGS_PREFIXES.entrySet()) {
+                definitions.put(section.getKey(), settings.getGroups(section.getValue(), true));
+            }
+        }
+
+        void parseSettings() {
+            for (Map.Entry<String, Map<String, Settings>> section : definitions.entrySet()) {
+                for (String name : section.getValue().keySet()) {
+                    reference(section.getKey(), name, null);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void parseProperties(Object properties, String prefix) {
+            if (properties instanceof Map == false) {
+                return;
+            }
+            for (Map.Entry<String, Object> entry : ((Map<String, Object>) properties).entrySet()) {
+                if (entry.getValue() instanceof Map == false) {
+                    continue;
+                }
+                Map<String, Object> field = (Map<String, Object>) entry.getValue();
+                String path = prefix + entry.getKey();
+                Object analyzer = field.get("analyzer");
+                if (analyzer != null) {
+                    reference(ComponentNodeMatrix.ANALYZERS, analyzer.toString(), path);
+                } else if (definitions.get(ComponentNodeMatrix.ANALYZERS).containsKey("default")
+                        && field.get("type") != null
+                        && TEXT_TYPES.contains(field.get("type").toString())) {
+                    reference(ComponentNodeMatrix.ANALYZERS, "default", path);
+                }
+                for (String key : new String[] { "search_analyzer", "search_quote_analyzer" }) {
+                    if (field.get(key) != null) {
+                        reference(ComponentNodeMatrix.ANALYZERS, field.get(key).toString(), path);
+                    }
+                }
+                if (field.get("normalizer") != null) {
+                    reference(ComponentNodeMatrix.NORMALIZERS, field.get("normalizer").toString(), path);
+                }
+                parseProperties(field.get("properties"), path + ".");
+                parseProperties(field.get("fields"), path + ".");
+            }
+        }
+
+        /**
+         * Records a reference from a field (or from the index settings if the field is null) to a component,
+         * components defined by the index are resolved to the node provided components they are built from.
+         */
+        void reference(String section, String name, String field) {
+            Settings definition = definitions.get(section).get(name);
+            if (definition == null) {
+                add(section, name, field);
+                return;
+            }
+            String type = definition.get("type");
+            if (ComponentNodeMatrix.ANALYZERS.equals(section) || ComponentNodeMatrix.NORMALIZERS.equals(section)) {
+                if (type == null || "custom".equals(type)) {
+                    String tokenizer = definition.get("tokenizer");
+                    if (tokenizer != null) {
+                        reference(ComponentNodeMatrix.TOKENIZERS, tokenizer, field);
+                    }
+                    for (String filter : definition.getAsList("filter")) {
+                        reference(ComponentNodeMatrix.TOKEN_FILTERS, filter, field);
+                    }
+                    for (String charFilter : definition.getAsList("char_filter")) {
+                        reference(ComponentNodeMatrix.CHAR_FILTERS, charFilter, field);
+                    }
+                    return;
+                }
+            }
+            if (type != null) {
+                // The type of a component defined by the index is always a node provided component
+                add(section, type, field);
+            }
+        }
+
+        void add(String section, String name, String field) {
+            SortedSet<String> fields = usage.computeIfAbsent(section, k -> new TreeMap<>()).computeIfAbsent(name, k -> new TreeSet<>());
+            if (field != null) {
+                fields.add(field);
+            }
+        }
+    }
+}
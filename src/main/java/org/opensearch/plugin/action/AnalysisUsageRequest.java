@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to look up which indices use which analysis components, see {@link AnalysisUsageIndex}.
+ *
+ * Without {@link #components()} all used components are returned, otherwise only the requested ones (by section),
+ * including those no index uses.
+ */
+public class AnalysisUsageRequest extends ActionRequest {
+
+    private Map<String, Set<String>> components = new LinkedHashMap<>();
+
+    public AnalysisUsageRequest() {}
+
+    public AnalysisUsageRequest(StreamInput in) throws IOException {
+        super(in);
+        this.components = in.readMap(StreamInput::readString, i -> i.readSet(StreamInput::readString));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeMap(components, StreamOutput::writeString, (o, names) -> o.writeCollection(names, StreamOutput::writeString));
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        for (String section : components.keySet()) {
+            if (AnalysisUsageIndex.SECTIONS.contains(section) == false) {
+                validationException = addValidationError("Unknown section [" + section + "]", validationException);
+            }
+        }
+        return validationException;
+    }
+
+    /**
+     * @param components component names by section, empty for all used components
+     * @return this request
+     */
+    public AnalysisUsageRequest components(Map<String, Set<String>> components) {
+        this.components = components;
+        return this;
+    }
+
+    public Map<String, Set<String>> components() {
+        return components;
+    }
+}
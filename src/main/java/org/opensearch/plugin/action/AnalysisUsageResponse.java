@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Indices (and their fields) that use analysis components, by section and component name.
+ *
+ * An index with no fields uses the component only in its analysis settings.
+ */
+public class AnalysisUsageResponse extends ActionResponse implements ToXContentFragment {
+
+    private final long metadataVersion;
+    private final SortedMap<String, SortedMap<String, SortedMap<String, SortedSet<String>>>> usage;
+
+    /**
+     * @param metadataVersion version of the cluster metadata the usage is based on, -1 if not known yet
+     * @param usage section - component - index - fields
+     */
+    public AnalysisUsageResponse(long metadataVersion, SortedMap<String, SortedMap<String, SortedMap<String, SortedSet<String>>>> usage) {
+        this.metadataVersion = metadataVersion;
+        this.usage = usage;
+    }
+
+    public AnalysisUsageResponse(StreamInput in) throws IOException {
+        super(in);
+        this.metadataVersion = in.readZLong();
+        this.usage = new TreeMap<>(in.readMap(
+                StreamInput::readString,
+                sections -> new TreeMap<>(sections.readMap(
+                        StreamInput::readString,
+                        components -> new TreeMap<>(components.readMap(
+                                StreamInput::readString,
+                                indices -> new TreeSet<>(indices.readSet(StreamInput::readString))
+                        ))
+                ))
+        ));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeZLong(metadataVersion);
+        out.writeMap(usage, StreamOutput::writeString, (sections, components) -> sections.writeMap(
+                components,
+                StreamOutput::writeString,
+                (componentsOut, indices) -> componentsOut.writeMap(
+                        indices,
+                        StreamOutput::writeString,
+                        (indicesOut, fields) -> indicesOut.writeCollection(fields, StreamOutput::writeString)
+                )
+        ));
+    }
+
+    /**
+     * @return version of the cluster metadata the usage is based on, -1 if not known yet
+     */
+    public long getMetadataVersion() {
+        return metadataVersion;
+    }
+
+    /**
+     * @return section - component - index - fields
+     */
+    public SortedMap<String, SortedMap<String, SortedMap<String, SortedSet<String>>>> getUsage() {
+        return usage;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field("metadata_version", metadataVersion);
+        for (Map.Entry<String, SortedMap<String, SortedMap<String, SortedSet<String>>>> section : usage.entrySet()) {
+            builder.startObject(section.getKey());
+            for (Map.Entry<String, SortedMap<String, SortedSet<String>>> component : section.getValue().entrySet()) {
+                builder.startObject(component.getKey());
+                for (Map.Entry<String, SortedSet<String>> index : component.getValue().entrySet()) {
+                    builder.array(index.getKey(), index.getValue().toArray(new String[0]));
+                }
+                builder.endObject();
+            }
+            builder.endObject();
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runs an analyzer over a corpus for a number of iterations and measures elapsed time, number of emitted tokens
+ * and bytes allocated by the benchmarking thread (if the JVM supports thread allocation counters).
+ *
+ * Every iteration analyzes every document of the corpus once. Warm-up iterations are run first and are not measured.
+ * Time of every measured iteration is recorded so that latency percentiles can be compared across nodes.
+ */
+final class AnalyzerBenchmark {
+
+    /**
+     * Name of the field the documents are analyzed as, analyzers that care about the field name are unlikely
+     * to be benchmarked.
+     */
+    static final String FIELD_NAME = "_bench";
+
+    /**
+     * Thread allocation counter, null if not supported (or disabled) by the JVM.
+     */
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = AccessController.doPrivileged(
+            (PrivilegedAction<com.sun.management.ThreadMXBean>) AnalyzerBenchmark::threadMXBean
+    );
+
+    private AnalyzerBenchmark() {}
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (allocationBean.isThreadAllocatedMemorySupported() && allocationBean.isThreadAllocatedMemoryEnabled()) {
+                return allocationBean;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return bytes allocated by the current thread so far or -1 if not supported
+     */
+    static long currentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN == null ? -1 : THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Result of a benchmark run.
+     */
+    static final class Result {
+        final int iterations;
+        final int docs;
+        final long tokens;
+        final long tookNanos;
+        final long allocatedBytes;
+        /**
+         * Time of every measured iteration, sorted.
+         */
+        final long[] iterationNanos;
+
+        Result(int iterations, int docs, long tokens, long tookNanos, long allocatedBytes, long[] iterationNanos) {
+            this.iterations = iterations;
+            this.docs = docs;
+            this.tokens = tokens;
+            this.tookNanos = tookNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.iterationNanos = iterationNanos;
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         * @return iteration time at the given percentile (nearest rank)
+         */
+        long iterationNanos(double percentile) {
+            return percentile(iterationNanos, percentile);
+        }
+    }
+
+    /**
+     * @param sorted sorted values
+     * @param percentile between 0 and 100
+     * @return value at the given percentile (nearest rank) or 0 if there are no values
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    /**
+     * @param analyzer analyzer to benchmark
+     * @param corpus documents analyzed in every iteration
+     * @param warmupIterations number of iterations run before measuring
+     * @param iterations number of measured iterations
+     * @param ensureNotCancelled called before every iteration, expected to throw if the benchmark should stop
+     * @return measured iterations
+     */
+    static Result run(Analyzer analyzer, List<String> corpus, int warmupIterations, int iterations, Runnable ensureNotCancelled) {
+        return run(docs -> analyze(analyzer, docs), () -> {}, corpus, warmupIterations, iterations, ensureNotCancelled);
+    }
+
+    /**
+     * @param pass analyzes every document once and returns the number of emitted tokens
+     * @param beforeMeasuring called after warm-up
+     * @param corpus documents analyzed in every iteration
+     * @param warmupIterations number of iterations run before measuring
+     * @param iterations number of measured iterations
+     * @param ensureNotCancelled called before every iteration, expected to throw if the benchmark should stop
+     * @return measured iterations
+     */
+    static Result run(
+            ToLongFunction<List<String>> pass,
+            Runnable beforeMeasuring,
+            List<String> corpus,
+            int warmupIterations,
+            int iterations,
+            Runnable ensureNotCancelled
+    ) {
+        for (int i = 0; i < warmupIterations; i++) {
+            ensureNotCancelled.run();
+            pass.applyAsLong(corpus);
+        }
+        beforeMeasuring.run();
+        long tokens = 0;
+        long[] iterationNanos = new long[iterations];
+        long startAllocatedBytes = currentThreadAllocatedBytes();
+        long startNanos = System.nanoTime();
+        long iterationStartNanos = startNanos;
+        for (int i = 0; i < iterations; i++) {
+            ensureNotCancelled.run();
+            tokens += pass.applyAsLong(corpus);
+            long now = System.nanoTime();
+            iterationNanos[i] = now - iterationStartNanos;
+            iterationStartNanos = now;
+        }
+        long tookNanos = iterationStartNanos - startNanos;
+        long endAllocatedBytes = currentThreadAllocatedBytes();
+        long allocatedBytes = startAllocatedBytes < 0 || endAllocatedBytes < 0 ? -1 : endAllocatedBytes - startAllocatedBytes;
+        Arrays.sort(iterationNanos);
+        return new Result(iterations, corpus.size(), tokens, tookNanos, allocatedBytes, iterationNanos);
+    }
+
+    /**
+     * Analyzes every document once.
+     * @param analyzer analyzer
+     * @param corpus documents
+     * @return number of emitted tokens
+     */
+    static long analyze(Analyzer analyzer, List<String> corpus) {
+        long tokens = 0;
+        for (String doc : corpus) {
+            try (TokenStream tokenStream = analyzer.tokenStream(FIELD_NAME, doc)) {
+                tokenStream.reset();
+                while (tokenStream.incrementToken()) {
+                    tokens++;
+                }
+                tokenStream.end();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Generates a deterministic corpus of pseudo-words, the same arguments always give the same corpus (on any node).
+     * Word lengths are skewed towards short words, some words are capitalized and some are followed by punctuation.
+     * @param docs number of documents
+     * @param wordsPerDoc number of words in every document
+     * @param seed random seed
+     * @return generated documents
+     */
+    static List<String> generateCorpus(int docs, int wordsPerDoc, long seed) {
+        Random random = new Random(seed);
+        List<String> corpus = new ArrayList<>(docs);
+        StringBuilder doc = new StringBuilder();
+        for (int d = 0; d < docs; d++) {
+            doc.setLength(0);
+            for (int w = 0; w < wordsPerDoc; w++) {
+                if (w > 0) {
+                    doc.append(' ');
+                }
+                int length = 1 + Math.min(random.nextInt(6), random.nextInt(12));
+                int start = doc.length();
+                for (int c = 0; c < length; c++) {
+                    doc.append((char) ('a' + random.nextInt(26)));
+                }
+                if (random.nextInt(10) == 0) {
+                    doc.setCharAt(start, Character.toUpperCase(doc.charAt(start)));
+                }
+                if (random.nextInt(12) == 0) {
+                    doc.append(random.nextBoolean() ? '.' : ',');
+                }
+            }
+            corpus.add(doc.toString());
+        }
+        return corpus;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.TextSearchInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Warms up analyzers (lets the JIT compile their code) by running them over a corpus.
+ *
+ * Every analyzer runs at least the target number of passes over the corpus and then keeps running until its
+ * throughput is steady: the times of the last {@link #STEADY_STATE_WINDOW} passes differ by at most
+ * {@link #STEADY_STATE_TOLERANCE}. Analyzers share a time budget, each gets an equal share of what is left
+ * of it, and an analyzer that runs out of its share stops whether steady or not.
+ */
+final class AnalyzerWarmer {
+
+    private static final String ANALYZER_PREFIX = "index.analysis.analyzer.";
+
+    static final int STEADY_STATE_WINDOW = 5;
+    static final double STEADY_STATE_TOLERANCE = 0.1;
+
+    /**
+     * Corpus used if none is given.
+     */
+    static final List<String> DEFAULT_CORPUS = Collections.unmodifiableList(AnalyzerBenchmark.generateCorpus(
+            NodesAnalyzerBenchRequest.DEFAULT_GENERATED_DOCS,
+            NodesAnalyzerBenchRequest.DEFAULT_WORDS_PER_DOC,
+            0L
+    ));
+
+    private AnalyzerWarmer() {}
+
+    /**
+     * An analyzer to warm up.
+     */
+    static final class Target {
+        final String index;
+        final String name;
+        final Analyzer analyzer;
+        final String definition;
+
+        /**
+         * @param index index of the analyzer or null for global analyzers
+         * @param name analyzer name
+         * @param analyzer analyzer
+         */
+        Target(String index, String name, Analyzer analyzer) {
+            this(index, name, analyzer, name);
+        }
+
+        /**
+         * @param index index of the analyzer or null for global analyzers
+         * @param name analyzer name
+         * @param analyzer analyzer
+         * @param definition identifies analyzers running the same code, equal for analyzers of different indices
+         *                   built from an equivalent definition
+         */
+        Target(String index, String name, Analyzer analyzer, String definition) {
+            this.index = index;
+            this.name = name;
+            this.analyzer = analyzer;
+            this.definition = definition;
+        }
+    }
+
+    /**
+     * @param indexService index
+     * @return analyzers referenced by the index, see {@link #targets(String, Settings, IndexAnalyzers, Iterable)}
+     */
+    static List<Target> targets(IndexService indexService) {
+        return targets(
+                indexService.index().getName(),
+                indexService.getIndexSettings().getSettings(),
+                indexService.getIndexAnalyzers(),
+                indexService.mapperService().fieldTypes()
+        );
+    }
+
+    /**
+     * Analyzers referenced by the index: custom analyzers defined in its settings and analyzers of its mapped
+     * fields. Built-in analyzers the index does not use are left out, the index only holds them because every
+     * index can refer to them.
+     * @param index index name
+     * @param indexSettings settings of the index
+     * @param indexAnalyzers analyzers of the index
+     * @param fieldTypes mapped fields of the index
+     * @return analyzers referenced by the index, every analyzer instance only once
+     */
+    static List<Target> targets(
+            String index,
+            Settings indexSettings,
+            IndexAnalyzers indexAnalyzers,
+            Iterable<MappedFieldType> fieldTypes
+    ) {
+        Set<String> custom = indexSettings.getGroups(ANALYZER_PREFIX).keySet();
+        List<Target> targets = new ArrayList<>();
+        Set<Analyzer> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String name : referencedAnalyzers(indexSettings, fieldTypes)) {
+            NamedAnalyzer analyzer = indexAnalyzers.getAnalyzers().get(name);
+            if (analyzer != null && seen.add(analyzer.analyzer())) {
+                // custom analyzers by their canonical definition, built-in ones (shared by all indices) by name
+                String definition = custom.contains(name) ? NodeDuplicateAnalyzers.definition(indexSettings, name) : name;
+                targets.add(new Target(index, name, analyzer, definition));
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * @param indexSettings settings of the index
+     * @param fieldTypes mapped fields of the index
+     * @return names of custom analyzers of the index and of analyzers used by its fields, sorted
+     */
+    static Set<String> referencedAnalyzers(Settings indexSettings, Iterable<MappedFieldType> fieldTypes) {
+        Set<String> names = new TreeSet<>(indexSettings.getGroups(ANALYZER_PREFIX).keySet());
+        for (MappedFieldType fieldType : fieldTypes) {
+            addName(names, fieldType.indexAnalyzer());
+            TextSearchInfo textSearchInfo = fieldType.getTextSearchInfo();
+            if (textSearchInfo != null) {
+                addName(names, textSearchInfo.getSearchAnalyzer());
+                addName(names, textSearchInfo.getSearchQuoteAnalyzer());
+            }
+        }
+        return names;
+    }
+
+    private static void addName(Set<String> names, NamedAnalyzer analyzer) {
+        if (analyzer != null) {
+            names.add(analyzer.name());
+        }
+    }
+
+    /**
+     * @param targets analyzers to warm up
+     * @param corpus documents
+     * @param iterations minimal number of passes over the corpus
+     * @param budgetNanos time budget for all analyzers
+     * @param ensureNotCancelled called before every pass, expected to throw if the warm-up should stop
+     * @return warm-up result of every analyzer
+     */
+    static List<AnalyzerWarmupResult> warmUp(
+            List<Target> targets,
+            List<String> corpus,
+            int iterations,
+            long budgetNanos,
+            Runnable ensureNotCancelled
+    ) {
+        long deadlineNanos = System.nanoTime() + budgetNanos;
+        List<AnalyzerWarmupResult> results = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            long shareNanos = Math.max(0, deadlineNanos - System.nanoTime()) / (targets.size() - i);
+            results.add(warmUp(targets.get(i), corpus, iterations, shareNanos, ensureNotCancelled));
+        }
+        return results;
+    }
+
+    static AnalyzerWarmupResult warmUp(
+            Target target,
+            List<String> corpus,
+            int iterations,
+            long budgetNanos,
+            Runnable ensureNotCancelled
+    ) {
+        long[] window = new long[STEADY_STATE_WINDOW];
+        long tokens = 0;
+        int passes = 0;
+        boolean steady = false;
+        long startNanos = System.nanoTime();
+        long passStartNanos = startNanos;
+        while (true) {
+            ensureNotCancelled.run();
+            tokens = AnalyzerBenchmark.analyze(target.analyzer, corpus);
+            long now = System.nanoTime();
+            window[passes % STEADY_STATE_WINDOW] = now - passStartNanos;
+            passStartNanos = now;
+            passes++;
+            steady = passes >= STEADY_STATE_WINDOW && isSteady(window);
+            if ((passes >= iterations && steady) || now - startNanos >= budgetNanos) {
+                break;
+            }
+        }
+        long windowNanos = 0;
+        int windowPasses = Math.min(passes, STEADY_STATE_WINDOW);
+        for (int i = 0; i < windowPasses; i++) {
+            windowNanos += window[i];
+        }
+        return new AnalyzerWarmupResult(
+                target.index,
+                target.name,
+                passes,
+                passStartNanos - startNanos,
+                windowNanos == 0 ? 0 : tokens * windowPasses * 1_000_000_000d / windowNanos,
+                steady
+        );
+    }
+
+    /**
+     * @param passNanos times of the last passes
+     * @return true if the slowest pass is at most {@link #STEADY_STATE_TOLERANCE} slower than the fastest one
+     */
+    static boolean isSteady(long[] passNanos) {
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (long nanos : passNanos) {
+            min = Math.min(min, nanos);
+            max = Math.max(max, nanos);
+        }
+        return min > 0 && max - min <= min * STEADY_STATE_TOLERANCE;
+    }
+}
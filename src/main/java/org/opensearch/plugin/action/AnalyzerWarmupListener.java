@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Warms up analyzers of an index before its shards recover on the node, so shards do not start serving traffic
+ * with cold analyzers, see {@link AnalyzerWarmer}.
+ *
+ * Enabled by {@link #WARMUP_ENABLED}. The first shard of an index to recover on the node warms up the analyzers
+ * referenced by the index (see {@link AnalyzerWarmer#targets(IndexService)}) with the built-in corpus, other shards
+ * of the index wait for it. Every index is warmed up once while it is on the node.
+ *
+ * Warm-ups are also deduplicated across indices: an analyzer definition (or built-in analyzer) is warmed up once
+ * per node, as the JIT-compiled code is shared by all its instances. An index whose analyzers are all warmed up
+ * already, or being warmed up for another index, skips the warm-up and its shards recover right away.
+ *
+ * The warm-up runs on, and blocks, the thread recovering the shard (a generic thread), waiting shards block theirs
+ * too. Every shard recovery of an index not warmed up yet is therefore delayed by up to {@link #WARMUP_TIME_BUDGET},
+ * and with many indices recovering at once the budget ties up that many generic threads, so keep it small.
+ */
+public class AnalyzerWarmupListener implements IndexEventListener {
+
+    private static final Logger logger = LogManager.getLogger(AnalyzerWarmupListener.class);
+
+    public static final Setting<Boolean> WARMUP_ENABLED = Setting.boolSetting(
+            "node_analyzers.warmup.enabled",
+            false,
+            Setting.Property.NodeScope
+    );
+
+    public static final Setting<Integer> WARMUP_ITERATIONS = Setting.intSetting(
+            "node_analyzers.warmup.iterations",
+            NodesAnalyzersWarmupRequest.DEFAULT_ITERATIONS,
+            1,
+            NodesAnalyzerBenchRequest.MAX_ITERATIONS,
+            Setting.Property.NodeScope
+    );
+
+    /**
+     * Longest a shard recovery waits for the warm-up, on every shard of an index that is not warmed up yet. The
+     * recovering thread is blocked for that time.
+     */
+    public static final Setting<TimeValue> WARMUP_TIME_BUDGET = Setting.timeSetting(
+            "node_analyzers.warmup.time_budget",
+            NodesAnalyzersWarmupRequest.DEFAULT_TIME_BUDGET,
+            TimeValue.timeValueMillis(1),
+            Setting.Property.NodeScope
+    );
+
+    /**
+     * @return all settings of the warm-up
+     */
+    public static List<Setting<?>> getSettings() {
+        return unmodifiableList(asList(WARMUP_ENABLED, WARMUP_ITERATIONS, WARMUP_TIME_BUDGET));
+    }
+
+    /**
+     * Warm-ups by index UUID, done or in progress.
+     */
+    private final Map<String, CompletableFuture<Void>> warmups = new ConcurrentHashMap<>();
+
+    /**
+     * Definitions of analyzers warmed up on the node, done or in progress. Kept when indices are removed, the
+     * compiled code outlives them.
+     */
+    private final Set<String> warmedUpDefinitions = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public void beforeIndexShardRecovery(IndexShard indexShard, IndexSettings indexSettings) {
+        Settings nodeSettings = indexSettings.getNodeSettings();
+        if (WARMUP_ENABLED.get(nodeSettings) == false) {
+            return;
+        }
+        TimeValue timeBudget = WARMUP_TIME_BUDGET.get(nodeSettings);
+        warmUpOnce(indexSettings.getUUID(), indexShard.shardId(), timeBudget, () -> {
+            List<AnalyzerWarmer.Target> targets = claim(AnalyzerWarmer.targets(
+                    indexSettings.getIndex().getName(),
+                    indexSettings.getSettings(),
+                    indexShard.mapperService().getIndexAnalyzers(),
+                    indexShard.mapperService().fieldTypes()
+            ));
+            if (targets.isEmpty()) {
+                logger.debug("{} analyzers already warmed up", indexShard.shardId());
+                return;
+            }
+            List<AnalyzerWarmupResult> results = AnalyzerWarmer.warmUp(
+                    targets,
+                    AnalyzerWarmer.DEFAULT_CORPUS,
+                    WARMUP_ITERATIONS.get(nodeSettings),
+                    timeBudget.nanos(),
+                    () -> {}
+            );
+            for (AnalyzerWarmupResult result : results) {
+                logger.debug(
+                        "{} warmed up analyzer [{}] in [{}] iterations and [{}], [{}] tokens/s, steady state [{}]",
+                        indexShard.shardId(),
+                        result.getName(),
+                        result.getIterations(),
+                        new TimeValue(result.getTookNanos(), TimeUnit.NANOSECONDS),
+                        result.getTokensPerSecond(),
+                        result.isSteadyState()
+                );
+            }
+        });
+    }
+
+    /**
+     * @param targets analyzers referenced by an index
+     * @return the analyzers whose definition is not warmed up on the node yet, they are now claimed by the caller
+     */
+    List<AnalyzerWarmer.Target> claim(List<AnalyzerWarmer.Target> targets) {
+        List<AnalyzerWarmer.Target> claimed = new ArrayList<>(targets.size());
+        for (AnalyzerWarmer.Target target : targets) {
+            if (warmedUpDefinitions.add(target.definition)) {
+                claimed.add(target);
+            }
+        }
+        return claimed;
+    }
+
+    /**
+     * Runs the warm-up of an index unless it is done or in progress, in which case waits for it.
+     * @param indexUUID UUID of the index
+     * @param shardId shard about to recover
+     * @param timeBudget longest to wait for a warm-up in progress
+     * @param warmUp warms up the analyzers of the index, failures are logged
+     */
+    void warmUpOnce(String indexUUID, ShardId shardId, TimeValue timeBudget, Runnable warmUp) {
+        CompletableFuture<Void> warmup = new CompletableFuture<>();
+        CompletableFuture<Void> existing = warmups.putIfAbsent(indexUUID, warmup);
+        if (existing != null) {
+            awaitWarmup(existing, timeBudget, shardId);
+            return;
+        }
+        try {
+            warmUp.run();
+        } catch (Exception e) {
+            // A warm-up failure must never fail the recovery
+            logger.warn(() -> new ParameterizedMessage("{} failed to warm up analyzers", shardId), e);
+        } finally {
+            warmup.complete(null);
+        }
+    }
+
+    private static void awaitWarmup(CompletableFuture<Void> warmup, TimeValue timeBudget, ShardId shardId) {
+        try {
+            warmup.get(timeBudget.millis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.debug("{} not waiting for analyzer warm-up any longer", shardId);
+        }
+    }
+
+    @Override
+    public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
+        warmups.remove(index.getUUID());
+    }
+}
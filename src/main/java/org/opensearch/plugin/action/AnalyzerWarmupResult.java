@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+
+/**
+ * Warm-up of a single analyzer, see {@link AnalyzerWarmer}.
+ *
+ * Throughput is measured over the last passes only, so it is the throughput the analyzer settled at (if steady).
+ */
+public class AnalyzerWarmupResult implements Writeable {
+
+    private final String index;
+    private final String name;
+    private final int iterations;
+    private final long tookNanos;
+    private final double tokensPerSecond;
+    private final boolean steadyState;
+
+    /**
+     * @param index index of the analyzer or null for global analyzers
+     * @param name analyzer name
+     * @param iterations number of passes over the corpus
+     * @param tookNanos time of all passes
+     * @param tokensPerSecond throughput of the last passes
+     * @param steadyState true if the throughput of the last passes was steady
+     */
+    public AnalyzerWarmupResult(
+            String index,
+            String name,
+            int iterations,
+            long tookNanos,
+            double tokensPerSecond,
+            boolean steadyState
+    ) {
+        this.index = index;
+        this.name = name;
+        this.iterations = iterations;
+        this.tookNanos = tookNanos;
+        this.tokensPerSecond = tokensPerSecond;
+        this.steadyState = steadyState;
+    }
+
+    public AnalyzerWarmupResult(StreamInput in) throws IOException {
+        this.index = in.readOptionalString();
+        this.name = in.readString();
+        this.iterations = in.readVInt();
+        this.tookNanos = in.readVLong();
+        this.tokensPerSecond = in.readDouble();
+        this.steadyState = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(index);
+        out.writeString(name);
+        out.writeVInt(iterations);
+        out.writeVLong(tookNanos);
+        out.writeDouble(tokensPerSecond);
+        out.writeBoolean(steadyState);
+    }
+
+    /**
+     * @return index of the analyzer or null for global analyzers
+     */
+    public String getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getTookNanos() {
+        return tookNanos;
+    }
+
+    public double getTokensPerSecond() {
+        return tokensPerSecond;
+    }
+
+    public boolean isSteadyState() {
+        return steadyState;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Node request of a nodes action that runs as a cancellable task. The node task is cancelled together with its
+ * parent task, and the node operation checks {@link #ensureNotCancelled(Task)} between units of work.
+ */
+public abstract class CancellableNodeRequest extends TransportRequest {
+
+    protected CancellableNodeRequest() {}
+
+    protected CancellableNodeRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, "", parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @param task task of the request, tasks that are not cancellable (or null) are never cancelled
+     * @throws TaskCancelledException if the task has been cancelled
+     */
+    public static void ensureNotCancelled(Task task) {
+        if (task instanceof CancellableTask && ((CancellableTask) task).isCancelled()) {
+            throw new TaskCancelledException("task cancelled [" + ((CancellableTask) task).getReasonCancelled() + "]");
+        }
+    }
+}
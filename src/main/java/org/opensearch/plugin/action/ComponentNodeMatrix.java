@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSortedMap;
+import static java.util.Collections.unmodifiableSortedSet;
+
+/**
+ * Component-by-node matrix of a {@link NodesAnalyzersResponse}.
+ *
+ * Every node gets an ordinal (its position in the response). For every component (and plugin) we keep a bitset
+ * of ordinals of nodes that have it. Nodes with identical inventory are processed together, so building
+ * the matrix costs O(distinct inventories * components * nodes / 64) rather than O(nodes * components).
+ *
+ * For every component we also keep the plugins that provide it on any of the nodes, see {@link #getProviders}.
+ */
+public final class ComponentNodeMatrix {
+
+    public static final String ANALYZERS = "analyzers";
+    public static final String TOKENIZERS = "tokenizers";
+    public static final String TOKEN_FILTERS = "tokenFilters";
+    public static final String CHAR_FILTERS = "charFilters";
+    public static final String NORMALIZERS = "normalizers";
+    public static final String PLUGINS = "plugins";
+
+    /**
+     * All component types (sections) in the order they are rendered.
+     */
+    public static final List<String> SECTIONS = List.of(
+            ANALYZERS, TOKENIZERS, TOKEN_FILTERS, CHAR_FILTERS, NORMALIZERS, PLUGINS
+    );
+
+    private static final SortedSet<String> CORE_PROVIDER = unmodifiableSortedSet(new TreeSet<>(List.of(NodeAnalysisHeapUsage.CORE)));
+
+    private final List<DiscoveryNode> nodes;
+    private final Map<String, SortedMap<String, BitSet>> sections;
+    private final Map<String, Map<String, SortedSet<String>>> providers;
+
+    private ComponentNodeMatrix(
+            List<DiscoveryNode> nodes,
+            Map<String, SortedMap<String, BitSet>> sections,
+            Map<String, Map<String, SortedSet<String>>> providers
+    ) {
+        this.nodes = nodes;
+        this.sections = sections;
+        this.providers = providers;
+    }
+
+    /**
+     * @param response nodes response, all nodes must have inventory
+     * @return the matrix
+     */
+    public static ComponentNodeMatrix build(NodesAnalyzersResponse response) {
+        List<DiscoveryNode> nodes = new ArrayList<>(response.getNodes().size());
+        Map<String, BitSet> digestNodes = new LinkedHashMap<>();
+        Map<String, NodeAnalysisInventory> inventories = new LinkedHashMap<>();
+        for (NodeAnalyzersInfo nodeInfo : response.getNodes()) {
+            digestNodes.computeIfAbsent(nodeInfo.getDigest(), digest -> new BitSet()).set(nodes.size());
+            inventories.putIfAbsent(nodeInfo.getDigest(), nodeInfo.getInventory());
+            nodes.add(nodeInfo.getNode());
+        }
+        Map<String, SortedMap<String, BitSet>> sections = new LinkedHashMap<>();
+        Map<String, Map<String, SortedSet<String>>> providers = new HashMap<>();
+        for (String section : SECTIONS) {
+            sections.put(section, new TreeMap<>());
+            providers.put(section, new HashMap<>());
+        }
+        for (Map.Entry<String, NodeAnalysisInventory> entry : inventories.entrySet()) {
+            BitSet ordinals = digestNodes.get(entry.getKey());
+            NodeAnalysisInventory inventory = entry.getValue();
+            add(sections.get(ANALYZERS), inventory.getAnalyzersKeySet(), ordinals);
+            add(sections.get(TOKENIZERS), inventory.getTokenizersKeySet(), ordinals);
+            add(sections.get(TOKEN_FILTERS), inventory.getTokenFiltersKeySet(), ordinals);
+            add(sections.get(CHAR_FILTERS), inventory.getCharFiltersKeySet(), ordinals);
+            add(sections.get(NORMALIZERS), inventory.getNormalizersKeySet(), ordinals);
+            add(sections.get(PLUGINS), inventory.getNodeAnalysisPlugins().keySet(), ordinals);
+            for (Map.Entry<String, NodeAnalyzersInfo.AnalysisPluginComponents> plugin : inventory.getNodeAnalysisPlugins().entrySet()) {
+                NodeAnalyzersInfo.AnalysisPluginComponents components = plugin.getValue();
+                addProvider(providers.get(ANALYZERS), components.getAnalyzersKeySet(), plugin.getKey());
+                addProvider(providers.get(TOKENIZERS), components.getTokenizersKeySet(), plugin.getKey());
+                addProvider(providers.get(TOKEN_FILTERS), components.getTokenFiltersKeySet(), plugin.getKey());
+                addProvider(providers.get(CHAR_FILTERS), components.getCharFiltersKeySet(), plugin.getKey());
+            }
+        }
+        Map<String, SortedMap<String, BitSet>> unmodifiableSections = new LinkedHashMap<>();
+        for (Map.Entry<String, SortedMap<String, BitSet>> section : sections.entrySet()) {
+            unmodifiableSections.put(section.getKey(), unmodifiableSortedMap(section.getValue()));
+        }
+        return new ComponentNodeMatrix(unmodifiableList(nodes), unmodifiableMap(unmodifiableSections), providers);
+    }
+
+    private static void add(SortedMap<String, BitSet> section, Iterable<String> names, BitSet ordinals) {
+        for (String name : names) {
+            section.computeIfAbsent(name, n -> new BitSet()).or(ordinals);
+        }
+    }
+
+    private static void addProvider(Map<String, SortedSet<String>> section, Iterable<String> names, String plugin) {
+        for (String name : names) {
+            section.computeIfAbsent(name, n -> new TreeSet<>()).add(plugin);
+        }
+    }
+
+    /**
+     * @return nodes, position in the list is the node ordinal
+     */
+    public List<DiscoveryNode> getNodes() {
+        return nodes;
+    }
+
+    /**
+     * @param section one of {@link #SECTIONS}
+     * @return bitsets of node ordinals by component name (sorted), do not modify the bitsets
+     */
+    public SortedMap<String, BitSet> getSection(String section) {
+        return sections.get(section);
+    }
+
+    /**
+     * The inventory does not tell whether OpenSearch itself provides a component that a plugin provides too, so only
+     * components not provided by any plugin are attributed to {@link NodeAnalysisHeapUsage#CORE}.
+     * @param section one of {@link #SECTIONS} but {@link #PLUGINS}
+     * @param name component name
+     * @return keys of plugins providing the component on any node (as in the {@link #PLUGINS} section), do not modify
+     */
+    public SortedSet<String> getProviders(String section, String name) {
+        SortedSet<String> plugins = providers.getOrDefault(section, emptyMap()).get(name);
+        return plugins == null ? CORE_PROVIDER : plugins;
+    }
+
+    /**
+     * @param ordinals node ordinals
+     * @return true if the bitset contains all nodes
+     */
+    public boolean isOnAllNodes(BitSet ordinals) {
+        return ordinals.cardinality() == nodes.size();
+    }
+}
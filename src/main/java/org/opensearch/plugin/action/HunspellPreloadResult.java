@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+
+/**
+ * Preload of a single hunspell dictionary, see {@link HunspellPreloader}.
+ */
+public class HunspellPreloadResult implements Writeable {
+
+    public static final String SOURCE_CONFIG = "config";
+    public static final String SOURCE_PLUGIN = "plugin";
+
+    private final String name;
+    private final String source;
+    private final boolean cached;
+    private final long tookNanos;
+    private final long diskBytes;
+    private final long heapBytes;
+    private final String error;
+
+    /**
+     * @param name dictionary name (locale)
+     * @param source {@link #SOURCE_CONFIG} or {@link #SOURCE_PLUGIN}
+     * @param cached whether the dictionary was in the node's dictionary cache already
+     * @param tookNanos time to load the dictionary or to get it from the cache
+     * @param diskBytes size of the dictionary files or -1 for dictionaries provided by plugins
+     * @param heapBytes estimated heap retained by the dictionary or -1 if it failed to load
+     * @param error reason the dictionary failed to load or null
+     */
+    public HunspellPreloadResult(
+            String name,
+            String source,
+            boolean cached,
+            long tookNanos,
+            long diskBytes,
+            long heapBytes,
+            String error
+    ) {
+        this.name = name;
+        this.source = source;
+        this.cached = cached;
+        this.tookNanos = tookNanos;
+        this.diskBytes = diskBytes;
+        this.heapBytes = heapBytes;
+        this.error = error;
+    }
+
+    public HunspellPreloadResult(StreamInput in) throws IOException {
+        this.name = in.readString();
+        this.source = in.readString();
+        this.cached = in.readBoolean();
+        this.tookNanos = in.readVLong();
+        this.diskBytes = in.readZLong();
+        this.heapBytes = in.readZLong();
+        this.error = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(name);
+        out.writeString(source);
+        out.writeBoolean(cached);
+        out.writeVLong(tookNanos);
+        out.writeZLong(diskBytes);
+        out.writeZLong(heapBytes);
+        out.writeOptionalString(error);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return whether the dictionary was in the node's dictionary cache already, the preload did not load it
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    public long getTookNanos() {
+        return tookNanos;
+    }
+
+    /**
+     * @return size of the dictionary files or -1 for dictionaries provided by plugins
+     */
+    public long getDiskBytes() {
+        return diskBytes;
+    }
+
+    /**
+     * @return estimated heap retained by the dictionary or -1 if it failed to load
+     */
+    public long getHeapBytes() {
+        return heapBytes;
+    }
+
+    /**
+     * @return reason the dictionary failed to load or null
+     */
+    public String getError() {
+        return error;
+    }
+
+    public boolean isLoaded() {
+        return error == null;
+    }
+}
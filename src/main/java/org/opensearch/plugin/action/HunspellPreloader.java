@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.index.analysis.AnalyzerComponentsProvider;
+import org.opensearch.index.analysis.NameOrDefinition;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.analysis.TokenFilterFactory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+/**
+ * Loads hunspell dictionaries ahead of their first use.
+ *
+ * By default the node loads all dictionaries of its config directory at start. With
+ * {@code indices.analysis.hunspell.dictionary.lazy} set to true, and for dictionaries added to the config directory
+ * after the node started, a dictionary is loaded by the first index that uses it, which can take seconds for large
+ * dictionaries. A dictionary is loaded here the same way an index loads it: a transient analyzer with a "hunspell"
+ * token filter is built, so the dictionary ends up in the node's shared dictionary cache and every index using it
+ * later gets the already loaded instance. Dictionaries that are in the cache already (provided by plugins, loaded at
+ * start, used by an index or preloaded before) are reported as cached, preloading them only reports their heap usage.
+ *
+ * Dictionaries are loaded in parallel by a bounded number of workers, every worker loads one dictionary at a time.
+ */
+final class HunspellPreloader {
+
+    /**
+     * Directory of hunspell dictionaries in the node's config directory, one sub-directory per dictionary.
+     */
+    static final String HUNSPELL_DIR = "hunspell";
+
+    private HunspellPreloader() {}
+
+    /**
+     * @param hunspellDir directory of hunspell dictionaries, may not exist
+     * @param pluginDictionaries names of dictionaries provided by plugins
+     * @return names of all dictionaries known to the node
+     * @throws IOException When things go wrong
+     */
+    static SortedSet<String> available(Path hunspellDir, Collection<String> pluginDictionaries) throws IOException {
+        SortedSet<String> names = new TreeSet<>(pluginDictionaries);
+        if (Files.isDirectory(hunspellDir)) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(hunspellDir)) {
+                for (Path path : stream) {
+                    if (Files.isDirectory(path)) {
+                        names.add(path.getFileName().toString());
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * @param dictionaryDir directory of a single dictionary
+     * @return total size of the (affix, dictionary and settings) files in the directory
+     * @throws IOException When things go wrong
+     */
+    static long diskSize(Path dictionaryDir) throws IOException {
+        long size = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dictionaryDir)) {
+            for (Path path : stream) {
+                if (Files.isRegularFile(path)) {
+                    size += Files.size(path);
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Dictionaries referenced by the "hunspell" token filters of an index. They were loaded into the node's
+     * dictionary cache when the index was created on the node.
+     * @param indexSettings settings of the index
+     * @return dictionary names (locales)
+     */
+    static Set<String> usedBy(Settings indexSettings) {
+        Set<String> names = new HashSet<>();
+        for (Settings filter : indexSettings.getGroups("index.analysis.filter").values()) {
+            if ("hunspell".equals(filter.get("type"))) {
+                // the same aliases as HunspellTokenFilterFactory
+                String locale = filter.get("locale", filter.get("language", filter.get("lang")));
+                if (locale != null) {
+                    names.add(locale);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Loads a dictionary into the node's dictionary cache (if not loaded yet). Failures are reported in the result.
+     * @param analysisRegistry AnalysisRegistry, builds the transient analyzer
+     * @param hunspellDir directory of hunspell dictionaries
+     * @param pluginDictionaries names of dictionaries provided by plugins, plugins take precedence over the config directory
+     * @param cached whether the dictionary is known to be in the node's dictionary cache already
+     * @param name dictionary name (locale)
+     * @return load time, disk and heap size of the dictionary
+     */
+    static HunspellPreloadResult load(
+            AnalysisRegistry analysisRegistry,
+            Path hunspellDir,
+            Set<String> pluginDictionaries,
+            boolean cached,
+            String name
+    ) {
+        boolean fromPlugin = pluginDictionaries.contains(name);
+        String source = fromPlugin ? HunspellPreloadResult.SOURCE_PLUGIN : HunspellPreloadResult.SOURCE_CONFIG;
+        long startNanos = System.nanoTime();
+        long tookNanos;
+        long heapBytes;
+        try (NamedAnalyzer analyzer = analysisRegistry.buildCustomAnalyzer(
+                null,
+                false,
+                new NameOrDefinition("keyword"),
+                emptyList(),
+                singletonList(new NameOrDefinition(Map.of("type", "hunspell", "locale", name)))
+        )) {
+            tookNanos = System.nanoTime() - startNanos;
+            TokenFilterFactory[] tokenFilters = ((AnalyzerComponentsProvider) analyzer.analyzer()).getComponents().getTokenFilters();
+            // The factory references the dictionary, the factory itself is only a few bytes
+            heapBytes = new AnalysisHeapEstimator().estimate(tokenFilters[0]);
+        } catch (Exception e) {
+            return new HunspellPreloadResult(
+                    name, source, false, System.nanoTime() - startNanos, -1, -1, ExceptionsHelper.detailedMessage(e)
+            );
+        }
+        long diskBytes = -1;
+        if (fromPlugin == false) {
+            try {
+                diskBytes = diskSize(hunspellDir.resolve(name));
+            } catch (IOException e) {
+                // loaded, only the size is not known
+            }
+        }
+        return new HunspellPreloadResult(name, source, cached || fromPlugin, tookNanos, diskBytes, heapBytes, null);
+    }
+
+    /**
+     * Loads dictionaries in parallel and waits until all are loaded.
+     * @param names dictionaries to load
+     * @param concurrency maximum number of dictionaries loaded at the same time
+     * @param executor executor of the workers, should have at least as many threads as the concurrency
+     * @param loader loads a single dictionary, reports failures in the result
+     * @param ensureNotCancelled checked before loading every dictionary, throws if the request is cancelled
+     * @return results in the order of names
+     */
+    static List<HunspellPreloadResult> preload(
+            List<String> names,
+            int concurrency,
+            ExecutorService executor,
+            Function<String, HunspellPreloadResult> loader,
+            Runnable ensureNotCancelled
+    ) {
+        HunspellPreloadResult[] results = new HunspellPreloadResult[names.size()];
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(Math.max(1, concurrency), names.size());
+        List<Future<?>> futures = new ArrayList<>(workers);
+        RuntimeException failure = null;
+        try {
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int n = next.getAndIncrement(); n < results.length; n = next.getAndIncrement()) {
+                        ensureNotCancelled.run();
+                        results[n] = loader.apply(names.get(n));
+                    }
+                }));
+            }
+        } catch (RuntimeException e) {
+            // rejected, let the workers already running finish what they have started
+            next.set(results.length);
+            failure = e;
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                next.set(results.length);
+                if (failure == null) {
+                    Throwable cause = e.getCause();
+                    failure = cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                next.set(results.length);
+                throw new IllegalStateException("interrupted while preloading hunspell dictionaries", e);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return Arrays.asList(results);
+    }
+}
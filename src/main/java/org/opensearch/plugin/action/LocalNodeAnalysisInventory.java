@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.plugins.AnalysisPlugin;
+import org.opensearch.plugins.PluginsService;
+
+/**
+ * The {@link NodeAnalysisInventory} of the local node, shared by {@link TransportNodeAnalyzersAction} and
+ * {@link TransportNodeAnalyzerProvidersAction}. One instance per node, created by the plugin and bound for injection.
+ *
+ * The inventory is built on first use only, by whichever action needs it first (the registry and the plugins are not
+ * available yet when plugin components are created, the actions get them injected). All later calls return the same
+ * (immutable) instance.
+ */
+public final class LocalNodeAnalysisInventory {
+
+    private volatile NodeAnalysisInventory inventory;
+
+    /**
+     * @param analysisRegistry AnalysisRegistry of the node
+     * @param pluginsService PluginsService of the node, provides the analysis plugins
+     * @return analysis inventory of the local node
+     */
+    public NodeAnalysisInventory get(AnalysisRegistry analysisRegistry, PluginsService pluginsService) {
+        NodeAnalysisInventory result = inventory;
+        if (result == null) {
+            synchronized (this) {
+                result = inventory;
+                if (result == null) {
+                    result = NodeAnalysisInventory.build(analysisRegistry, pluginsService.filterPlugins(AnalysisPlugin.class));
+                    inventory = result;
+                }
+            }
+        }
+        return result;
+    }
+}
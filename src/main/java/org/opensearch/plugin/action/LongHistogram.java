@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative long values (nanoseconds, bytes).
+ *
+ * Values are counted in log-linear buckets: every power of two is split into {@link #SUB_BUCKETS} equal buckets,
+ * so a value reported at a percentile is at most 1/{@value #SUB_BUCKETS} above the recorded one. Every bucket is a
+ * {@link LongAdder}, so threads recording at the same time do not contend on a single counter. Values of
+ * 2^({@value #MAX_EXPONENT} + 1) and above are counted in the last bucket, the max is kept exactly.
+ */
+public final class LongHistogram {
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * About 18 minutes in nanoseconds, 1TB in bytes.
+     */
+    static final int MAX_EXPONENT = 40;
+    static final int BUCKETS = bucket(1L << MAX_EXPONENT) + SUB_BUCKETS;
+
+    private final LongAdder[] counts = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public LongHistogram() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @param value value to record, negative values are recorded as 0
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts[Math.min(BUCKETS - 1, bucket(v))].increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * @param value non-negative value
+     * @return index of the bucket counting the value
+     */
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @param bucket bucket index
+     * @return the highest value counted in the bucket
+     */
+    static long highestValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+
+    /**
+     * Counters are read one by one while other threads may be recording, so the snapshot is not atomic,
+     * it may miss some of the values recorded concurrently.
+     * @return current counts
+     */
+    public Snapshot snapshot() {
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts[i].sum();
+        }
+        return new Snapshot(snapshot, sum.sum(), max.get());
+    }
+
+    /**
+     * Point in time copy of a histogram, only non-empty buckets are serialized.
+     */
+    public static final class Snapshot implements Writeable {
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        Snapshot(long[] counts, long sum, long max) {
+            this.counts = counts;
+            this.count = Arrays.stream(counts).sum();
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public Snapshot(StreamInput in) throws IOException {
+            long[] counts = new long[BUCKETS];
+            int buckets = in.readVInt();
+            for (int i = 0; i < buckets; i++) {
+                counts[in.readVInt()] = in.readVLong();
+            }
+            this.counts = counts;
+            this.count = Arrays.stream(counts).sum();
+            this.sum = in.readVLong();
+            this.max = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            int buckets = 0;
+            for (long bucketCount : counts) {
+                if (bucketCount > 0) {
+                    buckets++;
+                }
+            }
+            out.writeVInt(buckets);
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    out.writeVInt(i);
+                    out.writeVLong(counts[i]);
+                }
+            }
+            out.writeVLong(sum);
+            out.writeVLong(max);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * @return mean of the recorded values or 0 if there are none
+         */
+        public long getAvg() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         * @return highest value of the bucket at the given percentile (nearest rank), never above the max,
+         *         or 0 if there are no values
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    // the last bucket also counts values above its bounds
+                    return i == counts.length - 1 ? max : Math.min(max, highestValue(i));
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.analysis.AnalyzerComponents;
+import org.opensearch.index.analysis.AnalyzerComponentsProvider;
+import org.opensearch.index.analysis.CharFilterFactory;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.analysis.TokenFilterFactory;
+import org.opensearch.plugins.AnalysisPlugin;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Estimated heap retained by analysis components instantiated on a node, see {@link AnalysisHeapEstimator}.
+ *
+ * Components are instantiated per index, so sizes are reported per index, section and component name. Components
+ * referenced from analyzers are estimated first, the size reported for an analyzer is what it retains on top of
+ * its components. Every component is also attributed to the plugin that provides its class (or to {@link #CORE}).
+ */
+public class NodeAnalysisHeapUsage implements Writeable, ToXContentFragment {
+
+    /**
+     * Attribution of components provided by OpenSearch itself.
+     */
+    public static final String CORE = "_core";
+
+    private final long totalInBytes;
+    private final SortedMap<String, Long> plugins;
+    private final SortedMap<String, SortedMap<String, SortedMap<String, Long>>> indices;
+
+    NodeAnalysisHeapUsage(
+            long totalInBytes,
+            SortedMap<String, Long> plugins,
+            SortedMap<String, SortedMap<String, SortedMap<String, Long>>> indices
+    ) {
+        this.totalInBytes = totalInBytes;
+        this.plugins = plugins;
+        this.indices = indices;
+    }
+
+    public NodeAnalysisHeapUsage(StreamInput in) throws IOException {
+        this.totalInBytes = in.readVLong();
+        this.plugins = new TreeMap<>(in.readMap(StreamInput::readString, StreamInput::readVLong));
+        this.indices = new TreeMap<>(in.readMap(
+                StreamInput::readString,
+                i -> new TreeMap<>(i.readMap(
+                        StreamInput::readString,
+                        s -> new TreeMap<>(s.readMap(StreamInput::readString, StreamInput::readVLong))
+                ))
+        ));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(totalInBytes);
+        out.writeMap(plugins, StreamOutput::writeString, StreamOutput::writeVLong);
+        out.writeMap(
+                indices,
+                StreamOutput::writeString,
+                (o, sections) -> o.writeMap(
+                        sections,
+                        StreamOutput::writeString,
+                        (so, components) -> so.writeMap(components, StreamOutput::writeString, StreamOutput::writeVLong)
+                )
+        );
+    }
+
+    /**
+     * Estimates analysis components of all indices allocated on the node. This walks the object graph of every
+     * component, it is meant to be called on demand only.
+     * @param indexServices indices allocated on the node
+     * @param analysisPlugins all plugins implementing AnalysisPlugin interface
+     * @param ensureNotCancelled checked before every index, throws if the request is cancelled
+     * @return heap usage
+     */
+    static NodeAnalysisHeapUsage estimate(
+            Iterable<IndexService> indexServices,
+            List<AnalysisPlugin> analysisPlugins,
+            Runnable ensureNotCancelled
+    ) {
+        Map<ClassLoader, String> pluginLoaders = new HashMap<>();
+        for (AnalysisPlugin plugin : analysisPlugins) {
+            String pluginName = plugin.getClass().getCanonicalName();
+            pluginLoaders.putIfAbsent(plugin.getClass().getClassLoader(), pluginName == null ? plugin.getClass().getName() : pluginName);
+        }
+        AnalysisHeapEstimator estimator = new AnalysisHeapEstimator();
+        SortedMap<String, Long> plugins = new TreeMap<>();
+        SortedMap<String, SortedMap<String, SortedMap<String, Long>>> indices = new TreeMap<>();
+        long total = 0;
+        for (IndexService indexService : indexServices) {
+            ensureNotCancelled.run();
+            SortedMap<String, SortedMap<String, Long>> sections = new TreeMap<>();
+            Map<String, NamedAnalyzer> analyzers = indexService.getIndexAnalyzers().getAnalyzers();
+            for (NamedAnalyzer namedAnalyzer : analyzers.values()) {
+                Analyzer analyzer = namedAnalyzer.analyzer();
+                if (analyzer instanceof AnalyzerComponentsProvider) {
+                    AnalyzerComponents components = ((AnalyzerComponentsProvider) analyzer).getComponents();
+                    total += add(estimator, pluginLoaders, plugins, sections, ComponentNodeMatrix.TOKENIZERS,
+                            components.getTokenizerFactory().name(), components.getTokenizerFactory());
+                    for (TokenFilterFactory tokenFilter : components.getTokenFilters()) {
+                        total += add(estimator, pluginLoaders, plugins, sections, ComponentNodeMatrix.TOKEN_FILTERS,
+                                tokenFilter.name(), tokenFilter);
+                    }
+                    for (CharFilterFactory charFilter : components.getCharFilters()) {
+                        total += add(estimator, pluginLoaders, plugins, sections, ComponentNodeMatrix.CHAR_FILTERS,
+                                charFilter.name(), charFilter);
+                    }
+                }
+            }
+            for (Map.Entry<String, NamedAnalyzer> analyzer : analyzers.entrySet()) {
+                total += add(estimator, pluginLoaders, plugins, sections, ComponentNodeMatrix.ANALYZERS,
+                        analyzer.getKey(), analyzer.getValue().analyzer());
+            }
+            indices.put(indexService.index().getName(), sections);
+        }
+        return new NodeAnalysisHeapUsage(total, plugins, indices);
+    }
+
+    private static long add(
+            AnalysisHeapEstimator estimator,
+            Map<ClassLoader, String> pluginLoaders,
+            SortedMap<String, Long> plugins,
+            SortedMap<String, SortedMap<String, Long>> sections,
+            String section,
+            String name,
+            Object component
+    ) {
+        long bytes = estimator.estimate(component);
+        sections.computeIfAbsent(section, s -> new TreeMap<>()).merge(name, bytes, Long::sum);
+        plugins.merge(pluginLoaders.getOrDefault(component.getClass().getClassLoader(), CORE), bytes, Long::sum);
+        return bytes;
+    }
+
+    public long getTotalInBytes() {
+        return totalInBytes;
+    }
+
+    /**
+     * @return estimated bytes by providing plugin
+     */
+    public SortedMap<String, Long> getPlugins() {
+        return plugins;
+    }
+
+    /**
+     * @return estimated bytes by index, section and component name
+     */
+    public SortedMap<String, SortedMap<String, SortedMap<String, Long>>> getIndices() {
+        return indices;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("heap");
+        builder.humanReadableField("total_in_bytes", "total", new ByteSizeValue(totalInBytes));
+        builder.startObject("plugins");
+        for (Map.Entry<String, Long> plugin : plugins.entrySet()) {
+            builder.field(plugin.getKey(), plugin.getValue());
+        }
+        builder.endObject();
+        builder.startObject("indices");
+        for (Map.Entry<String, SortedMap<String, SortedMap<String, Long>>> index : indices.entrySet()) {
+            builder.startObject(index.getKey());
+            for (Map.Entry<String, SortedMap<String, Long>> section : index.getValue().entrySet()) {
+                builder.startObject(section.getKey());
+                for (Map.Entry<String, Long> component : section.getValue().entrySet()) {
+                    builder.field(component.getKey(), component.getValue());
+                }
+                builder.endObject();
+            }
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder.endObject();
+    }
+}
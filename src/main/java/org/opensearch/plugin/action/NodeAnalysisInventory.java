@@ -0,0 +1,345 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.SpecialPermission;
+import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.plugins.AnalysisPlugin;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.util.Collections.unmodifiableSortedMap;
+import static java.util.Collections.unmodifiableSortedSet;
+
+/**
+ * Immutable snapshot of all analysis components available on a node.
+ *
+ * Neither the {@link AnalysisRegistry} nor the set of installed plugins can change once the node is started,
+ * so the snapshot is built once (see {@link #build(AnalysisRegistry, List)}) and then shared by all requests.
+ *
+ * Every inventory has a stable content {@link #digest()}. Nodes with identical analysis components have
+ * identical digests which allows to transfer the full inventory only once per distinct digest.
+ */
+public final class NodeAnalysisInventory implements Writeable {
+
+    private final SortedSet<String> analyzersKeySet;
+    private final SortedSet<String> tokenizersKeySet;
+    private final SortedSet<String> tokenFiltersKeySet;
+    private final SortedSet<String> charFiltersKeySet;
+    private final SortedSet<String> normalizersKeySet;
+
+    private final SortedMap<String, NodeAnalyzersInfo.AnalysisPluginComponents> nodeAnalysisPlugins;
+
+    private volatile String digest;
+    private volatile long serializedSize = -1;
+
+    NodeAnalysisInventory(
+            final Collection<String> analyzersKeySet,
+            final Collection<String> tokenizersKeySet,
+            final Collection<String> tokenFiltersKeySet,
+            final Collection<String> charFiltersKeySet,
+            final Collection<String> normalizersKeySet,
+            final Map<String, NodeAnalyzersInfo.AnalysisPluginComponents> nodeAnalysisPlugins
+    ) {
+        this.analyzersKeySet = unmodifiableSortedSet(new TreeSet<>(analyzersKeySet));
+        this.tokenizersKeySet = unmodifiableSortedSet(new TreeSet<>(tokenizersKeySet));
+        this.tokenFiltersKeySet = unmodifiableSortedSet(new TreeSet<>(tokenFiltersKeySet));
+        this.charFiltersKeySet = unmodifiableSortedSet(new TreeSet<>(charFiltersKeySet));
+        this.normalizersKeySet = unmodifiableSortedSet(new TreeSet<>(normalizersKeySet));
+        this.nodeAnalysisPlugins = unmodifiableSortedMap(new TreeMap<>(nodeAnalysisPlugins));
+    }
+
+    public NodeAnalysisInventory(StreamInput in) throws IOException {
+        this(
+                in.readSet(StreamInput::readString),
+                in.readSet(StreamInput::readString),
+                in.readSet(StreamInput::readString),
+                in.readSet(StreamInput::readString),
+                in.readSet(StreamInput::readString),
+                in.readMap(StreamInput::readString, NodeAnalyzersInfo.AnalysisPluginComponents::new)
+        );
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeStringCollection(this.analyzersKeySet);
+        out.writeStringCollection(this.tokenizersKeySet);
+        out.writeStringCollection(this.tokenFiltersKeySet);
+        out.writeStringCollection(this.charFiltersKeySet);
+        out.writeStringCollection(this.normalizersKeySet);
+        out.writeMap(this.nodeAnalysisPlugins, StreamOutput::writeString, (o, s) -> s.writeTo(o));
+    }
+
+    /**
+     * Collects analysis components from the registry and from all analysis plugins.
+     * This is expensive (it uses Reflection API) and is expected to be called only once per node.
+     *
+     * @param analysisRegistry node AnalysisRegistry
+     * @param analysisPlugins  all plugins implementing AnalysisPlugin interface
+     * @return a new inventory snapshot
+     */
+    @SuppressForbidden(reason = "We have to use reflection API")
+    public static NodeAnalysisInventory build(final AnalysisRegistry analysisRegistry, final List<AnalysisPlugin> analysisPlugins) {
+        SpecialPermission.check();
+        final Map<String, Set<String>> registries = AccessController.doPrivileged((PrivilegedAction<Map<String, Set<String>>>) () -> {
+            Map<String, Set<String>> keySets = new TreeMap<>();
+            try {
+                for (String registry : new String[] { "analyzers", "tokenizers", "tokenFilters", "charFilters", "normalizers" }) {
+                    Field privateRegistry = AnalysisRegistry.class.getDeclaredField(registry);
+                    privateRegistry.setAccessible(true);
+                    keySets.put(registry, ((Map<String, Object>) privateRegistry.get(analysisRegistry)).keySet());
+                }
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new OpenSearchException(e);
+            }
+            return keySets;
+        });
+        Map<String, NodeAnalyzersInfo.AnalysisPluginComponents> pluginComponents = new TreeMap<>();
+        for (AnalysisPlugin plugin : analysisPlugins) {
+            String pluginName = plugin.getClass().getCanonicalName();
+            // getCanonicalName() is null for anonymous classes, those are listed by their binary name. Lookups that need
+            // the identity of the plugin (from its descriptor) use AnalysisComponentProviders.
+            if (pluginName == null) {
+                pluginName = plugin.getClass().getName();
+            }
+            pluginComponents.put(pluginName,
+                    new NodeAnalyzersInfo.AnalysisPluginComponents(
+                            pluginName,
+                            plugin.getAnalyzers().keySet(),
+                            plugin.getTokenizers().keySet(),
+                            plugin.getTokenFilters().keySet(),
+                            plugin.getCharFilters().keySet(),
+                            plugin.getHunspellDictionaries().keySet()
+                    ));
+        }
+        return new NodeAnalysisInventory(
+                registries.get("analyzers"),
+                registries.get("tokenizers"),
+                registries.get("tokenFilters"),
+                registries.get("charFilters"),
+                registries.get("normalizers"),
+                pluginComponents
+        );
+    }
+
+    /**
+     * Reads inventory written by {@link #writeTo(StreamOutput, Map)}.
+     * @param in StreamInput
+     * @param names shared table of names
+     * @throws IOException When things go wrong
+     */
+    NodeAnalysisInventory(StreamInput in, String[] names) throws IOException {
+        this(
+                readNames(in, names),
+                readNames(in, names),
+                readNames(in, names),
+                readNames(in, names),
+                readNames(in, names),
+                readPlugins(in, names)
+        );
+    }
+
+    /**
+     * Writes the inventory using IDs from a shared table of names instead of the names themselves.
+     * The table must be sorted and must contain all names of this inventory, see {@link #collectNames(Set)}.
+     * @param out StreamOutput
+     * @param nameIds position of every name in the shared table
+     * @throws IOException When things go wrong
+     */
+    void writeTo(StreamOutput out, Map<String, Integer> nameIds) throws IOException {
+        writeNames(out, this.analyzersKeySet, nameIds);
+        writeNames(out, this.tokenizersKeySet, nameIds);
+        writeNames(out, this.tokenFiltersKeySet, nameIds);
+        writeNames(out, this.charFiltersKeySet, nameIds);
+        writeNames(out, this.normalizersKeySet, nameIds);
+        out.writeVInt(this.nodeAnalysisPlugins.size());
+        for (NodeAnalyzersInfo.AnalysisPluginComponents plugin : this.nodeAnalysisPlugins.values()) {
+            out.writeVInt(nameIds.get(plugin.getPluginName()));
+            writeNames(out, plugin.getAnalyzersKeySet(), nameIds);
+            writeNames(out, plugin.getTokenizersKeySet(), nameIds);
+            writeNames(out, plugin.getTokenFiltersKeySet(), nameIds);
+            writeNames(out, plugin.getCharFiltersKeySet(), nameIds);
+            writeNames(out, plugin.getHunspellDictionaries(), nameIds);
+        }
+    }
+
+    /**
+     * Reads inventory written by {@link #writeCompactTo(StreamOutput)}.
+     * @param in StreamInput
+     * @return the inventory
+     * @throws IOException When things go wrong
+     */
+    static NodeAnalysisInventory readCompact(StreamInput in) throws IOException {
+        return new NodeAnalysisInventory(in, in.readStringArray());
+    }
+
+    /**
+     * Writes the inventory preceded by its own table of names, every name is written once even if it is
+     * both a component and a component of a plugin. Used by node replies, see {@link #writeTo(StreamOutput, Map)}.
+     * @param out StreamOutput
+     * @throws IOException When things go wrong
+     */
+    void writeCompactTo(StreamOutput out) throws IOException {
+        SortedSet<String> names = new TreeSet<>();
+        collectNames(names);
+        out.writeStringCollection(names);
+        writeTo(out, nameIds(names));
+    }
+
+    /**
+     * @param names sorted table of names
+     * @return position of every name in the table
+     */
+    static Map<String, Integer> nameIds(Collection<String> names) {
+        Map<String, Integer> nameIds = new HashMap<>();
+        for (String name : names) {
+            nameIds.put(name, nameIds.size());
+        }
+        return nameIds;
+    }
+
+    /**
+     * Adds all names (components and plugins) of this inventory to the given set.
+     * @param names set to add names to
+     */
+    void collectNames(Set<String> names) {
+        names.addAll(this.analyzersKeySet);
+        names.addAll(this.tokenizersKeySet);
+        names.addAll(this.tokenFiltersKeySet);
+        names.addAll(this.charFiltersKeySet);
+        names.addAll(this.normalizersKeySet);
+        for (NodeAnalyzersInfo.AnalysisPluginComponents plugin : this.nodeAnalysisPlugins.values()) {
+            names.add(plugin.getPluginName());
+            names.addAll(plugin.getAnalyzersKeySet());
+            names.addAll(plugin.getTokenizersKeySet());
+            names.addAll(plugin.getTokenFiltersKeySet());
+            names.addAll(plugin.getCharFiltersKeySet());
+            names.addAll(plugin.getHunspellDictionaries());
+        }
+    }
+
+    /**
+     * Sets are sorted the same way as the table of names so IDs are increasing, only the differences are written.
+     */
+    private static void writeNames(StreamOutput out, Set<String> set, Map<String, Integer> nameIds) throws IOException {
+        out.writeVInt(set.size());
+        int previousId = 0;
+        for (String name : set) {
+            int id = nameIds.get(name);
+            out.writeVInt(id - previousId);
+            previousId = id;
+        }
+    }
+
+    private static List<String> readNames(StreamInput in, String[] names) throws IOException {
+        int size = in.readVInt();
+        List<String> result = new ArrayList<>(size);
+        int id = 0;
+        for (int i = 0; i < size; i++) {
+            id += in.readVInt();
+            result.add(names[id]);
+        }
+        return result;
+    }
+
+    private static Map<String, NodeAnalyzersInfo.AnalysisPluginComponents> readPlugins(StreamInput in, String[] names)
+            throws IOException {
+        int size = in.readVInt();
+        Map<String, NodeAnalyzersInfo.AnalysisPluginComponents> plugins = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String pluginName = names[in.readVInt()];
+            plugins.put(pluginName, new NodeAnalyzersInfo.AnalysisPluginComponents(
+                    pluginName,
+                    readNames(in, names),
+                    readNames(in, names),
+                    readNames(in, names),
+                    readNames(in, names),
+                    readNames(in, names)
+            ));
+        }
+        return plugins;
+    }
+
+    /**
+     * SHA-256 of the inventory content. All the collections are sorted so the serialized form
+     * is canonical and the same content always leads to the same digest. Computed lazily.
+     * @return hex encoded digest
+     */
+    public String digest() {
+        String result = digest;
+        if (result == null) {
+            result = MessageDigests.toHexString(MessageDigests.sha256().digest(serialize()));
+            digest = result;
+        }
+        return result;
+    }
+
+    /**
+     * Size of the inventory written by {@link #writeTo(StreamOutput)}. Computed lazily.
+     * @return size in bytes
+     */
+    public long serializedSize() {
+        long result = serializedSize;
+        if (result < 0) {
+            result = serialize().length;
+        }
+        return result;
+    }
+
+    private byte[] serialize() {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            writeTo(out);
+            serializedSize = out.size();
+            return BytesReference.toBytes(out.bytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public SortedSet<String> getAnalyzersKeySet() {
+        return analyzersKeySet;
+    }
+    public SortedSet<String> getTokenizersKeySet() {
+        return tokenizersKeySet;
+    }
+    public SortedSet<String> getTokenFiltersKeySet() {
+        return tokenFiltersKeySet;
+    }
+    public SortedSet<String> getCharFiltersKeySet() {
+        return charFiltersKeySet;
+    }
+    public SortedSet<String> getNormalizersKeySet() {
+        return normalizersKeySet;
+    }
+
+    public SortedMap<String, NodeAnalyzersInfo.AnalysisPluginComponents> getNodeAnalysisPlugins() {
+        return nodeAnalysisPlugins;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.common.regex.Regex;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * Selects a part of {@link NodeAnalysisInventory}. The filter travels with the node request and is applied on every
+ * node, so unwanted components are never serialized.
+ *
+ * <ul>
+ *     <li>sections - which sections to include (see {@link ComponentNodeMatrix#SECTIONS}), empty means all</li>
+ *     <li>names - name patterns of components, applied to all sections including components of plugins, empty means all.
+ *     Plugins without any matching component are left out.</li>
+ *     <li>plugins - name patterns of plugins, empty means all</li>
+ * </ul>
+ */
+public class NodeAnalysisInventoryFilter implements Writeable {
+
+    /**
+     * Filter that includes everything.
+     */
+    public static final NodeAnalysisInventoryFilter ALL = new NodeAnalysisInventoryFilter(
+            new String[0], new String[0], new String[0]
+    );
+
+    private final String[] sections;
+    private final String[] names;
+    private final String[] plugins;
+
+    /**
+     * Exact names (no wildcard) are looked up directly instead of matching every component.
+     */
+    private final Set<String> exactNames;
+    private final String[] namePatterns;
+
+    public NodeAnalysisInventoryFilter(String[] sections, String[] names, String[] plugins) {
+        for (String section : sections) {
+            if (ComponentNodeMatrix.SECTIONS.contains(section) == false) {
+                throw new IllegalArgumentException(
+                        "Unknown section [" + section + "], expected one of " + ComponentNodeMatrix.SECTIONS
+                );
+            }
+        }
+        this.sections = sections;
+        this.names = names;
+        this.plugins = plugins;
+        Set<String> exact = new HashSet<>();
+        List<String> patterns = new ArrayList<>();
+        for (String name : names) {
+            if (Regex.isSimpleMatchPattern(name)) {
+                patterns.add(name);
+            } else {
+                exact.add(name);
+            }
+        }
+        this.exactNames = exact;
+        this.namePatterns = patterns.toArray(new String[0]);
+    }
+
+    public NodeAnalysisInventoryFilter(StreamInput in) throws IOException {
+        this(in.readStringArray(), in.readStringArray(), in.readStringArray());
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeStringArray(sections);
+        out.writeStringArray(names);
+        out.writeStringArray(plugins);
+    }
+
+    public String[] sections() {
+        return sections;
+    }
+
+    public String[] names() {
+        return names;
+    }
+
+    public String[] plugins() {
+        return plugins;
+    }
+
+    /**
+     * @return true if this filter includes everything
+     */
+    public boolean isAll() {
+        return sections.length == 0 && names.length == 0 && plugins.length == 0;
+    }
+
+    /**
+     * @return sections, names and plugins of the filter sorted and without duplicates, so filters given in a different
+     * order have the same canonical form, empty for {@link #ALL}
+     */
+    public String canonical() {
+        if (isAll()) {
+            return "";
+        }
+        return "sections=" + new TreeSet<>(Arrays.asList(sections))
+                + ";names=" + new TreeSet<>(Arrays.asList(names))
+                + ";plugins=" + new TreeSet<>(Arrays.asList(plugins));
+    }
+
+    private boolean includesSection(String section) {
+        if (sections.length == 0) {
+            return true;
+        }
+        for (String s : sections) {
+            if (s.equals(section)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param inventory full inventory
+     * @return inventory with selected components only
+     */
+    public NodeAnalysisInventory apply(NodeAnalysisInventory inventory) {
+        if (isAll()) {
+            return inventory;
+        }
+        Map<String, NodeAnalyzersInfo.AnalysisPluginComponents> selectedPlugins = new LinkedHashMap<>();
+        if (includesSection(ComponentNodeMatrix.PLUGINS)) {
+            for (NodeAnalyzersInfo.AnalysisPluginComponents plugin : inventory.getNodeAnalysisPlugins().values()) {
+                if (plugins.length > 0 && Regex.simpleMatch(plugins, plugin.getPluginName()) == false) {
+                    continue;
+                }
+                NodeAnalyzersInfo.AnalysisPluginComponents selected = new NodeAnalyzersInfo.AnalysisPluginComponents(
+                        plugin.getPluginName(),
+                        selectNames(plugin.getAnalyzersKeySet()),
+                        selectNames(plugin.getTokenizersKeySet()),
+                        selectNames(plugin.getTokenFiltersKeySet()),
+                        selectNames(plugin.getCharFiltersKeySet()),
+                        selectNames(plugin.getHunspellDictionaries())
+                );
+                if (names.length == 0 || hasAnyComponent(selected)) {
+                    selectedPlugins.put(plugin.getPluginName(), selected);
+                }
+            }
+        }
+        return new NodeAnalysisInventory(
+                selectSection(ComponentNodeMatrix.ANALYZERS, inventory.getAnalyzersKeySet()),
+                selectSection(ComponentNodeMatrix.TOKENIZERS, inventory.getTokenizersKeySet()),
+                selectSection(ComponentNodeMatrix.TOKEN_FILTERS, inventory.getTokenFiltersKeySet()),
+                selectSection(ComponentNodeMatrix.CHAR_FILTERS, inventory.getCharFiltersKeySet()),
+                selectSection(ComponentNodeMatrix.NORMALIZERS, inventory.getNormalizersKeySet()),
+                selectedPlugins
+        );
+    }
+
+    private Set<String> selectSection(String section, Set<String> componentNames) {
+        return includesSection(section) ? selectNames(componentNames) : emptySet();
+    }
+
+    private Set<String> selectNames(Set<String> componentNames) {
+        if (names.length == 0) {
+            return componentNames;
+        }
+        SortedSet<String> selected = new TreeSet<>();
+        for (String name : exactNames) {
+            if (componentNames.contains(name)) {
+                selected.add(name);
+            }
+        }
+        if (namePatterns.length > 0) {
+            for (String name : componentNames) {
+                if (Regex.simpleMatch(namePatterns, name)) {
+                    selected.add(name);
+                }
+            }
+        }
+        return selected;
+    }
+
+    private static boolean hasAnyComponent(NodeAnalyzersInfo.AnalysisPluginComponents plugin) {
+        return plugin.getAnalyzersKeySet().isEmpty() == false
+                || plugin.getTokenizersKeySet().isEmpty() == false
+                || plugin.getTokenFiltersKeySet().isEmpty() == false
+                || plugin.getCharFiltersKeySet().isEmpty() == false
+                || plugin.getHunspellDictionaries().isEmpty() == false;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * ActionType for benchmarking an analyzer on nodes.
+ */
+public class NodeAnalyzerBenchAction extends ActionType<NodesAnalyzerBenchResponse> {
+
+    /**
+     * A node level singleton.
+     */
+    public static final NodeAnalyzerBenchAction INSTANCE = new NodeAnalyzerBenchAction();
+
+    /**
+     * The name of the action type.
+     */
+    public static final String NAME = "cluster:monitor/node/analyzers/bench";
+
+    private NodeAnalyzerBenchAction() {
+        super(NAME, NodesAnalyzerBenchResponse::new);
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of an analyzer benchmark on a single node, see {@link AnalyzerBenchmark}.
+ *
+ * Allocated bytes are -1 if the node JVM does not support thread allocation counters. Latency percentiles are of
+ * iteration times (one pass over the corpus). The node also reports its JVM and number of available processors,
+ * the usual suspects when the same analyzer is slower on some nodes.
+ *
+ * Profiled benchmarks also report time and allocations of every stage of the analysis chain, see
+ * {@link AnalysisStageProfile}, otherwise the list of stages is empty.
+ */
+public class NodeAnalyzerBenchInfo extends BaseNodeResponse implements ToXContentFragment {
+
+    private final int iterations;
+    private final int docs;
+    private final long tokens;
+    private final long tookNanos;
+    private final long allocatedBytes;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+    private final String jvmVersion;
+    private final int availableProcessors;
+    private final List<AnalysisStageProfile> stages;
+
+    public NodeAnalyzerBenchInfo(
+            DiscoveryNode node,
+            int iterations,
+            int docs,
+            long tokens,
+            long tookNanos,
+            long allocatedBytes,
+            long p50Nanos,
+            long p90Nanos,
+            long p99Nanos,
+            long maxNanos,
+            String jvmVersion,
+            int availableProcessors,
+            List<AnalysisStageProfile> stages
+    ) {
+        super(node);
+        this.iterations = iterations;
+        this.docs = docs;
+        this.tokens = tokens;
+        this.tookNanos = tookNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.p50Nanos = p50Nanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+        this.jvmVersion = jvmVersion;
+        this.availableProcessors = availableProcessors;
+        this.stages = stages;
+    }
+
+    /**
+     * @param node local node
+     * @param result benchmark result
+     * @param stages profiled stages, empty if not profiled
+     * @return node reply with JVM details of the local node
+     */
+    static NodeAnalyzerBenchInfo of(DiscoveryNode node, AnalyzerBenchmark.Result result, List<AnalysisStageProfile> stages) {
+        return new NodeAnalyzerBenchInfo(
+                node,
+                result.iterations,
+                result.docs,
+                result.tokens,
+                result.tookNanos,
+                result.allocatedBytes,
+                result.iterationNanos(50),
+                result.iterationNanos(90),
+                result.iterationNanos(99),
+                result.iterationNanos(100),
+                System.getProperty("java.vm.name") + " " + Runtime.version(),
+                Runtime.getRuntime().availableProcessors(),
+                stages
+        );
+    }
+
+    public NodeAnalyzerBenchInfo(StreamInput in) throws IOException {
+        super(in);
+        this.iterations = in.readVInt();
+        this.docs = in.readVInt();
+        this.tokens = in.readVLong();
+        this.tookNanos = in.readVLong();
+        this.allocatedBytes = in.readZLong();
+        this.p50Nanos = in.readVLong();
+        this.p90Nanos = in.readVLong();
+        this.p99Nanos = in.readVLong();
+        this.maxNanos = in.readVLong();
+        this.jvmVersion = in.readString();
+        this.availableProcessors = in.readVInt();
+        this.stages = in.readList(AnalysisStageProfile::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(iterations);
+        out.writeVInt(docs);
+        out.writeVLong(tokens);
+        out.writeVLong(tookNanos);
+        out.writeZLong(allocatedBytes);
+        out.writeVLong(p50Nanos);
+        out.writeVLong(p90Nanos);
+        out.writeVLong(p99Nanos);
+        out.writeVLong(maxNanos);
+        out.writeString(jvmVersion);
+        out.writeVInt(availableProcessors);
+        out.writeList(stages);
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getDocs() {
+        return docs;
+    }
+
+    /**
+     * @return tokens emitted by all measured iterations
+     */
+    public long getTokens() {
+        return tokens;
+    }
+
+    /**
+     * @return time of all measured iterations
+     */
+    public long getTookNanos() {
+        return tookNanos;
+    }
+
+    /**
+     * @return bytes allocated by all measured iterations or -1 if not supported
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public String getJvmVersion() {
+        return jvmVersion;
+    }
+
+    public int getAvailableProcessors() {
+        return availableProcessors;
+    }
+
+    /**
+     * @return profiled stages in chain order, empty if not profiled
+     */
+    public List<AnalysisStageProfile> getStages() {
+        return stages;
+    }
+
+    public double getTokensPerSecond() {
+        return tookNanos == 0 ? 0 : tokens * 1_000_000_000d / tookNanos;
+    }
+
+    public double getNanosPerToken() {
+        return tokens == 0 ? 0 : (double) tookNanos / tokens;
+    }
+
+    /**
+     * @return bytes allocated per token or -1 if not supported
+     */
+    public double getAllocatedBytesPerToken() {
+        if (allocatedBytes < 0) {
+            return -1;
+        }
+        return tokens == 0 ? 0 : (double) allocatedBytes / tokens;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field("iterations", iterations);
+        builder.field("docs", docs);
+        builder.field("tokens", tokens);
+        builder.humanReadableField("took_in_nanos", "took", new TimeValue(tookNanos, TimeUnit.NANOSECONDS));
+        builder.field("tokens_per_second", getTokensPerSecond());
+        builder.field("nanos_per_token", getNanosPerToken());
+        if (allocatedBytes >= 0) {
+            builder.field("allocated_bytes", allocatedBytes);
+            builder.field("allocated_bytes_per_token", getAllocatedBytesPerToken());
+        }
+        builder.startObject("iteration_latency");
+        builder.humanReadableField("p50_in_nanos", "p50", new TimeValue(p50Nanos, TimeUnit.NANOSECONDS));
+        builder.humanReadableField("p90_in_nanos", "p90", new TimeValue(p90Nanos, TimeUnit.NANOSECONDS));
+        builder.humanReadableField("p99_in_nanos", "p99", new TimeValue(p99Nanos, TimeUnit.NANOSECONDS));
+        builder.humanReadableField("max_in_nanos", "max", new TimeValue(maxNanos, TimeUnit.NANOSECONDS));
+        builder.endObject();
+        builder.field("jvm", jvmVersion);
+        builder.field("available_processors", availableProcessors);
+        if (stages.isEmpty() == false) {
+            builder.startArray("stages");
+            for (AnalysisStageProfile stage : stages) {
+                builder.startObject();
+                builder.field("type", stage.getType());
+                builder.field("name", stage.getName());
+                builder.humanReadableField("time_in_nanos", "time", new TimeValue(stage.getTimeNanos(), TimeUnit.NANOSECONDS));
+                builder.field(AnalysisStageProfile.CHAR_FILTER.equals(stage.getType()) ? "chars" : "tokens", stage.getOutput());
+                builder.field("time_percent", tookNanos == 0 ? 0 : stage.getTimeNanos() * 100d / tookNanos);
+                builder.field("nanos_per_token", tokens == 0 ? 0 : (double) stage.getTimeNanos() / tokens);
+                if (stage.getAllocatedBytes() >= 0) {
+                    builder.field("allocated_bytes", stage.getAllocatedBytes());
+                    builder.field("allocated_bytes_per_token", tokens == 0 ? 0 : (double) stage.getAllocatedBytes() / tokens);
+                }
+                builder.endObject();
+            }
+            builder.endArray();
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * ActionType for looking up providers of analysis components on nodes.
+ */
+public class NodeAnalyzerProvidersAction extends ActionType<NodesAnalyzerProvidersResponse> {
+
+    /**
+     * A node level singleton.
+     */
+    public static final NodeAnalyzerProvidersAction INSTANCE = new NodeAnalyzerProvidersAction();
+
+    /**
+     * The name of the action type.
+     */
+    public static final String NAME = "cluster:monitor/node/analyzers/providers";
+
+    private NodeAnalyzerProvidersAction() {
+        super(NAME, NodesAnalyzerProvidersResponse::new);
+    }
+}
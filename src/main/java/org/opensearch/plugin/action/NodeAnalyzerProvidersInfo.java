@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Providers of the requested analysis components on a node, and components provided by more than one plugin
+ * on the node. Both are keyed by component name and section.
+ */
+public class NodeAnalyzerProvidersInfo extends BaseNodeResponse implements ToXContentFragment {
+
+    private final SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> components;
+    private final SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> collisions;
+
+    public NodeAnalyzerProvidersInfo(
+            DiscoveryNode node,
+            SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> components,
+            SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> collisions
+    ) {
+        super(node);
+        this.components = components;
+        this.collisions = collisions;
+    }
+
+    public NodeAnalyzerProvidersInfo(StreamInput in) throws IOException {
+        super(in);
+        this.components = readProviders(in);
+        this.collisions = readProviders(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        writeProviders(out, components);
+        writeProviders(out, collisions);
+    }
+
+    private static SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> readProviders(StreamInput in)
+            throws IOException {
+        return new TreeMap<>(in.readMap(
+                StreamInput::readString,
+                c -> new TreeMap<>(c.readMap(StreamInput::readString, s -> s.readList(AnalysisComponentProviders.Provider::new)))
+        ));
+    }
+
+    private static void writeProviders(
+            StreamOutput out,
+            SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> providers
+    ) throws IOException {
+        out.writeMap(
+                providers,
+                StreamOutput::writeString,
+                (o, sections) -> o.writeMap(sections, StreamOutput::writeString, StreamOutput::writeList)
+        );
+    }
+
+    /**
+     * @return providers of the requested components found on the node, by component name and section
+     */
+    public SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> getComponents() {
+        return components;
+    }
+
+    /**
+     * @return components provided by more than one plugin on the node, by component name and section
+     */
+    public SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> getCollisions() {
+        return collisions;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        providersToXContent(builder, "components", components);
+        providersToXContent(builder, "collisions", collisions);
+        return builder;
+    }
+
+    private static void providersToXContent(
+            XContentBuilder builder,
+            String fieldName,
+            SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> providers
+    ) throws IOException {
+        builder.startObject(fieldName);
+        for (Map.Entry<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> component : providers.entrySet()) {
+            builder.startObject(component.getKey());
+            for (Map.Entry<String, List<AnalysisComponentProviders.Provider>> section : component.getValue().entrySet()) {
+                builder.startArray(section.getKey());
+                for (AnalysisComponentProviders.Provider provider : section.getValue()) {
+                    provider.toXContent(builder, EMPTY_PARAMS);
+                }
+                builder.endArray();
+            }
+            builder.endObject();
+        }
+        builder.endObject();
+    }
+}
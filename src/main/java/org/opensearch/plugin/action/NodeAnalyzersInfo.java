@@ -13,12 +13,13 @@ import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
-import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSortedSet;
 
 /**
@@ -27,16 +28,26 @@ import static java.util.Collections.unmodifiableSortedSet;
  * Every node has a set of analyzers, tokenizers, tokenFilter, charFilter and analyzers.
  * For every AnalysisPlugin installed on the node we also get list of components provided
  * by individual plugins.
+ *
+ * When the coordinating node already knows the inventory of the node (identified by its digest)
+ * only the digest is transferred and the coordinating node fills in the rest, see {@link #hasInventory()}.
+ *
+ * Every node also reports how long its node operation took and how many bytes of inventory it sent,
+ * to make slow nodes easy to find. If requested, it also reports estimated heap usage of its analysis
+ * components, see {@link NodeAnalysisHeapUsage}, and analyzers it instantiated more than once,
+ * see {@link NodeDuplicateAnalyzers}.
+ *
+ * Nodes before {@link NodesAnalyzersResponse#COMPACT_FORMAT_VERSION} neither send nor read the digest: they always
+ * exchange the full inventory in the classic form and the digest is computed from it on the receiving side.
  */
 public class NodeAnalyzersInfo extends BaseNodeResponse {
 
-    private final SortedSet<String> analyzersKeySet;
-    private final SortedSet<String> tokenizersKeySet;
-    private final SortedSet<String> tokenFiltersKeySet;
-    private final SortedSet<String> charFiltersKeySet;
-    private final SortedSet<String> normalizersKeySet;
-
-    private final Map<String, AnalysisPluginComponents> nodeAnalysisPlugins;
+    private final String digest;
+    private final NodeAnalysisInventory inventory;
+    private final long nodeOperationNanos;
+    private final long payloadSizeInBytes;
+    private final NodeAnalysisHeapUsage heapUsage;
+    private final NodeDuplicateAnalyzers duplicateAnalyzers;
 
     public static class AnalysisPluginComponents implements Comparable<AnalysisPluginComponents> {
         private final String pluginName;
@@ -48,11 +59,11 @@ public class NodeAnalyzersInfo extends BaseNodeResponse {
 
         public AnalysisPluginComponents(
                 final String pluginName,
-                final Set<String> analyzersKeySet,
-                final Set<String> tokenizersKeySet,
-                final Set<String> tokenFiltersKeySet,
-                final Set<String> charFiltersKeySet,
-                final Set<String> hunspellDictionaries
+                final Collection<String> analyzersKeySet,
+                final Collection<String> tokenizersKeySet,
+                final Collection<String> tokenFiltersKeySet,
+                final Collection<String> charFiltersKeySet,
+                final Collection<String> hunspellDictionaries
         ) {
             this.pluginName = pluginName;
             this.analyzersKeySet = unmodifiableSortedSet(new TreeSet<>(analyzersKeySet));
@@ -112,12 +123,21 @@ public class NodeAnalyzersInfo extends BaseNodeResponse {
 
     protected NodeAnalyzersInfo(StreamInput in) throws IOException {
         super(in);
-        this.analyzersKeySet = unmodifiableSortedSet(new TreeSet<>(in.readSet(StreamInput::readString)));
-        this.tokenizersKeySet = unmodifiableSortedSet(new TreeSet<>(in.readSet(StreamInput::readString)));
-        this.tokenFiltersKeySet = unmodifiableSortedSet(new TreeSet<>(in.readSet(StreamInput::readString)));
-        this.charFiltersKeySet = unmodifiableSortedSet(new TreeSet<>(in.readSet(StreamInput::readString)));
-        this.normalizersKeySet = unmodifiableSortedSet(new TreeSet<>(in.readSet(StreamInput::readString)));
-        this.nodeAnalysisPlugins = unmodifiableMap(in.readMap(StreamInput::readString, AnalysisPluginComponents::new));
+        if (in.getVersion().before(NodesAnalyzersResponse.COMPACT_FORMAT_VERSION)) {
+            this.inventory = new NodeAnalysisInventory(in);
+            this.digest = this.inventory.digest();
+            this.nodeOperationNanos = 0;
+            this.payloadSizeInBytes = 0;
+            this.heapUsage = null;
+            this.duplicateAnalyzers = null;
+            return;
+        }
+        this.digest = in.readString();
+        this.inventory = in.readBoolean() ? NodeAnalysisInventory.readCompact(in) : null;
+        this.nodeOperationNanos = in.readVLong();
+        this.payloadSizeInBytes = in.readVLong();
+        this.heapUsage = in.readOptionalWriteable(NodeAnalysisHeapUsage::new);
+        this.duplicateAnalyzers = in.readOptionalWriteable(NodeDuplicateAnalyzers::new);
     }
 
     public NodeAnalyzersInfo(
@@ -129,43 +149,199 @@ public class NodeAnalyzersInfo extends BaseNodeResponse {
             final Set<String> normalizersKeySet,
             final Map<String, AnalysisPluginComponents> nodeAnalysisPlugins
             ) {
+        this(node, new NodeAnalysisInventory(
+                analyzersKeySet,
+                tokenizersKeySet,
+                tokenFiltersKeySet,
+                charFiltersKeySet,
+                normalizersKeySet,
+                nodeAnalysisPlugins
+        ));
+    }
+
+    /**
+     * Creates node analyzers info backed by the given inventory snapshot. The (immutable) collections
+     * of the inventory are shared, nothing is copied.
+     * @param node DiscoveryNode
+     * @param inventory node analysis inventory
+     */
+    public NodeAnalyzersInfo(final DiscoveryNode node, final NodeAnalysisInventory inventory) {
+        this(node, inventory.digest(), inventory);
+    }
+
+    /**
+     * Creates node analyzers info backed by a part of the node inventory, see {@link NodeAnalysisInventoryFilter}.
+     * @param node DiscoveryNode
+     * @param digest digest of the complete node inventory
+     * @param inventory (filtered) node inventory
+     */
+    NodeAnalyzersInfo(final DiscoveryNode node, final String digest, final NodeAnalysisInventory inventory) {
+        this(node, digest, inventory, 0, 0);
+    }
+
+    /**
+     * Creates node analyzers info that carries only the inventory digest.
+     * @param node DiscoveryNode
+     * @param digest digest of the node inventory
+     */
+    NodeAnalyzersInfo(final DiscoveryNode node, final String digest) {
+        this(node, digest, null, 0, 0);
+    }
+
+    /**
+     * @param node DiscoveryNode
+     * @param digest digest of the complete node inventory
+     * @param inventory (filtered) node inventory or null if only the digest is sent
+     * @param nodeOperationNanos time spent in the node operation
+     * @param payloadSizeInBytes serialized size of the inventory sent by the node
+     */
+    NodeAnalyzersInfo(
+            final DiscoveryNode node,
+            final String digest,
+            final NodeAnalysisInventory inventory,
+            final long nodeOperationNanos,
+            final long payloadSizeInBytes
+    ) {
+        this(node, digest, inventory, nodeOperationNanos, payloadSizeInBytes, null, null);
+    }
+
+    /**
+     * @param node DiscoveryNode
+     * @param digest digest of the complete node inventory
+     * @param inventory (filtered) node inventory or null if only the digest is sent
+     * @param nodeOperationNanos time spent in the node operation
+     * @param payloadSizeInBytes serialized size of the inventory sent by the node
+     * @param heapUsage estimated heap usage of analysis components or null if not requested
+     * @param duplicateAnalyzers analyzers instantiated more than once or null if not requested
+     */
+    NodeAnalyzersInfo(
+            final DiscoveryNode node,
+            final String digest,
+            final NodeAnalysisInventory inventory,
+            final long nodeOperationNanos,
+            final long payloadSizeInBytes,
+            final NodeAnalysisHeapUsage heapUsage,
+            final NodeDuplicateAnalyzers duplicateAnalyzers
+    ) {
         super(node);
-        this.analyzersKeySet = unmodifiableSortedSet(new TreeSet<>(analyzersKeySet));
-        this.tokenizersKeySet = unmodifiableSortedSet(new TreeSet<>(tokenizersKeySet));
-        this.tokenFiltersKeySet = unmodifiableSortedSet(new TreeSet<>(tokenFiltersKeySet));
-        this.charFiltersKeySet = unmodifiableSortedSet(new TreeSet<>(charFiltersKeySet));
-        this.normalizersKeySet = unmodifiableSortedSet(new TreeSet<>(normalizersKeySet));
-        this.nodeAnalysisPlugins = unmodifiableMap(nodeAnalysisPlugins);
+        this.digest = Objects.requireNonNull(digest);
+        this.inventory = inventory;
+        this.nodeOperationNanos = nodeOperationNanos;
+        this.payloadSizeInBytes = payloadSizeInBytes;
+        this.heapUsage = heapUsage;
+        this.duplicateAnalyzers = duplicateAnalyzers;
+    }
+
+    /**
+     * Creates a copy of the node reply with the given inventory, keeping the digest, node operation stats and node details.
+     * @param reply node reply
+     * @param inventory inventory to use
+     */
+    NodeAnalyzersInfo(final NodeAnalyzersInfo reply, final NodeAnalysisInventory inventory) {
+        this(reply.getNode(), reply.digest, inventory, reply.nodeOperationNanos, reply.payloadSizeInBytes, reply.heapUsage,
+                reply.duplicateAnalyzers);
+    }
+
+    /**
+     * @return digest of the complete node inventory (even if this info carries only a part of it)
+     */
+    public String getDigest() {
+        return this.digest;
+    }
+
+    /**
+     * @return false if this info carries only the digest of the node inventory
+     */
+    public boolean hasInventory() {
+        return this.inventory != null;
+    }
+
+    /**
+     * @return node inventory or null if this info carries only the digest
+     */
+    public NodeAnalysisInventory getInventory() {
+        return this.inventory;
+    }
+
+    /**
+     * @return time spent in the node operation on the node, in nanoseconds
+     */
+    public long getNodeOperationNanos() {
+        return this.nodeOperationNanos;
+    }
+
+    /**
+     * @return serialized size of the inventory sent by the node, 0 if the node sent only the digest
+     */
+    public long getPayloadSizeInBytes() {
+        return this.payloadSizeInBytes;
+    }
+
+    /**
+     * @return estimated heap usage of analysis components or null if not requested
+     */
+    public NodeAnalysisHeapUsage getHeapUsage() {
+        return this.heapUsage;
+    }
+
+    /**
+     * @return analyzers instantiated more than once with an equivalent definition or null if not requested
+     */
+    public NodeDuplicateAnalyzers getDuplicateAnalyzers() {
+        return this.duplicateAnalyzers;
     }
 
     public Set<String> getAnalyzersKeySet() {
-        return this.analyzersKeySet;
+        return requireInventory().getAnalyzersKeySet();
     }
     public Set<String> getTokenizersKeySet() {
-        return this.tokenizersKeySet;
+        return requireInventory().getTokenizersKeySet();
     }
     public Set<String> getTokenFiltersKeySet() {
-        return this.tokenFiltersKeySet;
+        return requireInventory().getTokenFiltersKeySet();
     }
     public Set<String> getCharFiltersKeySet() {
-        return this.charFiltersKeySet;
+        return requireInventory().getCharFiltersKeySet();
     }
     public Set<String> getNormalizersKeySet() {
-        return this.normalizersKeySet;
+        return requireInventory().getNormalizersKeySet();
     }
 
     public Map<String, AnalysisPluginComponents> getNodeAnalysisPlugins() {
-        return nodeAnalysisPlugins;
+        return requireInventory().getNodeAnalysisPlugins();
+    }
+
+    /**
+     * Section getters are only valid for infos with an inventory, the coordinating node fills in inventories of
+     * digest-only replies before building the response.
+     */
+    private NodeAnalysisInventory requireInventory() {
+        if (this.inventory == null) {
+            throw new IllegalStateException(
+                    "node [" + getNode().getId() + "] replied with inventory digest [" + this.digest + "] only"
+            );
+        }
+        return this.inventory;
     }
 
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         super.writeTo(out);
-        out.writeStringCollection(this.analyzersKeySet);
-        out.writeStringCollection(this.tokenizersKeySet);
-        out.writeStringCollection(this.tokenFiltersKeySet);
-        out.writeStringCollection(this.charFiltersKeySet);
-        out.writeStringCollection(this.normalizersKeySet);
-        out.writeMap(this.nodeAnalysisPlugins, StreamOutput::writeString, (o, s) -> s.writeTo(o));
+        if (out.getVersion().before(NodesAnalyzersResponse.COMPACT_FORMAT_VERSION)) {
+            // older nodes never send known digests, so the reply always has the inventory
+            requireInventory().writeTo(out);
+            return;
+        }
+        out.writeString(this.digest);
+        if (this.inventory != null) {
+            out.writeBoolean(true);
+            this.inventory.writeCompactTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeVLong(this.nodeOperationNanos);
+        out.writeVLong(this.payloadSizeInBytes);
+        out.writeOptionalWriteable(this.heapUsage);
+        out.writeOptionalWriteable(this.duplicateAnalyzers);
     }
 }
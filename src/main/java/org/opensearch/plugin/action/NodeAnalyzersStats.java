@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operational stats of {@code /_nodes/analyzers} on the local node, recorded by the REST handler (when the node
+ * receives the HTTP request), by {@link TransportNodeAnalyzersAction} on the coordinating node and by every node
+ * replying to a node request. One instance per node, created by the plugin and bound for injection.
+ *
+ * Recording only increments {@link LongAdder}s and {@link LongHistogram}s, so it adds no locks and no contended
+ * counters to the request path. Stats are kept since the node started and are read by {@code /_nodes/analyzers/_stats},
+ * see {@link NodeAnalyzersStatsInfo}.
+ */
+public final class NodeAnalyzersStats {
+
+    final LongAdder restRequests = new LongAdder();
+    final LongAdder restNotModified = new LongAdder();
+    final LongAdder restFailures = new LongAdder();
+    final LongHistogram restResponseBytes = new LongHistogram();
+
+    final LongAdder coordinatorFailures = new LongAdder();
+    final LongAdder coordinatorNodeFailures = new LongAdder();
+    final LongHistogram coordinatorNanos = new LongHistogram();
+    final LongAdder etagHits = new LongAdder();
+    final LongAdder etagMisses = new LongAdder();
+    final LongAdder inventoryCacheHits = new LongAdder();
+    final LongAdder inventoryCacheMisses = new LongAdder();
+
+    final LongAdder nodeOperationFailures = new LongAdder();
+    final LongAdder nodeOperationDigestOnly = new LongAdder();
+    final LongHistogram nodeOperationNanos = new LongHistogram();
+    final LongHistogram nodeOperationPayloadBytes = new LongHistogram();
+
+    /**
+     * Called when the REST handler has sent a response.
+     * @param notModified true if it was an empty "304 Not Modified" response
+     * @param bytes size of the response body
+     */
+    public void onRestResponse(boolean notModified, long bytes) {
+        restRequests.increment();
+        if (notModified) {
+            restNotModified.increment();
+        }
+        restResponseBytes.record(bytes);
+    }
+
+    /**
+     * Called when the REST handler has failed.
+     */
+    public void onRestFailure() {
+        restRequests.increment();
+        restFailures.increment();
+    }
+
+    /**
+     * Called when the coordinating node has completed a request.
+     * @param nanos time since the request started
+     * @param nodeFailures number of nodes that failed to reply
+     */
+    void onCoordinatorResponse(long nanos, int nodeFailures) {
+        coordinatorNanos.record(nanos);
+        coordinatorNodeFailures.add(nodeFailures);
+    }
+
+    /**
+     * Called when the coordinating node has failed a request.
+     * @param nanos time since the request started
+     */
+    void onCoordinatorFailure(long nanos) {
+        coordinatorNanos.record(nanos);
+        coordinatorFailures.increment();
+    }
+
+    /**
+     * Called for a request with an etag (If-None-Match) checked by the coordinating node before contacting any node.
+     * @param hit true if the request was answered as "not modified" without contacting any node
+     */
+    void onEtagCheck(boolean hit) {
+        (hit ? etagHits : etagMisses).increment();
+    }
+
+    /**
+     * Called for every node reply received by the coordinating node.
+     * @param hit true if the node replied with the digest only and the inventory was taken from the known inventories
+     */
+    void onInventoryCacheLookup(boolean hit) {
+        (hit ? inventoryCacheHits : inventoryCacheMisses).increment();
+    }
+
+    /**
+     * Called when the node has replied to a node request.
+     * @param nanos time of the node operation
+     * @param payloadBytes size of the inventory in the reply
+     * @param digestOnly true if the reply carries the digest only, because the coordinating node knew it
+     */
+    void onNodeOperation(long nanos, long payloadBytes, boolean digestOnly) {
+        nodeOperationNanos.record(nanos);
+        nodeOperationPayloadBytes.record(payloadBytes);
+        if (digestOnly) {
+            nodeOperationDigestOnly.increment();
+        }
+    }
+
+    /**
+     * Called when the node has failed a node request.
+     */
+    void onNodeOperationFailure() {
+        nodeOperationFailures.increment();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * ActionType for listing operational stats of the node analyzers action.
+ */
+public class NodeAnalyzersStatsAction extends ActionType<NodesAnalyzersStatsResponse> {
+
+    /**
+     * A node level singleton.
+     */
+    public static final NodeAnalyzersStatsAction INSTANCE = new NodeAnalyzersStatsAction();
+
+    /**
+     * The name of the action type.
+     */
+    public static final String NAME = "cluster:monitor/node/analyzers/stats";
+
+    private NodeAnalyzersStatsAction() {
+        super(NAME, NodesAnalyzersStatsResponse::new);
+    }
+}
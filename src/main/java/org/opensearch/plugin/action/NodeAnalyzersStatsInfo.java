@@ -0,0 +1,234 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of {@link NodeAnalyzersStats} of a single node.
+ */
+public class NodeAnalyzersStatsInfo extends BaseNodeResponse implements ToXContentFragment {
+
+    private final long restRequests;
+    private final long restNotModified;
+    private final long restFailures;
+    private final LongHistogram.Snapshot restResponseBytes;
+
+    private final long coordinatorFailures;
+    private final long coordinatorNodeFailures;
+    private final LongHistogram.Snapshot coordinatorNanos;
+    private final long etagHits;
+    private final long etagMisses;
+    private final long inventoryCacheHits;
+    private final long inventoryCacheMisses;
+
+    private final long nodeOperationFailures;
+    private final long nodeOperationDigestOnly;
+    private final LongHistogram.Snapshot nodeOperationNanos;
+    private final LongHistogram.Snapshot nodeOperationPayloadBytes;
+
+    public NodeAnalyzersStatsInfo(DiscoveryNode node, NodeAnalyzersStats stats) {
+        super(node);
+        this.restRequests = stats.restRequests.sum();
+        this.restNotModified = stats.restNotModified.sum();
+        this.restFailures = stats.restFailures.sum();
+        this.restResponseBytes = stats.restResponseBytes.snapshot();
+        this.coordinatorFailures = stats.coordinatorFailures.sum();
+        this.coordinatorNodeFailures = stats.coordinatorNodeFailures.sum();
+        this.coordinatorNanos = stats.coordinatorNanos.snapshot();
+        this.etagHits = stats.etagHits.sum();
+        this.etagMisses = stats.etagMisses.sum();
+        this.inventoryCacheHits = stats.inventoryCacheHits.sum();
+        this.inventoryCacheMisses = stats.inventoryCacheMisses.sum();
+        this.nodeOperationFailures = stats.nodeOperationFailures.sum();
+        this.nodeOperationDigestOnly = stats.nodeOperationDigestOnly.sum();
+        this.nodeOperationNanos = stats.nodeOperationNanos.snapshot();
+        this.nodeOperationPayloadBytes = stats.nodeOperationPayloadBytes.snapshot();
+    }
+
+    public NodeAnalyzersStatsInfo(StreamInput in) throws IOException {
+        super(in);
+        this.restRequests = in.readVLong();
+        this.restNotModified = in.readVLong();
+        this.restFailures = in.readVLong();
+        this.restResponseBytes = new LongHistogram.Snapshot(in);
+        this.coordinatorFailures = in.readVLong();
+        this.coordinatorNodeFailures = in.readVLong();
+        this.coordinatorNanos = new LongHistogram.Snapshot(in);
+        this.etagHits = in.readVLong();
+        this.etagMisses = in.readVLong();
+        this.inventoryCacheHits = in.readVLong();
+        this.inventoryCacheMisses = in.readVLong();
+        this.nodeOperationFailures = in.readVLong();
+        this.nodeOperationDigestOnly = in.readVLong();
+        this.nodeOperationNanos = new LongHistogram.Snapshot(in);
+        this.nodeOperationPayloadBytes = new LongHistogram.Snapshot(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVLong(restRequests);
+        out.writeVLong(restNotModified);
+        out.writeVLong(restFailures);
+        restResponseBytes.writeTo(out);
+        out.writeVLong(coordinatorFailures);
+        out.writeVLong(coordinatorNodeFailures);
+        coordinatorNanos.writeTo(out);
+        out.writeVLong(etagHits);
+        out.writeVLong(etagMisses);
+        out.writeVLong(inventoryCacheHits);
+        out.writeVLong(inventoryCacheMisses);
+        out.writeVLong(nodeOperationFailures);
+        out.writeVLong(nodeOperationDigestOnly);
+        nodeOperationNanos.writeTo(out);
+        nodeOperationPayloadBytes.writeTo(out);
+    }
+
+    public long getRestRequests() {
+        return restRequests;
+    }
+
+    public long getRestNotModified() {
+        return restNotModified;
+    }
+
+    public long getRestFailures() {
+        return restFailures;
+    }
+
+    public LongHistogram.Snapshot getRestResponseBytes() {
+        return restResponseBytes;
+    }
+
+    /**
+     * @return number of requests completed (or failed) by this node as the coordinating node
+     */
+    public long getCoordinatorRequests() {
+        return coordinatorNanos.getCount();
+    }
+
+    public long getCoordinatorFailures() {
+        return coordinatorFailures;
+    }
+
+    public long getCoordinatorNodeFailures() {
+        return coordinatorNodeFailures;
+    }
+
+    public LongHistogram.Snapshot getCoordinatorNanos() {
+        return coordinatorNanos;
+    }
+
+    public long getEtagHits() {
+        return etagHits;
+    }
+
+    public long getEtagMisses() {
+        return etagMisses;
+    }
+
+    public long getInventoryCacheHits() {
+        return inventoryCacheHits;
+    }
+
+    public long getInventoryCacheMisses() {
+        return inventoryCacheMisses;
+    }
+
+    /**
+     * @return number of node requests this node has replied to
+     */
+    public long getNodeOperations() {
+        return nodeOperationNanos.getCount();
+    }
+
+    public long getNodeOperationFailures() {
+        return nodeOperationFailures;
+    }
+
+    public long getNodeOperationDigestOnly() {
+        return nodeOperationDigestOnly;
+    }
+
+    public LongHistogram.Snapshot getNodeOperationNanos() {
+        return nodeOperationNanos;
+    }
+
+    public LongHistogram.Snapshot getNodeOperationPayloadBytes() {
+        return nodeOperationPayloadBytes;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("rest");
+        builder.field("requests", restRequests);
+        builder.field("not_modified", restNotModified);
+        builder.field("failures", restFailures);
+        bytesToXContent(builder, "response_size", restResponseBytes);
+        builder.endObject();
+
+        builder.startObject("coordinator");
+        builder.field("requests", getCoordinatorRequests());
+        builder.field("failures", coordinatorFailures);
+        builder.field("node_failures", coordinatorNodeFailures);
+        nanosToXContent(builder, "latency", coordinatorNanos);
+        hitsToXContent(builder, "etag", etagHits, etagMisses);
+        hitsToXContent(builder, "inventory_cache", inventoryCacheHits, inventoryCacheMisses);
+        builder.endObject();
+
+        builder.startObject("node_operation");
+        builder.field("count", getNodeOperations());
+        builder.field("failures", nodeOperationFailures);
+        builder.field("digest_only", nodeOperationDigestOnly);
+        nanosToXContent(builder, "latency", nodeOperationNanos);
+        bytesToXContent(builder, "payload_size", nodeOperationPayloadBytes);
+        builder.endObject();
+        return builder;
+    }
+
+    private static void nanosToXContent(XContentBuilder builder, String name, LongHistogram.Snapshot histogram) throws IOException {
+        builder.startObject(name);
+        builder.field("count", histogram.getCount());
+        builder.humanReadableField("avg_in_nanos", "avg", new TimeValue(histogram.getAvg(), TimeUnit.NANOSECONDS));
+        builder.humanReadableField("p50_in_nanos", "p50", new TimeValue(histogram.percentile(50), TimeUnit.NANOSECONDS));
+        builder.humanReadableField("p90_in_nanos", "p90", new TimeValue(histogram.percentile(90), TimeUnit.NANOSECONDS));
+        builder.humanReadableField("p99_in_nanos", "p99", new TimeValue(histogram.percentile(99), TimeUnit.NANOSECONDS));
+        builder.humanReadableField("max_in_nanos", "max", new TimeValue(histogram.getMax(), TimeUnit.NANOSECONDS));
+        builder.endObject();
+    }
+
+    private static void bytesToXContent(XContentBuilder builder, String name, LongHistogram.Snapshot histogram) throws IOException {
+        builder.startObject(name);
+        builder.field("count", histogram.getCount());
+        builder.humanReadableField("total_in_bytes", "total", new ByteSizeValue(histogram.getSum()));
+        builder.humanReadableField("avg_in_bytes", "avg", new ByteSizeValue(histogram.getAvg()));
+        builder.humanReadableField("p50_in_bytes", "p50", new ByteSizeValue(histogram.percentile(50)));
+        builder.humanReadableField("p99_in_bytes", "p99", new ByteSizeValue(histogram.percentile(99)));
+        builder.humanReadableField("max_in_bytes", "max", new ByteSizeValue(histogram.getMax()));
+        builder.endObject();
+    }
+
+    private static void hitsToXContent(XContentBuilder builder, String name, long hits, long misses) throws IOException {
+        builder.startObject(name);
+        builder.field("hits", hits);
+        builder.field("misses", misses);
+        builder.field("hit_ratio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        builder.endObject();
+    }
+}
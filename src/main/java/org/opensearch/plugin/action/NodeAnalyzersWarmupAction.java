@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * ActionType for warming up analyzers on nodes.
+ */
+public class NodeAnalyzersWarmupAction extends ActionType<NodesAnalyzersWarmupResponse> {
+
+    /**
+     * A node level singleton.
+     */
+    public static final NodeAnalyzersWarmupAction INSTANCE = new NodeAnalyzersWarmupAction();
+
+    /**
+     * The name of the action type.
+     */
+    public static final String NAME = "cluster:admin/node/analyzers/warmup";
+
+    private NodeAnalyzersWarmupAction() {
+        super(NAME, NodesAnalyzersWarmupResponse::new);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of an analyzer warm-up on a single node, one {@link AnalyzerWarmupResult} per analyzer.
+ */
+public class NodeAnalyzersWarmupInfo extends BaseNodeResponse implements ToXContentFragment {
+
+    private final long tookNanos;
+    private final List<AnalyzerWarmupResult> analyzers;
+
+    public NodeAnalyzersWarmupInfo(DiscoveryNode node, long tookNanos, List<AnalyzerWarmupResult> analyzers) {
+        super(node);
+        this.tookNanos = tookNanos;
+        this.analyzers = analyzers;
+    }
+
+    public NodeAnalyzersWarmupInfo(StreamInput in) throws IOException {
+        super(in);
+        this.tookNanos = in.readVLong();
+        this.analyzers = in.readList(AnalyzerWarmupResult::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVLong(tookNanos);
+        out.writeList(analyzers);
+    }
+
+    public long getTookNanos() {
+        return tookNanos;
+    }
+
+    public List<AnalyzerWarmupResult> getAnalyzers() {
+        return analyzers;
+    }
+
+    /**
+     * @return true if all analyzers reached steady throughput
+     */
+    public boolean isSteadyState() {
+        for (AnalyzerWarmupResult analyzer : analyzers) {
+            if (analyzer.isSteadyState() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.humanReadableField("took_in_nanos", "took", new TimeValue(tookNanos, TimeUnit.NANOSECONDS));
+        builder.field("steady_state", isSteadyState());
+        builder.startArray("analyzers");
+        for (AnalyzerWarmupResult analyzer : analyzers) {
+            builder.startObject();
+            if (analyzer.getIndex() != null) {
+                builder.field("index", analyzer.getIndex());
+            }
+            builder.field("name", analyzer.getName());
+            builder.field("iterations", analyzer.getIterations());
+            builder.humanReadableField("took_in_nanos", "took", new TimeValue(analyzer.getTookNanos(), TimeUnit.NANOSECONDS));
+            builder.field("tokens_per_second", analyzer.getTokensPerSecond());
+            builder.field("steady_state", analyzer.isSteadyState());
+            builder.endObject();
+        }
+        builder.endArray();
+        return builder;
+    }
+}
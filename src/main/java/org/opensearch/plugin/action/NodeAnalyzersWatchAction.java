@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * ActionType for watching the cluster-wide analysis inventory for changes.
+ */
+public class NodeAnalyzersWatchAction extends ActionType<NodesAnalyzersWatchResponse> {
+
+    /**
+     * A node level singleton.
+     */
+    public static final NodeAnalyzersWatchAction INSTANCE = new NodeAnalyzersWatchAction();
+
+    /**
+     * The name of the action type.
+     */
+    public static final String NAME = "cluster:monitor/node/analyzers/watch";
+
+    private NodeAnalyzersWatchAction() {
+        super(NAME, NodesAnalyzersWatchResponse::new);
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.analysis.NamedAnalyzer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Custom analyzers instantiated more than once on a node with an equivalent definition.
+ *
+ * Every index has its own analyzers, so indices created from the same template instantiate the same analyzers
+ * (and whatever resources their components load, like synonym maps) once per index. Analyzers defined in index
+ * settings are grouped by their definition, with references to custom tokenizers, token filters and char filters
+ * of the index replaced by the definitions of those components, so the grouping does not depend on how the
+ * components are named in every index.
+ *
+ * For every group the heap retained by one instance is estimated with {@link AnalysisHeapEstimator}, and so is
+ * the heap retained by all other instances on top of it. Objects shared by the instances (for example
+ * node level caches of dictionaries) are counted once, so the latter is what consolidating the group would save.
+ */
+public class NodeDuplicateAnalyzers implements Writeable, ToXContentFragment {
+
+    private static final String ANALYZER_PREFIX = "index.analysis.analyzer.";
+
+    /**
+     * Settings of an analyzer that reference custom components of the index, by the prefix of those components.
+     */
+    private static final Map<String, String> COMPONENT_REFERENCES;
+
+    static {
+        Map<String, String> references = new LinkedHashMap<>();
+        references.put("tokenizer", "index.analysis.tokenizer.");
+        references.put("filter", "index.analysis.filter.");
+        references.put("char_filter", "index.analysis.char_filter.");
+        COMPONENT_REFERENCES = Collections.unmodifiableMap(references);
+    }
+
+    /**
+     * Analyzers instantiated with the same definition.
+     */
+    public static class Group implements Writeable {
+        private final String definition;
+        private final long instanceSizeInBytes;
+        private final long wastedInBytes;
+        private final SortedMap<String, SortedSet<String>> indices;
+
+        Group(String definition, long instanceSizeInBytes, long wastedInBytes, SortedMap<String, SortedSet<String>> indices) {
+            this.definition = definition;
+            this.instanceSizeInBytes = instanceSizeInBytes;
+            this.wastedInBytes = wastedInBytes;
+            this.indices = indices;
+        }
+
+        Group(StreamInput in) throws IOException {
+            this.definition = in.readString();
+            this.instanceSizeInBytes = in.readVLong();
+            this.wastedInBytes = in.readVLong();
+            this.indices = new TreeMap<>(in.readMap(StreamInput::readString, i -> new TreeSet<>(i.readSet(StreamInput::readString))));
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(definition);
+            out.writeVLong(instanceSizeInBytes);
+            out.writeVLong(wastedInBytes);
+            out.writeMap(indices, StreamOutput::writeString, StreamOutput::writeStringCollection);
+        }
+
+        /**
+         * @return canonical definition shared by all analyzers of the group
+         */
+        public String getDefinition() {
+            return definition;
+        }
+
+        /**
+         * @return number of analyzer instances in the group
+         */
+        public int getInstances() {
+            return indices.values().stream().mapToInt(Set::size).sum();
+        }
+
+        /**
+         * @return estimated heap retained by a single instance
+         */
+        public long getInstanceSizeInBytes() {
+            return instanceSizeInBytes;
+        }
+
+        /**
+         * @return estimated heap retained by all instances but the first one
+         */
+        public long getWastedInBytes() {
+            return wastedInBytes;
+        }
+
+        /**
+         * @return analyzer names by index
+         */
+        public SortedMap<String, SortedSet<String>> getIndices() {
+            return indices;
+        }
+    }
+
+    private final long wastedInBytes;
+    private final List<Group> groups;
+
+    NodeDuplicateAnalyzers(List<Group> groups) {
+        this.groups = unmodifiableList(groups);
+        this.wastedInBytes = groups.stream().mapToLong(Group::getWastedInBytes).sum();
+    }
+
+    public NodeDuplicateAnalyzers(StreamInput in) throws IOException {
+        this.wastedInBytes = in.readVLong();
+        this.groups = unmodifiableList(in.readList(Group::new));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(wastedInBytes);
+        out.writeList(groups);
+    }
+
+    /**
+     * Finds duplicate analyzers of all indices allocated on the node. This walks the object graph of every
+     * duplicate analyzer, it is meant to be called on demand only.
+     * @param indexServices indices allocated on the node
+     * @param ensureNotCancelled checked before every index and every group of duplicates, throws if the request is cancelled
+     * @return duplicate analyzers
+     */
+    static NodeDuplicateAnalyzers find(Iterable<IndexService> indexServices, Runnable ensureNotCancelled) {
+        Map<String, Settings> settings = new TreeMap<>();
+        Map<String, IndexService> services = new TreeMap<>();
+        for (IndexService indexService : indexServices) {
+            settings.put(indexService.index().getName(), indexService.getIndexSettings().getSettings());
+            services.put(indexService.index().getName(), indexService);
+        }
+        return find(settings, (index, name) -> {
+            NamedAnalyzer analyzer = services.get(index).getIndexAnalyzers().get(name);
+            return analyzer == null ? null : analyzer.analyzer();
+        }, ensureNotCancelled);
+    }
+
+    /**
+     * @param indexSettings settings by index name
+     * @param analyzers looks up the analyzer instance by index and analyzer name, null if it is not instantiated
+     * @param ensureNotCancelled checked before every index and every group of duplicates, throws if the request is cancelled
+     * @return duplicate analyzers
+     */
+    static NodeDuplicateAnalyzers find(
+            Map<String, Settings> indexSettings,
+            BiFunction<String, String, Object> analyzers,
+            Runnable ensureNotCancelled
+    ) {
+        Map<String, Map<Object, SortedMap<String, SortedSet<String>>>> byDefinition = new TreeMap<>();
+        for (Map.Entry<String, Settings> index : indexSettings.entrySet()) {
+            ensureNotCancelled.run();
+            Settings settings = index.getValue();
+            for (String name : settings.getGroups(ANALYZER_PREFIX).keySet()) {
+                Object analyzer = analyzers.apply(index.getKey(), name);
+                if (analyzer == null) {
+                    continue;
+                }
+                byDefinition.computeIfAbsent(definition(settings, name), d -> new IdentityHashMap<>())
+                        .computeIfAbsent(analyzer, a -> new TreeMap<>())
+                        .computeIfAbsent(index.getKey(), i -> new TreeSet<>())
+                        .add(name);
+            }
+        }
+        List<Group> groups = new ArrayList<>();
+        for (Map.Entry<String, Map<Object, SortedMap<String, SortedSet<String>>>> definition : byDefinition.entrySet()) {
+            Map<Object, SortedMap<String, SortedSet<String>>> instances = definition.getValue();
+            if (instances.size() < 2) {
+                continue;
+            }
+            ensureNotCancelled.run();
+            AnalysisHeapEstimator estimator = new AnalysisHeapEstimator();
+            long instanceSize = -1;
+            long wasted = 0;
+            SortedMap<String, SortedSet<String>> names = new TreeMap<>();
+            for (Map.Entry<Object, SortedMap<String, SortedSet<String>>> instance : instances.entrySet()) {
+                long size = estimator.estimate(instance.getKey());
+                if (instanceSize < 0) {
+                    instanceSize = size;
+                } else {
+                    wasted += size;
+                }
+                instance.getValue().forEach((index, indexNames) -> names.computeIfAbsent(index, i -> new TreeSet<>()).addAll(indexNames));
+            }
+            groups.add(new Group(definition.getKey(), instanceSize, wasted, names));
+        }
+        groups.sort(Comparator.comparingLong(Group::getWastedInBytes).reversed().thenComparing(Group::getDefinition));
+        return new NodeDuplicateAnalyzers(groups);
+    }
+
+    /**
+     * @param settings index settings
+     * @param name analyzer name
+     * @return canonical definition of the analyzer, custom components of the index are replaced by their definitions
+     */
+    static String definition(Settings settings, String name) {
+        Settings analyzer = settings.getByPrefix(ANALYZER_PREFIX + name + ".");
+        SortedMap<String, Object> definition = new TreeMap<>();
+        for (String key : analyzer.keySet()) {
+            List<String> values = analyzer.getAsList(key);
+            String componentPrefix = COMPONENT_REFERENCES.get(key);
+            if (componentPrefix == null) {
+                definition.put(key, values);
+                continue;
+            }
+            List<Object> components = new ArrayList<>(values.size());
+            for (String value : values) {
+                Settings component = settings.getByPrefix(componentPrefix + value + ".");
+                components.add(component.isEmpty() ? value : canonical(component));
+            }
+            definition.put(key, components);
+        }
+        // "custom" is implied when the tokenizer is set
+        if (definition.containsKey("tokenizer") && List.of("custom").equals(definition.get("type"))) {
+            definition.remove("type");
+        }
+        return definition.toString();
+    }
+
+    private static SortedMap<String, List<String>> canonical(Settings settings) {
+        SortedMap<String, List<String>> canonical = new TreeMap<>();
+        for (String key : settings.keySet()) {
+            canonical.put(key, settings.getAsList(key));
+        }
+        return canonical;
+    }
+
+    /**
+     * @return estimated heap retained by duplicate instances of all groups
+     */
+    public long getWastedInBytes() {
+        return wastedInBytes;
+    }
+
+    /**
+     * @return groups of duplicate analyzers, the most wasteful first
+     */
+    public List<Group> getGroups() {
+        return groups;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("duplicate_analyzers");
+        builder.humanReadableField("wasted_in_bytes", "wasted", new ByteSizeValue(wastedInBytes));
+        builder.startArray("groups");
+        for (Group group : groups) {
+            builder.startObject();
+            builder.field("definition", group.definition);
+            builder.field("instances", group.getInstances());
+            builder.humanReadableField("instance_size_in_bytes", "instance_size", new ByteSizeValue(group.instanceSizeInBytes));
+            builder.humanReadableField("wasted_in_bytes", "wasted", new ByteSizeValue(group.wastedInBytes));
+            builder.startObject("indices");
+            for (Map.Entry<String, SortedSet<String>> index : group.indices.entrySet()) {
+                builder.array(index.getKey(), index.getValue().toArray(new String[0]));
+            }
+            builder.endObject();
+            builder.endObject();
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * ActionType for preloading hunspell dictionaries on nodes.
+ */
+public class NodeHunspellPreloadAction extends ActionType<NodesHunspellPreloadResponse> {
+
+    /**
+     * A node level singleton.
+     */
+    public static final NodeHunspellPreloadAction INSTANCE = new NodeHunspellPreloadAction();
+
+    /**
+     * The name of the action type.
+     */
+    public static final String NAME = "cluster:admin/node/analyzers/hunspell/preload";
+
+    private NodeHunspellPreloadAction() {
+        super(NAME, NodesHunspellPreloadResponse::new);
+    }
+}
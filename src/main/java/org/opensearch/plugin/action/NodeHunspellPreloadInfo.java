@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of a hunspell dictionary preload on a single node, one {@link HunspellPreloadResult} per dictionary.
+ */
+public class NodeHunspellPreloadInfo extends BaseNodeResponse implements ToXContentFragment {
+
+    private final long tookNanos;
+    private final int concurrency;
+    private final List<HunspellPreloadResult> dictionaries;
+
+    /**
+     * @param node the node
+     * @param tookNanos time to load all dictionaries
+     * @param concurrency number of dictionaries loaded at the same time
+     * @param dictionaries results by dictionary
+     */
+    public NodeHunspellPreloadInfo(DiscoveryNode node, long tookNanos, int concurrency, List<HunspellPreloadResult> dictionaries) {
+        super(node);
+        this.tookNanos = tookNanos;
+        this.concurrency = concurrency;
+        this.dictionaries = dictionaries;
+    }
+
+    public NodeHunspellPreloadInfo(StreamInput in) throws IOException {
+        super(in);
+        this.tookNanos = in.readVLong();
+        this.concurrency = in.readVInt();
+        this.dictionaries = in.readList(HunspellPreloadResult::new);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVLong(tookNanos);
+        out.writeVInt(concurrency);
+        out.writeList(dictionaries);
+    }
+
+    public long getTookNanos() {
+        return tookNanos;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public List<HunspellPreloadResult> getDictionaries() {
+        return dictionaries;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.humanReadableField("took_in_nanos", "took", new TimeValue(tookNanos, TimeUnit.NANOSECONDS));
+        builder.field("concurrency", concurrency);
+        long heapBytes = 0;
+        int failed = 0;
+        int cached = 0;
+        for (HunspellPreloadResult dictionary : dictionaries) {
+            if (dictionary.isLoaded()) {
+                heapBytes += dictionary.getHeapBytes();
+                if (dictionary.isCached()) {
+                    cached++;
+                }
+            } else {
+                failed++;
+            }
+        }
+        builder.field("loaded", dictionaries.size() - failed);
+        builder.field("cached", cached);
+        builder.field("failed", failed);
+        builder.humanReadableField("heap_size_in_bytes", "heap_size", new ByteSizeValue(heapBytes));
+        builder.startArray("dictionaries");
+        for (HunspellPreloadResult dictionary : dictionaries) {
+            builder.startObject();
+            builder.field("name", dictionary.getName());
+            builder.field("source", dictionary.getSource());
+            builder.field("cached", dictionary.isCached());
+            builder.humanReadableField("took_in_nanos", "took", new TimeValue(dictionary.getTookNanos(), TimeUnit.NANOSECONDS));
+            if (dictionary.getDiskBytes() >= 0) {
+                builder.humanReadableField("disk_size_in_bytes", "disk_size", new ByteSizeValue(dictionary.getDiskBytes()));
+            }
+            if (dictionary.isLoaded()) {
+                builder.humanReadableField("heap_size_in_bytes", "heap_size", new ByteSizeValue(dictionary.getHeapBytes()));
+            } else {
+                builder.field("error", dictionary.getError());
+            }
+            builder.endObject();
+        }
+        builder.endArray();
+        return builder;
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.index.analysis.NameOrDefinition;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to benchmark an analyzer on nodes.
+ *
+ * The analyzer is either a registered (global) analyzer given by {@link #analyzer()} or an ad-hoc chain of
+ * {@link #tokenizer()}, {@link #charFilters()} and {@link #tokenFilters()}, resolved from the node
+ * {@link org.opensearch.index.analysis.AnalysisRegistry} the same way as the _analyze API does.
+ *
+ * The corpus is either the given {@link #texts()} or, if there are none, a corpus generated on every node
+ * from {@link #generatedDocs()}, {@link #wordsPerDoc()} and {@link #seed()}.
+ *
+ * With {@link #profile()} every stage of the analysis chain is instrumented and nodes also report time and
+ * allocations spent in each stage, see {@link AnalysisChainProfiler}.
+ */
+public class NodesAnalyzerBenchRequest extends BaseNodesRequest<NodesAnalyzerBenchRequest> {
+
+    /**
+     * Upper bound of measured (and warm-up) iterations.
+     */
+    public static final int MAX_ITERATIONS = 100_000;
+    /**
+     * Upper bound of the corpus size in characters (given or generated).
+     */
+    public static final long MAX_CORPUS_CHARS = 10 * 1024 * 1024;
+
+    public static final int DEFAULT_ITERATIONS = 100;
+    public static final int DEFAULT_WARMUP_ITERATIONS = 10;
+    public static final int DEFAULT_GENERATED_DOCS = 100;
+    public static final int DEFAULT_WORDS_PER_DOC = 100;
+
+    private String analyzer;
+    private NameOrDefinition tokenizer;
+    private List<NameOrDefinition> charFilters = emptyList();
+    private List<NameOrDefinition> tokenFilters = emptyList();
+    private String[] texts = new String[0];
+    private int generatedDocs = DEFAULT_GENERATED_DOCS;
+    private int wordsPerDoc = DEFAULT_WORDS_PER_DOC;
+    private long seed;
+    private int iterations = DEFAULT_ITERATIONS;
+    private int warmupIterations = DEFAULT_WARMUP_ITERATIONS;
+    private boolean profile;
+
+    /**
+     * A constructor.
+     */
+    public NodesAnalyzerBenchRequest(String... nodesIds) {
+        super(nodesIds);
+    }
+
+    public NodesAnalyzerBenchRequest(StreamInput in) throws IOException {
+        super(in);
+        this.analyzer = in.readOptionalString();
+        this.tokenizer = in.readOptionalWriteable(NameOrDefinition::new);
+        this.charFilters = in.readList(NameOrDefinition::new);
+        this.tokenFilters = in.readList(NameOrDefinition::new);
+        this.texts = in.readStringArray();
+        this.generatedDocs = in.readVInt();
+        this.wordsPerDoc = in.readVInt();
+        this.seed = in.readLong();
+        this.iterations = in.readVInt();
+        this.warmupIterations = in.readVInt();
+        this.profile = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalString(analyzer);
+        out.writeOptionalWriteable(tokenizer);
+        out.writeList(charFilters);
+        out.writeList(tokenFilters);
+        out.writeStringArray(texts);
+        out.writeVInt(generatedDocs);
+        out.writeVInt(wordsPerDoc);
+        out.writeLong(seed);
+        out.writeVInt(iterations);
+        out.writeVInt(warmupIterations);
+        out.writeBoolean(profile);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if ((analyzer == null) == (tokenizer == null)) {
+            validationException = addValidationError("either [analyzer] or [tokenizer] must be set", validationException);
+        }
+        if (analyzer != null && (charFilters.isEmpty() == false || tokenFilters.isEmpty() == false)) {
+            validationException = addValidationError(
+                    "[char_filter] and [filter] can only be used with [tokenizer]", validationException
+            );
+        }
+        if (iterations < 1 || iterations > MAX_ITERATIONS) {
+            validationException = addValidationError(
+                    "[iterations] must be between 1 and " + MAX_ITERATIONS + " but was [" + iterations + "]", validationException
+            );
+        }
+        if (warmupIterations < 0 || warmupIterations > MAX_ITERATIONS) {
+            validationException = addValidationError(
+                    "[warmup_iterations] must be between 0 and " + MAX_ITERATIONS + " but was [" + warmupIterations + "]",
+                    validationException
+            );
+        }
+        if (texts.length == 0 && (generatedDocs < 1 || wordsPerDoc < 1)) {
+            validationException = addValidationError("corpus must not be empty", validationException);
+        }
+        if (corpusChars() > MAX_CORPUS_CHARS) {
+            validationException = addValidationError(
+                    "corpus must not be longer than " + MAX_CORPUS_CHARS + " characters", validationException
+            );
+        }
+        return validationException;
+    }
+
+    /**
+     * @return (upper bound of) the corpus size in characters, generated words are at most 8 characters long
+     */
+    long corpusChars() {
+        if (texts.length == 0) {
+            return (long) generatedDocs * wordsPerDoc * 8;
+        }
+        long chars = 0;
+        for (String text : texts) {
+            chars += text.length();
+        }
+        return chars;
+    }
+
+    /**
+     * @param analyzer name of a registered analyzer
+     * @return this request
+     */
+    public NodesAnalyzerBenchRequest analyzer(String analyzer) {
+        this.analyzer = analyzer;
+        return this;
+    }
+
+    public String analyzer() {
+        return analyzer;
+    }
+
+    /**
+     * @param tokenizer tokenizer of an ad-hoc analyzer
+     * @return this request
+     */
+    public NodesAnalyzerBenchRequest tokenizer(NameOrDefinition tokenizer) {
+        this.tokenizer = tokenizer;
+        return this;
+    }
+
+    public NameOrDefinition tokenizer() {
+        return tokenizer;
+    }
+
+    /**
+     * @param charFilters char filters of an ad-hoc analyzer
+     * @return this request
+     */
+    public NodesAnalyzerBenchRequest charFilters(List<NameOrDefinition> charFilters) {
+        this.charFilters = charFilters;
+        return this;
+    }
+
+    public List<NameOrDefinition> charFilters() {
+        return charFilters;
+    }
+
+    /**
+     * @param tokenFilters token filters of an ad-hoc analyzer
+     * @return this request
+     */
+    public NodesAnalyzerBenchRequest tokenFilters(List<NameOrDefinition> tokenFilters) {
+        this.tokenFilters = tokenFilters;
+        return this;
+    }
+
+    public List<NameOrDefinition> tokenFilters() {
+        return tokenFilters;
+    }
+
+    /**
+     * @param texts documents of the corpus, if empty a corpus is generated
+     * @return this request
+     */
+    public NodesAnalyzerBenchRequest texts(String... texts) {
+        this.texts = texts;
+        return this;
+    }
+
+    public String[] texts() {
+        return texts;
+    }
+
+    /**
+     * Sets up generated corpus, used only if there are no {@link #texts()}.
+     * @param docs number of documents
+     * @param wordsPerDoc number of words in every document
+     * @param seed random seed
+     * @return this request
+     */
+    public NodesAnalyzerBenchRequest generatedCorpus(int docs, int wordsPerDoc, long seed) {
+        this.generatedDocs = docs;
+        this.wordsPerDoc = wordsPerDoc;
+        this.seed = seed;
+        return this;
+    }
+
+    public int generatedDocs() {
+        return generatedDocs;
+    }
+
+    public int wordsPerDoc() {
+        return wordsPerDoc;
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * @param iterations number of measured passes over the corpus
+     * @return this request
+     */
+    public NodesAnalyzerBenchRequest iterations(int iterations) {
+        this.iterations = iterations;
+        return this;
+    }
+
+    public int iterations() {
+        return iterations;
+    }
+
+    /**
+     * @param warmupIterations number of passes over the corpus before measuring
+     * @return this request
+     */
+    public NodesAnalyzerBenchRequest warmupIterations(int warmupIterations) {
+        this.warmupIterations = warmupIterations;
+        return this;
+    }
+
+    public int warmupIterations() {
+        return warmupIterations;
+    }
+
+    /**
+     * @param profile true to report time and allocations of every stage of the analysis chain
+     * @return this request
+     */
+    public NodesAnalyzerBenchRequest profile(boolean profile) {
+        this.profile = profile;
+        return this;
+    }
+
+    public boolean profile() {
+        return profile;
+    }
+
+    /**
+     * @return the corpus, either given texts or generated documents
+     */
+    List<String> corpus() {
+        return texts.length > 0 ? List.of(texts) : AnalyzerBenchmark.generateCorpus(generatedDocs, wordsPerDoc, seed);
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, "", parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+}
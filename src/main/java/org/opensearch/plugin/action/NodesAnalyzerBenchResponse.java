@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Transport response to NodeAnalyzerBench, benchmark results by node.
+ *
+ * All nodes run the same benchmark at the same time, so the results can be compared side by side. Nodes whose
+ * throughput or p99 iteration latency deviates from the other nodes are flagged as outliers. Deviation is measured
+ * by the modified z-score (distance from the median in units of median absolute deviation), which is not skewed
+ * by the outliers themselves, see {@link #outliers(double[])}.
+ */
+public class NodesAnalyzerBenchResponse extends BaseNodesResponse<NodeAnalyzerBenchInfo> implements ToXContentFragment {
+
+    public NodesAnalyzerBenchResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public NodesAnalyzerBenchResponse(ClusterName clusterName, List<NodeAnalyzerBenchInfo> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<NodeAnalyzerBenchInfo> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(NodeAnalyzerBenchInfo::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<NodeAnalyzerBenchInfo> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    /**
+     * Modified z-score above which a value is an outlier (Iglewicz and Hoaglin).
+     */
+    static final double OUTLIER_Z_SCORE = 3.5;
+
+    /**
+     * Minimal number of nodes for outlier detection, with fewer nodes there is no majority to compare with.
+     */
+    static final int MIN_NODES_FOR_OUTLIERS = 3;
+
+    /**
+     * @param values one value per node
+     * @return true for values that are outliers
+     */
+    static boolean[] outliers(double[] values) {
+        boolean[] outliers = new boolean[values.length];
+        if (values.length < MIN_NODES_FOR_OUTLIERS) {
+            return outliers;
+        }
+        double median = median(values);
+        double[] deviations = new double[values.length];
+        double meanDeviation = 0;
+        for (int i = 0; i < values.length; i++) {
+            deviations[i] = Math.abs(values[i] - median);
+            meanDeviation += deviations[i] / values.length;
+        }
+        double medianDeviation = median(deviations);
+        // When more than half of the values are equal the median deviation is 0, fall back to the mean deviation
+        double scale = medianDeviation > 0 ? medianDeviation / 0.6745 : meanDeviation * 1.253314;
+        if (scale == 0) {
+            return outliers;
+        }
+        for (int i = 0; i < values.length; i++) {
+            outliers[i] = deviations[i] / scale > OUTLIER_Z_SCORE;
+        }
+        return outliers;
+    }
+
+    static double median(double[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    /**
+     * Renders a summary (min, median and max across nodes and the outlier nodes) followed by the nodes, each with
+     * its throughput relative to the median and the outlier flag.
+     * @param builder
+     * @param params
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        List<NodeAnalyzerBenchInfo> nodes = getNodes();
+        double[] throughput = new double[nodes.size()];
+        double[] p99 = new double[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            throughput[i] = nodes.get(i).getTokensPerSecond();
+            p99[i] = nodes.get(i).getP99Nanos();
+        }
+        boolean[] throughputOutliers = outliers(throughput);
+        boolean[] latencyOutliers = outliers(p99);
+        double medianThroughput = median(throughput);
+
+        builder.startObject("summary");
+        summaryToXContent(builder, "tokens_per_second", throughput);
+        summaryToXContent(builder, "iteration_latency_p99_in_nanos", p99);
+        builder.startArray("outliers");
+        for (int i = 0; i < nodes.size(); i++) {
+            if (throughputOutliers[i] || latencyOutliers[i]) {
+                builder.value(nodes.get(i).getNode().getId());
+            }
+        }
+        builder.endArray();
+        builder.endObject();
+
+        builder.startObject("nodes");
+        for (int i = 0; i < nodes.size(); i++) {
+            NodeAnalyzerBenchInfo nodeInfo = nodes.get(i);
+            builder.startObject(nodeInfo.getNode().getId());
+            builder.field("name", nodeInfo.getNode().getName());
+            nodeInfo.toXContent(builder, params);
+            builder.field("relative_throughput", medianThroughput == 0 ? 0 : throughput[i] / medianThroughput);
+            builder.field("outlier", throughputOutliers[i] || latencyOutliers[i]);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    private static void summaryToXContent(XContentBuilder builder, String name, double[] values) throws IOException {
+        builder.startObject(name);
+        builder.field("min", Arrays.stream(values).min().orElse(0));
+        builder.field("median", median(values));
+        builder.field("max", Arrays.stream(values).max().orElse(0));
+        builder.endObject();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+
+/**
+ * A request to look up which plugins provide the given analysis components on nodes, see
+ * {@link AnalysisComponentProviders}. Every node also reports component names provided by more than one plugin.
+ */
+public class NodesAnalyzerProvidersRequest extends BaseNodesRequest<NodesAnalyzerProvidersRequest> {
+
+    private String[] components = new String[0];
+
+    /**
+     * A constructor.
+     */
+    public NodesAnalyzerProvidersRequest(String... nodesIds) {
+        super(nodesIds);
+    }
+
+    public NodesAnalyzerProvidersRequest(StreamInput in) throws IOException {
+        super(in);
+        this.components = in.readStringArray();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringArray(components);
+    }
+
+    /**
+     * @param components names of components to look up, in any section; if empty, nodes report collisions only
+     * @return this request
+     */
+    public NodesAnalyzerProvidersRequest components(String... components) {
+        this.components = components;
+        return this;
+    }
+
+    public String[] components() {
+        return components;
+    }
+}
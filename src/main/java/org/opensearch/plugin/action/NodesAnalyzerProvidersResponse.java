@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Providers of analysis components on nodes.
+ *
+ * Besides the per node replies the response lists conflicts: components provided by different plugins on different
+ * nodes, which (unlike a missing component, see {@link NodesAnalyzersDiff}) lets indices open everywhere but analyze
+ * differently depending on the node.
+ */
+public class NodesAnalyzerProvidersResponse extends BaseNodesResponse<NodeAnalyzerProvidersInfo> implements ToXContentFragment {
+
+    public NodesAnalyzerProvidersResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public NodesAnalyzerProvidersResponse(
+            ClusterName clusterName,
+            List<NodeAnalyzerProvidersInfo> nodes,
+            List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<NodeAnalyzerProvidersInfo> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(NodeAnalyzerProvidersInfo::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<NodeAnalyzerProvidersInfo> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    /**
+     * @return node IDs by providers, section and component name, only for components whose providers differ between nodes
+     */
+    public SortedMap<String, SortedMap<String, Map<List<AnalysisComponentProviders.Provider>, SortedSet<String>>>> conflicts() {
+        SortedMap<String, SortedMap<String, Map<List<AnalysisComponentProviders.Provider>, SortedSet<String>>>> all = new TreeMap<>();
+        for (NodeAnalyzerProvidersInfo nodeInfo : getNodes()) {
+            for (Map.Entry<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> component
+                    : nodeInfo.getComponents().entrySet()) {
+                for (Map.Entry<String, List<AnalysisComponentProviders.Provider>> section : component.getValue().entrySet()) {
+                    all.computeIfAbsent(component.getKey(), c -> new TreeMap<>())
+                            .computeIfAbsent(section.getKey(), s -> new LinkedHashMap<>())
+                            .computeIfAbsent(section.getValue(), p -> new TreeSet<>())
+                            .add(nodeInfo.getNode().getId());
+                }
+            }
+        }
+        all.values().forEach(sections -> sections.values().removeIf(byProviders -> byProviders.size() < 2));
+        all.values().removeIf(SortedMap::isEmpty);
+        return all;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("nodes");
+        for (NodeAnalyzerProvidersInfo nodeInfo : getNodes()) {
+            builder.startObject(nodeInfo.getNode().getId());
+            builder.field("name", nodeInfo.getNode().getName());
+            nodeInfo.toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        builder.startObject("conflicts");
+        for (Map.Entry<String, SortedMap<String, Map<List<AnalysisComponentProviders.Provider>, SortedSet<String>>>> component
+                : conflicts().entrySet()) {
+            builder.startObject(component.getKey());
+            for (Map.Entry<String, Map<List<AnalysisComponentProviders.Provider>, SortedSet<String>>> section
+                    : component.getValue().entrySet()) {
+                builder.startArray(section.getKey());
+                for (Map.Entry<List<AnalysisComponentProviders.Provider>, SortedSet<String>> providers : section.getValue().entrySet()) {
+                    builder.startObject();
+                    builder.startArray("providers");
+                    for (AnalysisComponentProviders.Provider provider : providers.getKey()) {
+                        provider.toXContent(builder, params);
+                    }
+                    builder.endArray();
+                    builder.array("nodes", providers.getValue().toArray(new String[0]));
+                    builder.endObject();
+                }
+                builder.endArray();
+            }
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Analysis components (and plugins) that are not present on every node.
+ *
+ * For every such component we render the number of nodes that have it and the shorter of the two lists:
+ * either "present_on" or "missing_on" node IDs.
+ */
+public class NodesAnalyzersDiff implements ToXContentFragment {
+
+    private final ComponentNodeMatrix matrix;
+
+    public NodesAnalyzersDiff(ComponentNodeMatrix matrix) {
+        this.matrix = matrix;
+    }
+
+    /**
+     * @param builder
+     * @param params
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        int nodeCount = matrix.getNodes().size();
+        builder.field("node_count", nodeCount);
+        builder.startObject("diff");
+        for (String section : ComponentNodeMatrix.SECTIONS) {
+            SortedMap<String, BitSet> components = matrix.getSection(section);
+            builder.startObject(section);
+            for (Map.Entry<String, BitSet> component : components.entrySet()) {
+                BitSet present = component.getValue();
+                if (matrix.isOnAllNodes(present)) {
+                    continue;
+                }
+                int presentCount = present.cardinality();
+                builder.startObject(component.getKey());
+                builder.field("present_count", presentCount);
+                if (presentCount <= nodeCount - presentCount) {
+                    builder.startArray("present_on");
+                    for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                        builder.value(matrix.getNodes().get(i).getId());
+                    }
+                } else {
+                    builder.startArray("missing_on");
+                    for (int i = present.nextClearBit(0); i < nodeCount; i = present.nextClearBit(i + 1)) {
+                        builder.value(matrix.getNodes().get(i).getId());
+                    }
+                }
+                builder.endArray();
+                builder.endObject();
+            }
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
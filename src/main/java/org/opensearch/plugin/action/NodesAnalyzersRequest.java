@@ -8,15 +8,89 @@
 package org.opensearch.plugin.action;
 
 import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySortedMap;
+import static java.util.Collections.unmodifiableSortedMap;
 
 /**
  * A request to get a node level analyzers.
+ *
+ * The request runs as a cancellable task, cancelling it (or closing the HTTP channel it came from) cancels
+ * all node requests too. Nodes that do not reply within {@link #timeout()} are reported as failed and
+ * the response contains the nodes that did reply.
  */
 public class NodesAnalyzersRequest extends BaseNodesRequest<NodesAnalyzersRequest> {
 
+    /**
+     * Request param that controls how the coordinating node reaches the nodes.
+     */
+    public static final String FAN_OUT_PARAM = "fan_out";
+    /**
+     * The coordinating node sends a request to every node (default).
+     */
+    public static final String FAN_OUT_DIRECT = "direct";
+    /**
+     * The coordinating node sends a request to a few aggregating nodes, each of them collects and deduplicates
+     * replies of a group of nodes, see {@link TransportNodeAnalyzersAction}.
+     */
+    public static final String FAN_OUT_TREE = "tree";
+
+    /**
+     * Request param that controls the detail level of node replies.
+     */
+    public static final String DETAIL_PARAM = "detail";
+    /**
+     * Node replies include the inventory only (default).
+     */
+    public static final String DETAIL_DEFAULT = "default";
+    /**
+     * Node replies also include estimated heap usage of analysis components, see {@link NodeAnalysisHeapUsage}.
+     */
+    public static final String DETAIL_HEAP = "heap";
+    /**
+     * Node replies also include analyzers instantiated more than once with an equivalent definition,
+     * see {@link NodeDuplicateAnalyzers}.
+     */
+    public static final String DETAIL_DUPLICATES = "duplicates";
+
+    /**
+     * Inventories already known to the coordinating node (by digest). Never serialized.
+     */
+    private Map<String, NodeAnalysisInventory> knownInventories = emptyMap();
+
+    /**
+     * Etags the client already has (from If-None-Match header).
+     */
+    private String[] ifNoneMatch = new String[0];
+
+    /**
+     * Selects which components are returned, applied on every node.
+     */
+    private NodeAnalysisInventoryFilter filter = NodeAnalysisInventoryFilter.ALL;
+
+    private String fanOut = FAN_OUT_DIRECT;
+
+    private String detail = DETAIL_DEFAULT;
+
+    /**
+     * Params that change how the response is rendered, such as {@link NodesAnalyzersResponse#GROUP_BY_PARAM}. Nodes do
+     * not use them, they are part of the etag.
+     */
+    private SortedMap<String, String> renderParams = emptySortedMap();
+
     /**
      * A constructor.
      */
@@ -31,5 +105,164 @@ public class NodesAnalyzersRequest extends BaseNodesRequest<NodesAnalyzersReques
      */
     public NodesAnalyzersRequest(StreamInput in) throws IOException {
         super(in);
+        if (in.getVersion().before(NodesAnalyzersResponse.COMPACT_FORMAT_VERSION)) {
+            return;
+        }
+        this.ifNoneMatch = in.readStringArray();
+        this.filter = new NodeAnalysisInventoryFilter(in);
+        this.fanOut = in.readString();
+        this.detail = in.readString();
+        this.renderParams = unmodifiableSortedMap(new TreeMap<>(in.readMap(StreamInput::readString, StreamInput::readString)));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        if (out.getVersion().before(NodesAnalyzersResponse.COMPACT_FORMAT_VERSION)) {
+            return;
+        }
+        out.writeStringArray(ifNoneMatch);
+        filter.writeTo(out);
+        out.writeString(fanOut);
+        out.writeString(detail);
+        out.writeMap(renderParams, StreamOutput::writeString, StreamOutput::writeString);
+    }
+
+    /**
+     * @param filter selects which components are returned
+     * @return this request
+     */
+    public NodesAnalyzersRequest filter(NodeAnalysisInventoryFilter filter) {
+        this.filter = filter;
+        return this;
+    }
+
+    public NodeAnalysisInventoryFilter filter() {
+        return filter;
+    }
+
+    /**
+     * @param fanOut either {@link #FAN_OUT_DIRECT} or {@link #FAN_OUT_TREE}
+     * @return this request
+     */
+    public NodesAnalyzersRequest fanOut(String fanOut) {
+        if (FAN_OUT_DIRECT.equals(fanOut) == false && FAN_OUT_TREE.equals(fanOut) == false) {
+            throw new IllegalArgumentException("[" + FAN_OUT_PARAM + "] must be one of [" + FAN_OUT_DIRECT + ", " + FAN_OUT_TREE
+                    + "] but was [" + fanOut + "]");
+        }
+        this.fanOut = fanOut;
+        return this;
+    }
+
+    public String fanOut() {
+        return fanOut;
+    }
+
+    /**
+     * @param detail comma separated list of {@link #DETAIL_DEFAULT}, {@link #DETAIL_HEAP} and {@link #DETAIL_DUPLICATES}
+     * @return this request
+     */
+    public NodesAnalyzersRequest detail(String detail) {
+        for (String value : Strings.splitStringByCommaToArray(detail)) {
+            if (DETAIL_DEFAULT.equals(value) == false && DETAIL_HEAP.equals(value) == false && DETAIL_DUPLICATES.equals(value) == false) {
+                throw new IllegalArgumentException("[" + DETAIL_PARAM + "] must be a list of [" + DETAIL_DEFAULT + ", " + DETAIL_HEAP
+                        + ", " + DETAIL_DUPLICATES + "] but was [" + detail + "]");
+            }
+        }
+        this.detail = detail;
+        return this;
+    }
+
+    public String detail() {
+        return detail;
+    }
+
+    /**
+     * @return true if node replies should include heap usage
+     */
+    public boolean includeHeapUsage() {
+        return hasDetail(DETAIL_HEAP);
+    }
+
+    /**
+     * @return true if node replies should include duplicate analyzers
+     */
+    public boolean includeDuplicateAnalyzers() {
+        return hasDetail(DETAIL_DUPLICATES);
+    }
+
+    /**
+     * @return true if node replies include details beyond the inventory. Such details are per node and change
+     * all the time, they are never "not modified".
+     */
+    public boolean includeNodeDetails() {
+        return includeHeapUsage() || includeDuplicateAnalyzers();
+    }
+
+    private boolean hasDetail(String value) {
+        return Arrays.asList(Strings.splitStringByCommaToArray(detail)).contains(value);
+    }
+
+    /**
+     * @param renderParams params that change how the response is rendered, only those that differ from their defaults
+     * @return this request
+     */
+    public NodesAnalyzersRequest renderParams(Map<String, String> renderParams) {
+        this.renderParams = unmodifiableSortedMap(new TreeMap<>(renderParams));
+        return this;
+    }
+
+    public SortedMap<String, String> renderParams() {
+        return renderParams;
+    }
+
+    /**
+     * @return what the response body depends on besides the node inventories: the canonical filter and the render
+     * params, empty for a request of all components rendered by default
+     */
+    public String etagVariant() {
+        if (filter.isAll() && renderParams.isEmpty()) {
+            return "";
+        }
+        return filter.canonical() + ";" + renderParams;
+    }
+
+    /**
+     * @param etags etags the client already has, "*" matches any etag
+     * @return this request
+     */
+    public NodesAnalyzersRequest ifNoneMatch(String... etags) {
+        this.ifNoneMatch = etags;
+        return this;
+    }
+
+    public String[] ifNoneMatch() {
+        return ifNoneMatch;
+    }
+
+    /**
+     * @param etag current etag
+     * @return true if the client already has the given etag
+     */
+    public boolean matchesIfNoneMatch(String etag) {
+        return etag != null && Arrays.stream(ifNoneMatch).anyMatch(e -> "*".equals(e) || etag.equals(e));
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, "", parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+
+    Map<String, NodeAnalysisInventory> knownInventories() {
+        return knownInventories;
+    }
+
+    void knownInventories(Map<String, NodeAnalysisInventory> knownInventories) {
+        this.knownInventories = knownInventories;
     }
 }
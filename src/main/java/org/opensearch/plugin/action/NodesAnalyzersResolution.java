@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Availability of requested analysis components across nodes.
+ *
+ * Nodes are listed once in "nodes", their position in the list is the node ordinal. For every requested component
+ * we render a string with one character per node ordinal: '1' if the node has the component, '0' otherwise.
+ * Components not available on all nodes are also listed in "missing".
+ */
+public class NodesAnalyzersResolution implements ToXContentFragment {
+
+    private final ComponentNodeMatrix matrix;
+    private final Map<String, Set<String>> requested;
+
+    /**
+     * @param matrix component-by-node matrix
+     * @param requested requested component names by section
+     */
+    public NodesAnalyzersResolution(ComponentNodeMatrix matrix, Map<String, Set<String>> requested) {
+        this.matrix = matrix;
+        this.requested = requested;
+    }
+
+    private BitSet nodesOf(String section, String name) {
+        BitSet ordinals = matrix.getSection(section).get(name);
+        return ordinals == null ? new BitSet() : ordinals;
+    }
+
+    /**
+     * @return true if all requested components are available on all nodes
+     */
+    public boolean isAvailableOnAllNodes() {
+        for (Map.Entry<String, Set<String>> section : requested.entrySet()) {
+            for (String name : section.getValue()) {
+                if (matrix.isOnAllNodes(nodesOf(section.getKey(), name)) == false) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param builder
+     * @param params
+     * @return
+     * @throws IOException
+     */
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        int nodeCount = matrix.getNodes().size();
+        builder.field("available_on_all_nodes", isAvailableOnAllNodes());
+        builder.startArray("nodes");
+        for (DiscoveryNode node : matrix.getNodes()) {
+            builder.value(node.getId());
+        }
+        builder.endArray();
+
+        builder.startObject("components");
+        for (Map.Entry<String, Set<String>> section : requested.entrySet()) {
+            builder.startObject(section.getKey());
+            char[] row = new char[nodeCount];
+            for (String name : section.getValue()) {
+                BitSet ordinals = nodesOf(section.getKey(), name);
+                for (int i = 0; i < nodeCount; i++) {
+                    row[i] = ordinals.get(i) ? '1' : '0';
+                }
+                builder.field(name, new String(row));
+            }
+            builder.endObject();
+        }
+        builder.endObject();
+
+        builder.startObject("missing");
+        for (Map.Entry<String, Set<String>> section : requested.entrySet()) {
+            builder.startArray(section.getKey());
+            for (String name : section.getValue()) {
+                if (matrix.isOnAllNodes(nodesOf(section.getKey(), name)) == false) {
+                    builder.value(name);
+                }
+            }
+            builder.endArray();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
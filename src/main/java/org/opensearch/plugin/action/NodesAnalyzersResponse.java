@@ -7,41 +7,258 @@
  */
 package org.opensearch.plugin.action;
 
+import org.opensearch.Version;
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.nodes.BaseNodesResponse;
 import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.unit.ByteSizeValue;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
 
 /**
  * Transport response to NodeAnalyzers
+ *
+ * The response has an {@link #etag()} that identifies the cluster-wide inventory (all node IDs and their inventory
+ * digests) as rendered for the request: the filter and render params of the request are part of it too, see
+ * {@link NodesAnalyzersRequest#etagVariant()}. A response can also be "not modified" in which case it carries only
+ * the etag and no nodes.
+ *
+ * Nodes are written in a compact form: a sorted table of all names (components and plugins) first, then every
+ * distinct inventory once (with names referenced by their position in the table) and finally the list of nodes,
+ * each referencing its inventory. Streams of nodes before {@link #COMPACT_FORMAT_VERSION} carry the classic form,
+ * a plain list of nodes each with its full inventory.
  */
 public class NodesAnalyzersResponse extends BaseNodesResponse<NodeAnalyzersInfo> implements ToXContentFragment {
 
+    /**
+     * XContent param that controls how nodes are rendered.
+     */
+    public static final String GROUP_BY_PARAM = "group_by";
+    /**
+     * Render every node separately (default).
+     */
+    public static final String GROUP_BY_NODE = "node";
+    /**
+     * Render groups of nodes with identical inventory.
+     */
+    public static final String GROUP_BY_FINGERPRINT = "fingerprint";
+
+    /**
+     * XContent param that controls the shape of the response.
+     */
+    public static final String LAYOUT_PARAM = "layout";
+    /**
+     * Components nested in nodes (or groups of nodes), see {@link #GROUP_BY_PARAM} (default).
+     */
+    public static final String LAYOUT_NESTED = "nested";
+    /**
+     * One row per component with the nodes that have it, see {@link #columnarToXContent(XContentBuilder)}.
+     */
+    public static final String LAYOUT_COLUMNAR = "columnar";
+    /**
+     * Columnar rows of components on fewer nodes always list the nodes as ranges.
+     */
+    static final int MIN_BITMAP_NODES = 64;
+    /**
+     * First version that reads nodes in the compact form (shared name table and distinct inventories).
+     */
+    public static final Version COMPACT_FORMAT_VERSION = Version.V_3_0_0;
+
+    private final boolean notModified;
+    private final String etagVariant;
+    private String etag;
+
     public NodesAnalyzersResponse(StreamInput in) throws IOException {
         super(in);
+        if (in.getVersion().before(COMPACT_FORMAT_VERSION)) {
+            this.notModified = false;
+            this.etagVariant = "";
+            return;
+        }
+        this.notModified = in.readBoolean();
+        this.etag = in.readOptionalString();
+        this.etagVariant = in.readString();
     }
 
     public NodesAnalyzersResponse(ClusterName clusterName, List<NodeAnalyzersInfo> nodes, List<FailedNodeException> failures) {
+        this(clusterName, nodes, failures, "");
+    }
+
+    /**
+     * @param clusterName cluster name
+     * @param nodes node replies
+     * @param failures node failures
+     * @param etagVariant {@link NodesAnalyzersRequest#etagVariant()} of the request
+     */
+    public NodesAnalyzersResponse(
+            ClusterName clusterName,
+            List<NodeAnalyzersInfo> nodes,
+            List<FailedNodeException> failures,
+            String etagVariant
+    ) {
         super(clusterName, nodes, failures);
+        this.notModified = false;
+        this.etagVariant = etagVariant;
+    }
+
+    private NodesAnalyzersResponse(ClusterName clusterName, String etag) {
+        super(clusterName, emptyList(), emptyList());
+        this.notModified = true;
+        this.etagVariant = "";
+        this.etag = etag;
+    }
+
+    /**
+     * Creates a response saying that the inventory has not changed since the client has seen the given etag.
+     * @param clusterName cluster name
+     * @param etag current etag
+     * @return a response without nodes
+     */
+    public static NodesAnalyzersResponse notModified(ClusterName clusterName, String etag) {
+        return new NodesAnalyzersResponse(clusterName, etag);
+    }
+
+    /**
+     * @return true if this response carries only the etag and no nodes
+     */
+    public boolean isNotModified() {
+        return notModified;
+    }
+
+    /**
+     * @return etag identifying the cluster-wide inventory or null if any node failed
+     */
+    public String etag() {
+        if (etag == null && hasFailures() == false) {
+            SortedMap<String, String> nodeDigests = new TreeMap<>();
+            for (NodeAnalyzersInfo nodeInfo : getNodes()) {
+                nodeDigests.put(nodeInfo.getNode().getId(), nodeInfo.getDigest());
+            }
+            etag = etag(nodeDigests, etagVariant);
+        }
+        return etag;
+    }
+
+    /**
+     * @param nodeDigests inventory digests by node ID
+     * @param etagVariant {@link NodesAnalyzersRequest#etagVariant()} of the request
+     * @return etag for the given node inventories as rendered for the request
+     */
+    static String etag(SortedMap<String, String> nodeDigests, String etagVariant) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            for (Map.Entry<String, String> nodeDigest : nodeDigests.entrySet()) {
+                out.writeString(nodeDigest.getKey());
+                out.writeString(nodeDigest.getValue());
+            }
+            // etags of default requests stay the same as before the variant was introduced
+            if (etagVariant.isEmpty() == false) {
+                out.writeString(etagVariant);
+            }
+            return MessageDigests.toHexString(MessageDigests.sha256().digest(BytesReference.toBytes(out.bytes())));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        if (out.getVersion().before(COMPACT_FORMAT_VERSION)) {
+            return;
+        }
+        out.writeBoolean(notModified);
+        out.writeOptionalString(notModified ? etag : null);
+        out.writeString(etagVariant);
     }
 
     @Override
     protected List<NodeAnalyzersInfo> readNodesFrom(StreamInput in) throws IOException {
-        return in.readList(NodeAnalyzersInfo::new);
+        if (in.getVersion().before(COMPACT_FORMAT_VERSION)) {
+            return in.readList(NodeAnalyzersInfo::new);
+        }
+        String[] names = in.readStringArray();
+        NodeAnalysisInventory[] inventories = new NodeAnalysisInventory[in.readVInt()];
+        for (int i = 0; i < inventories.length; i++) {
+            inventories[i] = new NodeAnalysisInventory(in, names);
+        }
+        int size = in.readVInt();
+        List<NodeAnalyzersInfo> nodes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            DiscoveryNode node = new DiscoveryNode(in);
+            NodeAnalysisInventory inventory = inventories[in.readVInt()];
+            nodes.add(new NodeAnalyzersInfo(
+                    node,
+                    inventory.digest(),
+                    inventory,
+                    in.readVLong(),
+                    in.readVLong(),
+                    in.readOptionalWriteable(NodeAnalysisHeapUsage::new),
+                    in.readOptionalWriteable(NodeDuplicateAnalyzers::new)
+            ));
+        }
+        return nodes;
     }
 
     @Override
     protected void writeNodesTo(StreamOutput out, List<NodeAnalyzersInfo> nodes) throws IOException {
-        out.writeList(nodes);
+        if (out.getVersion().before(COMPACT_FORMAT_VERSION)) {
+            out.writeList(nodes);
+            return;
+        }
+        Map<String, Integer> inventoryIds = new LinkedHashMap<>();
+        List<NodeAnalysisInventory> inventories = new ArrayList<>();
+        SortedSet<String> names = new TreeSet<>();
+        for (NodeAnalyzersInfo nodeInfo : nodes) {
+            assert nodeInfo.hasInventory() : "node [" + nodeInfo.getNode().getId() + "] has no inventory";
+            if (inventoryIds.containsKey(nodeInfo.getDigest()) == false) {
+                inventoryIds.put(nodeInfo.getDigest(), inventories.size());
+                inventories.add(nodeInfo.getInventory());
+                nodeInfo.getInventory().collectNames(names);
+            }
+        }
+        Map<String, Integer> nameIds = NodeAnalysisInventory.nameIds(names);
+        out.writeStringCollection(names);
+        out.writeVInt(inventories.size());
+        for (NodeAnalysisInventory inventory : inventories) {
+            inventory.writeTo(out, nameIds);
+        }
+        out.writeVInt(nodes.size());
+        for (NodeAnalyzersInfo nodeInfo : nodes) {
+            nodeInfo.getNode().writeTo(out);
+            out.writeVInt(inventoryIds.get(nodeInfo.getDigest()));
+            out.writeVLong(nodeInfo.getNodeOperationNanos());
+            out.writeVLong(nodeInfo.getPayloadSizeInBytes());
+            out.writeOptionalWriteable(nodeInfo.getHeapUsage());
+            out.writeOptionalWriteable(nodeInfo.getDuplicateAnalyzers());
+        }
     }
 
     /**
+     * Renders nodes either one by one (default) or, when "group_by" param is "fingerprint", as groups of nodes
+     * with identical inventories. Only the per node form includes node operation time, payload size, heap usage
+     * and duplicate analyzers. When "layout" param is "columnar" renders the component-by-node matrix instead.
      * @param builder
      * @param params
      * @return
@@ -49,29 +266,33 @@ public class NodesAnalyzersResponse extends BaseNodesResponse<NodeAnalyzersInfo>
      */
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        if (LAYOUT_COLUMNAR.equals(params.param(LAYOUT_PARAM, LAYOUT_NESTED))) {
+            return columnarToXContent(builder);
+        }
+        String groupBy = params.param(GROUP_BY_PARAM, GROUP_BY_NODE);
+        if (GROUP_BY_FINGERPRINT.equals(groupBy)) {
+            return groupsToXContent(builder);
+        }
         builder.startObject("nodes");
         for (NodeAnalyzersInfo nodeInfo: getNodes()) {
             builder.startObject(nodeInfo.getNode().getId());
-            builder.field("analyzers").value(nodeInfo.getAnalyzersKeySet());
-            builder.field("tokenizers").value(nodeInfo.getTokenizersKeySet());
-            builder.field("tokenFilters").value(nodeInfo.getTokenFiltersKeySet());
-            builder.field("charFilters").value(nodeInfo.getCharFiltersKeySet());
-            builder.field("normalizers").value(nodeInfo.getNormalizersKeySet());
-
-            builder.startArray("plugins");
-            for (String plugin : nodeInfo.getNodeAnalysisPlugins().keySet()) {
-                NodeAnalyzersInfo.AnalysisPluginComponents pluginComponents = nodeInfo.getNodeAnalysisPlugins().get(plugin);
-                builder.startObject();
-                builder.field("name", pluginComponents.getPluginName());
-                builder.field("analyzers").value(pluginComponents.getAnalyzersKeySet());
-                builder.field("tokenizers").value(pluginComponents.getTokenizersKeySet());
-                builder.field("tokenFilters").value(pluginComponents.getTokenFiltersKeySet());
-                builder.field("charFilters").value(pluginComponents.getCharFiltersKeySet());
-                builder.field("hunspellDictionaries").value(pluginComponents.getHunspellDictionaries());
-                builder.endObject();
+            builder.humanReadableField(
+                    "node_operation_time_in_nanos",
+                    "node_operation_time",
+                    new TimeValue(nodeInfo.getNodeOperationNanos(), TimeUnit.NANOSECONDS)
+            );
+            builder.humanReadableField(
+                    "payload_size_in_bytes",
+                    "payload_size",
+                    new ByteSizeValue(nodeInfo.getPayloadSizeInBytes())
+            );
+            if (nodeInfo.getHeapUsage() != null) {
+                nodeInfo.getHeapUsage().toXContent(builder, params);
             }
-            builder.endArray();
-
+            if (nodeInfo.getDuplicateAnalyzers() != null) {
+                nodeInfo.getDuplicateAnalyzers().toXContent(builder, params);
+            }
+            inventoryToXContent(builder, nodeInfo.getInventory());
             builder.endObject();
         }
         builder.endObject();
@@ -79,6 +300,109 @@ public class NodesAnalyzersResponse extends BaseNodesResponse<NodeAnalyzersInfo>
         return builder;
     }
 
+    private XContentBuilder groupsToXContent(XContentBuilder builder) throws IOException {
+        Map<String, List<NodeAnalyzersInfo>> groups = new LinkedHashMap<>();
+        for (NodeAnalyzersInfo nodeInfo : getNodes()) {
+            groups.computeIfAbsent(nodeInfo.getDigest(), digest -> new ArrayList<>()).add(nodeInfo);
+        }
+        List<List<NodeAnalyzersInfo>> sortedGroups = new ArrayList<>(groups.values());
+        // Largest groups first
+        sortedGroups.sort((g1, g2) -> Integer.compare(g2.size(), g1.size()));
+
+        builder.startArray("groups");
+        for (List<NodeAnalyzersInfo> group : sortedGroups) {
+            NodeAnalyzersInfo first = group.get(0);
+            builder.startObject();
+            builder.field("fingerprint", first.getDigest());
+            builder.startArray("nodes");
+            for (NodeAnalyzersInfo nodeInfo : group) {
+                builder.value(nodeInfo.getNode().getId());
+            }
+            builder.endArray();
+            inventoryToXContent(builder, first.getInventory());
+            builder.endObject();
+        }
+        builder.endArray();
+        return builder;
+    }
+
+    /**
+     * Renders the component-by-node matrix: node IDs once (position in the list is the node ordinal), then one row per
+     * component with its type (section), the plugins providing it and the ordinals of nodes that have it. Ordinals are
+     * a flat list of inclusive ranges ({@code [from, to, from, to, ...]}, so a component on all nodes is just
+     * {@code [0, N-1]}), or a bitmap (little-endian bytes, see {@link BitSet#toByteArray()}) if the nodes are so
+     * scattered that there are more range bounds than bitmap bytes (only with at least {@link #MIN_BITMAP_NODES} nodes,
+     * smaller clusters always get readable ranges).
+     * The bitmap is written as a binary value: raw bytes in SMILE and CBOR, base64 in JSON and YAML.
+     * @param builder
+     * @return
+     * @throws IOException
+     */
+    private XContentBuilder columnarToXContent(XContentBuilder builder) throws IOException {
+        ComponentNodeMatrix matrix = ComponentNodeMatrix.build(this);
+        builder.startArray("nodes");
+        for (DiscoveryNode node : matrix.getNodes()) {
+            builder.value(node.getId());
+        }
+        builder.endArray();
+        builder.startArray("components");
+        for (String section : ComponentNodeMatrix.SECTIONS) {
+            for (Map.Entry<String, BitSet> component : matrix.getSection(section).entrySet()) {
+                builder.startObject();
+                builder.field("type", section);
+                builder.field("name", component.getKey());
+                if (ComponentNodeMatrix.PLUGINS.equals(section) == false) {
+                    builder.field("plugins").value(matrix.getProviders(section, component.getKey()));
+                }
+                ordinalsToXContent(builder, component.getValue(), matrix.getNodes().size());
+                builder.endObject();
+            }
+        }
+        builder.endArray();
+        return builder;
+    }
+
+    /**
+     * @param builder
+     * @param ordinals node ordinals
+     * @param nodeCount number of nodes
+     * @throws IOException
+     */
+    static void ordinalsToXContent(XContentBuilder builder, BitSet ordinals, int nodeCount) throws IOException {
+        List<Integer> ranges = new ArrayList<>();
+        for (int from = ordinals.nextSetBit(0); from >= 0; from = ordinals.nextSetBit(ordinals.nextClearBit(from))) {
+            ranges.add(from);
+            ranges.add(ordinals.nextClearBit(from) - 1);
+        }
+        int bitmapLength = (ordinals.length() + 7) / 8;
+        if (nodeCount >= MIN_BITMAP_NODES && ranges.size() > bitmapLength) {
+            builder.field("nodes_bitmap", ordinals.toByteArray());
+        } else {
+            builder.field("nodes").value(ranges);
+        }
+    }
+
+    static void inventoryToXContent(XContentBuilder builder, NodeAnalysisInventory inventory) throws IOException {
+        builder.field("analyzers").value(inventory.getAnalyzersKeySet());
+        builder.field("tokenizers").value(inventory.getTokenizersKeySet());
+        builder.field("tokenFilters").value(inventory.getTokenFiltersKeySet());
+        builder.field("charFilters").value(inventory.getCharFiltersKeySet());
+        builder.field("normalizers").value(inventory.getNormalizersKeySet());
+
+        builder.startArray("plugins");
+        for (NodeAnalyzersInfo.AnalysisPluginComponents pluginComponents : inventory.getNodeAnalysisPlugins().values()) {
+            builder.startObject();
+            builder.field("name", pluginComponents.getPluginName());
+            builder.field("analyzers").value(pluginComponents.getAnalyzersKeySet());
+            builder.field("tokenizers").value(pluginComponents.getTokenizersKeySet());
+            builder.field("tokenFilters").value(pluginComponents.getTokenFiltersKeySet());
+            builder.field("charFilters").value(pluginComponents.getCharFiltersKeySet());
+            builder.field("hunspellDictionaries").value(pluginComponents.getHunspellDictionaries());
+            builder.endObject();
+        }
+        builder.endArray();
+    }
+
     /**
      * @return
      */
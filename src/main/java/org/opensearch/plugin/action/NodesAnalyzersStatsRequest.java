@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+
+/**
+ * A request to get operational stats of the node analyzers action from nodes, see {@link NodeAnalyzersStats}.
+ */
+public class NodesAnalyzersStatsRequest extends BaseNodesRequest<NodesAnalyzersStatsRequest> {
+
+    /**
+     * A constructor.
+     */
+    public NodesAnalyzersStatsRequest(String... nodesIds) {
+        super(nodesIds);
+    }
+
+    public NodesAnalyzersStatsRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+}
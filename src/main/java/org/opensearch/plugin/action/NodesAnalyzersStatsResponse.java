@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Transport response to NodeAnalyzersStats, stats by node.
+ */
+public class NodesAnalyzersStatsResponse extends BaseNodesResponse<NodeAnalyzersStatsInfo> implements ToXContentFragment {
+
+    public NodesAnalyzersStatsResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public NodesAnalyzersStatsResponse(
+            ClusterName clusterName,
+            List<NodeAnalyzersStatsInfo> nodes,
+            List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<NodeAnalyzersStatsInfo> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(NodeAnalyzersStatsInfo::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<NodeAnalyzersStatsInfo> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("nodes");
+        for (NodeAnalyzersStatsInfo nodeInfo : getNodes()) {
+            builder.startObject(nodeInfo.getNode().getId());
+            builder.field("name", nodeInfo.getNode().getName());
+            nodeInfo.toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to warm up analyzers on nodes, see {@link AnalyzerWarmer}.
+ *
+ * Nodes warm up the analyzers of all their indices (unless {@link #indices()} is false) and the global analyzers
+ * named by {@link #analyzers()}. The corpus is either the given {@link #texts()} or a built-in generated corpus.
+ */
+public class NodesAnalyzersWarmupRequest extends BaseNodesRequest<NodesAnalyzersWarmupRequest> {
+
+    public static final int DEFAULT_ITERATIONS = 100;
+    public static final TimeValue DEFAULT_TIME_BUDGET = TimeValue.timeValueSeconds(10);
+
+    private String[] analyzers = new String[0];
+    private boolean indices = true;
+    private String[] texts = new String[0];
+    private int iterations = DEFAULT_ITERATIONS;
+    private TimeValue timeBudget = DEFAULT_TIME_BUDGET;
+
+    /**
+     * A constructor.
+     */
+    public NodesAnalyzersWarmupRequest(String... nodesIds) {
+        super(nodesIds);
+    }
+
+    public NodesAnalyzersWarmupRequest(StreamInput in) throws IOException {
+        super(in);
+        this.analyzers = in.readStringArray();
+        this.indices = in.readBoolean();
+        this.texts = in.readStringArray();
+        this.iterations = in.readVInt();
+        this.timeBudget = in.readTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringArray(analyzers);
+        out.writeBoolean(indices);
+        out.writeStringArray(texts);
+        out.writeVInt(iterations);
+        out.writeTimeValue(timeBudget);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (iterations < 1 || iterations > NodesAnalyzerBenchRequest.MAX_ITERATIONS) {
+            validationException = addValidationError(
+                    "[iterations] must be between 1 and " + NodesAnalyzerBenchRequest.MAX_ITERATIONS
+                            + " but was [" + iterations + "]",
+                    validationException
+            );
+        }
+        if (timeBudget.nanos() <= 0) {
+            validationException = addValidationError(
+                    "[time_budget] must be positive but was [" + timeBudget + "]", validationException
+            );
+        }
+        long chars = 0;
+        for (String text : texts) {
+            chars += text.length();
+        }
+        if (chars > NodesAnalyzerBenchRequest.MAX_CORPUS_CHARS) {
+            validationException = addValidationError(
+                    "corpus must not be longer than " + NodesAnalyzerBenchRequest.MAX_CORPUS_CHARS + " characters",
+                    validationException
+            );
+        }
+        return validationException;
+    }
+
+    /**
+     * @param analyzers names of global analyzers to warm up
+     * @return this request
+     */
+    public NodesAnalyzersWarmupRequest analyzers(String... analyzers) {
+        this.analyzers = analyzers;
+        return this;
+    }
+
+    public String[] analyzers() {
+        return analyzers;
+    }
+
+    /**
+     * @param indices true to warm up analyzers of all indices on the node
+     * @return this request
+     */
+    public NodesAnalyzersWarmupRequest indices(boolean indices) {
+        this.indices = indices;
+        return this;
+    }
+
+    public boolean indices() {
+        return indices;
+    }
+
+    /**
+     * @param texts documents of the corpus, if empty the built-in corpus is used
+     * @return this request
+     */
+    public NodesAnalyzersWarmupRequest texts(String... texts) {
+        this.texts = texts;
+        return this;
+    }
+
+    public String[] texts() {
+        return texts;
+    }
+
+    /**
+     * @param iterations minimal number of passes over the corpus for every analyzer
+     * @return this request
+     */
+    public NodesAnalyzersWarmupRequest iterations(int iterations) {
+        this.iterations = iterations;
+        return this;
+    }
+
+    public int iterations() {
+        return iterations;
+    }
+
+    /**
+     * @param timeBudget time budget for all analyzers on a node
+     * @return this request
+     */
+    public NodesAnalyzersWarmupRequest timeBudget(TimeValue timeBudget) {
+        this.timeBudget = timeBudget;
+        return this;
+    }
+
+    public TimeValue timeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * @return the corpus, either given texts or the built-in corpus
+     */
+    List<String> corpus() {
+        return texts.length > 0 ? List.of(texts) : AnalyzerWarmer.DEFAULT_CORPUS;
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, "", parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Transport response to NodeAnalyzersWarmup, warm-up results by node.
+ */
+public class NodesAnalyzersWarmupResponse extends BaseNodesResponse<NodeAnalyzersWarmupInfo> implements ToXContentFragment {
+
+    public NodesAnalyzersWarmupResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public NodesAnalyzersWarmupResponse(
+            ClusterName clusterName,
+            List<NodeAnalyzersWarmupInfo> nodes,
+            List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<NodeAnalyzersWarmupInfo> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(NodeAnalyzersWarmupInfo::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<NodeAnalyzersWarmupInfo> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("nodes");
+        for (NodeAnalyzersWarmupInfo nodeInfo : getNodes()) {
+            builder.startObject(nodeInfo.getNode().getId());
+            builder.field("name", nodeInfo.getNode().getName());
+            nodeInfo.toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to wait until the cluster-wide analysis inventory differs from the given version (an etag of
+ * {@link NodesAnalyzersResponse}) or the timeout expires, see {@link TransportNodeAnalyzersWatchAction}.
+ */
+public class NodesAnalyzersWatchRequest extends ActionRequest {
+
+    public static final TimeValue DEFAULT_TIMEOUT = TimeValue.timeValueSeconds(30);
+    /**
+     * Upper bound of the timeout, a waiting watch holds its task and a cluster state listener until then.
+     */
+    public static final TimeValue MAX_TIMEOUT = TimeValue.timeValueMinutes(5);
+
+    private String version;
+    private TimeValue timeout = DEFAULT_TIMEOUT;
+
+    public NodesAnalyzersWatchRequest() {}
+
+    public NodesAnalyzersWatchRequest(StreamInput in) throws IOException {
+        super(in);
+        this.version = in.readOptionalString();
+        this.timeout = in.readTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalString(version);
+        out.writeTimeValue(timeout);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (timeout.nanos() <= 0 || timeout.nanos() > MAX_TIMEOUT.nanos()) {
+            validationException = addValidationError(
+                    "[timeout] must be positive and at most " + MAX_TIMEOUT + " but was [" + timeout + "]", validationException
+            );
+        }
+        return validationException;
+    }
+
+    /**
+     * @param version last seen version of the inventory, null if none was seen yet (returns immediately)
+     * @return this request
+     */
+    public NodesAnalyzersWatchRequest version(String version) {
+        this.version = version;
+        return this;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /**
+     * @param timeout how long to wait for a change, at most {@link #MAX_TIMEOUT}
+     * @return this request
+     */
+    public NodesAnalyzersWatchRequest timeout(TimeValue timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public TimeValue timeout() {
+        return timeout;
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, "", parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static java.util.Collections.emptySortedMap;
+import static java.util.Collections.emptySortedSet;
+
+/**
+ * Change of the cluster-wide analysis inventory since the version the client has seen.
+ *
+ * Nodes are reported as added, removed or changed (same node ID, different inventory digest, that is the node
+ * restarted with a different set of plugins). Inventories are included only for digests the client has not seen
+ * in its version. If the version the client has seen is not known to the coordinating node, all nodes are reported
+ * as added and {@link #isFull()} is true.
+ */
+public class NodesAnalyzersWatchResponse extends ActionResponse implements ToXContentFragment {
+
+    /**
+     * A node whose inventory the client should update.
+     */
+    public static class Node implements Writeable {
+        private final String name;
+        private final String digest;
+
+        Node(String name, String digest) {
+            this.name = name;
+            this.digest = digest;
+        }
+
+        Node(StreamInput in) throws IOException {
+            this.name = in.readString();
+            this.digest = in.readString();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeString(name);
+            out.writeString(digest);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDigest() {
+            return digest;
+        }
+    }
+
+    private final String version;
+    private final boolean changed;
+    private final boolean full;
+    private final SortedMap<String, Node> added;
+    private final SortedMap<String, Node> changedNodes;
+    private final SortedSet<String> removed;
+    private final SortedMap<String, NodeAnalysisInventory> inventories;
+
+    private NodesAnalyzersWatchResponse(
+            String version,
+            boolean changed,
+            boolean full,
+            SortedMap<String, Node> added,
+            SortedMap<String, Node> changedNodes,
+            SortedSet<String> removed,
+            SortedMap<String, NodeAnalysisInventory> inventories
+    ) {
+        this.version = version;
+        this.changed = changed;
+        this.full = full;
+        this.added = added;
+        this.changedNodes = changedNodes;
+        this.removed = removed;
+        this.inventories = inventories;
+    }
+
+    public NodesAnalyzersWatchResponse(StreamInput in) throws IOException {
+        super(in);
+        this.version = in.readString();
+        this.changed = in.readBoolean();
+        this.full = in.readBoolean();
+        this.added = new TreeMap<>(in.readMap(StreamInput::readString, Node::new));
+        this.changedNodes = new TreeMap<>(in.readMap(StreamInput::readString, Node::new));
+        this.removed = new TreeSet<>(in.readSet(StreamInput::readString));
+        this.inventories = new TreeMap<>(in.readMap(StreamInput::readString, NodeAnalysisInventory::new));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(version);
+        out.writeBoolean(changed);
+        out.writeBoolean(full);
+        out.writeMap(added, StreamOutput::writeString, (o, node) -> node.writeTo(o));
+        out.writeMap(changedNodes, StreamOutput::writeString, (o, node) -> node.writeTo(o));
+        out.writeStringCollection(removed);
+        out.writeMap(inventories, StreamOutput::writeString, (o, inventory) -> inventory.writeTo(o));
+    }
+
+    /**
+     * @param version the version the client has seen
+     * @return a response saying that the inventory has not changed
+     */
+    static NodesAnalyzersWatchResponse unchanged(String version) {
+        return new NodesAnalyzersWatchResponse(version, false, false, emptySortedMap(), emptySortedMap(), emptySortedSet(), emptySortedMap());
+    }
+
+    /**
+     * @param base inventory digests by node ID of the version the client has seen, null if not known
+     * @param current current inventories of all nodes
+     * @return change from base to current
+     */
+    static NodesAnalyzersWatchResponse delta(SortedMap<String, String> base, NodesAnalyzersResponse current) {
+        SortedMap<String, Node> added = new TreeMap<>();
+        SortedMap<String, Node> changedNodes = new TreeMap<>();
+        SortedMap<String, NodeAnalysisInventory> inventories = new TreeMap<>();
+        Set<String> knownDigests = base == null ? new HashSet<>() : new HashSet<>(base.values());
+        SortedSet<String> removed = base == null ? new TreeSet<>() : new TreeSet<>(base.keySet());
+        for (NodeAnalyzersInfo nodeInfo : current.getNodes()) {
+            String nodeId = nodeInfo.getNode().getId();
+            String baseDigest = base == null ? null : base.get(nodeId);
+            removed.remove(nodeId);
+            if (nodeInfo.getDigest().equals(baseDigest)) {
+                continue;
+            }
+            Node node = new Node(nodeInfo.getNode().getName(), nodeInfo.getDigest());
+            if (baseDigest == null) {
+                added.put(nodeId, node);
+            } else {
+                changedNodes.put(nodeId, node);
+            }
+            if (knownDigests.contains(nodeInfo.getDigest()) == false) {
+                inventories.put(nodeInfo.getDigest(), nodeInfo.getInventory());
+            }
+        }
+        return new NodesAnalyzersWatchResponse(current.etag(), true, base == null, added, changedNodes, removed, inventories);
+    }
+
+    /**
+     * @return version of the inventory after the change (or the version the client has seen if nothing changed)
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * @return false if the inventory has not changed before the timeout expired
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * @return true if the version the client has seen was not known, all nodes are reported as added
+     */
+    public boolean isFull() {
+        return full;
+    }
+
+    public SortedMap<String, Node> getAdded() {
+        return added;
+    }
+
+    public SortedMap<String, Node> getChangedNodes() {
+        return changedNodes;
+    }
+
+    public SortedSet<String> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * @return inventories by digest, only those the client has not seen
+     */
+    public SortedMap<String, NodeAnalysisInventory> getInventories() {
+        return inventories;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field("version", version);
+        builder.field("changed", changed);
+        builder.field("full", full);
+        builder.startObject("nodes");
+        nodesToXContent(builder, "added", added);
+        nodesToXContent(builder, "changed", changedNodes);
+        builder.array("removed", removed.toArray(new String[0]));
+        builder.endObject();
+        builder.startObject("inventories");
+        for (Map.Entry<String, NodeAnalysisInventory> inventory : inventories.entrySet()) {
+            builder.startObject(inventory.getKey());
+            NodesAnalyzersResponse.inventoryToXContent(builder, inventory.getValue());
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+
+    private static void nodesToXContent(XContentBuilder builder, String fieldName, SortedMap<String, Node> nodes) throws IOException {
+        builder.startObject(fieldName);
+        for (Map.Entry<String, Node> node : nodes.entrySet()) {
+            builder.startObject(node.getKey());
+            builder.field("name", node.getValue().name);
+            builder.field("digest", node.getValue().digest);
+            builder.endObject();
+        }
+        builder.endObject();
+    }
+}
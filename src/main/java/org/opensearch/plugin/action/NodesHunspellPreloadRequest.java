@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to preload hunspell dictionaries on nodes, see {@link HunspellPreloader}.
+ *
+ * Nodes load the dictionaries named by {@link #dictionaries()}, or all dictionaries they know if none are named.
+ * At most {@link #concurrency()} dictionaries are loaded at the same time, further bounded by the size of the
+ * {@link TransportNodeHunspellPreloadAction#EXECUTOR} thread pool.
+ */
+public class NodesHunspellPreloadRequest extends BaseNodesRequest<NodesHunspellPreloadRequest> {
+
+    public static final int DEFAULT_CONCURRENCY = 2;
+    public static final int MAX_CONCURRENCY = 32;
+
+    private String[] dictionaries = new String[0];
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    /**
+     * A constructor.
+     */
+    public NodesHunspellPreloadRequest(String... nodesIds) {
+        super(nodesIds);
+    }
+
+    public NodesHunspellPreloadRequest(StreamInput in) throws IOException {
+        super(in);
+        this.dictionaries = in.readStringArray();
+        this.concurrency = in.readVInt();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringArray(dictionaries);
+        out.writeVInt(concurrency);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (concurrency < 1 || concurrency > MAX_CONCURRENCY) {
+            validationException = addValidationError(
+                    "[concurrency] must be between 1 and " + MAX_CONCURRENCY + " but was [" + concurrency + "]",
+                    validationException
+            );
+        }
+        for (String dictionary : dictionaries) {
+            // names are resolved against the hunspell directory, never let them point elsewhere
+            if (dictionary.isEmpty() || dictionary.equals(".") || dictionary.equals("..")
+                    || dictionary.indexOf('/') >= 0 || dictionary.indexOf('\\') >= 0) {
+                validationException = addValidationError(
+                        "invalid hunspell dictionary name [" + dictionary + "]", validationException
+                );
+            }
+        }
+        return validationException;
+    }
+
+    /**
+     * @param dictionaries names (locales) of dictionaries to load, if empty all dictionaries of the node are loaded
+     * @return this request
+     */
+    public NodesHunspellPreloadRequest dictionaries(String... dictionaries) {
+        this.dictionaries = dictionaries;
+        return this;
+    }
+
+    public String[] dictionaries() {
+        return dictionaries;
+    }
+
+    /**
+     * @param concurrency maximum number of dictionaries loaded at the same time on a node
+     * @return this request
+     */
+    public NodesHunspellPreloadRequest concurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new CancellableTask(id, type, action, "", parentTaskId, headers) {
+            @Override
+            public boolean shouldCancelChildrenOnCancellation() {
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+
+/**
+ * Looks up analysis component usage in the {@link AnalysisUsageIndex} of the coordinating node, nodes are not
+ * contacted at all.
+ *
+ * The lookup waits until the usage index catches up with the cluster state of the coordinating node, so that for
+ * example an index is listed as soon as its creation is acknowledged.
+ */
+public class TransportAnalysisUsageAction extends HandledTransportAction<AnalysisUsageRequest, AnalysisUsageResponse> {
+
+    private final ClusterService clusterService;
+    private final AnalysisUsageIndex usageIndex;
+
+    /**
+     * A constructor.
+     * @param transportService  TransportService
+     * @param actionFilters     ActionFilters
+     * @param clusterService    ClusterService
+     * @param usageIndex        AnalysisUsageIndex of this node
+     */
+    @Inject
+    public TransportAnalysisUsageAction(
+            TransportService transportService,
+            ActionFilters actionFilters,
+            ClusterService clusterService,
+            AnalysisUsageIndex usageIndex
+    ) {
+        super(AnalysisUsageAction.NAME, transportService, actionFilters, AnalysisUsageRequest::new);
+        this.clusterService = clusterService;
+        this.usageIndex = usageIndex;
+    }
+
+    @Override
+    protected void doExecute(Task task, AnalysisUsageRequest request, ActionListener<AnalysisUsageResponse> listener) {
+        usageIndex.whenApplied(
+                clusterService.state().metadata().version(),
+                () -> ActionListener.completeWith(listener, () -> lookup(usageIndex, request))
+        );
+    }
+
+    static AnalysisUsageResponse lookup(AnalysisUsageIndex usageIndex, AnalysisUsageRequest request) {
+        long version = usageIndex.appliedVersion();
+        SortedMap<String, SortedMap<String, SortedMap<String, SortedSet<String>>>> usage = new TreeMap<>();
+        if (request.components().isEmpty()) {
+            for (String section : AnalysisUsageIndex.SECTIONS) {
+                SortedMap<String, SortedMap<String, SortedSet<String>>> components = new TreeMap<>();
+                for (String name : usageIndex.usedComponents(section)) {
+                    SortedMap<String, SortedSet<String>> indices = usageIndex.indicesUsing(section, name);
+                    if (indices.isEmpty() == false) {
+                        components.put(name, indices);
+                    }
+                }
+                usage.put(section, components);
+            }
+        } else {
+            for (Map.Entry<String, Set<String>> section : request.components().entrySet()) {
+                SortedMap<String, SortedMap<String, SortedSet<String>>> components = new TreeMap<>();
+                for (String name : section.getValue()) {
+                    components.put(name, usageIndex.indicesUsing(section.getKey(), name));
+                }
+                usage.put(section.getKey(), components);
+            }
+        }
+        return new AnalysisUsageResponse(version, usage);
+    }
+}
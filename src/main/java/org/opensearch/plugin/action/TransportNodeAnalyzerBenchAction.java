@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Benchmarks an analyzer on every selected node, see {@link AnalyzerBenchmark}.
+ *
+ * The analyzer is resolved from the same {@link AnalysisRegistry} that {@link TransportNodeAnalyzersAction} lists
+ * components of, so any analyzer, tokenizer, char filter or token filter listed by the node can be benchmarked.
+ *
+ * Benchmarks run on the dedicated {@link #EXECUTOR} thread pool, which has a single thread, so benchmarks on a node
+ * never run concurrently (and skew each other) and never take more than one core from the node.
+ *
+ * Profiled benchmarks run the analysis chain through {@link AnalysisChainProfiler} instead of the analyzer itself.
+ */
+public class TransportNodeAnalyzerBenchAction extends TransportNodesAction<
+        NodesAnalyzerBenchRequest,
+        NodesAnalyzerBenchResponse,
+        TransportNodeAnalyzerBenchAction.NodeRequest,
+        NodeAnalyzerBenchInfo> {
+
+    /**
+     * Name of the single threaded pool benchmarks run on.
+     */
+    public static final String EXECUTOR = "node_analyzers_bench";
+
+    /**
+     * Name reported for ad-hoc analyzers.
+     */
+    static final String CUSTOM_ANALYZER_NAME = "_custom";
+
+    private final AnalysisRegistry analysisRegistry;
+
+    /**
+     * A constructor.
+     * @param transportService  TransportService
+     * @param actionFilters     ActionFilters
+     * @param analysisRegistry  AnalysisRegistry, benchmarked analyzers are resolved from it
+     */
+    @Inject
+    public TransportNodeAnalyzerBenchAction(
+            ThreadPool threadPool,
+            ClusterService clusterService,
+            TransportService transportService,
+            ActionFilters actionFilters,
+            AnalysisRegistry analysisRegistry
+    ) {
+        super(
+                NodeAnalyzerBenchAction.NAME,
+                threadPool,
+                clusterService,
+                transportService,
+                actionFilters,
+                NodesAnalyzerBenchRequest::new,
+                NodeRequest::new,
+                EXECUTOR,
+                NodeAnalyzerBenchInfo.class
+        );
+        this.analysisRegistry = analysisRegistry;
+    }
+
+    @Override
+    protected NodeAnalyzerBenchInfo nodeOperation(NodeRequest nodeRequest, Task task) {
+        Runnable ensureNotCancelled = () -> CancellableNodeRequest.ensureNotCancelled(task);
+        ensureNotCancelled.run();
+        NodesAnalyzerBenchRequest request = nodeRequest.request;
+        List<String> corpus = request.corpus();
+        try {
+            if (request.analyzer() != null) {
+                Analyzer analyzer = analysisRegistry.getAnalyzer(request.analyzer());
+                if (analyzer == null) {
+                    throw new IllegalArgumentException("failed to find global analyzer [" + request.analyzer() + "]");
+                }
+                // Global analyzers are shared, never close them
+                return benchmark(request, request.analyzer(), analyzer, corpus, ensureNotCancelled);
+            }
+            try (Analyzer analyzer = buildCustomAnalyzer(request)) {
+                return benchmark(request, CUSTOM_ANALYZER_NAME, analyzer, corpus, ensureNotCancelled);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private NodeAnalyzerBenchInfo benchmark(
+            NodesAnalyzerBenchRequest request,
+            String name,
+            Analyzer analyzer,
+            List<String> corpus,
+            Runnable ensureNotCancelled
+    ) {
+        if (request.profile()) {
+            AnalysisChainProfiler profiler = AnalysisChainProfiler.of(name, analyzer);
+            AnalyzerBenchmark.Result result = AnalyzerBenchmark.run(
+                    profiler::analyze,
+                    profiler::reset,
+                    corpus,
+                    request.warmupIterations(),
+                    request.iterations(),
+                    ensureNotCancelled
+            );
+            return NodeAnalyzerBenchInfo.of(clusterService.localNode(), result, profiler.stages());
+        }
+        AnalyzerBenchmark.Result result = AnalyzerBenchmark.run(
+                analyzer, corpus, request.warmupIterations(), request.iterations(), ensureNotCancelled
+        );
+        return NodeAnalyzerBenchInfo.of(clusterService.localNode(), result, emptyList());
+    }
+
+    @Override
+    protected NodeAnalyzerBenchInfo nodeOperation(NodeRequest nodeRequest) {
+        return nodeOperation(nodeRequest, null);
+    }
+
+    /**
+     * Builds an ad-hoc analyzer the same way as the _analyze API without index does.
+     * @param request benchmark request with tokenizer
+     * @return new analyzer, to be closed by the caller
+     * @throws IOException When things go wrong
+     */
+    private Analyzer buildCustomAnalyzer(NodesAnalyzerBenchRequest request) throws IOException {
+        return analysisRegistry.buildCustomAnalyzer(
+                null,
+                false,
+                request.tokenizer(),
+                request.charFilters(),
+                request.tokenFilters()
+        );
+    }
+
+    @Override
+    protected NodesAnalyzerBenchResponse newResponse(
+            NodesAnalyzerBenchRequest request,
+            List<NodeAnalyzerBenchInfo> nodeResponses,
+            List<FailedNodeException> nodeFailures
+    ) {
+        return new NodesAnalyzerBenchResponse(clusterService.getClusterName(), nodeResponses, nodeFailures);
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(NodesAnalyzerBenchRequest request) {
+        return new NodeRequest(request);
+    }
+
+    @Override
+    protected NodeAnalyzerBenchInfo newNodeResponse(StreamInput in) throws IOException {
+        return new NodeAnalyzerBenchInfo(in);
+    }
+
+    /**
+     * Inner node request.
+     */
+    public static class NodeRequest extends CancellableNodeRequest {
+        NodesAnalyzerBenchRequest request;
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            this.request = new NodesAnalyzerBenchRequest(in);
+        }
+
+        NodeRequest(NodesAnalyzerBenchRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+}
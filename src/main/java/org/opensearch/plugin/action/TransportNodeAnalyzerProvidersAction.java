@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.admin.cluster.node.info.PluginsAndModules;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.plugins.AnalysisPlugin;
+import org.opensearch.plugins.PluginInfo;
+import org.opensearch.plugins.PluginsService;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Looks up providers of analysis components on every selected node, see {@link AnalysisComponentProviders}.
+ *
+ * The index is built on first use only from the inventory of the local node, which is shared with
+ * {@link TransportNodeAnalyzersAction} (see {@link LocalNodeAnalysisInventory}) and so built once per node. All later
+ * requests are answered by lookups in the index.
+ */
+public class TransportNodeAnalyzerProvidersAction extends TransportNodesAction<
+        NodesAnalyzerProvidersRequest,
+        NodesAnalyzerProvidersResponse,
+        TransportNodeAnalyzerProvidersAction.NodeRequest,
+        NodeAnalyzerProvidersInfo> {
+
+    private final PluginsService pluginsService;
+    private final AnalysisRegistry analysisRegistry;
+    private final LocalNodeAnalysisInventory localInventory;
+    private volatile AnalysisComponentProviders providers;
+
+    /**
+     * A constructor.
+     * @param transportService  TransportService
+     * @param actionFilters     ActionFilters
+     * @param pluginsService    PluginsService, provides analysis plugins and their descriptors
+     * @param analysisRegistry  AnalysisRegistry
+     * @param localInventory    LocalNodeAnalysisInventory, the inventory of the local node shared with other actions
+     */
+    @Inject
+    public TransportNodeAnalyzerProvidersAction(
+            ThreadPool threadPool,
+            ClusterService clusterService,
+            TransportService transportService,
+            ActionFilters actionFilters,
+            PluginsService pluginsService,
+            AnalysisRegistry analysisRegistry,
+            LocalNodeAnalysisInventory localInventory
+    ) {
+        super(
+                NodeAnalyzerProvidersAction.NAME,
+                threadPool,
+                clusterService,
+                transportService,
+                actionFilters,
+                NodesAnalyzerProvidersRequest::new,
+                NodeRequest::new,
+                TransportNodeAnalyzersAction.EXECUTOR,
+                NodeAnalyzerProvidersInfo.class
+        );
+        this.pluginsService = pluginsService;
+        this.analysisRegistry = analysisRegistry;
+        this.localInventory = localInventory;
+    }
+
+    @Override
+    protected NodeAnalyzerProvidersInfo nodeOperation(NodeRequest nodeRequest) {
+        AnalysisComponentProviders index = providers();
+        SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> components = new TreeMap<>();
+        for (String component : nodeRequest.request.components()) {
+            SortedMap<String, List<AnalysisComponentProviders.Provider>> sections = index.lookup(component);
+            if (sections.isEmpty() == false) {
+                components.put(component, sections);
+            }
+        }
+        return new NodeAnalyzerProvidersInfo(clusterService.localNode(), components, index.collisions());
+    }
+
+    /**
+     * Returns the providers index of the local node, built on first use only.
+     * @return providers index
+     */
+    AnalysisComponentProviders providers() {
+        AnalysisComponentProviders result = providers;
+        if (result == null) {
+            synchronized (this) {
+                result = providers;
+                if (result == null) {
+                    List<AnalysisPlugin> analysisPlugins = pluginsService.filterPlugins(AnalysisPlugin.class);
+                    PluginsAndModules info = pluginsService.info();
+                    List<PluginInfo> pluginInfos = new ArrayList<>(info.getPluginInfos());
+                    pluginInfos.addAll(info.getModuleInfos());
+                    result = AnalysisComponentProviders.build(
+                            localInventory.get(analysisRegistry, pluginsService),
+                            analysisPlugins,
+                            pluginInfos
+                    );
+                    providers = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    protected NodesAnalyzerProvidersResponse newResponse(
+            NodesAnalyzerProvidersRequest request,
+            List<NodeAnalyzerProvidersInfo> nodeResponses,
+            List<FailedNodeException> nodeFailures
+    ) {
+        return new NodesAnalyzerProvidersResponse(clusterService.getClusterName(), nodeResponses, nodeFailures);
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(NodesAnalyzerProvidersRequest request) {
+        return new NodeRequest(request);
+    }
+
+    @Override
+    protected NodeAnalyzerProvidersInfo newNodeResponse(StreamInput in) throws IOException {
+        return new NodeAnalyzerProvidersInfo(in);
+    }
+
+    /**
+     * Inner node request.
+     */
+    public static class NodeRequest extends TransportRequest {
+        NodesAnalyzerProvidersRequest request;
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            this.request = new NodesAnalyzerProvidersRequest(in);
+        }
+
+        NodeRequest(NodesAnalyzerProvidersRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+}
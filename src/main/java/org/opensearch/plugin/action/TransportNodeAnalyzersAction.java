@@ -7,31 +7,53 @@
  */
 package org.opensearch.plugin.action;
 
-import org.opensearch.OpenSearchException;
-import org.opensearch.SpecialPermission;
+import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
-import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.indices.IndicesService;
 import org.opensearch.plugins.AnalysisPlugin;
 import org.opensearch.plugins.PluginsService;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportChannel;
 import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportRequestHandler;
+import org.opensearch.transport.TransportRequestOptions;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
 
 /**
  * The transport layer level of Node Analyzers Action has access to AnalysisRegistry (via binding) which can be used
@@ -41,14 +63,73 @@ import java.util.Set;
  * reason why the plugin requires appropriate security policy grants.
  * On top of that we use PluginsService to get all plugins that implement AnalysisPlugin interface to provide more
  * detailed information about which plugin is the provider of specific analysis component.
+ * Neither of these can change after the node has started, so all the above is done only once and the resulting
+ * {@link NodeAnalysisInventory} is reused by all subsequent requests.
+ *
+ * Most nodes in a cluster usually have identical inventories. The coordinating node keeps a small cache of inventories
+ * it has already seen (keyed by digest) and sends the known digests with every node request. Nodes whose inventory
+ * digest is known reply with the digest only and the coordinating node fills in the inventory from its cache.
+ *
+ * The coordinating node also remembers the inventory digest of every node it got a reply from (by the node ephemeral
+ * ID, which changes when the node restarts). If the client already has the current etag and all requested nodes are
+ * known the request is answered as "not modified" without contacting any node.
+ *
+ * With {@link NodesAnalyzersRequest#FAN_OUT_TREE} the coordinating node does not contact every node itself. Nodes are
+ * split into about sqrt(N) groups of about sqrt(N) nodes and the first node of every group acts as an aggregator:
+ * it sends the node requests to its group and replies with a single message in which every distinct inventory
+ * is included only once. The coordinating node then handles sqrt(N) messages instead of N.
+ *
+ * Inventories of replies are interned by their content digest as soon as a reply is deserialized (see
+ * {@link #intern(Cache, NodeAnalyzersInfo)}), so a copy sent by another node becomes garbage right away and the
+ * coordinating (or aggregating) node holds every distinct inventory about once, plus copies of replies in flight.
+ *
+ * Node requests (and aggregations) run on the dedicated {@link #EXECUTOR} thread pool. Node requests for heap usage or
+ * duplicate analyzers (see {@link NodesAnalyzersRequest#includeNodeDetails()}) walk the analyzers of every index, they
+ * are sent to a separate node action that runs on the single threaded {@link #DETAIL_EXECUTOR} pool so they never hold
+ * up inventory requests (nor benchmarks), and they check for cancellation between indices.
  */
 public class TransportNodeAnalyzersAction extends TransportNodesAction<
         NodesAnalyzersRequest,
         NodesAnalyzersResponse,
         TransportNodeAnalyzersAction.NodeRequest,
         NodeAnalyzersInfo> {
+
+    /**
+     * Max number of distinct inventories kept by the coordinating node.
+     */
+    static final int KNOWN_INVENTORIES_CACHE_SIZE = 64;
+
+    /**
+     * Share of the request timeout given to node requests sent by an aggregating node. The rest is left for the
+     * aggregation and its reply, so a slow node of a group times out (and is reported as failed) before the request
+     * to the aggregating node does.
+     */
+    static final double AGGREGATED_NODE_TIMEOUT_RATIO = 0.75;
+
+    /**
+     * Name of the bounded thread pool used by node requests and aggregations.
+     */
+    public static final String EXECUTOR = "node_analyzers";
+
+    /**
+     * Name of the single threaded, bounded thread pool used by node requests for heap usage or duplicate analyzers.
+     */
+    public static final String DETAIL_EXECUTOR = "node_analyzers_detail";
+
     private PluginsService pluginsService;
     private AnalysisRegistry analysisRegistry;
+    private IndicesService indicesService;
+    private final LocalNodeAnalysisInventory localInventory;
+    private final Cache<String, NodeAnalysisInventory> knownInventories = CacheBuilder.<String, NodeAnalysisInventory>builder()
+            .setMaximumWeight(KNOWN_INVENTORIES_CACHE_SIZE)
+            .build();
+    private final Cache<String, NodeAnalysisInventory> receivedInventories = CacheBuilder.<String, NodeAnalysisInventory>builder()
+            .setMaximumWeight(KNOWN_INVENTORIES_CACHE_SIZE)
+            .build();
+    private final Map<String, String> nodeDigests = new ConcurrentHashMap<>();
+    private final String transportAggregateAction;
+    private final String transportDetailNodeAction;
+    private final NodeAnalyzersStats stats;
 
     /**
      * A constructor.
@@ -56,6 +137,9 @@ public class TransportNodeAnalyzersAction extends TransportNodesAction<
      * @param actionFilters     ActionFilters
      * @param pluginsService    PluginsService
      * @param analysisRegistry  AnalysisRegistry
+     * @param indicesService    IndicesService, used to estimate heap usage and find duplicates of instantiated analysis components
+     * @param localInventory    LocalNodeAnalysisInventory, the inventory of the local node shared with other actions
+     * @param stats             NodeAnalyzersStats of the local node, records coordinating node and node operations
      */
     @Inject
     public TransportNodeAnalyzersAction(
@@ -64,7 +148,10 @@ public class TransportNodeAnalyzersAction extends TransportNodesAction<
             TransportService transportService,
             ActionFilters actionFilters,
             PluginsService pluginsService,
-            AnalysisRegistry analysisRegistry
+            AnalysisRegistry analysisRegistry,
+            IndicesService indicesService,
+            LocalNodeAnalysisInventory localInventory,
+            NodeAnalyzersStats stats
     ) {
         super(
                 NodeAnalyzersAction.NAME,
@@ -74,11 +161,339 @@ public class TransportNodeAnalyzersAction extends TransportNodesAction<
                 actionFilters,
                 NodesAnalyzersRequest::new,
                 NodeRequest::new,
-                ThreadPool.Names.GENERIC,
+                EXECUTOR,
                 NodeAnalyzersInfo.class
         );
         this.pluginsService = pluginsService;
         this.analysisRegistry = analysisRegistry;
+        this.indicesService = indicesService;
+        this.localInventory = localInventory;
+        this.stats = stats;
+        this.transportAggregateAction = actionName + "[a]";
+        transportService.registerRequestHandler(transportAggregateAction, EXECUTOR, AggregateRequest::new, new AggregateHandler());
+        this.transportDetailNodeAction = transportNodeAction + "[d]";
+        transportService.registerRequestHandler(
+                transportDetailNodeAction,
+                DETAIL_EXECUTOR,
+                NodeRequest::new,
+                (request, channel, task) -> channel.sendResponse(nodeOperation(request, task))
+        );
+    }
+
+    /**
+     * Remembers inventories known at the time the request starts. These are used to fill in inventories of nodes
+     * that reply with digest only.
+     */
+    @Override
+    protected void doExecute(Task task, NodesAnalyzersRequest request, ActionListener<NodesAnalyzersResponse> actionListener) {
+        long startNanos = System.nanoTime();
+        ActionListener<NodesAnalyzersResponse> listener = new ActionListener<NodesAnalyzersResponse>() {
+            @Override
+            public void onResponse(NodesAnalyzersResponse response) {
+                stats.onCoordinatorResponse(System.nanoTime() - startNanos, response.failures().size());
+                actionListener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                stats.onCoordinatorFailure(System.nanoTime() - startNanos);
+                actionListener.onFailure(e);
+            }
+        };
+        // Heap usage and duplicate analyzers change all the time, they are never "not modified"
+        if (request.ifNoneMatch().length > 0 && request.includeNodeDetails() == false) {
+            String etag = knownEtag(request);
+            boolean notModified = request.matchesIfNoneMatch(etag);
+            stats.onEtagCheck(notModified);
+            if (notModified) {
+                listener.onResponse(NodesAnalyzersResponse.notModified(clusterService.getClusterName(), etag));
+                return;
+            }
+        }
+        NodeAnalysisInventory localInventory = inventory();
+        knownInventories.put(localInventory.digest(), localInventory);
+        Map<String, NodeAnalysisInventory> known = new HashMap<>();
+        for (String digest : knownInventories.keys()) {
+            NodeAnalysisInventory knownInventory = knownInventories.get(digest);
+            if (knownInventory != null) {
+                known.put(digest, knownInventory);
+            }
+        }
+        request.knownInventories(unmodifiableMap(known));
+        if (NodesAnalyzersRequest.FAN_OUT_TREE.equals(request.fanOut())) {
+            new TreeFanOut(task, request, listener).start();
+        } else if (request.includeNodeDetails()) {
+            new NodeFanOut(
+                    task,
+                    new NodeRequest(request),
+                    resolveNodes(request),
+                    transportOptions(request.timeout()),
+                    (nodeResponses, nodeFailures) -> {
+                        NodesAnalyzersResponse response;
+                        try {
+                            response = newResponse(request, nodeResponses, nodeFailures);
+                        } catch (Exception e) {
+                            listener.onFailure(e);
+                            return;
+                        }
+                        listener.onResponse(response);
+                    }
+            ).start();
+        } else {
+            super.doExecute(task, request, listener);
+        }
+    }
+
+    /**
+     * Splits nodes into about sqrt(N) groups of about sqrt(N) nodes.
+     * @param nodes all nodes
+     * @return groups of nodes, the first node of every group is its aggregator
+     */
+    static List<List<DiscoveryNode>> aggregationGroups(List<DiscoveryNode> nodes) {
+        int groupSize = Math.max(1, (int) Math.ceil(Math.sqrt(nodes.size())));
+        List<List<DiscoveryNode>> groups = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i += groupSize) {
+            groups.add(nodes.subList(i, Math.min(nodes.size(), i + groupSize)));
+        }
+        return groups;
+    }
+
+    private static TransportRequestOptions transportOptions(TimeValue timeout) {
+        return timeout == null
+                ? TransportRequestOptions.EMPTY
+                : TransportRequestOptions.builder().withTimeout(timeout).build();
+    }
+
+    /**
+     * @param timeout timeout of the request to the aggregating node, can be null
+     * @return timeout of node requests sent by the aggregating node, strictly smaller than the given one
+     */
+    static TimeValue aggregatedNodeTimeout(TimeValue timeout) {
+        if (timeout == null) {
+            return null;
+        }
+        return TimeValue.timeValueMillis((long) (timeout.millis() * AGGREGATED_NODE_TIMEOUT_RATIO));
+    }
+
+    private List<DiscoveryNode> resolveNodes(NodesAnalyzersRequest request) {
+        DiscoveryNodes discoveryNodes = clusterService.state().nodes();
+        List<DiscoveryNode> nodes = new ArrayList<>();
+        for (String nodeId : discoveryNodes.resolveNodes(request.nodesIds())) {
+            nodes.add(discoveryNodes.get(nodeId));
+        }
+        return nodes;
+    }
+
+    /**
+     * @param request node request
+     * @return the node action to send the request to, requests for node details go to the one running on the bench pool
+     */
+    private String nodeAction(NodeRequest request) {
+        return request.request.includeNodeDetails() ? transportDetailNodeAction : transportNodeAction;
+    }
+
+    /**
+     * Sends a node request to every given node and collects the replies. Used by aggregating nodes and, for node details,
+     * by the coordinating node.
+     */
+    private class NodeFanOut {
+        private final Task task;
+        private final NodeRequest request;
+        private final List<DiscoveryNode> nodes;
+        private final TransportRequestOptions options;
+        private final BiConsumer<List<NodeAnalyzersInfo>, List<FailedNodeException>> onDone;
+        private final AtomicArray<NodeAnalyzersInfo> replies;
+        private final AtomicArray<FailedNodeException> failures;
+        private final AtomicInteger pending;
+
+        NodeFanOut(
+                Task task,
+                NodeRequest request,
+                List<DiscoveryNode> nodes,
+                TransportRequestOptions options,
+                BiConsumer<List<NodeAnalyzersInfo>, List<FailedNodeException>> onDone
+        ) {
+            this.task = task;
+            this.request = request;
+            this.nodes = nodes;
+            this.options = options;
+            this.onDone = onDone;
+            this.replies = new AtomicArray<>(nodes.size());
+            this.failures = new AtomicArray<>(nodes.size());
+            this.pending = new AtomicInteger(nodes.size());
+        }
+
+        void start() {
+            if (nodes.isEmpty()) {
+                onDone.accept(replies.asList(), failures.asList());
+                return;
+            }
+            for (int i = 0; i < nodes.size(); i++) {
+                final int index = i;
+                final DiscoveryNode node = nodes.get(i);
+                transportService.sendChildRequest(
+                        node,
+                        nodeAction(request),
+                        request,
+                        task,
+                        options,
+                        new ActionListenerResponseHandler<NodeAnalyzersInfo>(ActionListener.wrap(reply -> {
+                            replies.set(index, reply);
+                            onNodeDone();
+                        }, e -> {
+                            failures.set(index, new FailedNodeException(node.getId(), "Failed node [" + node.getId() + "]", e));
+                            onNodeDone();
+                        }), TransportNodeAnalyzersAction.this::newNodeResponse, EXECUTOR)
+                );
+            }
+        }
+
+        private void onNodeDone() {
+            if (pending.decrementAndGet() == 0) {
+                onDone.accept(replies.asList(), failures.asList());
+            }
+        }
+    }
+
+    /**
+     * Coordinating node side of {@link NodesAnalyzersRequest#FAN_OUT_TREE}.
+     */
+    private class TreeFanOut {
+        private final Task task;
+        private final NodesAnalyzersRequest request;
+        private final ActionListener<NodesAnalyzersResponse> listener;
+        private final List<List<DiscoveryNode>> groups;
+        private final AtomicArray<AggregateResponse> responses;
+        private final AtomicArray<Exception> failures;
+        private final AtomicInteger pending;
+
+        TreeFanOut(Task task, NodesAnalyzersRequest request, ActionListener<NodesAnalyzersResponse> listener) {
+            this.task = task;
+            this.request = request;
+            this.listener = listener;
+            this.groups = aggregationGroups(resolveNodes(request));
+            this.responses = new AtomicArray<>(groups.size());
+            this.failures = new AtomicArray<>(groups.size());
+            this.pending = new AtomicInteger(groups.size());
+        }
+
+        void start() {
+            if (groups.isEmpty()) {
+                finish();
+                return;
+            }
+            for (int i = 0; i < groups.size(); i++) {
+                final int group = i;
+                AggregateRequest aggregateRequest = new AggregateRequest(
+                        request,
+                        request.knownInventories().keySet(),
+                        groups.get(group)
+                );
+                transportService.sendChildRequest(
+                        groups.get(group).get(0),
+                        transportAggregateAction,
+                        aggregateRequest,
+                        task,
+                        transportOptions(request.timeout()),
+                        new ActionListenerResponseHandler<>(ActionListener.wrap(response -> {
+                            responses.set(group, response.rehydrate(TransportNodeAnalyzersAction.this::intern));
+                            onGroupDone();
+                        }, e -> {
+                            failures.set(group, e);
+                            onGroupDone();
+                        }), AggregateResponse::new, EXECUTOR)
+                );
+            }
+        }
+
+        private void onGroupDone() {
+            if (pending.decrementAndGet() == 0) {
+                finish();
+            }
+        }
+
+        private void finish() {
+            List<NodeAnalyzersInfo> nodeResponses = new ArrayList<>();
+            List<FailedNodeException> nodeFailures = new ArrayList<>();
+            for (int i = 0; i < groups.size(); i++) {
+                AggregateResponse response = responses.get(i);
+                if (response != null) {
+                    nodeResponses.addAll(response.nodes);
+                    nodeFailures.addAll(response.failures);
+                } else {
+                    DiscoveryNode aggregator = groups.get(i).get(0);
+                    for (DiscoveryNode node : groups.get(i)) {
+                        nodeFailures.add(new FailedNodeException(
+                                node.getId(),
+                                "Failed to collect node analyzers via aggregating node [" + aggregator.getId() + "]",
+                                failures.get(i)
+                        ));
+                    }
+                }
+            }
+            NodesAnalyzersResponse response;
+            try {
+                response = newResponse(request, nodeResponses, nodeFailures);
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return;
+            }
+            listener.onResponse(response);
+        }
+    }
+
+    /**
+     * Aggregating node side of {@link NodesAnalyzersRequest#FAN_OUT_TREE}.
+     */
+    private class AggregateHandler implements TransportRequestHandler<AggregateRequest> {
+        @Override
+        public void messageReceived(AggregateRequest request, TransportChannel channel, Task task) {
+            CancellableNodeRequest.ensureNotCancelled(task);
+            new NodeFanOut(
+                    task,
+                    new NodeRequest(request.request, request.knownDigests),
+                    request.nodes,
+                    transportOptions(aggregatedNodeTimeout(request.request.timeout())),
+                    (replies, failures) -> {
+                        try {
+                            channel.sendResponse(AggregateResponse.of(replies, failures));
+                        } catch (Exception e) {
+                            logger.warn("Failed to send node analyzers aggregation response", e);
+                        }
+                    }
+            ).start();
+        }
+    }
+
+    /**
+     * Computes the etag of the requested nodes without contacting them.
+     * @param request nodes request
+     * @return the etag or null if any of the requested nodes has not replied yet (since it has started)
+     */
+    private String knownEtag(NodesAnalyzersRequest request) {
+        DiscoveryNodes discoveryNodes = clusterService.state().nodes();
+        SortedMap<String, String> digests = new TreeMap<>();
+        for (String nodeId : discoveryNodes.resolveNodes(request.nodesIds())) {
+            DiscoveryNode node = discoveryNodes.get(nodeId);
+            String digest = node == null ? null : nodeDigests.get(node.getEphemeralId());
+            if (digest == null) {
+                return null;
+            }
+            digests.put(nodeId, digest);
+        }
+        return NodesAnalyzersResponse.etag(digests, request.etagVariant());
+    }
+
+    /**
+     * @param nodeRequest
+     * @param task
+     * @return
+     */
+    @Override
+    protected NodeAnalyzersInfo nodeOperation(NodeRequest nodeRequest, Task task) {
+        Runnable ensureNotCancelled = () -> CancellableNodeRequest.ensureNotCancelled(task);
+        ensureNotCancelled.run();
+        return nodeOperation(nodeRequest, ensureNotCancelled);
     }
 
     /**
@@ -86,70 +501,82 @@ public class TransportNodeAnalyzersAction extends TransportNodesAction<
      * @return
      */
     @Override
-    @SuppressForbidden(reason = "We have to use reflection API")
     protected NodeAnalyzersInfo nodeOperation(NodeRequest nodeRequest) {
-        final KeySetHolder keySetHolder;
-        SpecialPermission.check();
-        keySetHolder = AccessController.doPrivileged((PrivilegedAction<KeySetHolder>) () -> {
-            KeySetHolder holder = new KeySetHolder();
-            try {
-                Field privateAnalyzers;
-                privateAnalyzers = AnalysisRegistry.class.getDeclaredField("analyzers");
-                privateAnalyzers.setAccessible(true);
-                holder.setAnalyzersKeySet(((Map<String, Object>) privateAnalyzers.get(analysisRegistry)).keySet());
-
-                Field privateTokenizers;
-                privateTokenizers = AnalysisRegistry.class.getDeclaredField("tokenizers");
-                privateTokenizers.setAccessible(true);
-                holder.setTokenizersKeySet(((Map<String, Object>) privateTokenizers.get(analysisRegistry)).keySet());
-
-                Field privateTokenFilters;
-                privateTokenFilters = AnalysisRegistry.class.getDeclaredField("tokenFilters");
-                privateTokenFilters.setAccessible(true);
-                holder.setTokenFiltersKeySet(((Map<String, Object>) privateTokenFilters.get(analysisRegistry)).keySet());
-
-                Field privateCharFilters;
-                privateCharFilters = AnalysisRegistry.class.getDeclaredField("charFilters");
-                privateCharFilters.setAccessible(true);
-                holder.setCharFiltersKeySet(((Map<String, Object>) privateCharFilters.get(analysisRegistry)).keySet());
-
-                Field privateNormalizers;
-                privateNormalizers = AnalysisRegistry.class.getDeclaredField("normalizers");
-                privateNormalizers.setAccessible(true);
-                holder.setNormalizersKeySet(((Map<String, Object>) privateNormalizers.get(analysisRegistry)).keySet());
-
-            } catch (NoSuchFieldException | IllegalAccessException e) {
-                throw new OpenSearchException(e);
-            }
-            return holder;
-        });
-        Map<String, NodeAnalyzersInfo.AnalysisPluginComponents> pluginComponents= new HashMap<>();
-        List<AnalysisPlugin> analysisPlugins = pluginsService.filterPlugins(AnalysisPlugin.class);
-        for (AnalysisPlugin plugin: analysisPlugins) {
-            String pluginName = plugin.getClass().getCanonicalName();
-            // TODO: getCanonicalName() ^^ can lead to null for anonymous inner class. We need to find something better.
-            // See: <https://github.com/lukas-vlcek/OpenSearch-list-built-in-analyzers/issues/3>
-            pluginComponents.put(pluginName,
-                    new NodeAnalyzersInfo.AnalysisPluginComponents(
-                            pluginName,
-                            plugin.getAnalyzers().keySet(),
-                            plugin.getTokenizers().keySet(),
-                            plugin.getTokenFilters().keySet(),
-                            plugin.getCharFilters().keySet(),
-                            plugin.getHunspellDictionaries().keySet()
-                    ));
+        return nodeOperation(nodeRequest, () -> {});
+    }
+
+    /**
+     * @param nodeRequest node request
+     * @param ensureNotCancelled checked between indices by heap usage and duplicate analyzers, throws if cancelled
+     * @return node reply
+     */
+    private NodeAnalyzersInfo nodeOperation(NodeRequest nodeRequest, Runnable ensureNotCancelled) {
+        NodeAnalyzersInfo reply;
+        try {
+            reply = nodeOperation(
+                    clusterService.localNode(),
+                    this::inventory,
+                    () -> NodeAnalysisHeapUsage.estimate(
+                            indicesService, pluginsService.filterPlugins(AnalysisPlugin.class), ensureNotCancelled
+                    ),
+                    () -> NodeDuplicateAnalyzers.find(indicesService, ensureNotCancelled),
+                    nodeRequest
+            );
+        } catch (RuntimeException e) {
+            stats.onNodeOperationFailure();
+            throw e;
+        }
+        stats.onNodeOperation(reply.getNodeOperationNanos(), reply.getPayloadSizeInBytes(), reply.hasInventory() == false);
+        return reply;
+    }
+
+    /**
+     * The node operation, separated from the transport action so it can be benchmarked.
+     * @param localNode local node
+     * @param localInventorySupplier supplies the local node inventory
+     * @param heapUsageSupplier estimates heap usage of the local node, called only if requested
+     * @param duplicateAnalyzersSupplier finds duplicate analyzers of the local node, called only if requested
+     * @param nodeRequest node request
+     * @return node reply
+     */
+    static NodeAnalyzersInfo nodeOperation(
+            DiscoveryNode localNode,
+            Supplier<NodeAnalysisInventory> localInventorySupplier,
+            Supplier<NodeAnalysisHeapUsage> heapUsageSupplier,
+            Supplier<NodeDuplicateAnalyzers> duplicateAnalyzersSupplier,
+            NodeRequest nodeRequest
+    ) {
+        long startNanos = System.nanoTime();
+        NodeAnalysisInventory localInventory = localInventorySupplier.get();
+        NodeAnalysisInventory reply = null;
+        long payloadSizeInBytes = 0;
+        if (nodeRequest.knownDigests.contains(localInventory.digest()) == false) {
+            reply = nodeRequest.request.filter().apply(localInventory);
+            payloadSizeInBytes = reply.serializedSize();
         }
+        NodeAnalysisHeapUsage heapUsage = nodeRequest.request.includeHeapUsage() ? heapUsageSupplier.get() : null;
+        NodeDuplicateAnalyzers duplicateAnalyzers = nodeRequest.request.includeDuplicateAnalyzers()
+                ? duplicateAnalyzersSupplier.get()
+                : null;
         return new NodeAnalyzersInfo(
-                clusterService.localNode(),
-                keySetHolder.analyzersKeySet,
-                keySetHolder.tokenizersKeySet,
-                keySetHolder.tokenFiltersKeySet,
-                keySetHolder.charFiltersKeySet,
-                keySetHolder.normalizersKeySet,
-                pluginComponents
+                localNode,
+                localInventory.digest(),
+                reply,
+                System.nanoTime() - startNanos,
+                payloadSizeInBytes,
+                heapUsage,
+                duplicateAnalyzers
         );
     }
 
+    /**
+     * Returns the analysis inventory of the local node, see {@link LocalNodeAnalysisInventory}.
+     * @return node analysis inventory
+     */
+    NodeAnalysisInventory inventory() {
+        return localInventory.get(analysisRegistry, pluginsService);
+    }
+
     /**
      * @param nodesRequest
      * @param nodeResponses
@@ -162,7 +589,50 @@ public class TransportNodeAnalyzersAction extends TransportNodesAction<
             List<NodeAnalyzersInfo> nodeResponses,
             List<FailedNodeException> nodeFailures
     ) {
-        return new NodesAnalyzersResponse(clusterService.getClusterName(), nodeResponses, nodeFailures);
+        NodeAnalysisInventoryFilter filter = nodesRequest.filter();
+        // One (filtered) inventory instance per digest, shared by all nodes of the response
+        Map<String, NodeAnalysisInventory> sharedInventories = new HashMap<>();
+        List<NodeAnalyzersInfo> nodes = new ArrayList<>(nodeResponses.size());
+        List<FailedNodeException> failures = new ArrayList<>(nodeFailures);
+        for (NodeAnalyzersInfo nodeResponse : nodeResponses) {
+            nodeDigests.put(nodeResponse.getNode().getEphemeralId(), nodeResponse.getDigest());
+            stats.onInventoryCacheLookup(nodeResponse.hasInventory() == false);
+            if (nodeResponse.hasInventory()) {
+                NodeAnalysisInventory shared = sharedInventories.putIfAbsent(nodeResponse.getDigest(), nodeResponse.getInventory());
+                if (shared == null) {
+                    // Only complete inventories can be reused
+                    if (filter.isAll()) {
+                        knownInventories.put(nodeResponse.getDigest(), nodeResponse.getInventory());
+                    }
+                    nodes.add(nodeResponse);
+                } else {
+                    // Replies are interned as they arrive, this only catches the local reply and cache evictions
+                    nodes.add(new NodeAnalyzersInfo(nodeResponse, shared));
+                }
+            } else {
+                NodeAnalysisInventory knownInventory = nodesRequest.knownInventories().get(nodeResponse.getDigest());
+                if (knownInventory != null) {
+                    nodes.add(new NodeAnalyzersInfo(
+                            nodeResponse,
+                            sharedInventories.computeIfAbsent(nodeResponse.getDigest(), digest -> filter.apply(knownInventory))
+                    ));
+                } else {
+                    // Should not happen, nodes reply with digest only if it was known at the time of the request.
+                    failures.add(new FailedNodeException(
+                            nodeResponse.getNode().getId(),
+                            "Unknown node analysis inventory digest [" + nodeResponse.getDigest() + "]",
+                            null
+                    ));
+                }
+            }
+        }
+        // Forget nodes that have left the cluster
+        Set<String> ephemeralIds = new HashSet<>();
+        for (DiscoveryNode node : clusterService.state().nodes()) {
+            ephemeralIds.add(node.getEphemeralId());
+        }
+        nodeDigests.keySet().retainAll(ephemeralIds);
+        return new NodesAnalyzersResponse(clusterService.getClusterName(), nodes, failures, nodesRequest.etagVariant());
     }
 
     /**
@@ -181,76 +651,183 @@ public class TransportNodeAnalyzersAction extends TransportNodesAction<
      */
     @Override
     protected NodeAnalyzersInfo newNodeResponse(StreamInput in) throws IOException {
-        return new NodeAnalyzersInfo(in);
+        return intern(new NodeAnalyzersInfo(in));
+    }
+
+    private NodeAnalyzersInfo intern(NodeAnalyzersInfo reply) {
+        return intern(receivedInventories, reply);
+    }
+
+    /**
+     * Replaces the inventory of a reply with an identical instance received earlier, if any.
+     * @param receivedInventories inventories received earlier, by content digest
+     * @param reply node reply, just deserialized
+     * @return the reply or a copy of it sharing an inventory received earlier
+     */
+    static NodeAnalyzersInfo intern(Cache<String, NodeAnalysisInventory> receivedInventories, NodeAnalyzersInfo reply) {
+        if (reply.hasInventory() == false) {
+            return reply;
+        }
+        // Content digest, filtered inventories of the same node have the same node digest but different content
+        String digest = reply.getInventory().digest();
+        NodeAnalysisInventory shared = receivedInventories.get(digest);
+        if (shared == null) {
+            receivedInventories.put(digest, reply.getInventory());
+            return reply;
+        }
+        return new NodeAnalyzersInfo(reply, shared);
     }
 
     /**
      * Inner node request.
      */
-    public static class NodeRequest extends TransportRequest {
+    public static class NodeRequest extends CancellableNodeRequest {
         NodesAnalyzersRequest request;
+        /**
+         * Digests of inventories known to the coordinating node.
+         */
+        Set<String> knownDigests;
 
         public NodeRequest(StreamInput in) throws IOException {
             super(in);
             this.request = new NodesAnalyzersRequest(in);
+            if (in.getVersion().before(NodesAnalyzersResponse.COMPACT_FORMAT_VERSION)) {
+                this.knownDigests = emptySet();
+            } else {
+                this.knownDigests = in.readSet(StreamInput::readString);
+            }
         }
 
         NodeRequest(NodesAnalyzersRequest request) {
+            this(request, request.knownInventories().keySet());
+        }
+
+        NodeRequest(NodesAnalyzersRequest request, Set<String> knownDigests) {
             this.request = request;
+            this.knownDigests = knownDigests;
         }
 
         @Override
         public void writeTo(StreamOutput out) throws IOException {
             super.writeTo(out);
             request.writeTo(out);
+            if (out.getVersion().onOrAfter(NodesAnalyzersResponse.COMPACT_FORMAT_VERSION)) {
+                out.writeStringCollection(knownDigests);
+            }
         }
     }
 
-    private class KeySetHolder {
-        Set<String> analyzersKeySet;
-        Set<String> tokenizersKeySet;
-        Set<String>  tokenFiltersKeySet;
-        Set<String> charFiltersKeySet;
-        Set<String> normalizersKeySet;
+    /**
+     * Request sent to an aggregating node, it lists the nodes of its group.
+     */
+    public static class AggregateRequest extends TransportRequest {
+        NodesAnalyzersRequest request;
+        Set<String> knownDigests;
+        List<DiscoveryNode> nodes;
 
-        void setAnalyzersKeySet(final Set<String> analyzersKeySet) {
-            this.analyzersKeySet = analyzersKeySet;
+        public AggregateRequest(StreamInput in) throws IOException {
+            super(in);
+            this.request = new NodesAnalyzersRequest(in);
+            this.knownDigests = in.readSet(StreamInput::readString);
+            this.nodes = in.readList(DiscoveryNode::new);
         }
 
-        Set<String> getAnalyzersKeySet() {
-            return this.analyzersKeySet;
+        AggregateRequest(NodesAnalyzersRequest request, Set<String> knownDigests, List<DiscoveryNode> nodes) {
+            this.request = request;
+            this.knownDigests = knownDigests;
+            this.nodes = nodes;
         }
 
-        void setTokenizersKeySet(final Set<String> tokenizersKeySet) {
-            this.tokenizersKeySet = tokenizersKeySet;
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+            out.writeStringCollection(knownDigests);
+            out.writeList(nodes);
         }
 
-        Set<String> getTokenizersKeySet() {
-            return this.tokenizersKeySet;
+        @Override
+        public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+            return new CancellableTask(id, type, action, "", parentTaskId, headers) {
+                @Override
+                public boolean shouldCancelChildrenOnCancellation() {
+                    return true;
+                }
+            };
         }
+    }
 
-        void setTokenFiltersKeySet(final Set<String> tokenFiltersKeySet) {
-            this.tokenFiltersKeySet = tokenFiltersKeySet;
+    /**
+     * Replies of a group of nodes. Every distinct inventory is included only once, other nodes with the same
+     * digest carry the digest only, see {@link #of(List, List)}.
+     */
+    public static class AggregateResponse extends TransportResponse {
+        final List<NodeAnalyzersInfo> nodes;
+        final List<FailedNodeException> failures;
+
+        public AggregateResponse(StreamInput in) throws IOException {
+            super(in);
+            this.nodes = in.readList(NodeAnalyzersInfo::new);
+            this.failures = in.readList(FailedNodeException::new);
         }
 
-        Set<String> getTokenFiltersKeySet() {
-            return tokenFiltersKeySet;
+        private AggregateResponse(List<NodeAnalyzersInfo> nodes, List<FailedNodeException> failures) {
+            this.nodes = nodes;
+            this.failures = failures;
         }
 
-        void setCharFiltersKeySet(final Set<String> charFiltersKeySet) {
-            this.charFiltersKeySet = charFiltersKeySet;
+        /**
+         * @param replies node replies
+         * @param failures node failures
+         * @return response with duplicate inventories left out
+         */
+        static AggregateResponse of(List<NodeAnalyzersInfo> replies, List<FailedNodeException> failures) {
+            Set<String> included = new HashSet<>();
+            List<NodeAnalyzersInfo> nodes = new ArrayList<>(replies.size());
+            for (NodeAnalyzersInfo reply : replies) {
+                if (reply.hasInventory() && included.add(reply.getDigest()) == false) {
+                    nodes.add(new NodeAnalyzersInfo(reply, null));
+                } else {
+                    nodes.add(reply);
+                }
+            }
+            return new AggregateResponse(nodes, failures);
         }
 
-        Set<String> getCharFiltersKeySet() {
-            return charFiltersKeySet;
+        /**
+         * @param interner replaces the inventory of a reply with a shared instance
+         * @return response with node replies, those with an inventory included in this response get the shared instance
+         */
+        AggregateResponse rehydrate(UnaryOperator<NodeAnalyzersInfo> interner) {
+            List<NodeAnalyzersInfo> result = new ArrayList<>(nodes.size());
+            for (NodeAnalyzersInfo node : rehydrate()) {
+                result.add(interner.apply(node));
+            }
+            return new AggregateResponse(result, failures);
         }
 
-        void setNormalizersKeySet(final Set<String> normalizersKeySet) {
-            this.normalizersKeySet = normalizersKeySet;
+        /**
+         * @return node replies, those with an inventory included in this response get the shared instance
+         */
+        List<NodeAnalyzersInfo> rehydrate() {
+            Map<String, NodeAnalysisInventory> inventories = new HashMap<>();
+            for (NodeAnalyzersInfo node : nodes) {
+                if (node.hasInventory()) {
+                    inventories.put(node.getDigest(), node.getInventory());
+                }
+            }
+            List<NodeAnalyzersInfo> result = new ArrayList<>(nodes.size());
+            for (NodeAnalyzersInfo node : nodes) {
+                NodeAnalysisInventory inventory = inventories.get(node.getDigest());
+                result.add(node.hasInventory() || inventory == null ? node : new NodeAnalyzersInfo(node, inventory));
+            }
+            return result;
         }
 
-        Set<String> getNormalizersKeySet() {
-            return normalizersKeySet;
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeList(nodes);
+            out.writeList(failures);
         }
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Collects {@link NodeAnalyzersStats} of every selected node. Reading the counters is cheap, so node requests run
+ * on the management thread pool and do not queue behind node analyzers requests.
+ */
+public class TransportNodeAnalyzersStatsAction extends TransportNodesAction<
+        NodesAnalyzersStatsRequest,
+        NodesAnalyzersStatsResponse,
+        TransportNodeAnalyzersStatsAction.NodeRequest,
+        NodeAnalyzersStatsInfo> {
+
+    private final NodeAnalyzersStats stats;
+
+    /**
+     * A constructor.
+     * @param transportService  TransportService
+     * @param actionFilters     ActionFilters
+     * @param stats             NodeAnalyzersStats of the local node
+     */
+    @Inject
+    public TransportNodeAnalyzersStatsAction(
+            ThreadPool threadPool,
+            ClusterService clusterService,
+            TransportService transportService,
+            ActionFilters actionFilters,
+            NodeAnalyzersStats stats
+    ) {
+        super(
+                NodeAnalyzersStatsAction.NAME,
+                threadPool,
+                clusterService,
+                transportService,
+                actionFilters,
+                NodesAnalyzersStatsRequest::new,
+                NodeRequest::new,
+                ThreadPool.Names.MANAGEMENT,
+                NodeAnalyzersStatsInfo.class
+        );
+        this.stats = stats;
+    }
+
+    @Override
+    protected NodeAnalyzersStatsInfo nodeOperation(NodeRequest nodeRequest) {
+        return new NodeAnalyzersStatsInfo(clusterService.localNode(), stats);
+    }
+
+    @Override
+    protected NodesAnalyzersStatsResponse newResponse(
+            NodesAnalyzersStatsRequest request,
+            List<NodeAnalyzersStatsInfo> nodeResponses,
+            List<FailedNodeException> nodeFailures
+    ) {
+        return new NodesAnalyzersStatsResponse(clusterService.getClusterName(), nodeResponses, nodeFailures);
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(NodesAnalyzersStatsRequest request) {
+        return new NodeRequest(request);
+    }
+
+    @Override
+    protected NodeAnalyzersStatsInfo newNodeResponse(StreamInput in) throws IOException {
+        return new NodeAnalyzersStatsInfo(in);
+    }
+
+    /**
+     * Inner node request.
+     */
+    public static class NodeRequest extends TransportRequest {
+        NodesAnalyzersStatsRequest request;
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            this.request = new NodesAnalyzersStatsRequest(in);
+        }
+
+        NodeRequest(NodesAnalyzersStatsRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Warms up analyzers on every selected node, see {@link AnalyzerWarmer}.
+ *
+ * Warm-ups run on the same single threaded pool as benchmarks ({@link TransportNodeAnalyzerBenchAction#EXECUTOR}),
+ * so they never run concurrently with a benchmark or with each other.
+ */
+public class TransportNodeAnalyzersWarmupAction extends TransportNodesAction<
+        NodesAnalyzersWarmupRequest,
+        NodesAnalyzersWarmupResponse,
+        TransportNodeAnalyzersWarmupAction.NodeRequest,
+        NodeAnalyzersWarmupInfo> {
+
+    private final AnalysisRegistry analysisRegistry;
+    private final IndicesService indicesService;
+
+    /**
+     * A constructor.
+     * @param transportService  TransportService
+     * @param actionFilters     ActionFilters
+     * @param analysisRegistry  AnalysisRegistry, global analyzers are resolved from it
+     * @param indicesService    IndicesService, analyzers of indices on the node are resolved from it
+     */
+    @Inject
+    public TransportNodeAnalyzersWarmupAction(
+            ThreadPool threadPool,
+            ClusterService clusterService,
+            TransportService transportService,
+            ActionFilters actionFilters,
+            AnalysisRegistry analysisRegistry,
+            IndicesService indicesService
+    ) {
+        super(
+                NodeAnalyzersWarmupAction.NAME,
+                threadPool,
+                clusterService,
+                transportService,
+                actionFilters,
+                NodesAnalyzersWarmupRequest::new,
+                NodeRequest::new,
+                TransportNodeAnalyzerBenchAction.EXECUTOR,
+                NodeAnalyzersWarmupInfo.class
+        );
+        this.analysisRegistry = analysisRegistry;
+        this.indicesService = indicesService;
+    }
+
+    @Override
+    protected NodeAnalyzersWarmupInfo nodeOperation(NodeRequest nodeRequest, Task task) {
+        Runnable ensureNotCancelled = () -> CancellableNodeRequest.ensureNotCancelled(task);
+        ensureNotCancelled.run();
+        NodesAnalyzersWarmupRequest request = nodeRequest.request;
+        List<AnalyzerWarmer.Target> targets = new ArrayList<>();
+        try {
+            for (String name : request.analyzers()) {
+                Analyzer analyzer = analysisRegistry.getAnalyzer(name);
+                if (analyzer == null) {
+                    throw new IllegalArgumentException("failed to find global analyzer [" + name + "]");
+                }
+                targets.add(new AnalyzerWarmer.Target(null, name, analyzer));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (request.indices()) {
+            for (IndexService indexService : indicesService) {
+                targets.addAll(AnalyzerWarmer.targets(indexService));
+            }
+        }
+        long startNanos = System.nanoTime();
+        List<AnalyzerWarmupResult> results = AnalyzerWarmer.warmUp(
+                targets,
+                request.corpus(),
+                request.iterations(),
+                request.timeBudget().nanos(),
+                ensureNotCancelled
+        );
+        return new NodeAnalyzersWarmupInfo(clusterService.localNode(), System.nanoTime() - startNanos, results);
+    }
+
+    @Override
+    protected NodeAnalyzersWarmupInfo nodeOperation(NodeRequest nodeRequest) {
+        return nodeOperation(nodeRequest, null);
+    }
+
+    @Override
+    protected NodesAnalyzersWarmupResponse newResponse(
+            NodesAnalyzersWarmupRequest request,
+            List<NodeAnalyzersWarmupInfo> nodeResponses,
+            List<FailedNodeException> nodeFailures
+    ) {
+        return new NodesAnalyzersWarmupResponse(clusterService.getClusterName(), nodeResponses, nodeFailures);
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(NodesAnalyzersWarmupRequest request) {
+        return new NodeRequest(request);
+    }
+
+    @Override
+    protected NodeAnalyzersWarmupInfo newNodeResponse(StreamInput in) throws IOException {
+        return new NodeAnalyzersWarmupInfo(in);
+    }
+
+    /**
+     * Inner node request.
+     */
+    public static class NodeRequest extends CancellableNodeRequest {
+        NodesAnalyzersWarmupRequest request;
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            this.request = new NodesAnalyzersWarmupRequest(in);
+        }
+
+        NodeRequest(NodesAnalyzersWarmupRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateObserver;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.node.NodeClosedException;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Holds a watch request until the cluster-wide analysis inventory differs from the version the client has seen,
+ * then replies with the change only, see {@link NodesAnalyzersWatchResponse}.
+ *
+ * The inventory of a node cannot change while the node is running, so the cluster-wide inventory can only change
+ * when a node joins or leaves (a restarted node has a new ephemeral ID). The watch gets the current inventory through
+ * {@link TransportNodeAnalyzersAction} with the client version as etag, which is answered as "not modified" without
+ * contacting any node while the set of nodes is unchanged. Then it waits for a cluster state with a different set of
+ * nodes (by ephemeral ID) and checks again, until the inventory changes or the timeout expires. Waiting watches hold
+ * no thread.
+ *
+ * To compute the change, the coordinating node keeps the node digests of the last few versions it has replied with.
+ * If the client version is not among them, the reply contains all nodes.
+ *
+ * A node that fails to reply leaves the cluster-wide inventory unknown. The watch then waits for the next change of
+ * the set of nodes (the failing node leaving or restarting) and checks again. If the timeout expires before all
+ * nodes have replied, the watch fails with the last node failure instead of claiming the inventory is unchanged.
+ * Every check asks the nodes with the timeout of the watch, so a node that does not reply does not hold it longer.
+ */
+public class TransportNodeAnalyzersWatchAction extends HandledTransportAction<NodesAnalyzersWatchRequest, NodesAnalyzersWatchResponse> {
+
+    private static final Logger logger = LogManager.getLogger(TransportNodeAnalyzersWatchAction.class);
+
+    /**
+     * Max number of versions kept by the coordinating node.
+     */
+    static final int VERSIONS_CACHE_SIZE = 64;
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final NodeClient client;
+    private final Cache<String, SortedMap<String, String>> versions = CacheBuilder.<String, SortedMap<String, String>>builder()
+            .setMaximumWeight(VERSIONS_CACHE_SIZE)
+            .build();
+
+    /**
+     * A constructor.
+     * @param transportService  TransportService
+     * @param actionFilters     ActionFilters
+     * @param clusterService    ClusterService
+     * @param threadPool        ThreadPool
+     * @param client            NodeClient, used to get inventories of nodes
+     */
+    @Inject
+    public TransportNodeAnalyzersWatchAction(
+            TransportService transportService,
+            ActionFilters actionFilters,
+            ClusterService clusterService,
+            ThreadPool threadPool,
+            NodeClient client
+    ) {
+        super(NodeAnalyzersWatchAction.NAME, transportService, actionFilters, NodesAnalyzersWatchRequest::new);
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.client = client;
+    }
+
+    @Override
+    protected void doExecute(Task task, NodesAnalyzersWatchRequest request, ActionListener<NodesAnalyzersWatchResponse> listener) {
+        ClusterStateObserver observer = new ClusterStateObserver(clusterService, request.timeout(), logger, threadPool.getThreadContext());
+        new Watch(task, request, observer, listener).check();
+    }
+
+    /**
+     * @param nodes discovery nodes
+     * @return ephemeral IDs of all nodes
+     */
+    static Set<String> ephemeralIds(DiscoveryNodes nodes) {
+        Set<String> ephemeralIds = new HashSet<>();
+        for (DiscoveryNode node : nodes) {
+            ephemeralIds.add(node.getEphemeralId());
+        }
+        return ephemeralIds;
+    }
+
+    /**
+     * @param response response without etag
+     * @return exception describing why the cluster-wide inventory is not known
+     */
+    static OpenSearchException nodeFailure(NodesAnalyzersResponse response) {
+        if (response.failures().isEmpty()) {
+            return new OpenSearchException("failed to get analysis inventory of the cluster");
+        }
+        FailedNodeException failure = response.failures().get(0);
+        OpenSearchException exception = new OpenSearchException(
+                "failed to get analysis inventory of node [{}]", failure, failure.nodeId()
+        );
+        for (int i = 1; i < response.failures().size(); i++) {
+            exception.addSuppressed(response.failures().get(i));
+        }
+        return exception;
+    }
+
+    private class Watch {
+        private final Task task;
+        private final NodesAnalyzersWatchRequest request;
+        private final ClusterStateObserver observer;
+        private final ActionListener<NodesAnalyzersWatchResponse> listener;
+        /**
+         * Failure of the last check, null if all nodes replied.
+         */
+        private volatile Exception lastFailure;
+
+        Watch(Task task, NodesAnalyzersWatchRequest request, ClusterStateObserver observer, ActionListener<NodesAnalyzersWatchResponse> listener) {
+            this.task = task;
+            this.request = request;
+            this.observer = observer;
+            this.listener = listener;
+        }
+
+        void check() {
+            try {
+                CancellableNodeRequest.ensureNotCancelled(task);
+            } catch (TaskCancelledException e) {
+                listener.onFailure(e);
+                return;
+            }
+            ClusterState observed = observer.setAndGetObservedState();
+            NodesAnalyzersRequest nodesRequest = new NodesAnalyzersRequest();
+            nodesRequest.timeout(request.timeout());
+            nodesRequest.setParentTask(clusterService.localNode().getId(), task.getId());
+            if (request.version() != null) {
+                nodesRequest.ifNoneMatch(request.version());
+            }
+            client.execute(
+                    NodeAnalyzersAction.INSTANCE,
+                    nodesRequest,
+                    ActionListener.wrap(response -> onInventory(observed, response), listener::onFailure)
+            );
+        }
+
+        private void onInventory(ClusterState observed, NodesAnalyzersResponse response) {
+            if (response.isNotModified()) {
+                lastFailure = null;
+                waitForNodes(observed);
+                return;
+            }
+            String version = response.etag();
+            if (version == null) {
+                // the failed node most likely leaves the cluster or restarts, check again when it does
+                lastFailure = nodeFailure(response);
+                waitForNodes(observed);
+                return;
+            }
+            lastFailure = null;
+            SortedMap<String, String> nodeDigests = new TreeMap<>();
+            for (NodeAnalyzersInfo nodeInfo : response.getNodes()) {
+                nodeDigests.put(nodeInfo.getNode().getId(), nodeInfo.getDigest());
+            }
+            versions.put(version, nodeDigests);
+            if (version.equals(request.version())) {
+                waitForNodes(observed);
+                return;
+            }
+            SortedMap<String, String> base = request.version() == null ? null : versions.get(request.version());
+            listener.onResponse(NodesAnalyzersWatchResponse.delta(base, response));
+        }
+
+        private void waitForNodes(ClusterState observed) {
+            Set<String> ephemeralIds = ephemeralIds(observed.nodes());
+            observer.waitForNextChange(new ClusterStateObserver.Listener() {
+                @Override
+                public void onNewClusterState(ClusterState state) {
+                    check();
+                }
+
+                @Override
+                public void onClusterServiceClose() {
+                    listener.onFailure(new NodeClosedException(clusterService.localNode()));
+                }
+
+                @Override
+                public void onTimeout(TimeValue timeout) {
+                    Exception failure = lastFailure;
+                    if (failure != null) {
+                        listener.onFailure(failure);
+                    } else {
+                        listener.onResponse(NodesAnalyzersWatchResponse.unchanged(request.version()));
+                    }
+                }
+            }, state -> ephemeralIds(state.nodes()).equals(ephemeralIds) == false);
+        }
+    }
+}
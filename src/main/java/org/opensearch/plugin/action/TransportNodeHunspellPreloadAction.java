@@ -0,0 +1,201 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.env.Environment;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.analysis.AnalysisRegistry;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.analysis.HunspellService;
+import org.opensearch.plugins.AnalysisPlugin;
+import org.opensearch.plugins.PluginsService;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+
+/**
+ * Preloads hunspell dictionaries on every selected node, see {@link HunspellPreloader}.
+ *
+ * The node operation only hands the dictionaries to workers on the dedicated {@link #EXECUTOR} pool and waits for
+ * them, it runs on the generic pool so that waiting neither holds the single benchmark thread nor one of the workers.
+ * The size of the {@link #EXECUTOR} pool bounds the number of dictionaries loaded at the same time no matter what the
+ * request asks for, also when preloads overlap.
+ *
+ * The node's dictionary cache cannot be looked into, the action therefore keeps track of the dictionaries it knows
+ * to be loaded: those of the config directory at start (unless loading is lazy) and those it has preloaded. Together
+ * with dictionaries of plugins and those used by indices on the node they are reported as cached.
+ */
+public class TransportNodeHunspellPreloadAction extends TransportNodesAction<
+        NodesHunspellPreloadRequest,
+        NodesHunspellPreloadResponse,
+        TransportNodeHunspellPreloadAction.NodeRequest,
+        NodeHunspellPreloadInfo> {
+
+    /**
+     * Name of the thread pool loading dictionaries.
+     */
+    public static final String EXECUTOR = "node_analyzers_hunspell";
+
+    private final AnalysisRegistry analysisRegistry;
+    private final PluginsService pluginsService;
+    private final Path hunspellDir;
+    private final IndicesService indicesService;
+    private final Set<String> loadedDictionaries = ConcurrentCollections.newConcurrentSet();
+
+    /**
+     * A constructor.
+     * @param transportService  TransportService
+     * @param actionFilters     ActionFilters
+     * @param analysisRegistry  AnalysisRegistry, dictionaries are loaded through it into the node's dictionary cache
+     * @param pluginsService    PluginsService, provides dictionaries of analysis plugins
+     * @param environment       Environment, provides the config directory
+     * @param indicesService    IndicesService, dictionaries used by indices on the node are loaded already
+     */
+    @Inject
+    public TransportNodeHunspellPreloadAction(
+            ThreadPool threadPool,
+            ClusterService clusterService,
+            TransportService transportService,
+            ActionFilters actionFilters,
+            AnalysisRegistry analysisRegistry,
+            PluginsService pluginsService,
+            Environment environment,
+            IndicesService indicesService
+    ) {
+        super(
+                NodeHunspellPreloadAction.NAME,
+                threadPool,
+                clusterService,
+                transportService,
+                actionFilters,
+                NodesHunspellPreloadRequest::new,
+                NodeRequest::new,
+                ThreadPool.Names.GENERIC,
+                NodeHunspellPreloadInfo.class
+        );
+        this.analysisRegistry = analysisRegistry;
+        this.pluginsService = pluginsService;
+        this.hunspellDir = environment.configFile().resolve(HunspellPreloader.HUNSPELL_DIR);
+        this.indicesService = indicesService;
+        if (HunspellService.HUNSPELL_LAZY_LOAD.get(environment.settings()) == false) {
+            // the node has loaded these at start, right before the actions are created
+            try {
+                loadedDictionaries.addAll(HunspellPreloader.available(hunspellDir, emptySet()));
+            } catch (IOException e) {
+                // not known to be loaded, reported as not cached
+            }
+        }
+    }
+
+    @Override
+    protected NodeHunspellPreloadInfo nodeOperation(NodeRequest nodeRequest, Task task) {
+        Runnable ensureNotCancelled = () -> CancellableNodeRequest.ensureNotCancelled(task);
+        ensureNotCancelled.run();
+        NodesHunspellPreloadRequest request = nodeRequest.request;
+        Set<String> pluginDictionaries = new HashSet<>();
+        for (AnalysisPlugin plugin : pluginsService.filterPlugins(AnalysisPlugin.class)) {
+            pluginDictionaries.addAll(plugin.getHunspellDictionaries().keySet());
+        }
+        List<String> names;
+        if (request.dictionaries().length > 0) {
+            names = List.of(request.dictionaries());
+        } else {
+            try {
+                names = new ArrayList<>(HunspellPreloader.available(hunspellDir, pluginDictionaries));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        Set<String> cached = new HashSet<>(loadedDictionaries);
+        for (IndexService indexService : indicesService) {
+            cached.addAll(HunspellPreloader.usedBy(indexService.getIndexSettings().getSettings()));
+        }
+        int concurrency = Math.min(request.concurrency(), threadPool.info(EXECUTOR).getMax());
+        long startNanos = System.nanoTime();
+        List<HunspellPreloadResult> results = HunspellPreloader.preload(
+                names,
+                concurrency,
+                threadPool.executor(EXECUTOR),
+                name -> {
+                    HunspellPreloadResult result = HunspellPreloader.load(
+                            analysisRegistry, hunspellDir, pluginDictionaries, cached.contains(name), name
+                    );
+                    if (result.isLoaded()) {
+                        loadedDictionaries.add(name);
+                    }
+                    return result;
+                },
+                ensureNotCancelled
+        );
+        return new NodeHunspellPreloadInfo(clusterService.localNode(), System.nanoTime() - startNanos, concurrency, results);
+    }
+
+    @Override
+    protected NodeHunspellPreloadInfo nodeOperation(NodeRequest nodeRequest) {
+        return nodeOperation(nodeRequest, null);
+    }
+
+    @Override
+    protected NodesHunspellPreloadResponse newResponse(
+            NodesHunspellPreloadRequest request,
+            List<NodeHunspellPreloadInfo> nodeResponses,
+            List<FailedNodeException> nodeFailures
+    ) {
+        return new NodesHunspellPreloadResponse(clusterService.getClusterName(), nodeResponses, nodeFailures);
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(NodesHunspellPreloadRequest request) {
+        return new NodeRequest(request);
+    }
+
+    @Override
+    protected NodeHunspellPreloadInfo newNodeResponse(StreamInput in) throws IOException {
+        return new NodeHunspellPreloadInfo(in);
+    }
+
+    /**
+     * Inner node request.
+     */
+    public static class NodeRequest extends CancellableNodeRequest {
+        NodesHunspellPreloadRequest request;
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+            this.request = new NodesHunspellPreloadRequest(in);
+        }
+
+        NodeRequest(NodesHunspellPreloadRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+}
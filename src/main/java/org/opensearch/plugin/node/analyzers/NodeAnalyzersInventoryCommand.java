@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.node.analyzers;
+
+import joptsimple.OptionSet;
+import joptsimple.OptionSpec;
+import joptsimple.util.PathConverter;
+import org.opensearch.cli.EnvironmentAwareCommand;
+import org.opensearch.cli.Terminal;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.io.PathUtils;
+import org.opensearch.common.util.io.IOUtils;
+import org.opensearch.env.Environment;
+import org.opensearch.indices.analysis.AnalysisModule;
+import org.opensearch.plugin.action.NodeAnalysisInventory;
+import org.opensearch.plugin.action.NodeAnalyzersInfo;
+import org.opensearch.plugins.AnalysisPlugin;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.plugins.PluginsService;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Builds the analysis inventory of a node (the data returned by {@code /_nodes/analyzers}) without starting the node.
+ *
+ * Modules and plugins are loaded by {@link PluginsService}, the same way a node loads them (every bundle in its own
+ * class loader, extended plugins, jar hell checks), and analysis components are registered by {@link AnalysisModule}.
+ * By default modules and plugins of the OpenSearch installation are used, "--modules" and "--plugins" point to other
+ * directories, for example a plugins directory of an image or builds of test plugins.
+ *
+ * The launcher puts the bundle of this plugin on the classpath of the tool, the bundle is therefore left out when the
+ * plugins directory is loaded, see {@link #withoutBundle(Path, Path, Path)}. It is listed like any other plugin only
+ * if it provides analysis components, which it does not.
+ *
+ * The inventory is written as sorted, tab separated lines (one per component), so inventories of different images can
+ * be compared with diff. The first line carries the digest of the inventory, it is the same digest a node with the same
+ * modules and plugins reports.
+ */
+public class NodeAnalyzersInventoryCommand extends EnvironmentAwareCommand {
+
+    private final OptionSpec<Path> modulesOption;
+    private final OptionSpec<Path> pluginsOption;
+    private final OptionSpec<Path> outputOption;
+
+    NodeAnalyzersInventoryCommand() {
+        super("Lists analysis components provided by OpenSearch modules and plugins, without starting a node");
+        this.modulesOption = parser.accepts("modules", "Modules directory, defaults to the modules of the installation")
+                .withRequiredArg()
+                .withValuesConvertedBy(new PathConverter());
+        this.pluginsOption = parser.accepts("plugins", "Plugins directory, defaults to the plugins of the installation")
+                .withRequiredArg()
+                .withValuesConvertedBy(new PathConverter());
+        this.outputOption = parser.acceptsAll(List.of("o", "output"), "Output file, defaults to standard output")
+                .withRequiredArg()
+                .withValuesConvertedBy(new PathConverter());
+    }
+
+    public static void main(String[] args) throws Exception {
+        exit(new NodeAnalyzersInventoryCommand().main(args, Terminal.DEFAULT));
+    }
+
+    @Override
+    protected void execute(Terminal terminal, OptionSet options, Environment env) throws Exception {
+        Path modules = options.has(modulesOption) ? options.valueOf(modulesOption) : env.modulesFile();
+        Path plugins = options.has(pluginsOption) ? options.valueOf(pluginsOption) : env.pluginsFile();
+        terminal.println(Terminal.Verbosity.VERBOSE, "Loading modules from [" + modules + "] and plugins from [" + plugins + "]");
+        Path ownBundle = PathUtils.get(
+                NodeAnalyzersInventoryCommand.class.getProtectionDomain().getCodeSource().getLocation().toURI()
+        ).getParent();
+        Path linksDir = env.tmpFile().resolve("node-analyzers-inventory-" + UUIDs.randomBase64UUID());
+        List<String> lines;
+        try {
+            Path otherPlugins = withoutBundle(plugins, ownBundle, linksDir);
+            if (otherPlugins != plugins) {
+                terminal.println(Terminal.Verbosity.VERBOSE, "Skipping bundle [" + ownBundle + "] of this tool");
+            }
+            lines = toLines(scan(env, modules, otherPlugins, emptyList()));
+        } finally {
+            IOUtils.rm(linksDir);
+        }
+        if (options.has(outputOption)) {
+            Files.write(options.valueOf(outputOption), lines, StandardCharsets.UTF_8);
+        } else {
+            for (String line : lines) {
+                terminal.println(line);
+            }
+        }
+    }
+
+    /**
+     * @param env environment, provides settings and config directory (hunspell dictionaries)
+     * @param modules modules directory
+     * @param plugins plugins directory
+     * @param classpathPlugins plugins loaded from the classpath
+     * @return inventory of a node with the given modules and plugins
+     * @throws IOException When things go wrong
+     */
+    static NodeAnalysisInventory scan(
+            Environment env,
+            Path modules,
+            Path plugins,
+            Collection<Class<? extends Plugin>> classpathPlugins
+    ) throws IOException {
+        PluginsService pluginsService = new PluginsService(env.settings(), env.configFile(), modules, plugins, classpathPlugins);
+        List<AnalysisPlugin> analysisPlugins = pluginsService.filterPlugins(AnalysisPlugin.class);
+        AnalysisModule analysisModule = new AnalysisModule(env, analysisPlugins);
+        return NodeAnalysisInventory.build(analysisModule.getAnalysisRegistry(), analysisPlugins);
+    }
+
+    /**
+     * Leaves a bundle out of a plugins directory. Bundles are loaded from every sub-directory of the plugins
+     * directory, so if the bundle is there a directory with links to all the other bundles is created instead.
+     * @param plugins plugins directory
+     * @param bundle directory of the bundle to leave out
+     * @param linksDir directory to create the links in, must not exist
+     * @return the plugins directory if the bundle is not in it, otherwise the directory with links
+     * @throws IOException When things go wrong
+     */
+    static Path withoutBundle(Path plugins, Path bundle, Path linksDir) throws IOException {
+        if (Files.isDirectory(plugins) == false || Files.isDirectory(bundle) == false) {
+            return plugins;
+        }
+        Path realBundle = bundle.toRealPath();
+        boolean found = false;
+        List<Path> others = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(plugins)) {
+            for (Path path : stream) {
+                if (path.toRealPath().equals(realBundle)) {
+                    found = true;
+                } else {
+                    others.add(path);
+                }
+            }
+        }
+        if (found == false) {
+            return plugins;
+        }
+        Files.createDirectories(linksDir);
+        for (Path other : others) {
+            Files.createSymbolicLink(linksDir.resolve(other.getFileName().toString()), other.toAbsolutePath());
+        }
+        return linksDir;
+    }
+
+    /**
+     * @param inventory node inventory
+     * @return digest line followed by one line per component, sorted
+     */
+    static List<String> toLines(NodeAnalysisInventory inventory) {
+        List<String> lines = new ArrayList<>();
+        lines.add("# digest " + inventory.digest());
+        addLines(lines, "analyzers", inventory.getAnalyzersKeySet());
+        addLines(lines, "tokenizers", inventory.getTokenizersKeySet());
+        addLines(lines, "tokenFilters", inventory.getTokenFiltersKeySet());
+        addLines(lines, "charFilters", inventory.getCharFiltersKeySet());
+        addLines(lines, "normalizers", inventory.getNormalizersKeySet());
+        for (Map.Entry<String, NodeAnalyzersInfo.AnalysisPluginComponents> plugin : inventory.getNodeAnalysisPlugins().entrySet()) {
+            String prefix = "plugins\t" + plugin.getKey() + "\t";
+            NodeAnalyzersInfo.AnalysisPluginComponents components = plugin.getValue();
+            addLines(lines, prefix + "analyzers", components.getAnalyzersKeySet());
+            addLines(lines, prefix + "tokenizers", components.getTokenizersKeySet());
+            addLines(lines, prefix + "tokenFilters", components.getTokenFiltersKeySet());
+            addLines(lines, prefix + "charFilters", components.getCharFiltersKeySet());
+            addLines(lines, prefix + "hunspellDictionaries", components.getHunspellDictionaries());
+        }
+        return lines;
+    }
+
+    private static void addLines(List<String> lines, String prefix, Collection<String> names) {
+        for (String name : names) {
+            lines.add(prefix + "\t" + name);
+        }
+    }
+}
@@ -8,25 +8,69 @@
 package org.opensearch.plugin.node.analyzers;
 
 import org.opensearch.action.ActionRequest;
+import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.IndexScopedSettings;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.env.Environment;
+import org.opensearch.env.NodeEnvironment;
+import org.opensearch.index.IndexModule;
+import org.opensearch.plugin.action.AnalysisUsageAction;
+import org.opensearch.plugin.action.AnalysisUsageIndex;
+import org.opensearch.plugin.action.AnalyzerWarmupListener;
+import org.opensearch.plugin.action.LocalNodeAnalysisInventory;
+import org.opensearch.plugin.action.NodeAnalyzerBenchAction;
+import org.opensearch.plugin.action.NodeAnalyzerProvidersAction;
 import org.opensearch.plugin.action.NodeAnalyzersAction;
+import org.opensearch.plugin.action.NodeAnalyzersStats;
+import org.opensearch.plugin.action.NodeAnalyzersStatsAction;
+import org.opensearch.plugin.action.NodeAnalyzersWarmupAction;
+import org.opensearch.plugin.action.NodeAnalyzersWatchAction;
+import org.opensearch.plugin.action.NodeHunspellPreloadAction;
+import org.opensearch.plugin.action.TransportAnalysisUsageAction;
+import org.opensearch.plugin.action.TransportNodeAnalyzerBenchAction;
+import org.opensearch.plugin.action.TransportNodeAnalyzerProvidersAction;
 import org.opensearch.plugin.action.TransportNodeAnalyzersAction;
+import org.opensearch.plugin.action.TransportNodeAnalyzersStatsAction;
+import org.opensearch.plugin.action.TransportNodeAnalyzersWarmupAction;
+import org.opensearch.plugin.action.TransportNodeAnalyzersWatchAction;
+import org.opensearch.plugin.action.TransportNodeHunspellPreloadAction;
 import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.Plugin;
+import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.rest.RestController;
 import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.action.admin.cluster.RestAnalysisUsageAction;
+import org.opensearch.rest.action.admin.cluster.RestNodeAnalyzerBenchAction;
+import org.opensearch.rest.action.admin.cluster.RestNodeAnalyzerProvidersAction;
 import org.opensearch.rest.action.admin.cluster.RestNodeAnalyzersAction;
+import org.opensearch.rest.action.admin.cluster.RestNodeAnalyzersDiffAction;
+import org.opensearch.rest.action.admin.cluster.RestNodeAnalyzersResolveAction;
+import org.opensearch.rest.action.admin.cluster.RestNodeAnalyzersStatsAction;
+import org.opensearch.rest.action.admin.cluster.RestNodeAnalyzersWarmupAction;
+import org.opensearch.rest.action.admin.cluster.RestNodeAnalyzersWatchAction;
+import org.opensearch.rest.action.admin.cluster.RestNodeHunspellPreloadAction;
+import org.opensearch.script.ScriptService;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.watcher.ResourceWatcherService;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
 
-import static java.util.Collections.singletonList;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
 
 /**
  * After installing this plugin client can pull list of all built-in
@@ -34,14 +78,112 @@ import static java.util.Collections.singletonList;
  */
 public class NodeAnalyzersPlugin extends Plugin implements ActionPlugin {
 
+    private final AnalyzerWarmupListener warmupListener = new AnalyzerWarmupListener();
+    private final NodeAnalyzersStats stats = new NodeAnalyzersStats();
+    private final LocalNodeAnalysisInventory localInventory = new LocalNodeAnalysisInventory();
+
+    /**
+     * Settings of the analyzer warm-up before shard recovery, see {@link AnalyzerWarmupListener}.
+     */
+    @Override
+    public List<Setting<?>> getSettings() {
+        return AnalyzerWarmupListener.getSettings();
+    }
+
+    /**
+     * Index-to-component usage, maintained on every node (any node can coordinate a request) from the cluster state,
+     * operational stats, shared by the REST handler and the transport actions, and the analysis inventory of the
+     * node, shared by the transport actions.
+     */
+    @Override
+    public Collection<Object> createComponents(
+            final Client client,
+            final ClusterService clusterService,
+            final ThreadPool threadPool,
+            final ResourceWatcherService resourceWatcherService,
+            final ScriptService scriptService,
+            final NamedXContentRegistry xContentRegistry,
+            final Environment environment,
+            final NodeEnvironment nodeEnvironment,
+            final NamedWriteableRegistry namedWriteableRegistry,
+            final IndexNameExpressionResolver indexNameExpressionResolver,
+            final Supplier<RepositoriesService> repositoriesServiceSupplier
+    ) {
+        AnalysisUsageIndex usageIndex = new AnalysisUsageIndex(threadPool.generic());
+        clusterService.addListener(usageIndex);
+        return asList(usageIndex, stats, localInventory);
+    }
+
+    /**
+     * Every index gets the same warm-up listener, it does nothing unless the warm-up is enabled.
+     */
+    @Override
+    public void onIndexModule(IndexModule indexModule) {
+        indexModule.addIndexEventListener(warmupListener);
+    }
+
     /**
      * TODO
      */
     @Override
     public List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> getActions() {
-        return singletonList(
-                new ActionHandler<>(NodeAnalyzersAction.INSTANCE, TransportNodeAnalyzersAction.class)
-        );
+        return unmodifiableList(asList(
+                new ActionHandler<>(NodeAnalyzersAction.INSTANCE, TransportNodeAnalyzersAction.class),
+                new ActionHandler<>(NodeAnalyzerBenchAction.INSTANCE, TransportNodeAnalyzerBenchAction.class),
+                new ActionHandler<>(NodeAnalyzersWarmupAction.INSTANCE, TransportNodeAnalyzersWarmupAction.class),
+                new ActionHandler<>(AnalysisUsageAction.INSTANCE, TransportAnalysisUsageAction.class),
+                new ActionHandler<>(NodeAnalyzerProvidersAction.INSTANCE, TransportNodeAnalyzerProvidersAction.class),
+                new ActionHandler<>(NodeAnalyzersWatchAction.INSTANCE, TransportNodeAnalyzersWatchAction.class),
+                new ActionHandler<>(NodeAnalyzersStatsAction.INSTANCE, TransportNodeAnalyzersStatsAction.class),
+                new ActionHandler<>(NodeHunspellPreloadAction.INSTANCE, TransportNodeHunspellPreloadAction.class)
+        ));
+    }
+
+    /**
+     * Small bounded pool for node requests, the inventory is built only once so the work per request is tiny.
+     * Size and queue can be changed by "thread_pool.node_analyzers.size" and "thread_pool.node_analyzers.queue_size".
+     *
+     * Analyzer benchmarks and warm-ups get their own single threaded pool, so they do not block node requests, never run
+     * concurrently on a node and never take more than one core. Node requests for heap usage or duplicate analyzers
+     * (which walk the analyzers of every index) get another single threaded pool with a short queue, so they neither
+     * hold up node requests nor wait behind benchmarks.
+     *
+     * Hunspell dictionaries are preloaded by a small pool of its own (up to 4 threads, changed by
+     * "thread_pool.node_analyzers_hunspell.size"), which bounds how many dictionaries a node loads at the same time.
+     * The preload node operation itself only waits for those loads, it runs on the generic pool.
+     */
+    @Override
+    public List<ExecutorBuilder<?>> getExecutorBuilders(final Settings settings) {
+        return unmodifiableList(asList(
+                new FixedExecutorBuilder(
+                        settings,
+                        TransportNodeAnalyzersAction.EXECUTOR,
+                        Math.min(2, OpenSearchExecutors.allocatedProcessors(settings)),
+                        1000,
+                        "thread_pool." + TransportNodeAnalyzersAction.EXECUTOR
+                ),
+                new FixedExecutorBuilder(
+                        settings,
+                        TransportNodeAnalyzerBenchAction.EXECUTOR,
+                        1,
+                        10,
+                        "thread_pool." + TransportNodeAnalyzerBenchAction.EXECUTOR
+                ),
+                new FixedExecutorBuilder(
+                        settings,
+                        TransportNodeAnalyzersAction.DETAIL_EXECUTOR,
+                        1,
+                        10,
+                        "thread_pool." + TransportNodeAnalyzersAction.DETAIL_EXECUTOR
+                ),
+                new FixedExecutorBuilder(
+                        settings,
+                        TransportNodeHunspellPreloadAction.EXECUTOR,
+                        Math.min(4, OpenSearchExecutors.allocatedProcessors(settings)),
+                        100,
+                        "thread_pool." + TransportNodeHunspellPreloadAction.EXECUTOR
+                )
+        ));
     }
 
     /**
@@ -57,6 +199,17 @@ public class NodeAnalyzersPlugin extends Plugin implements ActionPlugin {
             final IndexNameExpressionResolver indexNameExpressionResolver,
             final Supplier<DiscoveryNodes> nodesInCluster
     ) {
-        return singletonList(new RestNodeAnalyzersAction());
+        return unmodifiableList(asList(
+                new RestNodeAnalyzersAction(stats),
+                new RestNodeAnalyzersDiffAction(),
+                new RestNodeAnalyzersResolveAction(),
+                new RestNodeAnalyzerBenchAction(),
+                new RestNodeAnalyzersWarmupAction(),
+                new RestAnalysisUsageAction(),
+                new RestNodeAnalyzerProvidersAction(),
+                new RestNodeAnalyzersWatchAction(),
+                new RestNodeAnalyzersStatsAction(),
+                new RestNodeHunspellPreloadAction()
+        ));
     }
 }
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.plugin.action.AnalysisUsageAction;
+import org.opensearch.plugin.action.AnalysisUsageIndex;
+import org.opensearch.plugin.action.AnalysisUsageRequest;
+import org.opensearch.plugin.action.AnalysisUsageResponse;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestBuilderListener;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.rest.RestRequest.Method.POST;
+
+/**
+ * Rest Action that lists indices and fields using analysis components.
+ *
+ * Without body all components used by any index are listed. To find out which indices would break if components
+ * were removed (for example when uninstalling an analysis plugin) list them by section, for example:
+ * <pre>
+ * {
+ *   "tokenizers": ["icu_tokenizer"],
+ *   "tokenFilters": ["icu_folding"]
+ * }
+ * </pre>
+ */
+public class RestAnalysisUsageAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "analysis_usage_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(
+                new Route(GET, "/_nodes/analyzers/_usage"),
+                new Route(POST, "/_nodes/analyzers/_usage")
+            )
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
+        Map<String, Object> body = emptyMap();
+        if (request.hasContentOrSourceParam()) {
+            try (XContentParser parser = request.contentOrSourceParamParser()) {
+                body = parser.map();
+            }
+        }
+        AnalysisUsageRequest usageRequest = new AnalysisUsageRequest().components(parseComponents(body));
+
+        return channel -> nodeClient.execute(
+                AnalysisUsageAction.INSTANCE, usageRequest,
+                new RestBuilderListener<AnalysisUsageResponse>(channel) {
+                    @Override
+                    public RestResponse buildResponse(AnalysisUsageResponse response, XContentBuilder builder) throws Exception {
+                        builder.startObject();
+                        response.toXContent(builder, channel.request());
+                        builder.endObject();
+                        return new BytesRestResponse(RestStatus.OK, builder);
+                    }
+                }
+        );
+    }
+
+    static Map<String, Set<String>> parseComponents(final Map<String, Object> body) {
+        Map<String, Set<String>> components = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : body.entrySet()) {
+            if (AnalysisUsageIndex.SECTIONS.contains(entry.getKey()) == false) {
+                throw new IllegalArgumentException("Unknown section [" + entry.getKey() + "]");
+            }
+            components.put(
+                    entry.getKey(),
+                    new LinkedHashSet<>(Arrays.asList(XContentMapValues.nodeStringArrayValue(entry.getValue())))
+            );
+        }
+        return components;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.analysis.NameOrDefinition;
+import org.opensearch.plugin.action.NodeAnalyzerBenchAction;
+import org.opensearch.plugin.action.NodesAnalyzerBenchRequest;
+import org.opensearch.plugin.action.NodesAnalyzerBenchResponse;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.rest.action.RestBuilderListener;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.rest.RestRequest.Method.POST;
+
+/**
+ * Rest Action that benchmarks an analyzer on nodes.
+ *
+ * The analyzer is either given in the path (or as "analyzer" in the body) or built from "tokenizer", "char_filter"
+ * and "filter", using the same syntax as the _analyze API:
+ * <pre>
+ * {
+ *   "tokenizer": "standard",
+ *   "filter": ["lowercase", "stop"],
+ *   "text": ["The quick brown fox", "jumps over the lazy dog"],
+ *   "iterations": 1000,
+ *   "warmup_iterations": 100
+ * }
+ * </pre>
+ * Without "text" every node generates the same corpus from "corpus": {"docs": 100, "words_per_doc": 100, "seed": 0}.
+ *
+ * With "profile": true nodes also report time and allocations of every char filter, the tokenizer and every
+ * token filter of the chain.
+ */
+public class RestNodeAnalyzerBenchAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "node_analyzer_bench_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(
+                new Route(GET, "/_nodes/analyzers/_bench"),
+                new Route(POST, "/_nodes/analyzers/_bench"),
+                new Route(GET, "/_nodes/{nodeId}/analyzers/_bench"),
+                new Route(POST, "/_nodes/{nodeId}/analyzers/_bench"),
+                new Route(GET, "/_nodes/analyzers/{analyzer}/_bench"),
+                new Route(POST, "/_nodes/analyzers/{analyzer}/_bench"),
+                new Route(GET, "/_nodes/{nodeId}/analyzers/{analyzer}/_bench"),
+                new Route(POST, "/_nodes/{nodeId}/analyzers/{analyzer}/_bench")
+            )
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
+        String[] nodesIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+        Map<String, Object> body = emptyMap();
+        if (request.hasContentOrSourceParam()) {
+            try (XContentParser parser = request.contentOrSourceParamParser()) {
+                body = parser.map();
+            }
+        }
+        NodesAnalyzerBenchRequest benchRequest = parseRequest(nodesIds, request.param("analyzer"), body);
+        benchRequest.timeout(request.param("timeout"));
+
+        return channel -> new RestCancellableNodeClient(nodeClient, request.getHttpChannel()).execute(
+                NodeAnalyzerBenchAction.INSTANCE, benchRequest,
+                new RestBuilderListener<NodesAnalyzerBenchResponse>(channel) {
+                    @Override
+                    public RestResponse buildResponse(NodesAnalyzerBenchResponse response, XContentBuilder builder) throws Exception {
+                        builder.startObject();
+                        RestActions.buildNodesHeader(builder, channel.request(), response);
+                        builder.field("cluster_name", response.getClusterName().value());
+                        response.toXContent(builder, channel.request());
+                        builder.endObject();
+                        return new BytesRestResponse(RestStatus.OK, builder);
+                    }
+                }
+        );
+    }
+
+    /**
+     * @param nodesIds node IDs
+     * @param analyzer analyzer name from the path, can be null
+     * @param body request body, can be empty
+     * @return benchmark request
+     */
+    @SuppressWarnings("unchecked")
+    static NodesAnalyzerBenchRequest parseRequest(final String[] nodesIds, final String analyzer, final Map<String, Object> body) {
+        NodesAnalyzerBenchRequest benchRequest = new NodesAnalyzerBenchRequest(nodesIds);
+        benchRequest.analyzer(analyzer);
+        for (Map.Entry<String, Object> entry : body.entrySet()) {
+            Object value = entry.getValue();
+            switch (entry.getKey()) {
+                case "analyzer":
+                    if (analyzer != null) {
+                        throw new IllegalArgumentException("[analyzer] is already set in the path");
+                    }
+                    benchRequest.analyzer(XContentMapValues.nodeStringValue(value));
+                    break;
+                case "tokenizer":
+                    benchRequest.tokenizer(nameOrDefinition(value));
+                    break;
+                case "char_filter":
+                    benchRequest.charFilters(nameOrDefinitions(value));
+                    break;
+                case "filter":
+                    benchRequest.tokenFilters(nameOrDefinitions(value));
+                    break;
+                case "text":
+                    benchRequest.texts(XContentMapValues.nodeStringArrayValue(value));
+                    break;
+                case "corpus":
+                    if (value instanceof Map == false) {
+                        throw new IllegalArgumentException("[corpus] must be an object");
+                    }
+                    Map<String, Object> corpus = (Map<String, Object>) value;
+                    for (String key : corpus.keySet()) {
+                        if (asList("docs", "words_per_doc", "seed").contains(key) == false) {
+                            throw new IllegalArgumentException("Unknown [corpus] field [" + key + "]");
+                        }
+                    }
+                    benchRequest.generatedCorpus(
+                            XContentMapValues.nodeIntegerValue(corpus.get("docs"), NodesAnalyzerBenchRequest.DEFAULT_GENERATED_DOCS),
+                            XContentMapValues.nodeIntegerValue(
+                                    corpus.get("words_per_doc"), NodesAnalyzerBenchRequest.DEFAULT_WORDS_PER_DOC
+                            ),
+                            XContentMapValues.nodeLongValue(corpus.get("seed"), 0L)
+                    );
+                    break;
+                case "iterations":
+                    benchRequest.iterations(XContentMapValues.nodeIntegerValue(value));
+                    break;
+                case "warmup_iterations":
+                    benchRequest.warmupIterations(XContentMapValues.nodeIntegerValue(value));
+                    break;
+                case "profile":
+                    benchRequest.profile(XContentMapValues.nodeBooleanValue(value, "profile"));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown field [" + entry.getKey() + "]");
+            }
+        }
+        return benchRequest;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static NameOrDefinition nameOrDefinition(Object value) {
+        if (value instanceof Map) {
+            return new NameOrDefinition((Map<String, ?>) value);
+        }
+        return new NameOrDefinition(XContentMapValues.nodeStringValue(value));
+    }
+
+    private static List<NameOrDefinition> nameOrDefinitions(Object value) {
+        List<NameOrDefinition> result = new ArrayList<>();
+        if (value instanceof List) {
+            for (Object item : (List<?>) value) {
+                result.add(nameOrDefinition(item));
+            }
+        } else {
+            result.add(nameOrDefinition(value));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.plugin.action.NodeAnalyzerProvidersAction;
+import org.opensearch.plugin.action.NodesAnalyzerProvidersRequest;
+import org.opensearch.plugin.action.NodesAnalyzerProvidersResponse;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.rest.action.RestBuilderListener;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+/**
+ * Rest Action that looks up which plugins provide analysis components on nodes.
+ *
+ * "component" is a comma separated list of component names, looked up in every section. Every node also lists
+ * component names provided by more than one plugin, and the response lists components provided by different
+ * plugins on different nodes. Without "component" only the collisions are returned.
+ */
+public class RestNodeAnalyzerProvidersAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "node_analyzer_providers_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(
+                new Route(GET, "/_nodes/analyzers/providers"),
+                new Route(GET, "/_nodes/analyzers/providers/{component}"),
+                new Route(GET, "/_nodes/{nodeId}/analyzers/providers"),
+                new Route(GET, "/_nodes/{nodeId}/analyzers/providers/{component}")
+            )
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
+        String[] nodesIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+        NodesAnalyzerProvidersRequest providersRequest = new NodesAnalyzerProvidersRequest(nodesIds)
+                .components(Strings.splitStringByCommaToArray(request.param("component")));
+        providersRequest.timeout(request.param("timeout"));
+
+        return channel -> nodeClient.execute(
+                NodeAnalyzerProvidersAction.INSTANCE, providersRequest,
+                new RestBuilderListener<NodesAnalyzerProvidersResponse>(channel) {
+                    @Override
+                    public RestResponse buildResponse(NodesAnalyzerProvidersResponse response, XContentBuilder builder)
+                            throws Exception {
+                        builder.startObject();
+                        RestActions.buildNodesHeader(builder, channel.request(), response);
+                        builder.field("cluster_name", response.getClusterName().value());
+                        response.toXContent(builder, channel.request());
+                        builder.endObject();
+                        return new BytesRestResponse(RestStatus.OK, builder);
+                    }
+                }
+        );
+    }
+}
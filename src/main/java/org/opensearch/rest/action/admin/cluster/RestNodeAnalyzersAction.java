@@ -8,10 +8,14 @@
 package org.opensearch.rest.action.admin.cluster;
 
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.plugin.action.NodeAnalysisInventoryFilter;
 import org.opensearch.plugin.action.NodeAnalyzersAction;
+import org.opensearch.plugin.action.NodeAnalyzersStats;
 import org.opensearch.plugin.action.NodesAnalyzersRequest;
 import org.opensearch.plugin.action.NodesAnalyzersResponse;
 import org.opensearch.rest.BaseRestHandler;
@@ -19,10 +23,14 @@ import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestResponse;
 import org.opensearch.rest.action.RestActions;
-import org.opensearch.rest.action.RestBuilderListener;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+import org.opensearch.rest.action.RestResponseListener;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.unmodifiableList;
@@ -30,9 +38,42 @@ import static org.opensearch.rest.RestRequest.Method.GET;
 
 /**
  * Rest Action for Node Analyzers action.
+ *
+ * Responses carry a weak ETag header. If the request has a matching If-None-Match header the response
+ * is 304 Not Modified without a body. The ETag identifies the inventories of the requested nodes, the filter
+ * ("sections", "names" and "plugins" in any order) and the params that change the rendering ("group_by", "layout"
+ * and "human"). Per request fields of the body (such as the node operation time) are not covered, hence the ETag
+ * is weak.
+ *
+ * Use "group_by=fingerprint" to collapse nodes with identical inventories into groups, or "layout=columnar" to get one row
+ * per component with the nodes that have it. ("format" is not used for that, it selects the content type, so columnar
+ * responses can be requested as SMILE or CBOR too.)
+ *
+ * Use "sections", "names" and "plugins" to select only some of the components, see {@link NodeAnalysisInventoryFilter}.
+ *
+ * Use "detail=heap" to include estimated heap usage of instantiated analysis components and "detail=duplicates" to include
+ * analyzers instantiated more than once with an equivalent definition (or both, "detail=heap,duplicates"). Such responses
+ * have no ETag.
+ *
+ * Nodes with identical inventories share a single inventory instance: the coordinating node interns the inventory of
+ * every node reply as soon as it is deserialized, so it holds every distinct inventory about once (plus the replies
+ * still being deserialized) no matter how many nodes are in the cluster. The rendered body is not streamed though: it
+ * is built in full before it is sent and still grows with the number of nodes, as every node (or, with
+ * "group_by=fingerprint" and "layout=columnar", every node ID) is written out. Use those params on large clusters.
+ *
+ * Every response (its size and whether it was "not modified") and every failure is recorded in {@link NodeAnalyzersStats}.
  */
 public class RestNodeAnalyzersAction extends BaseRestHandler {
 
+    private final NodeAnalyzersStats stats;
+
+    /**
+     * @param stats NodeAnalyzersStats of the local node
+     */
+    public RestNodeAnalyzersAction(NodeAnalyzersStats stats) {
+        this.stats = stats;
+    }
+
     /**
      * TODO
      */
@@ -60,20 +101,140 @@ public class RestNodeAnalyzersAction extends BaseRestHandler {
     @Override
     protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
         String[] nodesIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+        String groupBy = request.param(NodesAnalyzersResponse.GROUP_BY_PARAM, NodesAnalyzersResponse.GROUP_BY_NODE);
+        if (NodesAnalyzersResponse.GROUP_BY_NODE.equals(groupBy) == false
+                && NodesAnalyzersResponse.GROUP_BY_FINGERPRINT.equals(groupBy) == false) {
+            throw new IllegalArgumentException("[" + NodesAnalyzersResponse.GROUP_BY_PARAM + "] must be one of ["
+                    + NodesAnalyzersResponse.GROUP_BY_NODE + ", " + NodesAnalyzersResponse.GROUP_BY_FINGERPRINT
+                    + "] but was [" + groupBy + "]");
+        }
+        String layout = request.param(NodesAnalyzersResponse.LAYOUT_PARAM, NodesAnalyzersResponse.LAYOUT_NESTED);
+        if (NodesAnalyzersResponse.LAYOUT_NESTED.equals(layout) == false
+                && NodesAnalyzersResponse.LAYOUT_COLUMNAR.equals(layout) == false) {
+            throw new IllegalArgumentException("[" + NodesAnalyzersResponse.LAYOUT_PARAM + "] must be one of ["
+                    + NodesAnalyzersResponse.LAYOUT_NESTED + ", " + NodesAnalyzersResponse.LAYOUT_COLUMNAR
+                    + "] but was [" + layout + "]");
+        }
+        if (NodesAnalyzersResponse.LAYOUT_COLUMNAR.equals(layout) && NodesAnalyzersResponse.GROUP_BY_NODE.equals(groupBy) == false) {
+            throw new IllegalArgumentException("[" + NodesAnalyzersResponse.LAYOUT_PARAM + "=" + layout
+                    + "] can not be combined with [" + NodesAnalyzersResponse.GROUP_BY_PARAM + "]");
+        }
         NodesAnalyzersRequest nodesAnalyzersRequest = new NodesAnalyzersRequest(nodesIds);
+        nodesAnalyzersRequest.detail(request.param(NodesAnalyzersRequest.DETAIL_PARAM, NodesAnalyzersRequest.DETAIL_DEFAULT));
+        if (nodesAnalyzersRequest.includeNodeDetails() && NodesAnalyzersResponse.GROUP_BY_NODE.equals(groupBy) == false) {
+            throw new IllegalArgumentException("[" + NodesAnalyzersRequest.DETAIL_PARAM + "=" + nodesAnalyzersRequest.detail()
+                    + "] requires [" + NodesAnalyzersResponse.GROUP_BY_PARAM + "=" + NodesAnalyzersResponse.GROUP_BY_NODE + "]");
+        }
+        if (nodesAnalyzersRequest.includeNodeDetails() && NodesAnalyzersResponse.LAYOUT_COLUMNAR.equals(layout)) {
+            throw new IllegalArgumentException("[" + NodesAnalyzersRequest.DETAIL_PARAM + "=" + nodesAnalyzersRequest.detail()
+                    + "] requires [" + NodesAnalyzersResponse.LAYOUT_PARAM + "=" + NodesAnalyzersResponse.LAYOUT_NESTED + "]");
+        }
+        nodesAnalyzersRequest.timeout(request.param("timeout"));
+        nodesAnalyzersRequest.fanOut(
+                request.param(NodesAnalyzersRequest.FAN_OUT_PARAM, NodesAnalyzersRequest.FAN_OUT_DIRECT)
+        );
+        nodesAnalyzersRequest.ifNoneMatch(parseEntityTags(request.header("If-None-Match")));
+        nodesAnalyzersRequest.filter(parseFilter(request));
+        nodesAnalyzersRequest.renderParams(renderParams(groupBy, layout, request.paramAsBoolean("human", false)));
 
-        return channel -> nodeClient.execute(NodeAnalyzersAction.INSTANCE, nodesAnalyzersRequest,
-                new RestBuilderListener<NodesAnalyzersResponse>(channel) {
-                    @Override
-                    public RestResponse buildResponse(NodesAnalyzersResponse response, XContentBuilder builder) throws Exception {
-                        builder.startObject();
-                        RestActions.buildNodesHeader(builder, channel.request(), response);
-                        builder.field("cluster_name", response.getClusterName().value());
-                        response.toXContent(builder, channel.request());
-                        builder.endObject();
-                        return new BytesRestResponse(RestStatus.OK, builder);
+        return channel -> {
+            RestResponseListener<NodesAnalyzersResponse> restListener = new RestResponseListener<NodesAnalyzersResponse>(channel) {
+                @Override
+                public RestResponse buildResponse(NodesAnalyzersResponse response) throws Exception {
+                    // Heap usage and duplicate analyzers are not covered by the etag
+                    String etag = nodesAnalyzersRequest.includeNodeDetails() ? null : response.etag();
+                    if (response.isNotModified() || nodesAnalyzersRequest.matchesIfNoneMatch(etag)) {
+                        RestResponse notModified = new BytesRestResponse(
+                                RestStatus.NOT_MODIFIED, BytesRestResponse.TEXT_CONTENT_TYPE, BytesArray.EMPTY
+                        );
+                        notModified.addHeader("ETag", weakEntityTag(etag));
+                        stats.onRestResponse(true, 0);
+                        return notModified;
                     }
+                    XContentBuilder builder = channel.newBuilder();
+                    builder.startObject();
+                    RestActions.buildNodesHeader(builder, channel.request(), response);
+                    builder.field("cluster_name", response.getClusterName().value());
+                    response.toXContent(builder, channel.request());
+                    builder.endObject();
+                    RestResponse restResponse = new BytesRestResponse(RestStatus.OK, builder);
+                    if (etag != null) {
+                        restResponse.addHeader("ETag", weakEntityTag(etag));
+                    }
+                    stats.onRestResponse(false, restResponse.content().length());
+                    return restResponse;
                 }
+            };
+            new RestCancellableNodeClient(nodeClient, request.getHttpChannel()).execute(
+                    NodeAnalyzersAction.INSTANCE, nodesAnalyzersRequest,
+                    ActionListener.wrap(restListener::onResponse, e -> {
+                        stats.onRestFailure();
+                        restListener.onFailure(e);
+                    })
+            );
+        };
+    }
+
+    /**
+     * @param groupBy "group_by" param
+     * @param layout "layout" param
+     * @param human "human" param
+     * @return params that change the rendered body, only those that differ from their defaults
+     */
+    static Map<String, String> renderParams(final String groupBy, final String layout, final boolean human) {
+        Map<String, String> params = new HashMap<>();
+        if (NodesAnalyzersResponse.GROUP_BY_NODE.equals(groupBy) == false) {
+            params.put(NodesAnalyzersResponse.GROUP_BY_PARAM, groupBy);
+        }
+        if (NodesAnalyzersResponse.LAYOUT_NESTED.equals(layout) == false) {
+            params.put(NodesAnalyzersResponse.LAYOUT_PARAM, layout);
+        }
+        if (human) {
+            params.put("human", "true");
+        }
+        return params;
+    }
+
+    /**
+     * Parses "sections", "names" and "plugins" params.
+     * @param request rest request
+     * @return inventory filter
+     */
+    static NodeAnalysisInventoryFilter parseFilter(final RestRequest request) {
+        return new NodeAnalysisInventoryFilter(
+                Strings.splitStringByCommaToArray(request.param("sections")),
+                Strings.splitStringByCommaToArray(request.param("names")),
+                Strings.splitStringByCommaToArray(request.param("plugins"))
         );
     }
+
+    /**
+     * @param etag etag
+     * @return weak entity tag (ETag header value) of the etag
+     */
+    static String weakEntityTag(final String etag) {
+        return "W/\"" + etag + "\"";
+    }
+
+    /**
+     * Parses value of If-None-Match header. Weak validators are compared the same way as strong ones.
+     * @param header header value, can be null
+     * @return entity tags without quotes
+     */
+    static String[] parseEntityTags(final String header) {
+        List<String> tags = new ArrayList<>();
+        for (String tag : Strings.splitStringByCommaToArray(header)) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                tag = tag.substring(1, tag.length() - 1);
+            }
+            if (tag.isEmpty() == false) {
+                tags.add(tag);
+            }
+        }
+        return tags.toArray(new String[0]);
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.plugin.action.ComponentNodeMatrix;
+import org.opensearch.plugin.action.NodeAnalyzersAction;
+import org.opensearch.plugin.action.NodesAnalyzersDiff;
+import org.opensearch.plugin.action.NodesAnalyzersRequest;
+import org.opensearch.plugin.action.NodesAnalyzersResponse;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+import org.opensearch.rest.action.RestBuilderListener;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+/**
+ * Rest Action that lists analysis components which are not present on all nodes.
+ */
+public class RestNodeAnalyzersDiffAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "node_analyzers_diff_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(
+                new Route(GET, "/_nodes/analyzers/_diff"),
+                new Route(GET, "/_nodes/{nodeId}/analyzers/_diff")
+            )
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
+        String[] nodesIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+        NodesAnalyzersRequest nodesAnalyzersRequest = new NodesAnalyzersRequest(nodesIds);
+        nodesAnalyzersRequest.timeout(request.param("timeout"));
+        nodesAnalyzersRequest.fanOut(
+                request.param(NodesAnalyzersRequest.FAN_OUT_PARAM, NodesAnalyzersRequest.FAN_OUT_DIRECT)
+        );
+        nodesAnalyzersRequest.filter(RestNodeAnalyzersAction.parseFilter(request));
+
+        return channel -> new RestCancellableNodeClient(nodeClient, request.getHttpChannel()).execute(
+                NodeAnalyzersAction.INSTANCE, nodesAnalyzersRequest,
+                new RestBuilderListener<NodesAnalyzersResponse>(channel) {
+                    @Override
+                    public RestResponse buildResponse(NodesAnalyzersResponse response, XContentBuilder builder) throws Exception {
+                        builder.startObject();
+                        RestActions.buildNodesHeader(builder, channel.request(), response);
+                        builder.field("cluster_name", response.getClusterName().value());
+                        new NodesAnalyzersDiff(ComponentNodeMatrix.build(response)).toXContent(builder, channel.request());
+                        builder.endObject();
+                        return new BytesRestResponse(RestStatus.OK, builder);
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.regex.Regex;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.plugin.action.ComponentNodeMatrix;
+import org.opensearch.plugin.action.NodeAnalysisInventoryFilter;
+import org.opensearch.plugin.action.NodeAnalyzersAction;
+import org.opensearch.plugin.action.NodesAnalyzersRequest;
+import org.opensearch.plugin.action.NodesAnalyzersResolution;
+import org.opensearch.plugin.action.NodesAnalyzersResponse;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+import org.opensearch.rest.action.RestBuilderListener;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.rest.RestRequest.Method.POST;
+
+/**
+ * Rest Action that checks availability of a batch of analysis components on nodes.
+ *
+ * The request body lists component names by section, for example:
+ * <pre>
+ * {
+ *   "analyzers": ["my_analyzer"],
+ *   "tokenizers": ["icu_tokenizer"],
+ *   "tokenFilters": ["icu_folding", "lowercase"]
+ * }
+ * </pre>
+ * Only the requested names are looked up (and returned) by nodes. Names are exact names, wildcards are rejected.
+ */
+public class RestNodeAnalyzersResolveAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "node_analyzers_resolve_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(
+                new Route(GET, "/_nodes/analyzers/_resolve"),
+                new Route(POST, "/_nodes/analyzers/_resolve"),
+                new Route(GET, "/_nodes/{nodeId}/analyzers/_resolve"),
+                new Route(POST, "/_nodes/{nodeId}/analyzers/_resolve")
+            )
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
+        String[] nodesIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+        Map<String, Set<String>> requested = parseRequested(request);
+        Set<String> names = new TreeSet<>();
+        requested.values().forEach(names::addAll);
+
+        NodesAnalyzersRequest nodesAnalyzersRequest = new NodesAnalyzersRequest(nodesIds);
+        nodesAnalyzersRequest.timeout(request.param("timeout"));
+        nodesAnalyzersRequest.fanOut(
+                request.param(NodesAnalyzersRequest.FAN_OUT_PARAM, NodesAnalyzersRequest.FAN_OUT_DIRECT)
+        );
+        nodesAnalyzersRequest.filter(new NodeAnalysisInventoryFilter(
+                requested.keySet().toArray(new String[0]),
+                names.toArray(new String[0]),
+                new String[0]
+        ));
+
+        return channel -> new RestCancellableNodeClient(nodeClient, request.getHttpChannel()).execute(
+                NodeAnalyzersAction.INSTANCE, nodesAnalyzersRequest,
+                new RestBuilderListener<NodesAnalyzersResponse>(channel) {
+                    @Override
+                    public RestResponse buildResponse(NodesAnalyzersResponse response, XContentBuilder builder) throws Exception {
+                        builder.startObject();
+                        RestActions.buildNodesHeader(builder, channel.request(), response);
+                        builder.field("cluster_name", response.getClusterName().value());
+                        new NodesAnalyzersResolution(ComponentNodeMatrix.build(response), requested)
+                                .toXContent(builder, channel.request());
+                        builder.endObject();
+                        return new BytesRestResponse(RestStatus.OK, builder);
+                    }
+                }
+        );
+    }
+
+    /**
+     * @param request rest request
+     * @return requested component names by section, in the order of the request
+     * @throws IOException When things go wrong
+     */
+    static Map<String, Set<String>> parseRequested(final RestRequest request) throws IOException {
+        if (request.hasContentOrSourceParam() == false) {
+            throw new IllegalArgumentException("request body is required");
+        }
+        Map<String, Object> body;
+        try (XContentParser parser = request.contentOrSourceParamParser()) {
+            body = parser.map();
+        }
+        return parseRequested(body);
+    }
+
+    static Map<String, Set<String>> parseRequested(final Map<String, Object> body) {
+        Map<String, Set<String>> requested = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : body.entrySet()) {
+            if (ComponentNodeMatrix.SECTIONS.contains(entry.getKey()) == false
+                    || ComponentNodeMatrix.PLUGINS.equals(entry.getKey())) {
+                throw new IllegalArgumentException("Unknown section [" + entry.getKey() + "]");
+            }
+            Set<String> names = new LinkedHashSet<>(Arrays.asList(XContentMapValues.nodeStringArrayValue(entry.getValue())));
+            for (String name : names) {
+                if (Regex.isSimpleMatchPattern(name)) {
+                    throw new IllegalArgumentException(
+                            "Wildcards are not supported in [" + entry.getKey() + "], got [" + name + "]"
+                    );
+                }
+            }
+            requested.put(entry.getKey(), names);
+        }
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("no components to resolve");
+        }
+        return requested;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.plugin.action.NodeAnalyzersStatsAction;
+import org.opensearch.plugin.action.NodesAnalyzersStatsRequest;
+import org.opensearch.plugin.action.NodesAnalyzersStatsResponse;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.rest.action.RestBuilderListener;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+/**
+ * Rest Action that lists operational stats of {@code /_nodes/analyzers} by node: REST requests and response sizes,
+ * coordinating node latency and cache hit ratios, node operation latency and payload sizes, and failures.
+ */
+public class RestNodeAnalyzersStatsAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "node_analyzers_stats_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(
+                new Route(GET, "/_nodes/analyzers/_stats"),
+                new Route(GET, "/_nodes/{nodeId}/analyzers/_stats")
+            )
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
+        String[] nodesIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+        NodesAnalyzersStatsRequest statsRequest = new NodesAnalyzersStatsRequest(nodesIds);
+        statsRequest.timeout(request.param("timeout"));
+
+        return channel -> new RestCancellableNodeClient(nodeClient, request.getHttpChannel()).execute(
+                NodeAnalyzersStatsAction.INSTANCE, statsRequest,
+                new RestBuilderListener<NodesAnalyzersStatsResponse>(channel) {
+                    @Override
+                    public RestResponse buildResponse(NodesAnalyzersStatsResponse response, XContentBuilder builder) throws Exception {
+                        builder.startObject();
+                        RestActions.buildNodesHeader(builder, channel.request(), response);
+                        builder.field("cluster_name", response.getClusterName().value());
+                        response.toXContent(builder, channel.request());
+                        builder.endObject();
+                        return new BytesRestResponse(RestStatus.OK, builder);
+                    }
+                }
+        );
+    }
+}
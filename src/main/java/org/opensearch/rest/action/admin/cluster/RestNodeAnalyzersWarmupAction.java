@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.plugin.action.NodeAnalyzersWarmupAction;
+import org.opensearch.plugin.action.NodesAnalyzersWarmupRequest;
+import org.opensearch.plugin.action.NodesAnalyzersWarmupResponse;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.rest.action.RestBuilderListener;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.POST;
+
+/**
+ * Rest Action that warms up analyzers on nodes.
+ *
+ * Nodes warm up analyzers of all their indices and the global analyzers listed in the body:
+ * <pre>
+ * {
+ *   "analyzers": ["standard"],
+ *   "indices": true,
+ *   "text": ["The quick brown fox", "jumps over the lazy dog"],
+ *   "iterations": 100,
+ *   "time_budget": "10s"
+ * }
+ * </pre>
+ * Without "text" nodes use a built-in corpus.
+ */
+public class RestNodeAnalyzersWarmupAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "node_analyzers_warmup_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(
+                new Route(POST, "/_nodes/analyzers/_warmup"),
+                new Route(POST, "/_nodes/{nodeId}/analyzers/_warmup")
+            )
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
+        String[] nodesIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+        Map<String, Object> body = emptyMap();
+        if (request.hasContentOrSourceParam()) {
+            try (XContentParser parser = request.contentOrSourceParamParser()) {
+                body = parser.map();
+            }
+        }
+        NodesAnalyzersWarmupRequest warmupRequest = parseRequest(nodesIds, body);
+        warmupRequest.timeout(request.param("timeout"));
+
+        return channel -> new RestCancellableNodeClient(nodeClient, request.getHttpChannel()).execute(
+                NodeAnalyzersWarmupAction.INSTANCE, warmupRequest,
+                new RestBuilderListener<NodesAnalyzersWarmupResponse>(channel) {
+                    @Override
+                    public RestResponse buildResponse(NodesAnalyzersWarmupResponse response, XContentBuilder builder) throws Exception {
+                        builder.startObject();
+                        RestActions.buildNodesHeader(builder, channel.request(), response);
+                        builder.field("cluster_name", response.getClusterName().value());
+                        response.toXContent(builder, channel.request());
+                        builder.endObject();
+                        return new BytesRestResponse(RestStatus.OK, builder);
+                    }
+                }
+        );
+    }
+
+    /**
+     * @param nodesIds node IDs
+     * @param body request body, can be empty
+     * @return warm-up request
+     */
+    static NodesAnalyzersWarmupRequest parseRequest(final String[] nodesIds, final Map<String, Object> body) {
+        NodesAnalyzersWarmupRequest warmupRequest = new NodesAnalyzersWarmupRequest(nodesIds);
+        for (Map.Entry<String, Object> entry : body.entrySet()) {
+            Object value = entry.getValue();
+            switch (entry.getKey()) {
+                case "analyzers":
+                    warmupRequest.analyzers(XContentMapValues.nodeStringArrayValue(value));
+                    break;
+                case "indices":
+                    warmupRequest.indices(XContentMapValues.nodeBooleanValue(value, "indices"));
+                    break;
+                case "text":
+                    warmupRequest.texts(XContentMapValues.nodeStringArrayValue(value));
+                    break;
+                case "iterations":
+                    warmupRequest.iterations(XContentMapValues.nodeIntegerValue(value));
+                    break;
+                case "time_budget":
+                    warmupRequest.timeBudget(
+                            TimeValue.parseTimeValue(XContentMapValues.nodeStringValue(value), "time_budget")
+                    );
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown field [" + entry.getKey() + "]");
+            }
+        }
+        return warmupRequest;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.plugin.action.NodeAnalyzersWatchAction;
+import org.opensearch.plugin.action.NodesAnalyzersWatchRequest;
+import org.opensearch.plugin.action.NodesAnalyzersWatchResponse;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestBuilderListener;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+
+/**
+ * Rest Action that waits for a change of the cluster-wide analysis inventory.
+ *
+ * The client passes the "version" from the previous reply (or the ETag of {@code /_nodes/analyzers}, with or without
+ * the weak validator prefix and quotes) and gets a reply
+ * as soon as the inventory differs from it, or with "changed": false when the "timeout" (30s by default) expires.
+ * Without "version" the reply is immediate and contains all nodes.
+ */
+public class RestNodeAnalyzersWatchAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "node_analyzers_watch_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return singletonList(new Route(GET, "/_nodes/analyzers/_watch"));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
+        NodesAnalyzersWatchRequest watchRequest = new NodesAnalyzersWatchRequest();
+        String[] version = RestNodeAnalyzersAction.parseEntityTags(request.param("version"));
+        watchRequest.version(version.length > 0 ? version[0] : null);
+        watchRequest.timeout(request.paramAsTime("timeout", NodesAnalyzersWatchRequest.DEFAULT_TIMEOUT));
+
+        return channel -> new RestCancellableNodeClient(nodeClient, request.getHttpChannel()).execute(
+                NodeAnalyzersWatchAction.INSTANCE, watchRequest,
+                new RestBuilderListener<NodesAnalyzersWatchResponse>(channel) {
+                    @Override
+                    public RestResponse buildResponse(NodesAnalyzersWatchResponse response, XContentBuilder builder) throws Exception {
+                        builder.startObject();
+                        response.toXContent(builder, channel.request());
+                        builder.endObject();
+                        return new BytesRestResponse(RestStatus.OK, builder);
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.plugin.action.NodeHunspellPreloadAction;
+import org.opensearch.plugin.action.NodesHunspellPreloadRequest;
+import org.opensearch.plugin.action.NodesHunspellPreloadResponse;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.action.RestActions;
+import org.opensearch.rest.action.RestBuilderListener;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.POST;
+
+/**
+ * Rest Action that preloads hunspell dictionaries on nodes.
+ *
+ * Nodes load the dictionaries listed in the body, or all dictionaries they have if none are listed:
+ * <pre>
+ * {
+ *   "dictionaries": ["en_US", "de_DE"],
+ *   "concurrency": 2
+ * }
+ * </pre>
+ * Every node reports load time, size on disk and estimated heap size of every dictionary. A dictionary that fails
+ * to load is reported with its error, the other dictionaries are loaded anyway.
+ */
+public class RestNodeHunspellPreloadAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "node_hunspell_preload_action";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(
+                new Route(POST, "/_nodes/analyzers/_hunspell_preload"),
+                new Route(POST, "/_nodes/{nodeId}/analyzers/_hunspell_preload")
+            )
+        );
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient nodeClient) throws IOException {
+        String[] nodesIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+        Map<String, Object> body = emptyMap();
+        if (request.hasContentOrSourceParam()) {
+            try (XContentParser parser = request.contentOrSourceParamParser()) {
+                body = parser.map();
+            }
+        }
+        NodesHunspellPreloadRequest preloadRequest = parseRequest(nodesIds, body);
+        preloadRequest.timeout(request.param("timeout"));
+
+        return channel -> new RestCancellableNodeClient(nodeClient, request.getHttpChannel()).execute(
+                NodeHunspellPreloadAction.INSTANCE, preloadRequest,
+                new RestBuilderListener<NodesHunspellPreloadResponse>(channel) {
+                    @Override
+                    public RestResponse buildResponse(NodesHunspellPreloadResponse response, XContentBuilder builder) throws Exception {
+                        builder.startObject();
+                        RestActions.buildNodesHeader(builder, channel.request(), response);
+                        builder.field("cluster_name", response.getClusterName().value());
+                        response.toXContent(builder, channel.request());
+                        builder.endObject();
+                        return new BytesRestResponse(RestStatus.OK, builder);
+                    }
+                }
+        );
+    }
+
+    /**
+     * @param nodesIds node IDs
+     * @param body request body, can be empty
+     * @return preload request
+     */
+    static NodesHunspellPreloadRequest parseRequest(final String[] nodesIds, final Map<String, Object> body) {
+        NodesHunspellPreloadRequest preloadRequest = new NodesHunspellPreloadRequest(nodesIds);
+        for (Map.Entry<String, Object> entry : body.entrySet()) {
+            Object value = entry.getValue();
+            switch (entry.getKey()) {
+                case "dictionaries":
+                    preloadRequest.dictionaries(XContentMapValues.nodeStringArrayValue(value));
+                    break;
+                case "concurrency":
+                    preloadRequest.concurrency(XContentMapValues.nodeIntegerValue(value));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown field [" + entry.getKey() + "]");
+            }
+        }
+        return preloadRequest;
+    }
+}
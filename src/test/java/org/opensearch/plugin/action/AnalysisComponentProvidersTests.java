@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.analysis.TokenizerFactory;
+import org.opensearch.indices.analysis.AnalysisModule;
+import org.opensearch.plugins.AnalysisPlugin;
+import org.opensearch.plugins.PluginInfo;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.node;
+
+public class AnalysisComponentProvidersTests extends OpenSearchTestCase {
+
+    static class IcuPlugin implements AnalysisPlugin {
+        @Override
+        public Map<String, AnalysisModule.AnalysisProvider<TokenizerFactory>> getTokenizers() {
+            return Map.of("icu_tokenizer", (indexSettings, environment, name, settings) -> null);
+        }
+    }
+
+    private static final PluginInfo ICU_INFO = new PluginInfo(
+            "analysis-icu", "ICU", "1.0", Version.CURRENT, "11", IcuPlugin.class.getName(), emptyList(), false
+    );
+
+    private static final AnalysisComponentProviders.Provider ICU = new AnalysisComponentProviders.Provider(
+            "analysis-icu", IcuPlugin.class.getName()
+    );
+
+    private static NodeAnalysisInventory inventory() {
+        return NodeAnalyzersFixtures.inventory(
+                Set.of("standard"),
+                Set.of("standard", "icu_tokenizer"),
+                Set.of("lowercase"),
+                emptySet(),
+                Set.of("lowercase")
+        );
+    }
+
+    public void testLookup() {
+        AnalysisComponentProviders providers = AnalysisComponentProviders.build(inventory(), List.of(new IcuPlugin()), List.of(ICU_INFO));
+
+        assertEquals(List.of(ICU), providers.providers(ComponentNodeMatrix.TOKENIZERS, "icu_tokenizer"));
+        assertEquals(List.of(AnalysisComponentProviders.Provider.CORE), providers.providers(ComponentNodeMatrix.TOKENIZERS, "standard"));
+        assertTrue(providers.providers(ComponentNodeMatrix.TOKEN_FILTERS, "icu_tokenizer").isEmpty());
+        assertTrue(providers.providers("unknown", "standard").isEmpty());
+
+        SortedMap<String, List<AnalysisComponentProviders.Provider>> lowercase = providers.lookup("lowercase");
+        assertEquals(Set.of(ComponentNodeMatrix.TOKEN_FILTERS, ComponentNodeMatrix.NORMALIZERS), lowercase.keySet());
+        assertTrue(providers.lookup("missing").isEmpty());
+        assertTrue(providers.collisions().isEmpty());
+    }
+
+    public void testCollisions() {
+        // anonymous class, has no canonical name and no descriptor
+        AnalysisPlugin anonymous = new AnalysisPlugin() {
+            @Override
+            public Map<String, AnalysisModule.AnalysisProvider<TokenizerFactory>> getTokenizers() {
+                return Map.of("icu_tokenizer", (indexSettings, environment, name, settings) -> null);
+            }
+        };
+        AnalysisComponentProviders providers = AnalysisComponentProviders.build(
+                inventory(),
+                List.of(new IcuPlugin(), anonymous),
+                List.of(ICU_INFO)
+        );
+
+        List<AnalysisComponentProviders.Provider> icuTokenizer = providers.providers(ComponentNodeMatrix.TOKENIZERS, "icu_tokenizer");
+        assertEquals(2, icuTokenizer.size());
+        assertEquals(ICU, icuTokenizer.get(0));
+        assertEquals(anonymous.getClass().getName(), icuTokenizer.get(1).getName());
+        assertEquals(Map.of("icu_tokenizer", Map.of(ComponentNodeMatrix.TOKENIZERS, icuTokenizer)), providers.collisions());
+    }
+
+    public void testConflicts() throws IOException {
+        AnalysisComponentProviders.Provider other = new AnalysisComponentProviders.Provider("other-icu", "org.example.OtherIcuPlugin");
+        List<NodeAnalyzerProvidersInfo> nodes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            DiscoveryNode node = node(i);
+            SortedMap<String, SortedMap<String, List<AnalysisComponentProviders.Provider>>> components = new TreeMap<>();
+            components.computeIfAbsent("icu_tokenizer", c -> new TreeMap<>()).put(ComponentNodeMatrix.TOKENIZERS, List.of(i == 2 ? other : ICU));
+            components.computeIfAbsent("standard", c -> new TreeMap<>())
+                    .put(ComponentNodeMatrix.TOKENIZERS, List.of(AnalysisComponentProviders.Provider.CORE));
+            nodes.add(new NodeAnalyzerProvidersInfo(node, components, new TreeMap<>()));
+        }
+
+        NodesAnalyzerProvidersResponse response = new NodesAnalyzerProvidersResponse(ClusterName.DEFAULT, nodes, emptyList());
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            response.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                response = new NodesAnalyzerProvidersResponse(in);
+            }
+        }
+
+        assertEquals(Set.of("icu_tokenizer"), response.conflicts().keySet());
+        Map<List<AnalysisComponentProviders.Provider>, ? extends Set<String>> byProviders = response.conflicts()
+                .get("icu_tokenizer")
+                .get(ComponentNodeMatrix.TOKENIZERS);
+        assertEquals(Set.of("node_0", "node_1"), byProviders.get(List.of(ICU)));
+        assertEquals(Set.of("node_2"), byProviders.get(List.of(other)));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.util.Accountable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AnalysisHeapEstimatorTests extends OpenSearchTestCase {
+
+    private static class Dictionary {
+        private final int[] words;
+        private final Map<String, String> rules = new HashMap<>();
+
+        Dictionary(int size) {
+            words = new int[size];
+            for (int i = 0; i < size / 10; i++) {
+                rules.put("rule_" + i, "replacement_" + i);
+            }
+        }
+    }
+
+    private static class Factory {
+        private final String name;
+        private final Dictionary dictionary;
+        private final Settings settings;
+
+        Factory(String name, Dictionary dictionary) {
+            this.name = name;
+            this.dictionary = dictionary;
+            this.settings = Settings.builder().put("large", new String(new char[100_000])).build();
+        }
+    }
+
+    private static class AccountableComponent implements Accountable {
+        private final long[] ignored = new long[100_000];
+
+        @Override
+        public long ramBytesUsed() {
+            return 42;
+        }
+    }
+
+    public void testDictionaryIsCounted() {
+        long small = new AnalysisHeapEstimator().estimate(new Factory("small", new Dictionary(100)));
+        long large = new AnalysisHeapEstimator().estimate(new Factory("large", new Dictionary(100_000)));
+        assertTrue("small [" + small + "] large [" + large + "]", large - small > 100_000 * Integer.BYTES);
+        // node settings are shared, they are not attributed to the component
+        assertTrue("small [" + small + "]", small < 100_000);
+    }
+
+    public void testSharedObjectsAreCountedOnce() {
+        Dictionary dictionary = new Dictionary(10_000);
+        AnalysisHeapEstimator estimator = new AnalysisHeapEstimator();
+        long first = estimator.estimate(new Factory("first", dictionary));
+        long second = estimator.estimate(new Factory("second", dictionary));
+        assertTrue("first [" + first + "] second [" + second + "]", first > 10_000 * Integer.BYTES);
+        assertTrue("first [" + first + "] second [" + second + "]", second < 1_000);
+    }
+
+    public void testAccountableReportsItsOwnSize() {
+        List<Object> components = new ArrayList<>();
+        components.add(new AccountableComponent());
+        long size = new AnalysisHeapEstimator().estimate(components);
+        assertTrue("size [" + size + "]", size >= 42 && size < 1_000);
+    }
+}
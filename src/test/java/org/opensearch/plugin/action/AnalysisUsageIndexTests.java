@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.opensearch.plugin.action.ComponentNodeMatrix.ANALYZERS;
+import static org.opensearch.plugin.action.ComponentNodeMatrix.CHAR_FILTERS;
+import static org.opensearch.plugin.action.ComponentNodeMatrix.NORMALIZERS;
+import static org.opensearch.plugin.action.ComponentNodeMatrix.TOKENIZERS;
+import static org.opensearch.plugin.action.ComponentNodeMatrix.TOKEN_FILTERS;
+
+public class AnalysisUsageIndexTests extends OpenSearchTestCase {
+
+    private static final String MAPPING = "{\"properties\":{"
+            + "\"title\":{\"type\":\"text\",\"analyzer\":\"my_analyzer\",\"search_analyzer\":\"simple\","
+            + "\"fields\":{\"raw\":{\"type\":\"keyword\",\"normalizer\":\"my_normalizer\"}}},"
+            + "\"body\":{\"type\":\"text\"},"
+            + "\"author\":{\"properties\":{\"name\":{\"type\":\"text\",\"analyzer\":\"whitespace\"}}},"
+            + "\"count\":{\"type\":\"integer\"}"
+            + "}}";
+
+    private static IndexMetadata index(String name, Settings analysis, String mapping) throws IOException {
+        IndexMetadata.Builder builder = IndexMetadata.builder(name)
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT).put(analysis))
+                .numberOfShards(1)
+                .numberOfReplicas(0);
+        if (mapping != null) {
+            builder.putMapping(mapping);
+        }
+        return builder.build();
+    }
+
+    private static Settings analysis() {
+        return Settings.builder()
+                .put("index.analysis.analyzer.my_analyzer.tokenizer", "standard")
+                .putList("index.analysis.analyzer.my_analyzer.filter", "lowercase", "my_stop")
+                .putList("index.analysis.analyzer.my_analyzer.char_filter", "html_strip")
+                .put("index.analysis.analyzer.unused.type", "pattern")
+                .put("index.analysis.filter.my_stop.type", "stop")
+                .put("index.analysis.normalizer.my_normalizer.type", "custom")
+                .putList("index.analysis.normalizer.my_normalizer.filter", "asciifolding")
+                .build();
+    }
+
+    private static SortedSet<String> fields(String... fields) {
+        return new TreeSet<>(List.of(fields));
+    }
+
+    public void testParse() throws IOException {
+        Map<String, Map<String, SortedSet<String>>> usage = AnalysisUsageIndex.parse(index("test", analysis(), MAPPING));
+
+        assertEquals(Set.of("simple", "whitespace", "pattern"), usage.get(ANALYZERS).keySet());
+        assertEquals(fields("title"), usage.get(ANALYZERS).get("simple"));
+        assertEquals(fields("author.name"), usage.get(ANALYZERS).get("whitespace"));
+        // used only in settings
+        assertEquals(fields(), usage.get(ANALYZERS).get("pattern"));
+
+        assertEquals(Map.of("standard", fields("title")), usage.get(TOKENIZERS));
+        assertEquals(fields("title"), usage.get(TOKEN_FILTERS).get("lowercase"));
+        // custom filter resolved to its type
+        assertEquals(fields("title"), usage.get(TOKEN_FILTERS).get("stop"));
+        assertFalse(usage.get(TOKEN_FILTERS).containsKey("my_stop"));
+        assertEquals(fields("title.raw"), usage.get(TOKEN_FILTERS).get("asciifolding"));
+        assertEquals(Map.of("html_strip", fields("title")), usage.get(CHAR_FILTERS));
+        assertNull(usage.get(NORMALIZERS));
+    }
+
+    public void testParseDefaultAnalyzer() throws IOException {
+        Settings analysis = Settings.builder()
+                .put("index.analysis.analyzer.default.type", "custom")
+                .put("index.analysis.analyzer.default.tokenizer", "whitespace")
+                .build();
+        Map<String, Map<String, SortedSet<String>>> usage = AnalysisUsageIndex.parse(index("test", analysis, MAPPING));
+        // text fields without analyzer use the default analyzer of the index
+        assertEquals(fields("body"), usage.get(TOKENIZERS).get("whitespace"));
+
+        usage = AnalysisUsageIndex.parse(index("test", Settings.EMPTY, "{\"properties\":{\"f\":{\"type\":\"keyword\",\"normalizer\":\"lowercase\"}}}"));
+        assertEquals(Map.of(NORMALIZERS, Map.of("lowercase", fields("f"))), usage);
+    }
+
+    public void testIncrementalUpdates() throws IOException {
+        AnalysisUsageIndex usageIndex = new AnalysisUsageIndex(Runnable::run);
+        assertEquals(-1, usageIndex.appliedVersion());
+        AtomicBoolean applied = new AtomicBoolean();
+        usageIndex.whenApplied(1, () -> applied.set(true));
+        assertFalse(applied.get());
+
+        IndexMetadata first = index("first", analysis(), MAPPING);
+        IndexMetadata second = index("second", Settings.EMPTY, "{\"properties\":{\"f\":{\"type\":\"text\",\"analyzer\":\"simple\"}}}");
+        ClusterState empty = ClusterState.builder(ClusterName.DEFAULT).build();
+        ClusterState state = ClusterState.builder(empty)
+                .metadata(Metadata.builder().put(first, false).put(second, false).version(1))
+                .build();
+        usageIndex.clusterChanged(new ClusterChangedEvent("test", state, empty));
+
+        assertEquals(1, usageIndex.appliedVersion());
+        assertTrue(applied.get());
+        assertEquals(Map.of("first", fields("title"), "second", fields("f")), usageIndex.indicesUsing(ANALYZERS, "simple"));
+        assertEquals(Map.of("first", fields("title")), usageIndex.indicesUsing(TOKEN_FILTERS, "stop"));
+        assertTrue(usageIndex.indicesUsing(TOKENIZERS, "icu_tokenizer").isEmpty());
+        expectThrows(IllegalArgumentException.class, () -> usageIndex.indicesUsing("plugins", "x"));
+
+        // second changes, first is deleted
+        IndexMetadata secondChanged = index("second", Settings.EMPTY, "{\"properties\":{\"f\":{\"type\":\"text\",\"analyzer\":\"stop\"}}}");
+        ClusterState next = ClusterState.builder(state)
+                .metadata(Metadata.builder(state.metadata()).remove("first").put(secondChanged, false).version(2))
+                .build();
+        usageIndex.clusterChanged(new ClusterChangedEvent("test", next, state));
+
+        assertEquals(2, usageIndex.appliedVersion());
+        assertTrue(usageIndex.indicesUsing(ANALYZERS, "simple").isEmpty());
+        assertEquals(Map.of("second", fields("f")), usageIndex.indicesUsing(ANALYZERS, "stop"));
+        assertTrue(usageIndex.indicesUsing(TOKEN_FILTERS, "stop").isEmpty());
+        assertEquals(Set.of("stop"), usageIndex.usedComponents(ANALYZERS));
+        assertTrue(usageIndex.usedComponents(TOKENIZERS).isEmpty());
+
+        AnalysisUsageResponse response = TransportAnalysisUsageAction.lookup(
+                usageIndex,
+                new AnalysisUsageRequest().components(Map.of(ANALYZERS, Set.of("stop", "simple")))
+        );
+        assertEquals(2, response.getMetadataVersion());
+        assertEquals(Map.of("second", fields("f")), response.getUsage().get(ANALYZERS).get("stop"));
+        assertTrue(response.getUsage().get(ANALYZERS).get("simple").isEmpty());
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            response.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                AnalysisUsageResponse copy = new AnalysisUsageResponse(in);
+                assertEquals(response.getMetadataVersion(), copy.getMetadataVersion());
+                assertEquals(response.getUsage(), copy.getUsage());
+            }
+        }
+
+        response = TransportAnalysisUsageAction.lookup(usageIndex, new AnalysisUsageRequest());
+        assertEquals(AnalysisUsageIndex.SECTIONS.size(), response.getUsage().size());
+        assertEquals(Set.of("stop"), response.getUsage().get(ANALYZERS).keySet());
+    }
+
+    public void testRequestValidation() throws IOException {
+        AnalysisUsageRequest request = new AnalysisUsageRequest().components(Map.of(TOKENIZERS, Set.of("standard")));
+        assertNull(request.validate());
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(request.components(), new AnalysisUsageRequest(in).components());
+            }
+        }
+        assertNotNull(new AnalysisUsageRequest().components(Map.of("plugins", Set.of("x"))).validate());
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.charfilter.MappingCharFilter;
+import org.apache.lucene.analysis.charfilter.NormalizeCharMap;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.CharFilterFactory;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NameOrDefinition;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.analysis.TokenFilterFactory;
+import org.opensearch.index.analysis.TokenizerFactory;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.TextFieldMapper;
+import org.opensearch.index.mapper.TextSearchInfo;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.emptyMap;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.node;
+
+public class AnalyzerBenchmarkTests extends OpenSearchTestCase {
+
+    public void testGeneratedCorpusIsDeterministic() {
+        long seed = randomNonNegativeLong();
+        List<String> corpus = AnalyzerBenchmark.generateCorpus(10, 50, seed);
+        assertEquals(10, corpus.size());
+        assertEquals(corpus, AnalyzerBenchmark.generateCorpus(10, 50, seed));
+        for (String doc : corpus) {
+            assertEquals(50, doc.split(" ").length);
+            assertTrue(doc.length() <= 50 * 8);
+        }
+    }
+
+    public void testRun() {
+        List<String> corpus = List.of("The quick brown fox", "jumps over the lazy dog");
+        try (StandardAnalyzer analyzer = new StandardAnalyzer()) {
+            assertEquals(9, AnalyzerBenchmark.analyze(analyzer, corpus));
+
+            int iterations = randomIntBetween(1, 20);
+            AtomicInteger checks = new AtomicInteger();
+            AnalyzerBenchmark.Result result = AnalyzerBenchmark.run(analyzer, corpus, 3, iterations, checks::incrementAndGet);
+            assertEquals(iterations, result.iterations);
+            assertEquals(2, result.docs);
+            assertEquals(9L * iterations, result.tokens);
+            assertTrue(result.tookNanos > 0);
+            assertEquals(3 + iterations, checks.get());
+            assertEquals(iterations, result.iterationNanos.length);
+            assertTrue(result.iterationNanos(50) <= result.iterationNanos(99));
+            assertEquals(result.iterationNanos[iterations - 1], result.iterationNanos(100));
+        }
+    }
+
+    public void testPercentile() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+        assertEquals(50, AnalyzerBenchmark.percentile(sorted, 50));
+        assertEquals(99, AnalyzerBenchmark.percentile(sorted, 99));
+        assertEquals(100, AnalyzerBenchmark.percentile(sorted, 100));
+        assertEquals(1, AnalyzerBenchmark.percentile(sorted, 0));
+        assertEquals(7, AnalyzerBenchmark.percentile(new long[] { 7 }, 99));
+        assertEquals(0, AnalyzerBenchmark.percentile(new long[0], 50));
+    }
+
+    public void testOutliers() {
+        assertArrayEquals(new boolean[2], NodesAnalyzerBenchResponse.outliers(new double[] { 100, 10 }));
+        assertArrayEquals(new boolean[4], NodesAnalyzerBenchResponse.outliers(new double[] { 100, 100, 100, 100 }));
+        assertArrayEquals(new boolean[4], NodesAnalyzerBenchResponse.outliers(new double[] { 100, 98, 103, 101 }));
+        assertArrayEquals(
+                new boolean[] { false, false, true, false, false },
+                NodesAnalyzerBenchResponse.outliers(new double[] { 100, 98, 40, 103, 101 })
+        );
+        // most nodes identical
+        assertArrayEquals(
+                new boolean[] { false, false, false, false, true },
+                NodesAnalyzerBenchResponse.outliers(new double[] { 100, 100, 100, 100, 10 })
+        );
+        assertEquals(2.5, NodesAnalyzerBenchResponse.median(new double[] { 4, 1, 3, 2 }), 0);
+        assertEquals(3, NodesAnalyzerBenchResponse.median(new double[] { 5, 1, 3 }), 0);
+    }
+
+    public void testRunStopsWhenCancelled() {
+        try (StandardAnalyzer analyzer = new StandardAnalyzer()) {
+            AtomicInteger checks = new AtomicInteger();
+            expectThrows(TaskCancelledException.class, () -> AnalyzerBenchmark.run(analyzer, List.of("text"), 0, 100, () -> {
+                if (checks.incrementAndGet() > 5) {
+                    throw new TaskCancelledException("cancelled");
+                }
+            }));
+            assertEquals(6, checks.get());
+        }
+    }
+
+    public void testNodeInfoSerialization() throws IOException {
+        DiscoveryNode node = node(1);
+        NodeAnalyzerBenchInfo info = new NodeAnalyzerBenchInfo(
+                node, 100, 10, 20_000, 2_000_000, randomBoolean() ? -1 : 40_000, 19_000, 21_000, 25_000, 30_000, "JVM 21", 8,
+                List.of(new AnalysisStageProfile(AnalysisStageProfile.TOKENIZER, "standard", 1_500_000, -1, 20_000))
+        );
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            info.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                NodeAnalyzerBenchInfo copy = new NodeAnalyzerBenchInfo(in);
+                assertEquals(info.getIterations(), copy.getIterations());
+                assertEquals(info.getDocs(), copy.getDocs());
+                assertEquals(info.getTokens(), copy.getTokens());
+                assertEquals(info.getTookNanos(), copy.getTookNanos());
+                assertEquals(info.getAllocatedBytes(), copy.getAllocatedBytes());
+                assertEquals(info.getP50Nanos(), copy.getP50Nanos());
+                assertEquals(info.getP90Nanos(), copy.getP90Nanos());
+                assertEquals(info.getP99Nanos(), copy.getP99Nanos());
+                assertEquals(info.getMaxNanos(), copy.getMaxNanos());
+                assertEquals("JVM 21", copy.getJvmVersion());
+                assertEquals(8, copy.getAvailableProcessors());
+                assertEquals(1, copy.getStages().size());
+                assertEquals(AnalysisStageProfile.TOKENIZER, copy.getStages().get(0).getType());
+                assertEquals("standard", copy.getStages().get(0).getName());
+                assertEquals(1_500_000, copy.getStages().get(0).getTimeNanos());
+                assertEquals(-1, copy.getStages().get(0).getAllocatedBytes());
+                assertEquals(20_000, copy.getStages().get(0).getOutput());
+            }
+        }
+        assertEquals(10_000_000d, info.getTokensPerSecond(), 0.001);
+        assertEquals(100d, info.getNanosPerToken(), 0.001);
+        assertEquals(info.getAllocatedBytes() < 0 ? -1d : 2d, info.getAllocatedBytesPerToken(), 0.001);
+    }
+
+    public void testRequestSerialization() throws IOException {
+        NodesAnalyzerBenchRequest request = new NodesAnalyzerBenchRequest("node_1")
+                .tokenizer(new NameOrDefinition("standard"))
+                .tokenFilters(List.of(new NameOrDefinition("lowercase")))
+                .texts("some text")
+                .generatedCorpus(5, 6, 7L)
+                .iterations(8)
+                .warmupIterations(9)
+                .profile(true);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                NodesAnalyzerBenchRequest copy = new NodesAnalyzerBenchRequest(in);
+                assertNull(copy.analyzer());
+                assertEquals(request.tokenizer(), copy.tokenizer());
+                assertEquals(request.tokenFilters(), copy.tokenFilters());
+                assertTrue(copy.charFilters().isEmpty());
+                assertArrayEquals(request.texts(), copy.texts());
+                assertEquals(5, copy.generatedDocs());
+                assertEquals(6, copy.wordsPerDoc());
+                assertEquals(7L, copy.seed());
+                assertEquals(8, copy.iterations());
+                assertEquals(9, copy.warmupIterations());
+                assertTrue(copy.profile());
+            }
+        }
+    }
+
+    public void testRequestValidation() {
+        assertNull(new NodesAnalyzerBenchRequest().analyzer("standard").validate());
+        assertNull(new NodesAnalyzerBenchRequest().tokenizer(new NameOrDefinition("standard")).validate());
+
+        assertNotNull(new NodesAnalyzerBenchRequest().validate());
+        assertNotNull(new NodesAnalyzerBenchRequest().analyzer("standard").tokenizer(new NameOrDefinition("standard")).validate());
+        assertNotNull(new NodesAnalyzerBenchRequest().analyzer("standard")
+                .tokenFilters(List.of(new NameOrDefinition("lowercase"))).validate());
+        assertNotNull(new NodesAnalyzerBenchRequest().analyzer("standard").iterations(0).validate());
+        assertNotNull(new NodesAnalyzerBenchRequest().analyzer("standard")
+                .iterations(NodesAnalyzerBenchRequest.MAX_ITERATIONS + 1).validate());
+        assertNotNull(new NodesAnalyzerBenchRequest().analyzer("standard").warmupIterations(-1).validate());
+        assertNotNull(new NodesAnalyzerBenchRequest().analyzer("standard").generatedCorpus(0, 10, 0).validate());
+        assertNotNull(new NodesAnalyzerBenchRequest().analyzer("standard").generatedCorpus(100_000, 100_000, 0).validate());
+    }
+
+    public void testProfileChain() {
+        NormalizeCharMap.Builder mapping = new NormalizeCharMap.Builder();
+        mapping.add("&", " and ");
+        NormalizeCharMap charMap = mapping.build();
+        CharFilterFactory charFilter = new CharFilterFactory() {
+            @Override
+            public String name() {
+                return "ampersand";
+            }
+
+            @Override
+            public Reader create(Reader reader) {
+                return new MappingCharFilter(charMap, reader);
+            }
+        };
+        TokenFilterFactory lowercase = tokenFilter("lowercase", LowerCaseFilter::new);
+        TokenFilterFactory stop = tokenFilter("stop", input -> new StopFilter(input, EnglishAnalyzer.ENGLISH_STOP_WORDS_SET));
+        AnalysisChainProfiler profiler = new AnalysisChainProfiler(
+                new CharFilterFactory[] { charFilter },
+                TokenizerFactory.newFactory("whitespace", WhitespaceTokenizer::new),
+                new TokenFilterFactory[] { lowercase, stop }
+        );
+        List<String> corpus = List.of("Salt & Pepper", "The quick brown fox");
+        // salt, pepper, quick, brown, fox
+        assertEquals(5, profiler.analyze(corpus));
+        profiler.reset();
+        assertEquals(10, AnalyzerBenchmark.run(profiler::analyze, profiler::reset, corpus, 2, 2, () -> {}).tokens);
+
+        List<AnalysisStageProfile> stages = profiler.stages();
+        assertEquals(4, stages.size());
+        assertEquals(AnalysisStageProfile.CHAR_FILTER, stages.get(0).getType());
+        assertEquals("ampersand", stages.get(0).getName());
+        assertEquals(2 * ("Salt  and  Pepper".length() + "The quick brown fox".length()), stages.get(0).getOutput());
+        assertEquals(AnalysisStageProfile.TOKENIZER, stages.get(1).getType());
+        assertEquals("whitespace", stages.get(1).getName());
+        assertEquals(2 * 7, stages.get(1).getOutput());
+        assertEquals(AnalysisStageProfile.TOKEN_FILTER, stages.get(2).getType());
+        assertEquals("lowercase", stages.get(2).getName());
+        assertEquals(2 * 7, stages.get(2).getOutput());
+        assertEquals("stop", stages.get(3).getName());
+        assertEquals(2 * 5, stages.get(3).getOutput());
+        for (AnalysisStageProfile stage : stages) {
+            assertTrue(stage.getTimeNanos() >= 0);
+        }
+    }
+
+    public void testProfileAnalyzerWithoutComponents() {
+        try (StandardAnalyzer analyzer = new StandardAnalyzer()) {
+            AnalysisChainProfiler profiler = AnalysisChainProfiler.of("my_standard", analyzer);
+            assertEquals(9, profiler.analyze(List.of("The quick brown fox", "jumps over the lazy dog")));
+            List<AnalysisStageProfile> stages = profiler.stages();
+            assertEquals(1, stages.size());
+            assertEquals(AnalysisStageProfile.ANALYZER, stages.get(0).getType());
+            assertEquals("my_standard", stages.get(0).getName());
+            assertEquals(9, stages.get(0).getOutput());
+        }
+    }
+
+    private static TokenFilterFactory tokenFilter(String name, Function<TokenStream, TokenStream> create) {
+        return new TokenFilterFactory() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public TokenStream create(TokenStream tokenStream) {
+                return create.apply(tokenStream);
+            }
+        };
+    }
+
+    public void testIsSteady() {
+        assertTrue(AnalyzerWarmer.isSteady(new long[] { 100, 105, 110, 100, 102 }));
+        assertFalse(AnalyzerWarmer.isSteady(new long[] { 100, 105, 111, 100, 102 }));
+        assertFalse(AnalyzerWarmer.isSteady(new long[] { 0, 0, 0, 0, 0 }));
+    }
+
+    public void testWarmUp() {
+        List<String> corpus = List.of("The quick brown fox", "jumps over the lazy dog");
+        try (StandardAnalyzer analyzer = new StandardAnalyzer()) {
+            AtomicInteger checks = new AtomicInteger();
+            List<AnalyzerWarmupResult> results = AnalyzerWarmer.warmUp(
+                    List.of(new AnalyzerWarmer.Target("index", "standard", analyzer), new AnalyzerWarmer.Target(null, "other", analyzer)),
+                    corpus,
+                    10,
+                    TimeValue.timeValueSeconds(30).nanos(),
+                    checks::incrementAndGet
+            );
+            assertEquals(2, results.size());
+            assertEquals("index", results.get(0).getIndex());
+            assertEquals("standard", results.get(0).getName());
+            assertNull(results.get(1).getIndex());
+            int iterations = 0;
+            for (AnalyzerWarmupResult result : results) {
+                // unless the budget runs out, warm-up stops only once the target is reached and throughput is steady
+                assertTrue(result.isSteadyState() || result.getTookNanos() >= TimeValue.timeValueSeconds(15).nanos());
+                assertTrue(result.getIterations() >= 10);
+                assertTrue(result.getTookNanos() > 0);
+                assertTrue(result.getTokensPerSecond() > 0);
+                iterations += result.getIterations();
+            }
+            assertEquals(iterations, checks.get());
+        }
+    }
+
+    public void testTargetsAreAnalyzersReferencedByTheIndex() {
+        Settings settings = Settings.builder()
+                .put("index.analysis.analyzer.my_analyzer.tokenizer", "whitespace")
+                .putList("index.analysis.analyzer.my_analyzer.filter", "lowercase")
+                .build();
+        try (
+                StandardAnalyzer standard = new StandardAnalyzer();
+                EnglishAnalyzer english = new EnglishAnalyzer();
+                StandardAnalyzer custom = new StandardAnalyzer()
+        ) {
+            NamedAnalyzer defaultAnalyzer = new NamedAnalyzer("default", AnalyzerScope.INDEX, standard);
+            NamedAnalyzer englishAnalyzer = new NamedAnalyzer("english", AnalyzerScope.INDICES, english);
+            Map<String, NamedAnalyzer> analyzers = new HashMap<>();
+            analyzers.put("default", defaultAnalyzer);
+            analyzers.put("standard", new NamedAnalyzer("standard", AnalyzerScope.INDICES, standard));
+            analyzers.put("english", englishAnalyzer);
+            analyzers.put("french", new NamedAnalyzer("french", AnalyzerScope.INDICES, standard));
+            analyzers.put("my_analyzer", new NamedAnalyzer("my_analyzer", AnalyzerScope.INDEX, custom));
+            IndexAnalyzers indexAnalyzers = new IndexAnalyzers(analyzers, emptyMap(), emptyMap());
+
+            TextFieldMapper.TextFieldType body = new TextFieldMapper.TextFieldType(
+                    "body",
+                    true,
+                    false,
+                    new TextSearchInfo(TextFieldMapper.Defaults.FIELD_TYPE, null, defaultAnalyzer, defaultAnalyzer),
+                    emptyMap()
+            );
+            body.setIndexAnalyzer(defaultAnalyzer);
+            TextFieldMapper.TextFieldType title = new TextFieldMapper.TextFieldType(
+                    "title",
+                    true,
+                    false,
+                    new TextSearchInfo(TextFieldMapper.Defaults.FIELD_TYPE, null, englishAnalyzer, englishAnalyzer),
+                    emptyMap()
+            );
+            title.setIndexAnalyzer(englishAnalyzer);
+            List<MappedFieldType> fieldTypes = List.of(body, title, new KeywordFieldMapper.KeywordFieldType("tag"));
+
+            assertEquals(
+                    Set.of("default", "english", "my_analyzer", "_keyword"),
+                    AnalyzerWarmer.referencedAnalyzers(settings, fieldTypes)
+            );
+            List<AnalyzerWarmer.Target> targets = AnalyzerWarmer.targets("index", settings, indexAnalyzers, fieldTypes);
+            // built-in analyzers no field uses are left out, "_keyword" is not an analyzer of the index
+            assertEquals(List.of("default", "english", "my_analyzer"), targets.stream().map(t -> t.name).collect(Collectors.toList()));
+            assertEquals("english", targets.get(1).definition);
+            assertEquals(NodeDuplicateAnalyzers.definition(settings, "my_analyzer"), targets.get(2).definition);
+        }
+    }
+
+    public void testWarmUpStopsWhenBudgetRunsOut() {
+        try (StandardAnalyzer analyzer = new StandardAnalyzer()) {
+            AnalyzerWarmupResult result = AnalyzerWarmer.warmUp(
+                    new AnalyzerWarmer.Target(null, "standard", analyzer), List.of("text"), 1_000_000, 0, () -> {}
+            );
+            assertEquals(1, result.getIterations());
+            assertFalse(result.isSteadyState());
+        }
+    }
+
+    public void testWarmupSerialization() throws IOException {
+        DiscoveryNode node = node(1);
+        NodeAnalyzersWarmupInfo info = new NodeAnalyzersWarmupInfo(node, 5_000_000, List.of(
+                new AnalyzerWarmupResult("index", "my_analyzer", 120, 4_000_000, 1_000_000.5, true),
+                new AnalyzerWarmupResult(null, "standard", 100, 1_000_000, 2_000_000, false)
+        ));
+        assertFalse(info.isSteadyState());
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            info.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                NodeAnalyzersWarmupInfo copy = new NodeAnalyzersWarmupInfo(in);
+                assertEquals(5_000_000, copy.getTookNanos());
+                assertEquals(2, copy.getAnalyzers().size());
+                AnalyzerWarmupResult result = copy.getAnalyzers().get(0);
+                assertEquals("index", result.getIndex());
+                assertEquals("my_analyzer", result.getName());
+                assertEquals(120, result.getIterations());
+                assertEquals(4_000_000, result.getTookNanos());
+                assertEquals(1_000_000.5, result.getTokensPerSecond(), 0);
+                assertTrue(result.isSteadyState());
+                assertNull(copy.getAnalyzers().get(1).getIndex());
+                assertFalse(copy.isSteadyState());
+            }
+        }
+
+        NodesAnalyzersWarmupRequest request = new NodesAnalyzersWarmupRequest("node_1")
+                .analyzers("standard")
+                .indices(false)
+                .texts("some text")
+                .iterations(50)
+                .timeBudget(TimeValue.timeValueSeconds(3));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                NodesAnalyzersWarmupRequest copy = new NodesAnalyzersWarmupRequest(in);
+                assertArrayEquals(new String[] { "standard" }, copy.analyzers());
+                assertFalse(copy.indices());
+                assertArrayEquals(new String[] { "some text" }, copy.texts());
+                assertEquals(50, copy.iterations());
+                assertEquals(TimeValue.timeValueSeconds(3), copy.timeBudget());
+            }
+        }
+    }
+
+    public void testWarmupRequestValidation() {
+        assertNull(new NodesAnalyzersWarmupRequest().validate());
+        assertEquals(AnalyzerWarmer.DEFAULT_CORPUS, new NodesAnalyzersWarmupRequest().corpus());
+        assertNotNull(new NodesAnalyzersWarmupRequest().iterations(0).validate());
+        assertNotNull(new NodesAnalyzersWarmupRequest().timeBudget(TimeValue.ZERO).validate());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices.IndexRemovalReason;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Warm-up before shard recovery, see {@link AnalyzerWarmupListener#warmUpOnce}.
+ */
+public class AnalyzerWarmupListenerTests extends OpenSearchTestCase {
+
+    private static final TimeValue BUDGET = TimeValue.timeValueSeconds(10);
+
+    public void testIndexIsWarmedUpOnce() {
+        AnalyzerWarmupListener listener = new AnalyzerWarmupListener();
+        Index index = new Index("test", "uuid_1");
+        AtomicInteger warmups = new AtomicInteger();
+        for (int shard = 0; shard < 3; shard++) {
+            listener.warmUpOnce(index.getUUID(), new ShardId(index, shard), BUDGET, warmups::incrementAndGet);
+        }
+        assertEquals(1, warmups.get());
+
+        listener.warmUpOnce("uuid_2", new ShardId("other", "uuid_2", 0), BUDGET, warmups::incrementAndGet);
+        assertEquals(2, warmups.get());
+
+        // an index allocated to the node again is warmed up again
+        listener.afterIndexRemoved(index, null, IndexRemovalReason.NO_LONGER_ASSIGNED);
+        listener.warmUpOnce(index.getUUID(), new ShardId(index, 0), BUDGET, warmups::incrementAndGet);
+        assertEquals(3, warmups.get());
+    }
+
+    public void testDefinitionsAreWarmedUpOncePerNode() {
+        AnalyzerWarmupListener listener = new AnalyzerWarmupListener();
+        try (StandardAnalyzer analyzer = new StandardAnalyzer()) {
+            List<AnalyzerWarmer.Target> first = List.of(
+                    new AnalyzerWarmer.Target("index_1", "english", analyzer),
+                    new AnalyzerWarmer.Target("index_1", "my_analyzer", analyzer, "{tokenizer=[whitespace]}")
+            );
+            assertEquals(first, listener.claim(first));
+
+            // the same custom definition under another name and a new built-in analyzer
+            AnalyzerWarmer.Target renamed = new AnalyzerWarmer.Target("index_2", "other", analyzer, "{tokenizer=[whitespace]}");
+            AnalyzerWarmer.Target french = new AnalyzerWarmer.Target("index_2", "french", analyzer);
+            assertEquals(List.of(french), listener.claim(List.of(renamed, french)));
+
+            // all warmed up already, such index skips the warm-up
+            assertEquals(List.of(), listener.claim(List.of(new AnalyzerWarmer.Target("index_3", "english", analyzer))));
+
+            // definitions stay warm when their indices are removed
+            listener.afterIndexRemoved(new Index("index_1", "uuid_1"), null, IndexRemovalReason.DELETED);
+            assertEquals(List.of(), listener.claim(first));
+        }
+    }
+
+    public void testFailureDoesNotFailRecovery() {
+        AnalyzerWarmupListener listener = new AnalyzerWarmupListener();
+        ShardId shardId = new ShardId("test", "uuid_1", 0);
+        listener.warmUpOnce(shardId.getIndex().getUUID(), shardId, BUDGET, () -> {
+            throw new IllegalStateException("failed");
+        });
+        // done, even though it failed
+        AtomicInteger warmups = new AtomicInteger();
+        listener.warmUpOnce(shardId.getIndex().getUUID(), new ShardId(shardId.getIndex(), 1), BUDGET, warmups::incrementAndGet);
+        assertEquals(0, warmups.get());
+    }
+
+    public void testOtherShardsWaitAtMostTheBudget() throws Exception {
+        AnalyzerWarmupListener listener = new AnalyzerWarmupListener();
+        ShardId first = new ShardId("test", "uuid_1", 0);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread warmingUp = new Thread(() -> listener.warmUpOnce(first.getIndex().getUUID(), first, BUDGET, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        warmingUp.start();
+        try {
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            long startNanos = System.nanoTime();
+            AtomicInteger warmups = new AtomicInteger();
+            listener.warmUpOnce(
+                    first.getIndex().getUUID(),
+                    new ShardId(first.getIndex(), 1),
+                    TimeValue.timeValueMillis(50),
+                    warmups::incrementAndGet
+            );
+            assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(50));
+            assertEquals(0, warmups.get());
+        } finally {
+            release.countDown();
+            warmingUp.join();
+        }
+    }
+}
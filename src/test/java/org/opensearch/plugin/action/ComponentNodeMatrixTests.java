@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+public class ComponentNodeMatrixTests extends OpenSearchTestCase {
+
+    private static NodesAnalyzersResponse response(NodeAnalysisInventory... inventories) {
+        return NodeAnalyzersFixtures.response(inventories.length, inventories);
+    }
+
+    private static NodeAnalysisInventory inventory(Set<String> tokenizers) {
+        return NodeAnalyzersFixtures.inventory(Set.of("standard"), tokenizers, emptySet(), emptySet(), emptySet());
+    }
+
+    public void testMatrix() {
+        NodeAnalysisInventory common = inventory(Set.of("standard"));
+        NodeAnalysisInventory extra = inventory(Set.of("standard", "icu_tokenizer"));
+        ComponentNodeMatrix matrix = ComponentNodeMatrix.build(response(common, extra, common, extra, common));
+
+        assertEquals(5, matrix.getNodes().size());
+        BitSet standard = matrix.getSection(ComponentNodeMatrix.TOKENIZERS).get("standard");
+        assertTrue(matrix.isOnAllNodes(standard));
+        BitSet icu = matrix.getSection(ComponentNodeMatrix.TOKENIZERS).get("icu_tokenizer");
+        assertFalse(matrix.isOnAllNodes(icu));
+        assertEquals(BitSet.valueOf(new long[] { 0b01010 }), icu);
+        assertTrue(matrix.getSection(ComponentNodeMatrix.TOKEN_FILTERS).isEmpty());
+    }
+
+    public void testDiff() throws IOException {
+        NodeAnalysisInventory common = inventory(Set.of("standard"));
+        NodeAnalysisInventory extra = inventory(Set.of("standard", "icu_tokenizer"));
+        NodeAnalysisInventory missing = inventory(Set.of("standard", "icu_tokenizer", "kuromoji_tokenizer"));
+        ComponentNodeMatrix matrix = ComponentNodeMatrix.build(response(common, extra, missing, missing, missing));
+
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        new NodesAnalyzersDiff(matrix).toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String json = builder.endObject().toString();
+
+        assertThat(json, containsString("\"node_count\":5"));
+        assertThat(json, not(containsString("\"standard\"")));
+        assertThat(json, containsString("\"icu_tokenizer\":{\"present_count\":4,\"missing_on\":[\"node_0\"]}"));
+        assertThat(json, containsString("\"kuromoji_tokenizer\":{\"present_count\":3,\"missing_on\":[\"node_0\",\"node_1\"]}"));
+    }
+
+    public void testResolution() throws IOException {
+        NodeAnalysisInventory common = inventory(Set.of("standard"));
+        NodeAnalysisInventory extra = inventory(Set.of("standard", "icu_tokenizer"));
+        ComponentNodeMatrix matrix = ComponentNodeMatrix.build(response(common, extra, extra));
+
+        Map<String, Set<String>> requested = new LinkedHashMap<>();
+        requested.put(ComponentNodeMatrix.TOKENIZERS, new LinkedHashSet<>(List.of("standard", "icu_tokenizer", "unknown")));
+        NodesAnalyzersResolution resolution = new NodesAnalyzersResolution(matrix, requested);
+        assertFalse(resolution.isAvailableOnAllNodes());
+
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        resolution.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String json = builder.endObject().toString();
+
+        assertThat(json, containsString("\"nodes\":[\"node_0\",\"node_1\",\"node_2\"]"));
+        assertThat(json, containsString("\"tokenizers\":{\"standard\":\"111\",\"icu_tokenizer\":\"011\",\"unknown\":\"000\"}"));
+        assertThat(json, containsString("\"missing\":{\"tokenizers\":[\"icu_tokenizer\",\"unknown\"]}"));
+
+        requested.put(ComponentNodeMatrix.TOKENIZERS, Set.of("standard"));
+        assertTrue(new NodesAnalyzersResolution(matrix, requested).isAvailableOnAllNodes());
+    }
+
+    public void testProviders() {
+        NodeAnalysisInventory core = inventory(Set.of("standard"));
+        NodeAnalysisInventory icu = new NodeAnalysisInventory(
+                Set.of("standard"),
+                Set.of("standard", "icu_tokenizer"),
+                emptySet(),
+                emptySet(),
+                emptySet(),
+                Map.of("org.opensearch.plugin.analysis.icu.AnalysisICUPlugin", new NodeAnalyzersInfo.AnalysisPluginComponents(
+                        "org.opensearch.plugin.analysis.icu.AnalysisICUPlugin",
+                        emptySet(),
+                        Set.of("icu_tokenizer"),
+                        emptySet(),
+                        emptySet(),
+                        emptySet()
+                ))
+        );
+        ComponentNodeMatrix matrix = ComponentNodeMatrix.build(response(core, icu));
+
+        assertEquals(Set.of(NodeAnalysisHeapUsage.CORE), matrix.getProviders(ComponentNodeMatrix.TOKENIZERS, "standard"));
+        assertEquals(
+                Set.of("org.opensearch.plugin.analysis.icu.AnalysisICUPlugin"),
+                matrix.getProviders(ComponentNodeMatrix.TOKENIZERS, "icu_tokenizer")
+        );
+        assertEquals(Set.of(NodeAnalysisHeapUsage.CORE), matrix.getProviders(ComponentNodeMatrix.ANALYZERS, "standard"));
+    }
+
+    public void testColumnarLayout() throws IOException {
+        NodeAnalysisInventory common = inventory(Set.of("standard"));
+        NodeAnalysisInventory extra = inventory(Set.of("standard", "icu_tokenizer"));
+        NodesAnalyzersResponse response = response(extra, extra, common, extra, common);
+        ToXContent.Params params = new ToXContent.MapParams(
+                Map.of(NodesAnalyzersResponse.LAYOUT_PARAM, NodesAnalyzersResponse.LAYOUT_COLUMNAR)
+        );
+
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        response.toXContent(builder, params);
+        String json = builder.endObject().toString();
+
+        assertThat(json, containsString("\"nodes\":[\"node_0\",\"node_1\",\"node_2\",\"node_3\",\"node_4\"]"));
+        assertThat(json, containsString("{\"type\":\"analyzers\",\"name\":\"standard\",\"plugins\":[\"_core\"],\"nodes\":[0,4]}"));
+        assertThat(json, containsString("{\"type\":\"tokenizers\",\"name\":\"icu_tokenizer\",\"plugins\":[\"_core\"],\"nodes\":[0,1,3,3]}"));
+    }
+
+    public void testColumnarLayoutSmile() throws IOException {
+        NodeAnalysisInventory common = inventory(Set.of("standard"));
+        NodeAnalysisInventory extra = inventory(Set.of("standard", "icu_tokenizer"));
+        NodeAnalysisInventory[] inventories = new NodeAnalysisInventory[64];
+        for (int i = 0; i < inventories.length; i++) {
+            inventories[i] = i % 2 == 0 ? extra : common;
+        }
+        NodesAnalyzersResponse response = response(inventories);
+        ToXContent.Params params = new ToXContent.MapParams(
+                Map.of(NodesAnalyzersResponse.LAYOUT_PARAM, NodesAnalyzersResponse.LAYOUT_COLUMNAR)
+        );
+
+        XContentBuilder builder = XContentFactory.smileBuilder().startObject();
+        response.toXContent(builder, params);
+        builder.endObject();
+        Map<String, Object> map = XContentHelper.convertToMap(BytesReference.bytes(builder), false, XContentType.SMILE).v2();
+
+        assertEquals(64, ((List<?>) map.get("nodes")).size());
+        BitSet icu = null;
+        for (Object row : (List<?>) map.get("components")) {
+            Map<?, ?> component = (Map<?, ?>) row;
+            if ("tokenizers".equals(component.get("type")) && "icu_tokenizer".equals(component.get("name"))) {
+                // every other node, a bitmap is shorter than 32 ranges
+                assertNull(component.get("nodes"));
+                icu = BitSet.valueOf((byte[]) component.get("nodes_bitmap"));
+            }
+        }
+        assertNotNull(icu);
+        assertEquals(32, icu.cardinality());
+        assertTrue(icu.get(0));
+        assertFalse(icu.get(1));
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.node;
+
+public class HunspellPreloaderTests extends OpenSearchTestCase {
+
+    public void testAvailable() throws IOException {
+        Path hunspellDir = createTempDir().resolve(HunspellPreloader.HUNSPELL_DIR);
+        assertEquals(asList("xx_plugin"), available(hunspellDir, Set.of("xx_plugin")));
+
+        Files.createDirectories(hunspellDir.resolve("en_US"));
+        Files.createDirectories(hunspellDir.resolve("de_DE"));
+        Files.write(hunspellDir.resolve("not_a_dictionary.txt"), new byte[] { 1 });
+        assertEquals(asList("de_DE", "en_US", "xx_plugin"), available(hunspellDir, Set.of("xx_plugin")));
+    }
+
+    /**
+     * Test file systems add random "extra" files and directories, they are not dictionaries of the test.
+     */
+    private static List<String> available(Path hunspellDir, Set<String> pluginDictionaries) throws IOException {
+        List<String> names = new ArrayList<>(HunspellPreloader.available(hunspellDir, pluginDictionaries));
+        names.removeIf(name -> name.startsWith("extra"));
+        return names;
+    }
+
+    public void testDiskSize() throws IOException {
+        Path dictionaryDir = createTempDir().resolve("en_US");
+        Files.createDirectories(dictionaryDir.resolve("nested"));
+        Files.write(dictionaryDir.resolve("en_US.aff"), "SET UTF-8\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(dictionaryDir.resolve("en_US.dic"), new byte[1000]);
+        Files.write(dictionaryDir.resolve("nested").resolve("ignored.dic"), new byte[10]);
+        assertEquals(1010, HunspellPreloader.diskSize(dictionaryDir));
+    }
+
+    public void testUsedBy() {
+        Settings indexSettings = Settings.builder()
+                .put("index.analysis.filter.my_hunspell.type", "hunspell")
+                .put("index.analysis.filter.my_hunspell.locale", "en_US")
+                .put("index.analysis.filter.my_other_hunspell.type", "hunspell")
+                .put("index.analysis.filter.my_other_hunspell.lang", "de_DE")
+                .put("index.analysis.filter.my_stop.type", "stop")
+                .put("index.analysis.filter.my_stop.locale", "xx_not_a_dictionary")
+                .build();
+        assertEquals(Set.of("en_US", "de_DE"), HunspellPreloader.usedBy(indexSettings));
+        assertEquals(Set.of(), HunspellPreloader.usedBy(Settings.EMPTY));
+    }
+
+    public void testPreloadIsBounded() throws Exception {
+        ExecutorService executor = newExecutor(8);
+        try {
+            List<String> names = new ArrayList<>();
+            int count = randomIntBetween(1, 20);
+            for (int i = 0; i < count; i++) {
+                names.add("dict_" + i);
+            }
+            int concurrency = randomIntBetween(1, 4);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger maxRunning = new AtomicInteger();
+            List<HunspellPreloadResult> results = HunspellPreloader.preload(names, concurrency, executor, name -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return new HunspellPreloadResult(name, HunspellPreloadResult.SOURCE_CONFIG, false, 1, 10, 100, null);
+            }, () -> {});
+            assertEquals(names.size(), results.size());
+            for (int i = 0; i < names.size(); i++) {
+                assertEquals(names.get(i), results.get(i).getName());
+            }
+            assertTrue(maxRunning.get() >= 1);
+            assertTrue(maxRunning.get() <= concurrency);
+        } finally {
+            ThreadPool.terminate(executor, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testPreloadCancelled() throws Exception {
+        ExecutorService executor = newExecutor(2);
+        try {
+            AtomicInteger loaded = new AtomicInteger();
+            expectThrows(
+                    TaskCancelledException.class,
+                    () -> HunspellPreloader.preload(asList("a", "b", "c"), 2, executor, name -> {
+                        loaded.incrementAndGet();
+                        return new HunspellPreloadResult(name, HunspellPreloadResult.SOURCE_CONFIG, false, 1, 10, 100, null);
+                    }, () -> {
+                        throw new TaskCancelledException("cancelled");
+                    })
+            );
+            assertEquals(0, loaded.get());
+        } finally {
+            ThreadPool.terminate(executor, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    public void testSerialization() throws IOException {
+        DiscoveryNode node = node(0);
+        NodeHunspellPreloadInfo info = new NodeHunspellPreloadInfo(node, 5_000_000, 2, asList(
+                new HunspellPreloadResult("en_US", HunspellPreloadResult.SOURCE_CONFIG, false, 4_000_000, 1024, 4096, null),
+                new HunspellPreloadResult("xx_plugin", HunspellPreloadResult.SOURCE_PLUGIN, true, 1000, -1, 2048, null),
+                new HunspellPreloadResult("missing", HunspellPreloadResult.SOURCE_CONFIG, false, 1000, -1, -1, "failed to load")
+        ));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            info.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                NodeHunspellPreloadInfo read = new NodeHunspellPreloadInfo(in);
+                assertEquals(5_000_000, read.getTookNanos());
+                assertEquals(2, read.getConcurrency());
+                assertEquals(3, read.getDictionaries().size());
+                HunspellPreloadResult config = read.getDictionaries().get(0);
+                assertEquals("en_US", config.getName());
+                assertEquals(HunspellPreloadResult.SOURCE_CONFIG, config.getSource());
+                assertEquals(1024, config.getDiskBytes());
+                assertEquals(4096, config.getHeapBytes());
+                assertTrue(config.isLoaded());
+                assertFalse(config.isCached());
+                assertEquals(-1, read.getDictionaries().get(1).getDiskBytes());
+                assertTrue(read.getDictionaries().get(1).isCached());
+                HunspellPreloadResult failed = read.getDictionaries().get(2);
+                assertFalse(failed.isLoaded());
+                assertEquals("failed to load", failed.getError());
+            }
+        }
+    }
+
+    public void testValidation() {
+        assertNull(new NodesHunspellPreloadRequest().dictionaries("en_US").validate());
+        assertNotNull(new NodesHunspellPreloadRequest().concurrency(0).validate());
+        assertNotNull(new NodesHunspellPreloadRequest().concurrency(NodesHunspellPreloadRequest.MAX_CONCURRENCY + 1).validate());
+        assertNotNull(new NodesHunspellPreloadRequest().dictionaries("..").validate());
+        assertNotNull(new NodesHunspellPreloadRequest().dictionaries("../en_US").validate());
+    }
+
+    private static ExecutorService newExecutor(int size) {
+        return OpenSearchExecutors.newFixed(
+                "hunspell_test", size, 100, OpenSearchExecutors.daemonThreadFactory("hunspell_test"), new ThreadContext(Settings.EMPTY)
+        );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class LongHistogramTests extends OpenSearchTestCase {
+
+    public void testBucketBounds() {
+        for (int bucket = 0; bucket < LongHistogram.BUCKETS - 1; bucket++) {
+            long highest = LongHistogram.highestValue(bucket);
+            assertEquals(bucket, LongHistogram.bucket(highest));
+            assertEquals(bucket + 1, LongHistogram.bucket(highest + 1));
+        }
+    }
+
+    public void testRelativeError() {
+        for (int i = 0; i < 1000; i++) {
+            long value = randomLongBetween(0, 1L << LongHistogram.MAX_EXPONENT);
+            long highest = LongHistogram.highestValue(LongHistogram.bucket(value));
+            assertTrue(highest >= value);
+            assertTrue(value + " reported as " + highest, highest - value <= value / LongHistogram.SUB_BUCKETS);
+        }
+    }
+
+    public void testPercentiles() {
+        LongHistogram histogram = new LongHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000L);
+        }
+        LongHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(5050 * 1000L, snapshot.getSum());
+        assertEquals(50500, snapshot.getAvg());
+        assertEquals(100_000, snapshot.getMax());
+        assertBetween(snapshot.percentile(50), 50_000, 50_000 + 50_000 / LongHistogram.SUB_BUCKETS);
+        assertBetween(snapshot.percentile(99), 99_000, 100_000);
+        assertEquals(100_000, snapshot.percentile(100));
+        assertEquals(0, new LongHistogram().snapshot().percentile(50));
+    }
+
+    public void testHugeAndNegativeValues() {
+        LongHistogram histogram = new LongHistogram();
+        histogram.record(-1);
+        histogram.record(Long.MAX_VALUE / 2);
+        LongHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.percentile(50));
+        assertEquals(Long.MAX_VALUE / 2, snapshot.getMax());
+        assertEquals(Long.MAX_VALUE / 2, snapshot.percentile(100));
+    }
+
+    public void testSerialization() throws IOException {
+        LongHistogram histogram = new LongHistogram();
+        for (int i = 0; i < randomIntBetween(0, 1000); i++) {
+            histogram.record(randomLongBetween(0, 1_000_000_000L));
+        }
+        LongHistogram.Snapshot snapshot = histogram.snapshot();
+        BytesStreamOutput out = new BytesStreamOutput();
+        snapshot.writeTo(out);
+        LongHistogram.Snapshot copy;
+        try (StreamInput in = out.bytes().streamInput()) {
+            copy = new LongHistogram.Snapshot(in);
+        }
+        assertEquals(snapshot.getCount(), copy.getCount());
+        assertEquals(snapshot.getSum(), copy.getSum());
+        assertEquals(snapshot.getMax(), copy.getMax());
+        for (double percentile : new double[] { 1, 50, 90, 99, 100 }) {
+            assertEquals(snapshot.percentile(percentile), copy.percentile(percentile));
+        }
+    }
+
+    private static void assertBetween(long value, long min, long max) {
+        assertTrue(value + " not in [" + min + ", " + max + "]", value >= min && value <= max);
+    }
+}
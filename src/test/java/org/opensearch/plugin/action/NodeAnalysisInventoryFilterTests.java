@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+
+public class NodeAnalysisInventoryFilterTests extends OpenSearchTestCase {
+
+    private static NodeAnalysisInventory inventory() {
+        return new NodeAnalysisInventory(
+                Set.of("standard", "icu_analyzer"),
+                Set.of("standard", "icu_tokenizer"),
+                Set.of("lowercase", "icu_folding", "icu_normalizer"),
+                Set.of("icu_normalizer"),
+                Set.of("lowercase"),
+                Map.of(
+                        "icu", new NodeAnalyzersInfo.AnalysisPluginComponents(
+                                "icu",
+                                Set.of("icu_analyzer"),
+                                Set.of("icu_tokenizer"),
+                                Set.of("icu_folding", "icu_normalizer"),
+                                Set.of("icu_normalizer"),
+                                emptySet()
+                        ),
+                        "other", new NodeAnalyzersInfo.AnalysisPluginComponents(
+                                "other", emptySet(), emptySet(), Set.of("other_filter"), emptySet(), emptySet()
+                        )
+                )
+        );
+    }
+
+    private static String[] array(String... values) {
+        return values;
+    }
+
+    public void testAll() {
+        NodeAnalysisInventory inventory = inventory();
+        assertTrue(NodeAnalysisInventoryFilter.ALL.isAll());
+        assertSame(inventory, NodeAnalysisInventoryFilter.ALL.apply(inventory));
+    }
+
+    public void testSections() {
+        NodeAnalysisInventoryFilter filter = new NodeAnalysisInventoryFilter(array("tokenFilters"), array(), array());
+        NodeAnalysisInventory filtered = filter.apply(inventory());
+        assertEquals(Set.of("lowercase", "icu_folding", "icu_normalizer"), filtered.getTokenFiltersKeySet());
+        assertTrue(filtered.getAnalyzersKeySet().isEmpty());
+        assertTrue(filtered.getCharFiltersKeySet().isEmpty());
+        assertTrue(filtered.getNodeAnalysisPlugins().isEmpty());
+    }
+
+    public void testNames() {
+        NodeAnalysisInventoryFilter filter = new NodeAnalysisInventoryFilter(array(), array("icu_*", "lowercase"), array());
+        NodeAnalysisInventory filtered = filter.apply(inventory());
+        assertEquals(Set.of("icu_analyzer"), filtered.getAnalyzersKeySet());
+        assertEquals(Set.of("lowercase", "icu_folding", "icu_normalizer"), filtered.getTokenFiltersKeySet());
+        assertEquals(Set.of("lowercase"), filtered.getNormalizersKeySet());
+        // plugin without any matching component is left out
+        assertEquals(Set.of("icu"), filtered.getNodeAnalysisPlugins().keySet());
+    }
+
+    public void testPlugins() {
+        NodeAnalysisInventoryFilter filter = new NodeAnalysisInventoryFilter(array(), array(), array("oth*"));
+        NodeAnalysisInventory filtered = filter.apply(inventory());
+        assertEquals(Set.of("other"), filtered.getNodeAnalysisPlugins().keySet());
+        assertEquals(inventory().getTokenizersKeySet(), filtered.getTokenizersKeySet());
+    }
+
+    public void testUnknownSection() {
+        IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> new NodeAnalysisInventoryFilter(array("foo"), array(), array())
+        );
+        assertTrue(e.getMessage().contains("Unknown section [foo]"));
+    }
+
+    public void testSerialization() throws IOException {
+        NodeAnalysisInventoryFilter filter = new NodeAnalysisInventoryFilter(array("tokenizers"), array("icu_*"), array("icu"));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            filter.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                NodeAnalysisInventoryFilter copy = new NodeAnalysisInventoryFilter(in);
+                assertArrayEquals(filter.sections(), copy.sections());
+                assertArrayEquals(filter.names(), copy.names());
+                assertArrayEquals(filter.plugins(), copy.plugins());
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonMap;
+import static org.opensearch.test.OpenSearchTestCase.buildNewFakeTransportAddress;
+import static org.opensearch.test.OpenSearchTestCase.randomAlphaOfLengthBetween;
+import static org.opensearch.test.OpenSearchTestCase.randomIntBetween;
+import static org.opensearch.test.OpenSearchTestCase.randomUnique;
+
+/**
+ * Nodes, inventories and responses shared by the tests of this package.
+ */
+final class NodeAnalyzersFixtures {
+
+    private NodeAnalyzersFixtures() {}
+
+    static DiscoveryNode node(String id) {
+        return new DiscoveryNode(id, buildNewFakeTransportAddress(), Version.CURRENT);
+    }
+
+    /**
+     * @param i node number
+     * @return node with ID "node_{i}"
+     */
+    static DiscoveryNode node(int i) {
+        return node("node_" + i);
+    }
+
+    /**
+     * @param count number of nodes
+     * @return nodes "node_0" to "node_{count - 1}"
+     */
+    static List<DiscoveryNode> nodes(int count) {
+        List<DiscoveryNode> nodes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            nodes.add(node(i));
+        }
+        return nodes;
+    }
+
+    static NodeAnalysisInventory randomInventory() {
+        Map<String, NodeAnalyzersInfo.AnalysisPluginComponents> plugins = singletonMap(
+                "org.opensearch.plugin.TestPlugin",
+                new NodeAnalyzersInfo.AnalysisPluginComponents(
+                        "org.opensearch.plugin.TestPlugin",
+                        randomNames(),
+                        randomNames(),
+                        randomNames(),
+                        emptySet(),
+                        emptySet()
+                )
+        );
+        return new NodeAnalysisInventory(randomNames(), randomNames(), randomNames(), randomNames(), randomNames(), plugins);
+    }
+
+    static Set<String> randomNames() {
+        return randomUnique(() -> randomAlphaOfLengthBetween(3, 12), randomIntBetween(0, 20));
+    }
+
+    /**
+     * @return inventory of the given components, none of them provided by a plugin
+     */
+    static NodeAnalysisInventory inventory(
+            Set<String> analyzers,
+            Set<String> tokenizers,
+            Set<String> tokenFilters,
+            Set<String> charFilters,
+            Set<String> normalizers
+    ) {
+        return new NodeAnalysisInventory(analyzers, tokenizers, tokenFilters, charFilters, normalizers, emptyMap());
+    }
+
+    static NodesAnalyzersResponse response(List<NodeAnalyzersInfo> nodes) {
+        return new NodesAnalyzersResponse(new ClusterName("test"), nodes, emptyList());
+    }
+
+    /**
+     * @param numberOfNodes number of nodes, "node_0" and so on
+     * @param inventories inventories assigned to the nodes round-robin
+     * @return response of all nodes
+     */
+    static NodesAnalyzersResponse response(int numberOfNodes, NodeAnalysisInventory... inventories) {
+        List<NodeAnalyzersInfo> nodes = new ArrayList<>();
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodes.add(new NodeAnalyzersInfo(node(i), inventories[i % inventories.length]));
+        }
+        return response(nodes);
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonMap;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.node;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.randomInventory;
+
+public class NodeAnalyzersInfoTests extends OpenSearchTestCase {
+
+    private static NodeAnalyzersInfo roundTrip(NodeAnalyzersInfo info) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            info.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                return new NodeAnalyzersInfo(in);
+            }
+        }
+    }
+
+    public void testDigestIsStable() {
+        NodeAnalysisInventory inventory = randomInventory();
+        NodeAnalysisInventory copy = new NodeAnalysisInventory(
+                inventory.getAnalyzersKeySet(),
+                inventory.getTokenizersKeySet(),
+                inventory.getTokenFiltersKeySet(),
+                inventory.getCharFiltersKeySet(),
+                inventory.getNormalizersKeySet(),
+                inventory.getNodeAnalysisPlugins()
+        );
+        assertEquals(inventory.digest(), copy.digest());
+    }
+
+    public void testDigestDiffersForDifferentContent() {
+        NodeAnalysisInventory inventory = randomInventory();
+        Set<String> analyzers = new HashSet<>(inventory.getAnalyzersKeySet());
+        analyzers.add("xx_extra_analyzer");
+        NodeAnalysisInventory other = new NodeAnalysisInventory(
+                analyzers,
+                inventory.getTokenizersKeySet(),
+                inventory.getTokenFiltersKeySet(),
+                inventory.getCharFiltersKeySet(),
+                inventory.getNormalizersKeySet(),
+                inventory.getNodeAnalysisPlugins()
+        );
+        assertNotEquals(inventory.digest(), other.digest());
+    }
+
+    public void testSerializationWithInventory() throws IOException {
+        DiscoveryNode node = node(1);
+        NodeAnalysisInventory inventory = randomInventory();
+        NodeAnalyzersInfo info = roundTrip(new NodeAnalyzersInfo(node, inventory));
+
+        assertTrue(info.hasInventory());
+        assertEquals(inventory.digest(), info.getDigest());
+        assertEquals(inventory.digest(), info.getInventory().digest());
+        assertEquals(inventory.getAnalyzersKeySet(), info.getAnalyzersKeySet());
+        assertEquals(inventory.getTokenFiltersKeySet(), info.getTokenFiltersKeySet());
+        assertEquals(inventory.getNodeAnalysisPlugins().keySet(), info.getNodeAnalysisPlugins().keySet());
+    }
+
+    public void testInventoryIsWrittenCompact() throws IOException {
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            names.add("shared_component_name_" + i);
+        }
+        // plugin components are also listed in the sections, the reply writes every name only once
+        Map<String, NodeAnalyzersInfo.AnalysisPluginComponents> plugins = singletonMap(
+                "org.opensearch.plugin.TestPlugin",
+                new NodeAnalyzersInfo.AnalysisPluginComponents(
+                        "org.opensearch.plugin.TestPlugin", names, names, names, emptySet(), emptySet()
+                )
+        );
+        NodeAnalysisInventory inventory = new NodeAnalysisInventory(names, names, names, emptySet(), emptySet(), plugins);
+        DiscoveryNode node = node(1);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            new NodeAnalyzersInfo(node, inventory).writeTo(out);
+            assertTrue("reply [" + out.size() + "] inventory [" + inventory.serializedSize() + "]",
+                    out.size() * 3 < inventory.serializedSize());
+        }
+        NodeAnalyzersInfo info = roundTrip(new NodeAnalyzersInfo(node, inventory));
+        assertEquals(inventory.digest(), info.getInventory().digest());
+    }
+
+    public void testSerializationDigestOnly() throws IOException {
+        DiscoveryNode node = node(1);
+        NodeAnalysisInventory inventory = randomInventory();
+        NodeAnalyzersInfo info = roundTrip(new NodeAnalyzersInfo(node, inventory.digest()));
+
+        assertFalse(info.hasInventory());
+        assertNull(info.getInventory());
+        assertEquals(inventory.digest(), info.getDigest());
+        expectThrows(IllegalStateException.class, info::getAnalyzersKeySet);
+        expectThrows(IllegalStateException.class, info::getNodeAnalysisPlugins);
+    }
+
+    public void testSerializationWithNodeOperationStats() throws IOException {
+        DiscoveryNode node = node(1);
+        NodeAnalysisInventory inventory = randomInventory();
+        long nanos = randomNonNegativeLong();
+        NodeAnalyzersInfo info = roundTrip(
+                new NodeAnalyzersInfo(node, inventory.digest(), inventory, nanos, inventory.serializedSize())
+        );
+
+        assertEquals(nanos, info.getNodeOperationNanos());
+        assertEquals(inventory.serializedSize(), info.getPayloadSizeInBytes());
+
+        NodeAnalyzersInfo copy = new NodeAnalyzersInfo(info, inventory);
+        assertEquals(nanos, copy.getNodeOperationNanos());
+        assertEquals(inventory.serializedSize(), copy.getPayloadSizeInBytes());
+    }
+
+    /**
+     * Nodes before {@link NodesAnalyzersResponse#COMPACT_FORMAT_VERSION} exchange the baseline reply: the node and
+     * its full classic inventory, nothing else.
+     */
+    public void testSerializationBeforeCompactFormat() throws IOException {
+        Version version = VersionUtils.getPreviousVersion(NodesAnalyzersResponse.COMPACT_FORMAT_VERSION);
+        DiscoveryNode node = node(1);
+        NodeAnalysisInventory inventory = randomInventory();
+        NodeAnalyzersInfo info = new NodeAnalyzersInfo(node, inventory.digest(), inventory, randomNonNegativeLong(), 1);
+        try (BytesStreamOutput out = new BytesStreamOutput(); BytesStreamOutput baseline = new BytesStreamOutput()) {
+            out.setVersion(version);
+            info.writeTo(out);
+            baseline.setVersion(version);
+            node.writeTo(baseline);
+            inventory.writeTo(baseline);
+            assertEquals(baseline.bytes(), out.bytes());
+
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(version);
+                NodeAnalyzersInfo copy = new NodeAnalyzersInfo(in);
+                assertTrue(copy.hasInventory());
+                assertEquals(inventory.digest(), copy.getDigest());
+                assertEquals(inventory.getAnalyzersKeySet(), copy.getAnalyzersKeySet());
+                assertEquals(0, copy.getNodeOperationNanos());
+                assertNull(copy.getHeapUsage());
+            }
+        }
+    }
+
+    public void testSerializedSize() throws IOException {
+        NodeAnalysisInventory inventory = randomInventory();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            inventory.writeTo(out);
+            assertEquals(out.size(), inventory.serializedSize());
+        }
+    }
+
+    public void testSerializationWithHeapUsage() throws IOException {
+        DiscoveryNode node = node(1);
+        NodeAnalysisInventory inventory = randomInventory();
+        SortedMap<String, SortedMap<String, Long>> sections = new TreeMap<>();
+        sections.computeIfAbsent(ComponentNodeMatrix.TOKEN_FILTERS, s -> new TreeMap<>()).put("my_synonyms", 12345L);
+        SortedMap<String, SortedMap<String, SortedMap<String, Long>>> indices = new TreeMap<>();
+        indices.put("index_1", sections);
+        SortedMap<String, Long> plugins = new TreeMap<>();
+        plugins.put(NodeAnalysisHeapUsage.CORE, 12345L);
+        NodeAnalysisHeapUsage heapUsage = new NodeAnalysisHeapUsage(12345L, plugins, indices);
+
+        NodeAnalyzersInfo info = roundTrip(new NodeAnalyzersInfo(node, inventory.digest(), null, 1, 0, heapUsage, null));
+
+        assertFalse(info.hasInventory());
+        assertNotNull(info.getHeapUsage());
+        assertEquals(12345L, info.getHeapUsage().getTotalInBytes());
+        assertEquals(plugins, info.getHeapUsage().getPlugins());
+        assertEquals(indices, info.getHeapUsage().getIndices());
+        assertSame(info.getHeapUsage(), new NodeAnalyzersInfo(info, inventory).getHeapUsage());
+
+        assertNull(roundTrip(new NodeAnalyzersInfo(node, inventory)).getHeapUsage());
+    }
+}
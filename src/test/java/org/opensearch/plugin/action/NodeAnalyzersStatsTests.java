@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.node;
+
+public class NodeAnalyzersStatsTests extends OpenSearchTestCase {
+
+    public void testRecording() {
+        NodeAnalyzersStats stats = new NodeAnalyzersStats();
+        stats.onRestResponse(false, 1000);
+        stats.onRestResponse(true, 0);
+        stats.onRestFailure();
+        stats.onCoordinatorResponse(5_000_000, 1);
+        stats.onCoordinatorFailure(1_000_000);
+        stats.onEtagCheck(true);
+        stats.onEtagCheck(false);
+        stats.onInventoryCacheLookup(true);
+        stats.onInventoryCacheLookup(true);
+        stats.onInventoryCacheLookup(false);
+        stats.onNodeOperation(10_000, 0, true);
+        stats.onNodeOperation(20_000, 4096, false);
+        stats.onNodeOperationFailure();
+
+        DiscoveryNode node = node(0);
+        NodeAnalyzersStatsInfo info = new NodeAnalyzersStatsInfo(node, stats);
+        assertEquals(3, info.getRestRequests());
+        assertEquals(1, info.getRestNotModified());
+        assertEquals(1, info.getRestFailures());
+        assertEquals(1000, info.getRestResponseBytes().getSum());
+        assertEquals(2, info.getCoordinatorRequests());
+        assertEquals(1, info.getCoordinatorFailures());
+        assertEquals(1, info.getCoordinatorNodeFailures());
+        assertEquals(5_000_000, info.getCoordinatorNanos().getMax());
+        assertEquals(1, info.getEtagHits());
+        assertEquals(1, info.getEtagMisses());
+        assertEquals(2, info.getInventoryCacheHits());
+        assertEquals(1, info.getInventoryCacheMisses());
+        assertEquals(2, info.getNodeOperations());
+        assertEquals(1, info.getNodeOperationFailures());
+        assertEquals(1, info.getNodeOperationDigestOnly());
+        assertEquals(4096, info.getNodeOperationPayloadBytes().getMax());
+    }
+
+    public void testConcurrentRecording() throws InterruptedException {
+        NodeAnalyzersStats stats = new NodeAnalyzersStats();
+        int threads = randomIntBetween(2, 8);
+        int perThread = randomIntBetween(100, 1000);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    stats.onNodeOperation(i, i, i % 2 == 0);
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        DiscoveryNode node = node(0);
+        NodeAnalyzersStatsInfo info = new NodeAnalyzersStatsInfo(node, stats);
+        assertEquals((long) threads * perThread, info.getNodeOperations());
+        assertEquals((long) threads * ((perThread + 1) / 2), info.getNodeOperationDigestOnly());
+        assertEquals((long) threads * perThread * (perThread - 1) / 2, info.getNodeOperationPayloadBytes().getSum());
+    }
+
+    public void testSerialization() throws IOException {
+        NodeAnalyzersStats stats = new NodeAnalyzersStats();
+        for (int i = 0; i < randomIntBetween(0, 100); i++) {
+            stats.onRestResponse(randomBoolean(), randomLongBetween(0, 1_000_000));
+            stats.onCoordinatorResponse(randomLongBetween(0, 1_000_000_000), randomIntBetween(0, 3));
+            stats.onEtagCheck(randomBoolean());
+            stats.onInventoryCacheLookup(randomBoolean());
+            stats.onNodeOperation(randomLongBetween(0, 1_000_000), randomLongBetween(0, 100_000), randomBoolean());
+        }
+        DiscoveryNode node = node(0);
+        NodeAnalyzersStatsInfo info = new NodeAnalyzersStatsInfo(node, stats);
+        BytesStreamOutput out = new BytesStreamOutput();
+        info.writeTo(out);
+        NodeAnalyzersStatsInfo copy;
+        try (StreamInput in = out.bytes().streamInput()) {
+            copy = new NodeAnalyzersStatsInfo(in);
+        }
+        assertEquals(info.getRestRequests(), copy.getRestRequests());
+        assertEquals(info.getRestNotModified(), copy.getRestNotModified());
+        assertEquals(info.getRestResponseBytes().getSum(), copy.getRestResponseBytes().getSum());
+        assertEquals(info.getCoordinatorRequests(), copy.getCoordinatorRequests());
+        assertEquals(info.getCoordinatorNodeFailures(), copy.getCoordinatorNodeFailures());
+        assertEquals(info.getCoordinatorNanos().percentile(99), copy.getCoordinatorNanos().percentile(99));
+        assertEquals(info.getEtagHits(), copy.getEtagHits());
+        assertEquals(info.getInventoryCacheMisses(), copy.getInventoryCacheMisses());
+        assertEquals(info.getNodeOperations(), copy.getNodeOperations());
+        assertEquals(info.getNodeOperationDigestOnly(), copy.getNodeOperationDigestOnly());
+        assertEquals(info.getNodeOperationPayloadBytes().getMax(), copy.getNodeOperationPayloadBytes().getMax());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.node;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.randomInventory;
+
+public class NodeDuplicateAnalyzersTests extends OpenSearchTestCase {
+
+    private static class Analyzer {
+        private final int[] synonyms;
+        private final int[] shared;
+
+        Analyzer(int[] synonyms, int[] shared) {
+            this.synonyms = synonyms;
+            this.shared = shared;
+        }
+    }
+
+    private static Settings synonymsIndex(String analyzerName, String filterName) {
+        return Settings.builder()
+                .put("index.analysis.analyzer." + analyzerName + ".type", "custom")
+                .put("index.analysis.analyzer." + analyzerName + ".tokenizer", "standard")
+                .putList("index.analysis.analyzer." + analyzerName + ".filter", "lowercase", filterName)
+                .put("index.analysis.filter." + filterName + ".type", "synonym")
+                .putList("index.analysis.filter." + filterName + ".synonyms", "quick, fast")
+                .build();
+    }
+
+    public void testDefinition() {
+        // the name of the custom filter does not matter, its definition does
+        assertEquals(
+                NodeDuplicateAnalyzers.definition(synonymsIndex("a", "my_synonyms"), "a"),
+                NodeDuplicateAnalyzers.definition(synonymsIndex("b", "other_synonyms"), "b")
+        );
+        Settings implicitCustom = Settings.builder()
+                .put("index.analysis.analyzer.a.tokenizer", "standard")
+                .putList("index.analysis.analyzer.a.filter", "lowercase", "my_synonyms")
+                .put("index.analysis.filter.my_synonyms.type", "synonym")
+                .putList("index.analysis.filter.my_synonyms.synonyms", "quick, fast")
+                .build();
+        assertEquals(
+                NodeDuplicateAnalyzers.definition(synonymsIndex("a", "my_synonyms"), "a"),
+                NodeDuplicateAnalyzers.definition(implicitCustom, "a")
+        );
+        Settings otherSynonyms = Settings.builder()
+                .put(synonymsIndex("a", "my_synonyms"))
+                .putList("index.analysis.filter.my_synonyms.synonyms", "quick, rapid")
+                .build();
+        assertNotEquals(
+                NodeDuplicateAnalyzers.definition(synonymsIndex("a", "my_synonyms"), "a"),
+                NodeDuplicateAnalyzers.definition(otherSynonyms, "a")
+        );
+    }
+
+    public void testFind() throws IOException {
+        int[] shared = new int[100_000];
+        Map<String, Settings> indices = new TreeMap<>();
+        Map<String, Analyzer> instances = new HashMap<>();
+        for (String index : List.of("logs-1", "logs-2", "logs-3")) {
+            indices.put(index, synonymsIndex("my_analyzer", "my_synonyms"));
+            instances.put(index + "/my_analyzer", new Analyzer(new int[10_000], shared));
+        }
+        indices.put("other", Settings.builder()
+                .put(synonymsIndex("my_analyzer", "my_synonyms"))
+                .putList("index.analysis.filter.my_synonyms.synonyms", "quick, rapid")
+                .build());
+        instances.put("other/my_analyzer", new Analyzer(new int[10_000], shared));
+        // defined but not instantiated on the node
+        indices.put("closed", synonymsIndex("my_analyzer", "my_synonyms"));
+
+        NodeDuplicateAnalyzers duplicates = NodeDuplicateAnalyzers.find(
+                indices, (index, name) -> instances.get(index + "/" + name), () -> {}
+        );
+
+        assertEquals(1, duplicates.getGroups().size());
+        NodeDuplicateAnalyzers.Group group = duplicates.getGroups().get(0);
+        assertEquals(3, group.getInstances());
+        assertEquals(new TreeSet<>(List.of("logs-1", "logs-2", "logs-3")), group.getIndices().keySet());
+        // the shared array is counted with the first instance only
+        assertTrue("instance [" + group.getInstanceSizeInBytes() + "]", group.getInstanceSizeInBytes() > 100_000 * Integer.BYTES);
+        assertTrue("wasted [" + group.getWastedInBytes() + "]", group.getWastedInBytes() >= 2 * 10_000 * Integer.BYTES);
+        assertTrue("wasted [" + group.getWastedInBytes() + "]", group.getWastedInBytes() < 100_000 * Integer.BYTES);
+        assertEquals(group.getWastedInBytes(), duplicates.getWastedInBytes());
+
+        DiscoveryNode node = node(1);
+        NodeAnalysisInventory inventory = randomInventory();
+        NodeAnalyzersInfo info = new NodeAnalyzersInfo(node, inventory.digest(), inventory, 1, 0, null, duplicates);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            info.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                NodeDuplicateAnalyzers copy = new NodeAnalyzersInfo(in).getDuplicateAnalyzers();
+                assertEquals(duplicates.getWastedInBytes(), copy.getWastedInBytes());
+                assertEquals(1, copy.getGroups().size());
+                assertEquals(group.getDefinition(), copy.getGroups().get(0).getDefinition());
+                assertEquals(group.getIndices(), copy.getGroups().get(0).getIndices());
+                assertEquals(group.getInstanceSizeInBytes(), copy.getGroups().get(0).getInstanceSizeInBytes());
+            }
+        }
+        assertSame(duplicates, new NodeAnalyzersInfo(info, inventory).getDuplicateAnalyzers());
+    }
+
+    public void testFindIsCancelledBetweenIndices() {
+        Map<String, Settings> indices = new TreeMap<>();
+        for (int i = 0; i < 5; i++) {
+            indices.put("logs-" + i, synonymsIndex("my_analyzer", "my_synonyms"));
+        }
+        AtomicInteger looked = new AtomicInteger();
+        AtomicInteger checks = new AtomicInteger();
+        expectThrows(TaskCancelledException.class, () -> NodeDuplicateAnalyzers.find(indices, (index, name) -> {
+            looked.incrementAndGet();
+            return new Object();
+        }, () -> {
+            if (checks.incrementAndGet() > 2) {
+                throw new TaskCancelledException("cancelled");
+            }
+        }));
+        assertEquals(2, looked.get());
+    }
+
+    public void testDetail() {
+        NodesAnalyzersRequest request = new NodesAnalyzersRequest();
+        assertFalse(request.includeNodeDetails());
+        request.detail("heap,duplicates");
+        assertTrue(request.includeHeapUsage());
+        assertTrue(request.includeDuplicateAnalyzers());
+        request.detail(NodesAnalyzersRequest.DETAIL_DUPLICATES);
+        assertFalse(request.includeHeapUsage());
+        assertTrue(request.includeNodeDetails());
+        expectThrows(IllegalArgumentException.class, () -> request.detail("heap,unknown"));
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.apache.lucene.tests.util.RamUsageTester;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptyList;
+
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.inventory;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.node;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.randomInventory;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.response;
+
+public class NodesAnalyzersResponseTests extends OpenSearchTestCase {
+
+    static NodesAnalyzersResponse randomResponse(int numberOfNodes, int numberOfInventories) {
+        List<NodeAnalysisInventory> inventories = new ArrayList<>();
+        for (int i = 0; i < numberOfInventories; i++) {
+            inventories.add(randomInventory());
+        }
+        List<NodeAnalyzersInfo> nodes = new ArrayList<>();
+        for (int i = 0; i < numberOfNodes; i++) {
+            NodeAnalysisInventory inventory = randomFrom(inventories);
+            nodes.add(new NodeAnalyzersInfo(node(i), inventory.digest(), inventory, randomNonNegativeLong(), randomNonNegativeLong()));
+        }
+        return response(nodes);
+    }
+
+    private static BytesStreamOutput write(NodesAnalyzersResponse response) throws IOException {
+        return write(response, Version.CURRENT);
+    }
+
+    private static BytesStreamOutput write(NodesAnalyzersResponse response, Version version) throws IOException {
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(version);
+        response.writeTo(out);
+        return out;
+    }
+
+    private static NodesAnalyzersResponse read(BytesStreamOutput out) throws IOException {
+        try (StreamInput in = out.bytes().streamInput()) {
+            in.setVersion(out.getVersion());
+            return new NodesAnalyzersResponse(in);
+        }
+    }
+
+    private static void assertSameNodes(NodesAnalyzersResponse expected, NodesAnalyzersResponse actual) {
+        assertSameInventories(expected, actual);
+        for (int i = 0; i < expected.getNodes().size(); i++) {
+            NodeAnalyzersInfo expectedNode = expected.getNodes().get(i);
+            NodeAnalyzersInfo actualNode = actual.getNodes().get(i);
+            assertEquals(expectedNode.getNodeOperationNanos(), actualNode.getNodeOperationNanos());
+            assertEquals(expectedNode.getPayloadSizeInBytes(), actualNode.getPayloadSizeInBytes());
+        }
+    }
+
+    private static void assertSameInventories(NodesAnalyzersResponse expected, NodesAnalyzersResponse actual) {
+        assertEquals(expected.getNodes().size(), actual.getNodes().size());
+        for (int i = 0; i < expected.getNodes().size(); i++) {
+            NodeAnalyzersInfo expectedNode = expected.getNodes().get(i);
+            NodeAnalyzersInfo actualNode = actual.getNodes().get(i);
+            assertEquals(expectedNode.getNode().getId(), actualNode.getNode().getId());
+            assertEquals(expectedNode.getDigest(), actualNode.getDigest());
+            assertEquals(expectedNode.getAnalyzersKeySet(), actualNode.getAnalyzersKeySet());
+            assertEquals(expectedNode.getNormalizersKeySet(), actualNode.getNormalizersKeySet());
+            assertEquals(expectedNode.getNodeAnalysisPlugins().keySet(), actualNode.getNodeAnalysisPlugins().keySet());
+        }
+        assertEquals(expected.etag(), actual.etag());
+    }
+
+    public void testCompactSerialization() throws IOException {
+        NodesAnalyzersResponse response = randomResponse(randomIntBetween(1, 50), randomIntBetween(1, 3));
+        assertSameNodes(response, read(write(response)));
+    }
+
+    /**
+     * Nodes before {@link NodesAnalyzersResponse#COMPACT_FORMAT_VERSION} read the classic list of nodes.
+     */
+    public void testClassicSerializationBeforeCompactFormat() throws IOException {
+        Version version = VersionUtils.getPreviousVersion(NodesAnalyzersResponse.COMPACT_FORMAT_VERSION);
+        NodesAnalyzersResponse response = randomResponse(randomIntBetween(1, 50), randomIntBetween(1, 3));
+        assertSameInventories(response, read(write(response, version)));
+    }
+
+    public void testCompactSerializationIsSmaller() throws IOException {
+        NodesAnalyzersResponse response = randomResponse(100, 2);
+        long compact = write(response).size();
+        long classic = 0;
+        for (NodeAnalyzersInfo node : response.getNodes()) {
+            classic += node.getInventory().serializedSize();
+        }
+        assertTrue("compact [" + compact + "] classic [" + classic + "]", compact < classic);
+    }
+
+    public void testEtagCoversFilterAndRenderParams() throws IOException {
+        NodesAnalyzersResponse response = randomResponse(randomIntBetween(1, 10), randomIntBetween(1, 3));
+        String[] none = new String[0];
+        NodesAnalyzersRequest filtered = new NodesAnalyzersRequest().filter(
+                new NodeAnalysisInventoryFilter(new String[] { "tokenizers", "analyzers" }, none, new String[] { "_core" })
+        );
+        NodesAnalyzersRequest reordered = new NodesAnalyzersRequest().filter(
+                new NodeAnalysisInventoryFilter(new String[] { "analyzers", "tokenizers", "analyzers" }, none, new String[] { "_core" })
+        );
+        NodesAnalyzersRequest grouped = new NodesAnalyzersRequest().renderParams(
+                Map.of(NodesAnalyzersResponse.GROUP_BY_PARAM, NodesAnalyzersResponse.GROUP_BY_FINGERPRINT)
+        );
+        assertEquals("", new NodesAnalyzersRequest().etagVariant());
+        assertEquals(filtered.etagVariant(), reordered.etagVariant());
+
+        Set<String> etags = new HashSet<>();
+        for (NodesAnalyzersRequest request : List.of(new NodesAnalyzersRequest(), filtered, grouped)) {
+            NodesAnalyzersResponse variant = new NodesAnalyzersResponse(
+                    response.getClusterName(), response.getNodes(), emptyList(), request.etagVariant()
+            );
+            assertTrue(etags.add(variant.etag()));
+            assertEquals(variant.etag(), read(write(variant)).etag());
+        }
+        assertTrue(etags.contains(response.etag()));
+    }
+
+    public void testNotModifiedSerialization() throws IOException {
+        NodesAnalyzersResponse response = NodesAnalyzersResponse.notModified(new ClusterName("test"), "etag");
+        NodesAnalyzersResponse copy = read(write(response));
+        assertTrue(copy.isNotModified());
+        assertEquals("etag", copy.etag());
+        assertTrue(copy.getNodes().isEmpty());
+    }
+
+    private static Set<String> names(String prefix, int count) {
+        Set<String> names = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            names.add(prefix + "_" + i);
+        }
+        return names;
+    }
+
+    /**
+     * Nodes of a response read from the wire share their inventories, so the coordinating node heap does not grow
+     * by a copy of the inventory with every added node.
+     */
+    public void testHeapDoesNotGrowWithInventoryPerNode() throws IOException {
+        NodeAnalysisInventory[] inventories = new NodeAnalysisInventory[2];
+        for (int i = 0; i < inventories.length; i++) {
+            inventories[i] = inventory(
+                    names("analyzer" + i, 200), names("tokenizer", 200), names("filter", 500), names("char_filter", 100),
+                    names("normalizer", 50)
+            );
+        }
+        long small = inventoriesRamUsed(read(write(response(100, inventories))));
+        long large = inventoriesRamUsed(read(write(response(1000, inventories))));
+
+        long perNode = (large - small) / 900;
+        long inventory = RamUsageTester.ramUsed(inventories[0]);
+        assertTrue("per node [" + perNode + "] inventory [" + inventory + "]", perNode * 20 < inventory);
+    }
+
+    /**
+     * Heap used by inventories of all nodes, shared instances are counted once.
+     */
+    private static long inventoriesRamUsed(NodesAnalyzersResponse response) {
+        List<NodeAnalysisInventory> inventories = new ArrayList<>();
+        for (NodeAnalyzersInfo node : response.getNodes()) {
+            inventories.add(node.getInventory());
+        }
+        return RamUsageTester.ramUsed(inventories);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.randomInventory;
+
+public class NodesAnalyzersWatchResponseTests extends OpenSearchTestCase {
+
+    private static NodeAnalyzersInfo node(String id, NodeAnalysisInventory inventory) {
+        return new NodeAnalyzersInfo(NodeAnalyzersFixtures.node(id), inventory);
+    }
+
+    private static NodesAnalyzersResponse response(NodeAnalyzersInfo... nodes) {
+        return NodeAnalyzersFixtures.response(List.of(nodes));
+    }
+
+    private static SortedMap<String, String> digests(NodesAnalyzersResponse response) {
+        SortedMap<String, String> digests = new TreeMap<>();
+        for (NodeAnalyzersInfo node : response.getNodes()) {
+            digests.put(node.getNode().getId(), node.getDigest());
+        }
+        return digests;
+    }
+
+    public void testFullWhenBaseIsNotKnown() {
+        NodeAnalysisInventory inventory = randomInventory();
+        NodesAnalyzersResponse current = response(node("node_0", inventory), node("node_1", inventory));
+
+        NodesAnalyzersWatchResponse delta = NodesAnalyzersWatchResponse.delta(null, current);
+        assertTrue(delta.isChanged());
+        assertTrue(delta.isFull());
+        assertEquals(current.etag(), delta.getVersion());
+        assertEquals(Set.of("node_0", "node_1"), delta.getAdded().keySet());
+        assertTrue(delta.getChangedNodes().isEmpty());
+        assertTrue(delta.getRemoved().isEmpty());
+        // nodes with the same inventory share it
+        assertEquals(Set.of(inventory.digest()), delta.getInventories().keySet());
+    }
+
+    public void testDelta() {
+        NodeAnalysisInventory a = randomInventory();
+        NodeAnalysisInventory b;
+        do {
+            b = randomInventory();
+        } while (b.digest().equals(a.digest()));
+        NodesAnalyzersResponse base = response(node("node_0", a), node("node_1", a), node("node_2", a));
+        NodesAnalyzersResponse current = response(node("node_0", a), node("node_1", b), node("node_3", a));
+
+        NodesAnalyzersWatchResponse delta = NodesAnalyzersWatchResponse.delta(digests(base), current);
+        assertTrue(delta.isChanged());
+        assertFalse(delta.isFull());
+        assertEquals(current.etag(), delta.getVersion());
+        assertEquals(Set.of("node_3"), delta.getAdded().keySet());
+        assertEquals(a.digest(), delta.getAdded().get("node_3").getDigest());
+        assertEquals(Set.of("node_1"), delta.getChangedNodes().keySet());
+        assertEquals(b.digest(), delta.getChangedNodes().get("node_1").getDigest());
+        assertEquals(Set.of("node_2"), delta.getRemoved());
+        // the client has the inventory of node_3 already
+        assertEquals(Set.of(b.digest()), delta.getInventories().keySet());
+    }
+
+    public void testUnchanged() {
+        NodesAnalyzersWatchResponse unchanged = NodesAnalyzersWatchResponse.unchanged("etag");
+        assertFalse(unchanged.isChanged());
+        assertEquals("etag", unchanged.getVersion());
+        assertTrue(unchanged.getAdded().isEmpty());
+        assertTrue(unchanged.getInventories().isEmpty());
+    }
+
+    public void testNodeFailure() {
+        NodeAnalysisInventory inventory = randomInventory();
+        NodesAnalyzersResponse failed = new NodesAnalyzersResponse(
+                new ClusterName("test"),
+                List.of(node("node_0", inventory)),
+                List.of(
+                        new FailedNodeException("node_1", "timed out", null),
+                        new FailedNodeException("node_2", "timed out", null)
+                )
+        );
+        assertNull(failed.etag());
+        OpenSearchException failure = TransportNodeAnalyzersWatchAction.nodeFailure(failed);
+        assertEquals("failed to get analysis inventory of node [node_1]", failure.getMessage());
+        assertEquals(1, failure.getSuppressed().length);
+
+        assertNotNull(TransportNodeAnalyzersWatchAction.nodeFailure(response()));
+    }
+
+    public void testRequestValidation() {
+        assertNull(new NodesAnalyzersWatchRequest().validate());
+        assertNull(new NodesAnalyzersWatchRequest().timeout(NodesAnalyzersWatchRequest.MAX_TIMEOUT).validate());
+        assertNotNull(new NodesAnalyzersWatchRequest().timeout(TimeValue.ZERO).validate());
+        assertNotNull(new NodesAnalyzersWatchRequest().timeout(TimeValue.timeValueHours(1)).validate());
+    }
+
+    public void testSerialization() throws IOException {
+        List<NodeAnalyzersInfo> nodes = new ArrayList<>();
+        int numberOfNodes = randomIntBetween(1, 10);
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodes.add(node("node_" + i, randomInventory()));
+        }
+        NodesAnalyzersResponse current = response(nodes.toArray(new NodeAnalyzersInfo[0]));
+        NodesAnalyzersWatchResponse delta = NodesAnalyzersWatchResponse.delta(null, current);
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        delta.writeTo(out);
+        NodesAnalyzersWatchResponse copy;
+        try (StreamInput in = out.bytes().streamInput()) {
+            copy = new NodesAnalyzersWatchResponse(in);
+        }
+        assertEquals(delta.getVersion(), copy.getVersion());
+        assertEquals(delta.isChanged(), copy.isChanged());
+        assertEquals(delta.isFull(), copy.isFull());
+        assertEquals(delta.getAdded().keySet(), copy.getAdded().keySet());
+        assertEquals(delta.getRemoved(), copy.getRemoved());
+        assertEquals(delta.getInventories().keySet(), copy.getInventories().keySet());
+        for (String digest : delta.getInventories().keySet()) {
+            assertEquals(digest, copy.getInventories().get(digest).digest());
+        }
+    }
+}
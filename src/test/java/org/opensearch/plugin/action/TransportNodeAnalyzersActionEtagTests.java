@@ -0,0 +1,178 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.Task;
+import org.opensearch.telemetry.tracing.noop.NoopTracer;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.transport.CapturingTransport;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.nodes;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.randomInventory;
+import static org.opensearch.test.ClusterServiceUtils.createClusterService;
+import static org.opensearch.test.ClusterServiceUtils.setState;
+
+/**
+ * The "not modified" short-circuit of the coordinating node, see {@link TransportNodeAnalyzersAction#doExecute}.
+ */
+public class TransportNodeAnalyzersActionEtagTests extends OpenSearchTestCase {
+
+    private static ThreadPool THREAD_POOL;
+
+    private ClusterService clusterService;
+    private CapturingTransport transport;
+    private TransportService transportService;
+    private NodeAnalyzersStats stats;
+    private TransportNodeAnalyzersAction action;
+
+    @BeforeClass
+    public static void startThreadPool() {
+        THREAD_POOL = new TestThreadPool(TransportNodeAnalyzersActionEtagTests.class.getSimpleName());
+    }
+
+    @AfterClass
+    public static void destroyThreadPool() {
+        ThreadPool.terminate(THREAD_POOL, 30, TimeUnit.SECONDS);
+        THREAD_POOL = null;
+    }
+
+    @Before
+    public void setUpAction() {
+        transport = new CapturingTransport();
+        clusterService = createClusterService(THREAD_POOL);
+        transportService = transport.createTransportService(
+                clusterService.getSettings(),
+                THREAD_POOL,
+                TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+                x -> clusterService.localNode(),
+                null,
+                emptySet(),
+                NoopTracer.INSTANCE
+        );
+        transportService.start();
+        transportService.acceptIncomingRequests();
+
+        DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        int numberOfNodes = randomIntBetween(3, 10);
+        List<DiscoveryNode> discoveryNodes = nodes(numberOfNodes);
+        discoveryNodes.forEach(nodes::add);
+        nodes.localNodeId(randomFrom(discoveryNodes).getId());
+        nodes.clusterManagerNodeId(randomFrom(discoveryNodes).getId());
+        setState(clusterService, ClusterState.builder(clusterService.getClusterName()).nodes(nodes).build());
+
+        stats = new NodeAnalyzersStats();
+        // Plugins, analysis registry and indices are not needed as long as no node operation runs
+        action = new TransportNodeAnalyzersAction(
+                THREAD_POOL,
+                clusterService,
+                transportService,
+                new ActionFilters(emptySet()),
+                null,
+                null,
+                null,
+                new LocalNodeAnalysisInventory(),
+                stats
+        );
+    }
+
+    @After
+    public void tearDownAction() {
+        transportService.close();
+        clusterService.close();
+    }
+
+    /**
+     * Simulates a request that has already been answered by all nodes.
+     * @return the etag of that response
+     */
+    private String answerAllNodes() {
+        NodeAnalysisInventory inventory = randomInventory();
+        List<NodeAnalyzersInfo> replies = new ArrayList<>();
+        for (DiscoveryNode node : clusterService.state().nodes()) {
+            replies.add(new NodeAnalyzersInfo(node, inventory));
+        }
+        return action.newResponse(new NodesAnalyzersRequest(), replies, emptyList()).etag();
+    }
+
+    private Task task() {
+        return new Task(randomNonNegativeLong(), "transport", NodeAnalyzersAction.NAME, "", TaskId.EMPTY_TASK_ID, emptyMap());
+    }
+
+    public void testMatchingEtagSendsNoNodeRequests() {
+        String etag = answerAllNodes();
+
+        PlainActionFuture<NodesAnalyzersResponse> future = PlainActionFuture.newFuture();
+        action.doExecute(task(), new NodesAnalyzersRequest().ifNoneMatch(etag), future);
+        NodesAnalyzersResponse response = future.actionGet();
+
+        assertTrue(response.isNotModified());
+        assertEquals(etag, response.etag());
+        assertTrue(response.getNodes().isEmpty());
+        assertEquals(0, transport.capturedRequests().length);
+        assertEquals(1, new NodeAnalyzersStatsInfo(clusterService.localNode(), stats).getEtagHits());
+    }
+
+    /**
+     * The coordinating node computes the etag of a filtered or differently rendered request the same way as the
+     * response does, so such requests are "not modified" only for the etag of the same filter and rendering.
+     */
+    public void testEtagCoversFilterAndRendering() {
+        NodeAnalysisInventory inventory = randomInventory();
+        List<NodeAnalyzersInfo> replies = new ArrayList<>();
+        for (DiscoveryNode node : clusterService.state().nodes()) {
+            replies.add(new NodeAnalyzersInfo(node, inventory));
+        }
+        NodesAnalyzersRequest filtered = new NodesAnalyzersRequest().filter(
+                new NodeAnalysisInventoryFilter(new String[] { "tokenizers", "analyzers" }, new String[0], new String[0])
+        );
+        NodesAnalyzersRequest columnar = new NodesAnalyzersRequest().renderParams(
+                Map.of(NodesAnalyzersResponse.LAYOUT_PARAM, NodesAnalyzersResponse.LAYOUT_COLUMNAR)
+        );
+        String etag = action.newResponse(new NodesAnalyzersRequest(), replies, emptyList()).etag();
+        String filteredEtag = action.newResponse(filtered, replies, emptyList()).etag();
+        String columnarEtag = action.newResponse(columnar, replies, emptyList()).etag();
+        assertNotEquals(etag, filteredEtag);
+        assertNotEquals(etag, columnarEtag);
+        assertNotEquals(filteredEtag, columnarEtag);
+
+        // the same filter in another order
+        NodesAnalyzersRequest reordered = new NodesAnalyzersRequest().filter(
+                new NodeAnalysisInventoryFilter(new String[] { "analyzers", "tokenizers" }, new String[0], new String[0])
+        );
+        PlainActionFuture<NodesAnalyzersResponse> future = PlainActionFuture.newFuture();
+        action.doExecute(task(), reordered.ifNoneMatch(etag, filteredEtag), future);
+        assertEquals(filteredEtag, future.actionGet().etag());
+
+        future = PlainActionFuture.newFuture();
+        action.doExecute(task(), columnar.ifNoneMatch(filteredEtag, columnarEtag), future);
+        assertEquals(columnarEtag, future.actionGet().etag());
+        assertEquals(0, transport.capturedRequests().length);
+    }
+}
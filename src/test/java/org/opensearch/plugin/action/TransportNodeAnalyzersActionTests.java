@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.action;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.singletonList;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.nodes;
+import static org.opensearch.plugin.action.NodeAnalyzersFixtures.randomInventory;
+
+public class TransportNodeAnalyzersActionTests extends OpenSearchTestCase {
+
+    public void testAggregationGroups() {
+        assertTrue(TransportNodeAnalyzersAction.aggregationGroups(nodes(0)).isEmpty());
+        assertEquals(1, TransportNodeAnalyzersAction.aggregationGroups(nodes(1)).size());
+
+        int count = randomIntBetween(2, 2000);
+        List<DiscoveryNode> nodes = nodes(count);
+        List<List<DiscoveryNode>> groups = TransportNodeAnalyzersAction.aggregationGroups(nodes);
+        int groupSize = (int) Math.ceil(Math.sqrt(count));
+        assertTrue(groups.size() <= groupSize);
+        Set<DiscoveryNode> all = new HashSet<>();
+        for (List<DiscoveryNode> group : groups) {
+            assertFalse(group.isEmpty());
+            assertTrue(group.size() <= groupSize);
+            all.addAll(group);
+        }
+        assertEquals(new HashSet<>(nodes), all);
+    }
+
+    public void testAggregateResponseIncludesEveryInventoryOnce() throws IOException {
+        NodeAnalysisInventory first = randomInventory();
+        NodeAnalysisInventory second = randomInventory();
+        List<NodeAnalyzersInfo> replies = new ArrayList<>();
+        List<DiscoveryNode> nodes = nodes(6);
+        for (int i = 0; i < nodes.size(); i++) {
+            NodeAnalysisInventory inventory = i % 2 == 0 ? first : second;
+            // the last node replies with digest only (its inventory is known to the coordinating node)
+            replies.add(i == nodes.size() - 1
+                    ? new NodeAnalyzersInfo(nodes.get(i), inventory.digest())
+                    : new NodeAnalyzersInfo(nodes.get(i), inventory.digest(), inventory, i, inventory.serializedSize()));
+        }
+        List<FailedNodeException> failures = singletonList(new FailedNodeException("node_x", "failed", null));
+
+        TransportNodeAnalyzersAction.AggregateResponse response = TransportNodeAnalyzersAction.AggregateResponse.of(replies, failures);
+        assertEquals(2, response.nodes.stream().filter(NodeAnalyzersInfo::hasInventory).count());
+
+        TransportNodeAnalyzersAction.AggregateResponse copy;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            response.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                copy = new TransportNodeAnalyzersAction.AggregateResponse(in);
+            }
+        }
+        assertEquals(1, copy.failures.size());
+        assertEquals("node_x", copy.failures.get(0).nodeId());
+
+        List<NodeAnalyzersInfo> rehydrated = copy.rehydrate();
+        assertEquals(nodes.size(), rehydrated.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            NodeAnalyzersInfo node = rehydrated.get(i);
+            assertEquals(nodes.get(i).getId(), node.getNode().getId());
+            assertTrue(node.hasInventory());
+            assertEquals(i % 2 == 0 ? first.digest() : second.digest(), node.getInventory().digest());
+            assertSame(rehydrated.get(i % 2).getInventory(), node.getInventory());
+        }
+        assertEquals(3, rehydrated.get(3).getNodeOperationNanos());
+    }
+
+    /**
+     * Every reply read from the wire is a new copy of the inventory, interning keeps only the first one.
+     */
+    public void testRepliesAreInternedAsTheyArrive() throws IOException {
+        NodeAnalysisInventory first = randomInventory();
+        NodeAnalysisInventory second = randomInventory();
+        Cache<String, NodeAnalysisInventory> receivedInventories = CacheBuilder.<String, NodeAnalysisInventory>builder().build();
+        List<DiscoveryNode> nodes = nodes(randomIntBetween(3, 50));
+        List<NodeAnalyzersInfo> replies = new ArrayList<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            NodeAnalysisInventory inventory = i % 2 == 0 ? first : second;
+            NodeAnalyzersInfo reply;
+            try (BytesStreamOutput out = new BytesStreamOutput()) {
+                new NodeAnalyzersInfo(nodes.get(i), inventory).writeTo(out);
+                try (StreamInput in = out.bytes().streamInput()) {
+                    reply = TransportNodeAnalyzersAction.intern(receivedInventories, new NodeAnalyzersInfo(in));
+                }
+            }
+            assertEquals(nodes.get(i).getId(), reply.getNode().getId());
+            assertEquals(inventory.digest(), reply.getDigest());
+            replies.add(reply);
+        }
+        assertEquals(2, receivedInventories.count());
+        for (int i = 0; i < replies.size(); i++) {
+            assertSame(replies.get(i % 2).getInventory(), replies.get(i).getInventory());
+        }
+        assertNotSame(replies.get(0).getInventory(), replies.get(1).getInventory());
+
+        NodeAnalyzersInfo digestOnly = new NodeAnalyzersInfo(nodes.get(0), first.digest());
+        assertSame(digestOnly, TransportNodeAnalyzersAction.intern(receivedInventories, digestOnly));
+    }
+
+    public void testAggregatedNodeTimeoutIsSmaller() {
+        assertNull(TransportNodeAnalyzersAction.aggregatedNodeTimeout(null));
+        TimeValue timeout = TimeValue.timeValueMillis(randomLongBetween(1000, 600_000));
+        TimeValue nodeTimeout = TransportNodeAnalyzersAction.aggregatedNodeTimeout(timeout);
+        assertTrue(nodeTimeout.millis() > 0);
+        assertTrue(nodeTimeout + " < " + timeout, nodeTimeout.millis() < timeout.millis());
+    }
+
+    public void testFanOutValidation() {
+        NodesAnalyzersRequest request = new NodesAnalyzersRequest();
+        assertEquals(NodesAnalyzersRequest.FAN_OUT_DIRECT, request.fanOut());
+        request.fanOut(NodesAnalyzersRequest.FAN_OUT_TREE);
+        assertEquals(NodesAnalyzersRequest.FAN_OUT_TREE, request.fanOut());
+        expectThrows(IllegalArgumentException.class, () -> request.fanOut("star"));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.node.analyzers;
+
+import org.opensearch.common.io.PathUtils;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.plugin.action.NodeAnalysisInventory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Scans the bundles of the test plugins the way {@link NodeAnalyzersInventoryCommand} scans an installation, every
+ * bundle in its own class loader. Run by the inventoryBundlesTest task, which provides a plugins directory with the
+ * bundles of this plugin and the test plugins and keeps the test plugins off the classpath.
+ */
+public class NodeAnalyzersInventoryBundlesTests extends OpenSearchTestCase {
+
+    private static Path pluginsDir() {
+        String plugins = System.getProperty("tests.inventory.plugins");
+        assumeTrue("plugins directory is provided by the inventoryBundlesTest task", plugins != null);
+        return PathUtils.get(plugins);
+    }
+
+    private static Environment environment(Path home) {
+        return new Environment(Settings.builder().put("path.home", home).build(), home.resolve("config"));
+    }
+
+    public void testScanBundles() throws IOException {
+        Path plugins = pluginsDir();
+        Path bundle = plugins.resolve(System.getProperty("tests.inventory.bundle"));
+        Path home = createTempDir();
+        Path modules = Files.createDirectories(home.resolve("modules"));
+        Environment env = environment(home);
+
+        // the test plugins are only known from their bundles
+        expectThrows(ClassNotFoundException.class, () -> Class.forName("org.opensearch.plugin.Test01AnalysisPlugin"));
+        // this plugin is on the classpath of the tool as well as in the plugins directory
+        expectThrows(IllegalStateException.class, () -> NodeAnalyzersInventoryCommand.scan(env, modules, plugins, emptyList()));
+
+        Path otherPlugins = NodeAnalyzersInventoryCommand.withoutBundle(plugins, bundle, home.resolve("links"));
+        assertNotEquals(plugins, otherPlugins);
+        NodeAnalysisInventory inventory = NodeAnalyzersInventoryCommand.scan(env, modules, otherPlugins, emptyList());
+
+        assertTrue(inventory.getTokenizersKeySet().contains("xx_test_01_tokenizer"));
+        assertTrue(inventory.getTokenizersKeySet().contains("xx_test_02_tokenizer"));
+        assertTrue(inventory.getTokenFiltersKeySet().contains("xx_test_01_tokenFilter"));
+        assertTrue(inventory.getNodeAnalysisPlugins().containsKey("org.opensearch.plugin.Test01AnalysisPlugin"));
+        assertTrue(inventory.getNodeAnalysisPlugins().containsKey("org.opensearch.plugin.Test02AnalysisPlugin"));
+        assertTrue(NodeAnalyzersInventoryCommand.toLines(inventory)
+                .contains("plugins\torg.opensearch.plugin.Test02AnalysisPlugin\ttokenizers\txx_test_02_tokenizer"));
+    }
+}
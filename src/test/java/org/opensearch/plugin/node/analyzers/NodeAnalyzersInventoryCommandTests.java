@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.plugin.node.analyzers;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.env.Environment;
+import org.opensearch.index.analysis.TokenizerFactory;
+import org.opensearch.indices.analysis.AnalysisModule;
+import org.opensearch.plugin.action.NodeAnalysisInventory;
+import org.opensearch.plugins.AnalysisPlugin;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+
+// extra files would be taken for plugin directories
+@LuceneTestCase.SuppressFileSystems("ExtrasFS")
+public class NodeAnalyzersInventoryCommandTests extends OpenSearchTestCase {
+
+    public static class TestAnalysisPlugin extends Plugin implements AnalysisPlugin {
+        @Override
+        public Map<String, AnalysisModule.AnalysisProvider<TokenizerFactory>> getTokenizers() {
+            return singletonMap("xx_offline_tokenizer", (indexSettings, environment, name, settings) -> null);
+        }
+    }
+
+    public void testScan() throws IOException {
+        Path home = createTempDir();
+        Path modules = Files.createDirectories(home.resolve("modules"));
+        Path plugins = Files.createDirectories(home.resolve("plugins"));
+        Environment env = new Environment(Settings.builder().put("path.home", home).build(), home.resolve("config"));
+
+        NodeAnalysisInventory inventory = NodeAnalyzersInventoryCommand.scan(env, modules, plugins, List.of(TestAnalysisPlugin.class));
+
+        assertTrue(inventory.getAnalyzersKeySet().contains("standard"));
+        assertTrue(inventory.getTokenizersKeySet().contains("xx_offline_tokenizer"));
+
+        List<String> lines = NodeAnalyzersInventoryCommand.toLines(inventory);
+        assertEquals("# digest " + inventory.digest(), lines.get(0));
+        assertTrue(lines.contains("analyzers\tstandard"));
+        assertTrue(lines.contains("plugins\t" + TestAnalysisPlugin.class.getCanonicalName() + "\ttokenizers\txx_offline_tokenizer"));
+        // stable and sorted within sections, so outputs of different images can be diffed
+        assertEquals(lines, NodeAnalyzersInventoryCommand.toLines(
+                NodeAnalyzersInventoryCommand.scan(env, modules, plugins, List.of(TestAnalysisPlugin.class))
+        ));
+        List<String> analyzers = new ArrayList<>();
+        lines.stream().filter(line -> line.startsWith("analyzers\t")).forEach(analyzers::add);
+        List<String> sorted = new ArrayList<>(analyzers);
+        sorted.sort(null);
+        assertEquals(sorted, analyzers);
+    }
+
+    public void testWithoutBundle() throws IOException {
+        Path home = createTempDir();
+        Path plugins = Files.createDirectories(home.resolve("plugins"));
+        Path own = Files.createDirectories(plugins.resolve("node-analyzers"));
+        Files.createDirectories(plugins.resolve("other-plugin"));
+        Path elsewhere = Files.createDirectories(home.resolve("elsewhere"));
+
+        assertSame(plugins, NodeAnalyzersInventoryCommand.withoutBundle(plugins, elsewhere, home.resolve("unused")));
+        assertFalse(Files.exists(home.resolve("unused")));
+
+        Path links = NodeAnalyzersInventoryCommand.withoutBundle(plugins, own, home.resolve("links"));
+        assertEquals(home.resolve("links"), links);
+        assertFalse(Files.exists(links.resolve("node-analyzers")));
+        assertTrue(Files.isSymbolicLink(links.resolve("other-plugin")));
+        assertEquals(plugins.resolve("other-plugin").toRealPath(), links.resolve("other-plugin").toRealPath());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.rest.action.admin.cluster;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.analysis.NameOrDefinition;
+import org.opensearch.plugin.action.NodesAnalyzerBenchRequest;
+import org.opensearch.plugin.action.NodesAnalyzersRequest;
+import org.opensearch.plugin.action.NodesAnalyzersWarmupRequest;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class RestNodeAnalyzersActionTests extends OpenSearchTestCase {
+
+    public void testParseEntityTags() {
+        assertArrayEquals(new String[0], RestNodeAnalyzersAction.parseEntityTags(null));
+        assertArrayEquals(new String[0], RestNodeAnalyzersAction.parseEntityTags(""));
+        assertArrayEquals(new String[] { "abc" }, RestNodeAnalyzersAction.parseEntityTags("\"abc\""));
+        assertArrayEquals(new String[] { "abc", "def" }, RestNodeAnalyzersAction.parseEntityTags("\"abc\", W/\"def\""));
+        assertArrayEquals(new String[] { "*" }, RestNodeAnalyzersAction.parseEntityTags("*"));
+        assertArrayEquals(
+                new String[] { "abc" },
+                RestNodeAnalyzersAction.parseEntityTags(RestNodeAnalyzersAction.weakEntityTag("abc"))
+        );
+    }
+
+    public void testMatchesIfNoneMatch() {
+        NodesAnalyzersRequest request = new NodesAnalyzersRequest();
+        assertFalse(request.matchesIfNoneMatch("abc"));
+
+        request.ifNoneMatch("abc", "def");
+        assertTrue(request.matchesIfNoneMatch("abc"));
+        assertFalse(request.matchesIfNoneMatch("xyz"));
+        assertFalse(request.matchesIfNoneMatch(null));
+
+        request.ifNoneMatch("*");
+        assertTrue(request.matchesIfNoneMatch("xyz"));
+    }
+
+    public void testParseResolveRequest() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("tokenizers", List.of("standard", "icu_tokenizer"));
+        body.put("analyzers", "english");
+        Map<String, Set<String>> requested = RestNodeAnalyzersResolveAction.parseRequested(body);
+        assertEquals(List.of("tokenizers", "analyzers"), List.copyOf(requested.keySet()));
+        assertEquals(Set.of("standard", "icu_tokenizer"), requested.get("tokenizers"));
+        assertEquals(Set.of("english"), requested.get("analyzers"));
+
+        expectThrows(IllegalArgumentException.class, () -> RestNodeAnalyzersResolveAction.parseRequested(Map.of("plugins", "x")));
+        expectThrows(IllegalArgumentException.class, () -> RestNodeAnalyzersResolveAction.parseRequested(Map.of("filters", "x")));
+        expectThrows(IllegalArgumentException.class, () -> RestNodeAnalyzersResolveAction.parseRequested(Map.of()));
+        expectThrows(
+                IllegalArgumentException.class,
+                () -> RestNodeAnalyzersResolveAction.parseRequested(Map.of("tokenizers", List.of("standard", "icu_*")))
+        );
+    }
+
+    public void testParseBenchRequest() {
+        NodesAnalyzerBenchRequest request = RestNodeAnalyzerBenchAction.parseRequest(new String[0], "standard", Map.of());
+        assertEquals("standard", request.analyzer());
+        assertEquals(0, request.texts().length);
+        assertEquals(NodesAnalyzerBenchRequest.DEFAULT_ITERATIONS, request.iterations());
+        assertNull(request.validate());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("tokenizer", "standard");
+        body.put("char_filter", "html_strip");
+        body.put("filter", List.of("lowercase", Map.of("type", "stop", "stopwords", List.of("a"))));
+        body.put("corpus", Map.of("docs", 5, "words_per_doc", 10, "seed", 42));
+        body.put("iterations", 50);
+        body.put("warmup_iterations", 0);
+        body.put("profile", true);
+        request = RestNodeAnalyzerBenchAction.parseRequest(new String[] { "node_1" }, null, body);
+        assertNull(request.analyzer());
+        assertEquals(new NameOrDefinition("standard"), request.tokenizer());
+        assertEquals(List.of(new NameOrDefinition("html_strip")), request.charFilters());
+        assertEquals(2, request.tokenFilters().size());
+        assertEquals("lowercase", request.tokenFilters().get(0).name);
+        assertEquals("stop", request.tokenFilters().get(1).definition.get("type"));
+        assertEquals(5, request.generatedDocs());
+        assertEquals(10, request.wordsPerDoc());
+        assertEquals(42L, request.seed());
+        assertEquals(50, request.iterations());
+        assertEquals(0, request.warmupIterations());
+        assertTrue(request.profile());
+        assertNull(request.validate());
+
+        request = RestNodeAnalyzerBenchAction.parseRequest(new String[0], null, Map.of("analyzer", "simple", "text", "a b c"));
+        assertEquals("simple", request.analyzer());
+        assertArrayEquals(new String[] { "a b c" }, request.texts());
+
+        expectThrows(IllegalArgumentException.class,
+                () -> RestNodeAnalyzerBenchAction.parseRequest(new String[0], "standard", Map.of("analyzer", "simple")));
+        expectThrows(IllegalArgumentException.class,
+                () -> RestNodeAnalyzerBenchAction.parseRequest(new String[0], "standard", Map.of("texts", "x")));
+        expectThrows(IllegalArgumentException.class,
+                () -> RestNodeAnalyzerBenchAction.parseRequest(new String[0], "standard", Map.of("corpus", Map.of("size", 1))));
+    }
+
+    public void testParseWarmupRequest() {
+        NodesAnalyzersWarmupRequest request = RestNodeAnalyzersWarmupAction.parseRequest(new String[0], Map.of());
+        assertEquals(0, request.analyzers().length);
+        assertTrue(request.indices());
+        assertEquals(NodesAnalyzersWarmupRequest.DEFAULT_ITERATIONS, request.iterations());
+        assertEquals(NodesAnalyzersWarmupRequest.DEFAULT_TIME_BUDGET, request.timeBudget());
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("analyzers", List.of("standard", "simple"));
+        body.put("indices", false);
+        body.put("text", "a b c");
+        body.put("iterations", 20);
+        body.put("time_budget", "2s");
+        request = RestNodeAnalyzersWarmupAction.parseRequest(new String[] { "node_1" }, body);
+        assertArrayEquals(new String[] { "standard", "simple" }, request.analyzers());
+        assertFalse(request.indices());
+        assertArrayEquals(new String[] { "a b c" }, request.texts());
+        assertEquals(20, request.iterations());
+        assertEquals(TimeValue.timeValueSeconds(2), request.timeBudget());
+        assertNull(request.validate());
+
+        expectThrows(IllegalArgumentException.class,
+                () -> RestNodeAnalyzersWarmupAction.parseRequest(new String[0], Map.of("analyzer", "standard")));
+    }
+}